@@ -25,7 +25,8 @@ import org.apache.gravitino.connector.capability.CapabilityResult;
 public class FilesetCatalogCapability implements Capability {
   @Override
   public CapabilityResult managedStorage(Scope scope) {
-    if (Objects.requireNonNull(scope) == Scope.SCHEMA) {
+    // The schemas and the filesets only live in the entity store.
+    if (Objects.requireNonNull(scope) == Scope.SCHEMA || scope == Scope.FILESET) {
       return CapabilityResult.SUPPORTED;
     }
     return CapabilityResult.unsupported(
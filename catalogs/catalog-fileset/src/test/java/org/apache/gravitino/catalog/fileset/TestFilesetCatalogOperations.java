@@ -223,6 +223,7 @@ public class TestFilesetCatalogOperations {
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("gravitino");
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("gravitino");
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    when(config.get(Configs.ENTITY_RELATIONAL_COLUMN_SNAPSHOT_ENABLED)).thenReturn(false);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
 
@@ -232,6 +233,8 @@ public class TestFilesetCatalogOperations {
     when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
     when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
     when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    when(config.get(Configs.GARBAGE_COLLECTOR_MAX_DELETIONS_PER_SECOND)).thenReturn(0L);
+    when(config.get(Configs.CACHE_LIST_CACHE_ENABLED)).thenReturn(false);
     // Fix cache config for test
     Mockito.when(config.get(Configs.CACHE_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_MAX_ENTRIES)).thenReturn(10_000);
@@ -239,6 +242,9 @@ public class TestFilesetCatalogOperations {
     Mockito.when(config.get(Configs.CACHE_WEIGHER_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
+    Mockito.when(config.get(Configs.CACHE_INVALIDATION_SYNC_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.CACHE_ID_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.CACHE_ID_CACHE_MAX_ENTRIES)).thenReturn(100_000);
 
     store = EntityStoreFactory.createEntityStore(config);
     store.initialize(config);
@@ -138,6 +138,8 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     Config config = Mockito.mock(Config.class);
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
     Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(Configs.GARBAGE_COLLECTOR_MAX_DELETIONS_PER_SECOND)).thenReturn(0L);
+    Mockito.when(config.get(Configs.CACHE_LIST_CACHE_ENABLED)).thenReturn(false);
 
     when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
     when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
@@ -148,6 +150,7 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("gravitino");
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("gravitino");
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    when(config.get(Configs.ENTITY_RELATIONAL_COLUMN_SNAPSHOT_ENABLED)).thenReturn(false);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
 
@@ -157,6 +160,8 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
     when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
     when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    when(config.get(Configs.GARBAGE_COLLECTOR_MAX_DELETIONS_PER_SECOND)).thenReturn(0L);
+    when(config.get(Configs.CACHE_LIST_CACHE_ENABLED)).thenReturn(false);
     // Fix cache config for test
     Mockito.when(config.get(Configs.CACHE_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_MAX_ENTRIES)).thenReturn(10_000);
@@ -164,6 +169,9 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     Mockito.when(config.get(Configs.CACHE_WEIGHER_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
+    Mockito.when(config.get(Configs.CACHE_INVALIDATION_SYNC_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.CACHE_ID_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.CACHE_ID_CACHE_MAX_ENTRIES)).thenReturn(100_000);
 
     // Mock
     MetalakeMetaService metalakeMetaService = MetalakeMetaService.getInstance();
@@ -25,7 +25,8 @@ import org.apache.gravitino.connector.capability.CapabilityResult;
 public class ModelCatalogCapability implements Capability {
   @Override
   public CapabilityResult managedStorage(Scope scope) {
-    if (Objects.requireNonNull(scope) == Scope.SCHEMA) {
+    // The schemas and the models only live in the entity store.
+    if (Objects.requireNonNull(scope) == Scope.SCHEMA || scope == Scope.MODEL) {
       return CapabilityResult.SUPPORTED;
     }
     return CapabilityResult.unsupported(
@@ -20,9 +20,11 @@ package org.apache.gravitino.client;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
@@ -58,7 +60,12 @@ import org.apache.gravitino.tag.Tag;
  * create, load, alter and drop a schema with specified identifier.
  */
 abstract class BaseSchemaCatalog extends CatalogDTO
-    implements Catalog, SupportsSchemas, SupportsTags, SupportsRoles, SupportsPolicies {
+    implements Catalog,
+        SupportsSchemas,
+        SupportsTags,
+        SupportsRoles,
+        SupportsPolicies,
+        SupportsPagedListing {
 
   /** The REST client to send the requests. */
   protected final RESTClient restClient;
@@ -142,6 +149,34 @@ abstract class BaseSchemaCatalog extends CatalogDTO
     return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
   }
 
+  /**
+   * List a page of the schemas in the catalog.
+   *
+   * @param pageSize The maximum number of the schemas in the page.
+   * @param pageToken The token of the page returned with the previous page, or null to list the
+   *     first page.
+   * @return A page of the schemas, the identifier of each schema only contains the schema name.
+   * @throws NoSuchCatalogException if the catalog with specified namespace does not exist.
+   */
+  @Override
+  public ListPage listSchemas(int pageSize, @Nullable String pageToken)
+      throws NoSuchCatalogException {
+    EntityListResponse resp =
+        restClient.get(
+            formatSchemaRequestPath(schemaNamespace()),
+            pageQueryParams(pageSize, pageToken),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.schemaErrorHandler());
+    resp.validate();
+
+    NameIdentifier[] schemas =
+        Arrays.stream(resp.identifiers())
+            .map(ident -> NameIdentifier.of(ident.name()))
+            .toArray(NameIdentifier[]::new);
+    return new ListPage(schemas, resp.nextPageToken());
+  }
+
   /**
    * Create a new schema with specified identifier, comment and metadata.
    *
@@ -317,4 +352,21 @@ abstract class BaseSchemaCatalog extends CatalogDTO
         .append("/schemas")
         .toString();
   }
+
+  static Map<String, String> pageQueryParams(int pageSize, @Nullable String pageToken) {
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("pageSize", String.valueOf(pageSize));
+    if (pageToken != null) {
+      queryParams.put("pageToken", pageToken);
+    }
+    return queryParams;
+  }
+
+  static ListPage toListPage(EntityListResponse resp) {
+    NameIdentifier[] identifiers =
+        Arrays.stream(resp.identifiers())
+            .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+            .toArray(NameIdentifier[]::new);
+    return new ListPage(identifiers, resp.nextPageToken());
+  }
 }
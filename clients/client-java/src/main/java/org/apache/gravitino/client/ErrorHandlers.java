@@ -75,6 +75,7 @@ import org.apache.gravitino.exceptions.PolicyAlreadyExistsException;
 import org.apache.gravitino.exceptions.RESTException;
 import org.apache.gravitino.exceptions.RoleAlreadyExistsException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
+import org.apache.gravitino.exceptions.ServiceUnavailableException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.exceptions.TagAlreadyAssociatedException;
 import org.apache.gravitino.exceptions.TagAlreadyExistsException;
@@ -1293,6 +1294,10 @@ public class ErrorHandlers {
       if (errorResponse.getCode() == ErrorConstants.FORBIDDEN_CODE) {
         throw new ForbiddenException("Forbidden error :%s", errorResponse.getMessage());
       }
+      if (errorResponse.getCode() == ErrorConstants.SERVICE_UNAVAILABLE_CODE) {
+        throw new ServiceUnavailableException(
+            "Service unavailable: %s", formatErrorMessage(errorResponse));
+      }
       throw new RESTException("Unable to process: %s", formatErrorMessage(errorResponse));
     }
   }
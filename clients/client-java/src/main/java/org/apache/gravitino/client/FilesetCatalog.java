@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -35,9 +36,12 @@ import org.apache.gravitino.credential.Credential;
 import org.apache.gravitino.credential.SupportsCredentials;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.file.FileAccessDTO;
+import org.apache.gravitino.dto.requests.FileAccessesReportRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
+import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
@@ -56,7 +60,9 @@ import org.apache.gravitino.rest.RESTUtils;
  * metalake.
  */
 class FilesetCatalog extends BaseSchemaCatalog
-    implements org.apache.gravitino.file.FilesetCatalog, SupportsCredentials {
+    implements org.apache.gravitino.file.FilesetCatalog,
+        SupportsCredentials,
+        SupportsFileAccessReports {
 
   FilesetCatalog(
       Namespace namespace,
@@ -102,6 +108,34 @@ class FilesetCatalog extends BaseSchemaCatalog
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List a page of the filesets in a schema namespace from the catalog.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name.
+   * @param pageSize The maximum number of the filesets in the page.
+   * @param pageToken The token of the page returned with the previous page, or null to list the
+   *     first page.
+   * @return A page of the filesets under the given namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public ListPage listPage(Namespace namespace, int pageSize, @Nullable String pageToken)
+      throws NoSuchSchemaException {
+    checkFilesetNamespace(namespace);
+
+    EntityListResponse resp =
+        restClient.get(
+            formatFilesetRequestPath(getFilesetFullNamespace(namespace)),
+            pageQueryParams(pageSize, pageToken),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler());
+    resp.validate();
+
+    return toListPage(resp);
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
@@ -269,6 +303,39 @@ class FilesetCatalog extends BaseSchemaCatalog
     }
   }
 
+  /**
+   * Report the accesses to the files of the filesets in a schema namespace.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name.
+   * @param accesses The accesses to the files of the filesets under the given namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public void reportFileAccesses(Namespace namespace, List<FileAccessDTO> accesses)
+      throws NoSuchSchemaException {
+    checkFilesetNamespace(namespace);
+
+    Namespace fullNamespace = getFilesetFullNamespace(namespace);
+    FileAccessesReportRequest req = new FileAccessesReportRequest(accesses);
+    req.validate();
+
+    try {
+      CallerContext callerContext = CallerContext.CallerContextHolder.get();
+      BaseResponse resp =
+          restClient.post(
+              formatFilesetRequestPath(fullNamespace) + "/accesses",
+              req,
+              BaseResponse.class,
+              callerContext != null ? callerContext.context() : Collections.emptyMap(),
+              ErrorHandlers.filesetErrorHandler());
+      resp.validate();
+    } finally {
+      // Clear the caller context
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
+
   @Override
   public SupportsCredentials supportsCredentials() throws UnsupportedOperationException {
     return this;
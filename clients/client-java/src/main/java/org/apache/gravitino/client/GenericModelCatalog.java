@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -96,6 +97,34 @@ class GenericModelCatalog extends BaseSchemaCatalog implements ModelCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List a page of the models in a schema namespace from the catalog.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name.
+   * @param pageSize The maximum number of the models in the page.
+   * @param pageToken The token of the page returned with the previous page, or null to list the
+   *     first page.
+   * @return A page of the models under the given namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public ListPage listPage(Namespace namespace, int pageSize, @Nullable String pageToken)
+      throws NoSuchSchemaException {
+    checkModelNamespace(namespace);
+
+    EntityListResponse resp =
+        restClient.get(
+            formatModelRequestPath(modelFullNamespace(namespace)),
+            pageQueryParams(pageSize, pageToken),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.modelErrorHandler());
+    resp.validate();
+
+    return toListPage(resp);
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     checkModelNameIdentifier(ident);
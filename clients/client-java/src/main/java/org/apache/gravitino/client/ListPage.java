@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+
+/** A page of the entities listed with {@link SupportsPagedListing}. */
+public final class ListPage {
+
+  private final NameIdentifier[] identifiers;
+  @Nullable private final String nextPageToken;
+
+  ListPage(NameIdentifier[] identifiers, @Nullable String nextPageToken) {
+    this.identifiers = identifiers;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Returns the identifiers of the entities in this page, which are ordered by name.
+   *
+   * @return The identifiers of the entities in this page.
+   */
+  public NameIdentifier[] identifiers() {
+    return identifiers;
+  }
+
+  /**
+   * Returns the token to list the next page.
+   *
+   * @return The token of the next page, or null if this is the last page.
+   */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
+  /**
+   * Returns whether there are more entities after this page.
+   *
+   * @return True if there is a next page, false otherwise.
+   */
+  public boolean hasNextPage() {
+    return nextPageToken != null;
+  }
+}
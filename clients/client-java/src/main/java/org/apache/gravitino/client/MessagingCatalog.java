@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -102,6 +103,34 @@ class MessagingCatalog extends BaseSchemaCatalog implements TopicCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List a page of the topics in a schema namespace from the catalog.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name.
+   * @param pageSize The maximum number of the topics in the page.
+   * @param pageToken The token of the page returned with the previous page, or null to list the
+   *     first page.
+   * @return A page of the topics under the given namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public ListPage listPage(Namespace namespace, int pageSize, @Nullable String pageToken)
+      throws NoSuchSchemaException {
+    checkTopicNamespace(namespace);
+
+    EntityListResponse resp =
+        restClient.get(
+            formatTopicRequestPath(getTopicFullNamespace(namespace)),
+            pageQueryParams(pageSize, pageToken),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.topicErrorHandler());
+    resp.validate();
+
+    return toListPage(resp);
+  }
+
   /**
    * Load the topic with the given identifier.
    *
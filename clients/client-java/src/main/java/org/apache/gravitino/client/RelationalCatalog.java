@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -104,6 +105,34 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List a page of the tables in a schema namespace from the catalog.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name.
+   * @param pageSize The maximum number of the tables in the page.
+   * @param pageToken The token of the page returned with the previous page, or null to list the
+   *     first page.
+   * @return A page of the tables under the given namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public ListPage listPage(Namespace namespace, int pageSize, @Nullable String pageToken)
+      throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+
+    EntityListResponse resp =
+        restClient.get(
+            formatTableRequestPath(getTableFullNamespace(namespace)),
+            pageQueryParams(pageSize, pageToken),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+
+    return toListPage(resp);
+  }
+
   /**
    * Load the table with specified identifier.
    *
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import java.util.List;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.dto.file.FileAccessDTO;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+
+/**
+ * Interface for the fileset catalogs which support reporting the accesses to the files, whose
+ * actual locations are resolved by the client itself, to the Gravitino server for audit.
+ */
+public interface SupportsFileAccessReports {
+
+  /**
+   * Report the accesses to the files of the filesets in a schema namespace.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name.
+   * @param accesses The accesses to the files of the filesets under the given namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  void reportFileAccesses(Namespace namespace, List<FileAccessDTO> accesses)
+      throws NoSuchSchemaException;
+}
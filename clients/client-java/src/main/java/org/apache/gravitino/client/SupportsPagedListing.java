@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import javax.annotation.Nullable;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+
+/**
+ * Interface for the catalogs which support listing the schemas and the entities in a schema page by
+ * page, the entities are ordered by name. To list all the entities, list the first page with a null
+ * page token, then list the next pages with the token of the previous page until there is no next
+ * page.
+ */
+public interface SupportsPagedListing {
+
+  /**
+   * List a page of the schemas in the catalog.
+   *
+   * @param pageSize The maximum number of the schemas in the page.
+   * @param pageToken The token of the page returned with the previous page, or null to list the
+   *     first page.
+   * @return A page of the schemas, the identifier of each schema only contains the schema name.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  ListPage listSchemas(int pageSize, @Nullable String pageToken) throws NoSuchCatalogException;
+
+  /**
+   * List a page of the entities in a schema namespace, which are the tables, the filesets, the
+   * topics or the models depending on the type of the catalog.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name.
+   * @param pageSize The maximum number of the entities in the page.
+   * @param pageToken The token of the page returned with the previous page, or null to list the
+   *     first page.
+   * @return A page of the entities, the identifier of each entity is "schema.entity" format.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  ListPage listPage(Namespace namespace, int pageSize, @Nullable String pageToken)
+      throws NoSuchSchemaException;
+}
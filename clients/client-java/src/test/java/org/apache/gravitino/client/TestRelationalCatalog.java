@@ -361,6 +361,40 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex2.getMessage().contains("unparsed error"));
   }
 
+  @Test
+  public void testListTablesByPage() throws JsonProcessingException {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+
+    EntityListResponse resp =
+        new EntityListResponse(new NameIdentifier[] {table1, table2}, "token1");
+    buildMockResource(Method.GET, tablePath, ImmutableMap.of("pageSize", "2"), null, resp, SC_OK);
+    SupportsPagedListing pagedListing = (SupportsPagedListing) catalog;
+    ListPage page = pagedListing.listPage(Namespace.of("schema1"), 2, null);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {
+          NameIdentifier.of("schema1", "table1"), NameIdentifier.of("schema1", "table2")
+        },
+        page.identifiers());
+    Assertions.assertTrue(page.hasNextPage());
+    Assertions.assertEquals("token1", page.nextPageToken());
+
+    NameIdentifier table3 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table3");
+    EntityListResponse resp1 = new EntityListResponse(new NameIdentifier[] {table3}, null);
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("pageSize", "2", "pageToken", "token1"),
+        null,
+        resp1,
+        SC_OK);
+    ListPage page1 = pagedListing.listPage(Namespace.of("schema1"), 2, page.nextPageToken());
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "table3")}, page1.identifiers());
+    Assertions.assertFalse(page1.hasNextPage());
+  }
+
   @Test
   public void testCreateTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
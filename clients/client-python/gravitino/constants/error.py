@@ -29,6 +29,7 @@ from gravitino.exceptions.base import (
     ForbiddenException,
     NotInUseException,
     InUseException,
+    ServiceUnavailableException,
 )
 
 
@@ -68,6 +69,9 @@ class ErrorConstants(IntEnum):
     # Error codes for drop an in use entity.
     IN_USE_CODE = 1010
 
+    # Error codes for the service that is unavailable for now.
+    SERVICE_UNAVAILABLE_CODE = 1011
+
     # Error codes for invalid state.
     UNKNOWN_ERROR_CODE = 1100
 
@@ -84,6 +88,7 @@ EXCEPTION_MAPPING = {
     ForbiddenException: ErrorConstants.FORBIDDEN_CODE,
     NotInUseException: ErrorConstants.NOT_IN_USE_CODE,
     InUseException: ErrorConstants.IN_USE_CODE,
+    ServiceUnavailableException: ErrorConstants.SERVICE_UNAVAILABLE_CODE,
 }
 
 ERROR_CODE_MAPPING = {v: k for k, v in EXCEPTION_MAPPING.items()}
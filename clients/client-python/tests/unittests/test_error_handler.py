@@ -36,6 +36,7 @@ from gravitino.exceptions.base import (
     ConnectionFailedException,
     CatalogAlreadyExistsException,
     NoSuchCredentialException,
+    ServiceUnavailableException,
 )
 from gravitino.exceptions.handlers.credential_error_handler import (
     CREDENTIAL_ERROR_HANDLER,
@@ -98,6 +99,13 @@ class TestErrorHandler(unittest.TestCase):
                 )
             )
 
+        with self.assertRaises(ServiceUnavailableException):
+            REST_ERROR_HANDLER.handle(
+                ErrorResponse.generate_error_response(
+                    ServiceUnavailableException, "mock error"
+                )
+            )
+
         with self.assertRaises(RESTException):
             REST_ERROR_HANDLER.handle(
                 ErrorResponse.generate_error_response(Exception, "mock error")
@@ -54,6 +54,7 @@ import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.audit.FilesetDataOperation;
@@ -62,8 +63,10 @@ import org.apache.gravitino.catalog.hadoop.fs.FileSystemProvider;
 import org.apache.gravitino.catalog.hadoop.fs.GravitinoFileSystemCredentialsProvider;
 import org.apache.gravitino.catalog.hadoop.fs.SupportsCredentialVending;
 import org.apache.gravitino.client.GravitinoClient;
+import org.apache.gravitino.client.SupportsFileAccessReports;
 import org.apache.gravitino.credential.Credential;
 import org.apache.gravitino.credential.CredentialConstants;
+import org.apache.gravitino.dto.file.FileAccessDTO;
 import org.apache.gravitino.exceptions.CatalogNotInUseException;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -123,6 +126,12 @@ public abstract class BaseGVFSOperations implements Closeable {
   // identifier has four levels, the first level is metalake name.
   private final Cache<Pair<NameIdentifier, String>, FileSystem> internalFileSystemCache;
 
+  // The filesets cached to resolve the actual file locations locally, null if the actual file
+  // locations are got from the server.
+  @Nullable private final Cache<NameIdentifier, Fileset> filesetLocationCache;
+
+  @Nullable private final FileAccessAuditSender fileAccessAuditSender;
+
   private final Map<String, FileSystemProvider> fileSystemProvidersMap;
 
   private final String currentLocationEnvVar;
@@ -153,6 +162,9 @@ public abstract class BaseGVFSOperations implements Closeable {
         new ScheduledThreadPoolExecutor(1, newDaemonThreadFactory("gvfs-filesystem-cache-cleaner"));
     this.internalFileSystemCache =
         newFileSystemCache(configuration, internalFileSystemCleanScheduler);
+    this.filesetLocationCache = newFilesetLocationCache(configuration);
+    this.fileAccessAuditSender =
+        filesetLocationCache == null ? null : newFileAccessAuditSender(configuration);
 
     this.fileSystemProvidersMap = ImmutableMap.copyOf(getFileSystemProviders());
 
@@ -187,6 +199,13 @@ public abstract class BaseGVFSOperations implements Closeable {
     }
     internalFileSystemCache.invalidateAll();
     internalFileSystemCleanScheduler.shutdownNow();
+    if (filesetLocationCache != null) {
+      filesetLocationCache.invalidateAll();
+    }
+    // Report the pending file accesses before the client is closed.
+    if (fileAccessAuditSender != null) {
+      fileAccessAuditSender.close();
+    }
 
     try {
       if (filesetCatalogCache != null) {
@@ -403,13 +422,21 @@ public abstract class BaseGVFSOperations implements Closeable {
         NameIdentifier.of(filesetIdent.namespace().level(0), filesetIdent.namespace().level(1));
     String fileLocation;
     try {
-      FilesetCatalog filesetCatalog = getFilesetCatalog(catalogIdent);
-      setCallerContextForGetFileLocation(operation);
-      fileLocation =
-          filesetCatalog.getFileLocation(
-              NameIdentifier.of(filesetIdent.namespace().level(2), filesetIdent.name()),
-              subPath,
-              locationName);
+      if (filesetLocationCache != null) {
+        fileLocation = resolveFileLocation(filesetIdent, subPath, locationName, operation);
+        if (fileAccessAuditSender != null) {
+          fileAccessAuditSender.record(
+              filesetIdent, subPath, locationName, fileLocation, operation);
+        }
+      } else {
+        FilesetCatalog filesetCatalog = getFilesetCatalog(catalogIdent);
+        setCallerContextForGetFileLocation(operation);
+        fileLocation =
+            filesetCatalog.getFileLocation(
+                NameIdentifier.of(filesetIdent.namespace().level(2), filesetIdent.name()),
+                subPath,
+                locationName);
+      }
     } catch (NoSuchCatalogException | CatalogNotInUseException e) {
       String message = String.format("Cannot get fileset catalog by identifier: %s", catalogIdent);
       LOG.warn(message, e);
@@ -439,6 +466,50 @@ public abstract class BaseGVFSOperations implements Closeable {
     return new Path(fileLocation);
   }
 
+  /**
+   * Resolve the actual file location with the cached fileset in the same way as the server does,
+   * so no request is sent to the server for most file operations.
+   */
+  private String resolveFileLocation(
+      NameIdentifier filesetIdent,
+      String subPath,
+      String locationName,
+      FilesetDataOperation operation) {
+    Fileset fileset = filesetLocationCache.get(filesetIdent, this::getFileset);
+    String targetLocationName;
+    if (locationName == null) {
+      targetLocationName =
+          fileset.storageLocations().size() == 1
+              // to be compatible with the old version, the fileset in old version only has one
+              // location and does not have the default-location-name property
+              ? fileset.storageLocations().keySet().iterator().next()
+              : fileset.properties().get(PROPERTY_DEFAULT_LOCATION_NAME);
+    } else {
+      targetLocationName = locationName;
+    }
+    if (!fileset.storageLocations().containsKey(targetLocationName)) {
+      throw new NoSuchLocationNameException(
+          "Location name %s does not exist in fileset %s", targetLocationName, filesetIdent);
+    }
+
+    String processedSubPath = subPath.trim();
+    if (!processedSubPath.isEmpty() && !processedSubPath.startsWith(SLASH)) {
+      processedSubPath = SLASH + processedSubPath;
+    }
+    // If the sub path is blank, it cannot be renamed otherwise the metadata in the Gravitino
+    // server may be inconsistent.
+    if (operation == FilesetDataOperation.RENAME
+        && (processedSubPath.isEmpty() || processedSubPath.equals(SLASH))) {
+      throw new GravitinoRuntimeException(
+          "subPath cannot be blank when need to rename a file or a directory.");
+    }
+
+    String storageLocation = fileset.storageLocations().get(targetLocationName);
+    return processedSubPath.isEmpty()
+        ? storageLocation
+        : StringUtils.removeEnd(storageLocation, SLASH) + processedSubPath;
+  }
+
   private void createFilesetLocationIfNeed(
       NameIdentifier filesetIdent, FileSystem fs, Path filesetPath) {
     NameIdentifier catalogIdent =
@@ -712,6 +783,111 @@ public abstract class BaseGVFSOperations implements Closeable {
     return cacheBuilder.build();
   }
 
+  @Nullable
+  private Cache<NameIdentifier, Fileset> newFilesetLocationCache(Configuration configuration) {
+    boolean enabled =
+        configuration.getBoolean(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_DEFAULT);
+    if (!enabled) {
+      return null;
+    }
+
+    int maxCapacity =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_DEFAULT);
+    Preconditions.checkArgument(
+        maxCapacity > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_KEY);
+
+    long expireMills =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_DEFAULT);
+    Preconditions.checkArgument(
+        expireMills > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_KEY);
+
+    return Caffeine.newBuilder()
+        .maximumSize(maxCapacity)
+        .expireAfterWrite(expireMills, TimeUnit.MILLISECONDS)
+        .build();
+  }
+
+  @Nullable
+  private FileAccessAuditSender newFileAccessAuditSender(Configuration configuration) {
+    boolean enabled =
+        configuration.getBoolean(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_AUDIT_ENABLE_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_AUDIT_ENABLE_DEFAULT);
+    if (!enabled) {
+      return null;
+    }
+
+    int capacity =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_AUDIT_CAPACITY_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_AUDIT_CAPACITY_DEFAULT);
+    Preconditions.checkArgument(
+        capacity > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_AUDIT_CAPACITY_KEY);
+
+    int batchSize =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_AUDIT_BATCH_SIZE_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_AUDIT_BATCH_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        batchSize > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_LOCATION_AUDIT_BATCH_SIZE_KEY);
+
+    long flushIntervalMills =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_AUDIT_INTERVAL_MILLS_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_AUDIT_INTERVAL_MILLS_DEFAULT);
+    Preconditions.checkArgument(
+        flushIntervalMills > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_LOCATION_AUDIT_INTERVAL_MILLS_KEY);
+
+    return new FileAccessAuditSender(
+        this::reportFileAccesses, capacity, batchSize, flushIntervalMills);
+  }
+
+  private void reportFileAccesses(NameIdentifier schemaIdent, List<FileAccessDTO> accesses) {
+    FilesetCatalog filesetCatalog =
+        getFilesetCatalog(
+            NameIdentifier.of(schemaIdent.namespace().level(0), schemaIdent.namespace().level(1)));
+    Map<String, String> contextMap = Maps.newHashMap();
+    contextMap.put(
+        FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
+        InternalClientType.HADOOP_GVFS.name());
+    CallerContext.CallerContextHolder.set(
+        CallerContext.builder().withContext(contextMap).build());
+    ((SupportsFileAccessReports) filesetCatalog)
+        .reportFileAccesses(Namespace.of(schemaIdent.name()), accesses);
+  }
+
   private Map<String, String> getAllProperties(
       NameIdentifier filesetIdent, String scheme, String locationName) {
     Catalog catalog =
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.FilesetDataOperation;
+import org.apache.gravitino.dto.file.FileAccessDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the accesses to the files whose actual locations are resolved locally by GVFS, and
+ * reports them to the Gravitino server in batches from a background thread, so the file operations
+ * never wait for the audit.
+ *
+ * <p>The same accesses in a flush interval are coalesced into one with the count of them. At most
+ * {@code capacity} different accesses are pending, the others are dropped and counted, so the
+ * memory is bounded when the server is slow or unavailable. The batches failed to report are not
+ * retried and are counted as well.
+ */
+class FileAccessAuditSender implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(FileAccessAuditSender.class);
+
+  private final BiConsumer<NameIdentifier, List<FileAccessDTO>> reporter;
+  private final int capacity;
+  private final int batchSize;
+  private final Map<AccessKey, PendingAccess> pendingAccesses = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService flushScheduler;
+  private final AtomicBoolean flushTriggered = new AtomicBoolean(false);
+  private final AtomicLong droppedAccesses = new AtomicLong();
+  private final AtomicLong failedAccesses = new AtomicLong();
+
+  /**
+   * Creates a sender of the file accesses.
+   *
+   * @param reporter reports a batch of the file accesses in the schema, which is the first argument
+   * @param capacity the maximum number of the different pending accesses
+   * @param batchSize the maximum number of the accesses reported in one request
+   * @param flushIntervalMills the interval in mills to report the pending accesses
+   */
+  FileAccessAuditSender(
+      BiConsumer<NameIdentifier, List<FileAccessDTO>> reporter,
+      int capacity,
+      int batchSize,
+      long flushIntervalMills) {
+    this.reporter = reporter;
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.flushScheduler =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gvfs-file-access-audit-sender-%d")
+                .build());
+    flushScheduler.scheduleWithFixedDelay(
+        this::flush, flushIntervalMills, flushIntervalMills, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Records an access to a file, it never blocks on the report to the server.
+   *
+   * @param filesetIdent the identifier of the fileset, which has the metalake in its namespace
+   * @param subPath the sub path of the file in the fileset
+   * @param locationName the location name of the fileset, null means the default location
+   * @param actualFileLocation the actual location of the file
+   * @param operation the data operation on the file
+   */
+  void record(
+      NameIdentifier filesetIdent,
+      String subPath,
+      String locationName,
+      String actualFileLocation,
+      FilesetDataOperation operation) {
+    AccessKey key = new AccessKey(filesetIdent, subPath, locationName, operation);
+    pendingAccesses.compute(
+        key,
+        (k, pending) -> {
+          if (pending != null) {
+            pending.count++;
+            return pending;
+          }
+          if (pendingAccesses.size() >= capacity) {
+            droppedAccesses.incrementAndGet();
+            return null;
+          }
+          return new PendingAccess(actualFileLocation, System.currentTimeMillis());
+        });
+
+    if (pendingAccesses.size() >= batchSize && flushTriggered.compareAndSet(false, true)) {
+      try {
+        flushScheduler.execute(this::flush);
+      } catch (Exception e) {
+        // The sender is closed, the pending accesses are reported on closing.
+        flushTriggered.set(false);
+      }
+    }
+  }
+
+  /** Reports all the pending accesses to the server. */
+  @VisibleForTesting
+  synchronized void flush() {
+    flushTriggered.set(false);
+    Map<NameIdentifier, List<FileAccessDTO>> accessesBySchema = new LinkedHashMap<>();
+    for (AccessKey key : new ArrayList<>(pendingAccesses.keySet())) {
+      PendingAccess pending = pendingAccesses.remove(key);
+      if (pending == null) {
+        continue;
+      }
+      NameIdentifier schemaIdent =
+          NameIdentifier.of(
+              key.filesetIdent.namespace().level(0),
+              key.filesetIdent.namespace().level(1),
+              key.filesetIdent.namespace().level(2));
+      accessesBySchema
+          .computeIfAbsent(schemaIdent, ident -> new ArrayList<>())
+          .add(
+              FileAccessDTO.builder()
+                  .fileset(key.filesetIdent.name())
+                  .subPath(key.subPath)
+                  .locationName(key.locationName)
+                  .actualFileLocation(pending.actualFileLocation)
+                  .operation(key.operation.name())
+                  .timestamp(pending.timestamp)
+                  .count(pending.count)
+                  .build());
+    }
+
+    accessesBySchema.forEach(
+        (schemaIdent, accesses) -> {
+          for (List<FileAccessDTO> batch : Lists.partition(accesses, batchSize)) {
+            try {
+              reporter.accept(schemaIdent, batch);
+            } catch (Exception e) {
+              failedAccesses.addAndGet(batch.size());
+              LOG.warn(
+                  "Failed to report {} file accesses of schema {} to the Gravitino server",
+                  batch.size(),
+                  schemaIdent,
+                  e);
+            }
+          }
+        });
+  }
+
+  /**
+   * Returns the number of the accesses dropped because too many accesses are pending.
+   *
+   * @return the number of the dropped accesses
+   */
+  long droppedAccesses() {
+    return droppedAccesses.get();
+  }
+
+  /**
+   * Returns the number of the coalesced accesses failed to report to the server.
+   *
+   * @return the number of the failed accesses
+   */
+  long failedAccesses() {
+    return failedAccesses.get();
+  }
+
+  @Override
+  public void close() {
+    flushScheduler.shutdown();
+    try {
+      if (!flushScheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+        flushScheduler.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      flushScheduler.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    flush();
+
+    if (droppedAccesses.get() > 0 || failedAccesses.get() > 0) {
+      LOG.warn(
+          "{} file accesses were dropped and {} file accesses failed to report to the Gravitino "
+              + "server",
+          droppedAccesses.get(),
+          failedAccesses.get());
+    }
+  }
+
+  private static class AccessKey {
+    private final NameIdentifier filesetIdent;
+    private final String subPath;
+    private final String locationName;
+    private final FilesetDataOperation operation;
+
+    private AccessKey(
+        NameIdentifier filesetIdent,
+        String subPath,
+        String locationName,
+        FilesetDataOperation operation) {
+      this.filesetIdent = filesetIdent;
+      this.subPath = subPath;
+      this.locationName = locationName;
+      this.operation = operation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof AccessKey)) {
+        return false;
+      }
+      AccessKey that = (AccessKey) o;
+      return Objects.equals(filesetIdent, that.filesetIdent)
+          && Objects.equals(subPath, that.subPath)
+          && Objects.equals(locationName, that.locationName)
+          && operation == that.operation;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(filesetIdent, subPath, locationName, operation);
+    }
+  }
+
+  private static class PendingAccess {
+    private final String actualFileLocation;
+    private final long timestamp;
+    private int count = 1;
+
+    private PendingAccess(String actualFileLocation, long timestamp) {
+      this.actualFileLocation = actualFileLocation;
+      this.timestamp = timestamp;
+    }
+  }
+}
@@ -105,6 +105,68 @@ public class GravitinoVirtualFileSystemConfiguration {
   public static final long FS_GRAVITINO_FILESET_CACHE_EVICTION_MILLS_AFTER_ACCESS_DEFAULT =
       1000L * 60 * 60;
 
+  /**
+   * The configuration key for whether to resolve the actual file locations locally with the cached
+   * filesets, instead of asking the Gravitino server for every file operation.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY =
+      "fs.gravitino.fileset.location.cache.enable";
+
+  /** The default value for whether to resolve the actual file locations locally. */
+  public static final boolean FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_DEFAULT = false;
+
+  /** The configuration key for the maximum number of the filesets cached to resolve locations. */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_KEY =
+      "fs.gravitino.fileset.location.cache.maxCapacity";
+
+  /** The default maximum number of the filesets cached to resolve locations. */
+  public static final int FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_DEFAULT = 1000;
+
+  /**
+   * The configuration key for the time in mills a fileset is cached after it is loaded, the changes
+   * of the fileset on the server are visible after this time at most.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_KEY =
+      "fs.gravitino.fileset.location.cache.expireMills";
+
+  /** The default time in mills a fileset is cached after it is loaded. */
+  public static final long FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_DEFAULT = 1000L * 60;
+
+  /**
+   * The configuration key for whether to report the accesses to the files, whose locations are
+   * resolved locally with the cached filesets, to the Gravitino server for audit.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_AUDIT_ENABLE_KEY =
+      "fs.gravitino.fileset.location.audit.enable";
+
+  /** The default value for whether to report the file accesses for audit. */
+  public static final boolean FS_GRAVITINO_FILESET_LOCATION_AUDIT_ENABLE_DEFAULT = true;
+
+  /**
+   * The configuration key for the maximum number of the different file accesses pending to report,
+   * the accesses beyond it are dropped.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_AUDIT_CAPACITY_KEY =
+      "fs.gravitino.fileset.location.audit.capacity";
+
+  /** The default maximum number of the different file accesses pending to report. */
+  public static final int FS_GRAVITINO_FILESET_LOCATION_AUDIT_CAPACITY_DEFAULT = 10000;
+
+  /** The configuration key for the maximum number of the file accesses reported in one request. */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_AUDIT_BATCH_SIZE_KEY =
+      "fs.gravitino.fileset.location.audit.batchSize";
+
+  /** The default maximum number of the file accesses reported in one request. */
+  public static final int FS_GRAVITINO_FILESET_LOCATION_AUDIT_BATCH_SIZE_DEFAULT = 500;
+
+  /** The configuration key for the interval in mills to report the pending file accesses. */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_AUDIT_INTERVAL_MILLS_KEY =
+      "fs.gravitino.fileset.location.audit.intervalMills";
+
+  /** The default interval in mills to report the pending file accesses. */
+  public static final long FS_GRAVITINO_FILESET_LOCATION_AUDIT_INTERVAL_MILLS_DEFAULT =
+      1000L * 5;
+
   /**
    * The configuration key for the fileset with multiple locations, on which the file system will
    * operate. If not set, the file system will operate on the default location.
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.FilesetDataOperation;
+import org.apache.gravitino.dto.file.FileAccessDTO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestFileAccessAuditSender {
+
+  private static final NameIdentifier FILESET =
+      NameIdentifier.of("metalake", "catalog", "schema", "fileset");
+
+  @Test
+  public void testCoalesceAccesses() {
+    List<Pair<NameIdentifier, List<FileAccessDTO>>> reported = Lists.newArrayList();
+    try (FileAccessAuditSender sender =
+        new FileAccessAuditSender(
+            (schema, accesses) -> reported.add(Pair.of(schema, accesses)),
+            100,
+            10,
+            Long.MAX_VALUE)) {
+      for (int i = 0; i < 3; i++) {
+        sender.record(FILESET, "/a", null, "file:/tmp/a", FilesetDataOperation.OPEN);
+      }
+      sender.record(FILESET, "/a", null, "file:/tmp/a", FilesetDataOperation.DELETE);
+      sender.record(FILESET, "/b", null, "file:/tmp/b", FilesetDataOperation.OPEN);
+      sender.flush();
+
+      Assertions.assertEquals(1, reported.size());
+      Assertions.assertEquals(
+          NameIdentifier.of("metalake", "catalog", "schema"), reported.get(0).getLeft());
+      List<FileAccessDTO> accesses = reported.get(0).getRight();
+      Assertions.assertEquals(3, accesses.size());
+      FileAccessDTO openA =
+          accesses.stream()
+              .filter(a -> a.getSubPath().equals("/a") && a.getOperation().equals("OPEN"))
+              .findFirst()
+              .orElseThrow(IllegalStateException::new);
+      Assertions.assertEquals(3, openA.getCount());
+      Assertions.assertEquals("fileset", openA.getFileset());
+      Assertions.assertEquals("file:/tmp/a", openA.getActualFileLocation());
+      Assertions.assertEquals(0, sender.droppedAccesses());
+    }
+  }
+
+  @Test
+  public void testDropAndFailAccesses() {
+    try (FileAccessAuditSender sender =
+        new FileAccessAuditSender(
+            (schema, accesses) -> {
+              throw new RuntimeException("Server is unavailable");
+            },
+            1,
+            10,
+            Long.MAX_VALUE)) {
+      sender.record(FILESET, "/a", null, "file:/tmp/a", FilesetDataOperation.OPEN);
+      sender.record(FILESET, "/a", null, "file:/tmp/a", FilesetDataOperation.OPEN);
+      sender.record(FILESET, "/b", null, "file:/tmp/b", FilesetDataOperation.OPEN);
+      Assertions.assertEquals(1, sender.droppedAccesses());
+
+      sender.flush();
+      Assertions.assertEquals(1, sender.failedAccesses());
+    }
+  }
+}
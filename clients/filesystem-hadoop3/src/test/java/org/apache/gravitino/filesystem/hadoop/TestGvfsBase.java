@@ -25,6 +25,7 @@ import static org.apache.gravitino.file.Fileset.PROPERTY_DEFAULT_LOCATION_NAME;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_BLOCK_SIZE_DEFAULT;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_CONFIG_PREFIX;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_REQUEST_HEADER_PREFIX;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemUtils.extractIdentifier;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemUtils.getConfigMap;
 import static org.apache.hc.core5.http.HttpStatus.SC_NOT_FOUND;
@@ -64,6 +65,7 @@ import org.apache.gravitino.Version;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.credential.CredentialDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
+import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.CredentialResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
@@ -751,6 +753,55 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testGetFileLocationFromCachedFileset() throws IOException {
+    String filesetName = "testGetFileLocationFromCachedFileset";
+    Path managedFilesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    String locationPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/location",
+            metalakeName, catalogName, schemaName, filesetName);
+    String accessesPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/accesses",
+            metalakeName, catalogName, schemaName);
+    buildMockResource(Method.POST, accessesPath, null, new BaseResponse(), SC_OK);
+    Configuration configuration = new Configuration(conf);
+    configuration.setBoolean(FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY, true);
+    try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(configuration);
+        FileSystem localFileSystem = localPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(localPath, localFileSystem);
+      FileSystemTestUtils.create(new Path(localPath + "/test.txt"), localFileSystem);
+      buildMockResourceForCredential(filesetName, localPath.toString());
+
+      Path filePath = new Path(managedFilesetPath + "/test.txt");
+      FileStatus localStatus = localFileSystem.getFileStatus(new Path(localPath + "/test.txt"));
+      for (int i = 0; i < 3; i++) {
+        FileStatus gravitinoStatus = gravitinoFileSystem.getFileStatus(filePath);
+        assertEquals(
+            localStatus.getPath().toString(),
+            gravitinoStatus
+                .getPath()
+                .toString()
+                .replaceFirst(
+                    GravitinoVirtualFileSystemConfiguration.GVFS_FILESET_PREFIX,
+                    FileSystemTestUtils.localRootPrefix()));
+      }
+      assertFalse(gravitinoFileSystem.exists(new Path(managedFilesetPath + "/not_exist.txt")));
+
+      // The actual file locations are resolved with the cached fileset, not by the server.
+      mockServer().verify(request().withPath(locationPath), VerificationTimes.never());
+    }
+
+    // The file accesses are reported to the server in batches when the file system is closed.
+    mockServer()
+        .verify(
+            request().withMethod(Method.POST.name()).withPath(accessesPath),
+            VerificationTimes.atLeast(1));
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"testMkdirs", "testMkdirs%2Fabc"})
   public void testMkdirs(String filesetName) throws IOException {
@@ -28,4 +28,10 @@ public class FilesetAuditConstants {
 
   /** The HTTP header used to pass the fileset data operation. */
   public static final String HTTP_HEADER_FILESET_DATA_OPERATION = "FilesetDataOperation";
+
+  /** The audit context key of the time when the reported file access happened on the client. */
+  public static final String FILE_ACCESS_TIMESTAMP = "FileAccessTimestamp";
+
+  /** The audit context key of the number of the same file accesses coalesced into one report. */
+  public static final String FILE_ACCESS_COUNT = "FileAccessCount";
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.file;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.rest.RESTMessage;
+
+/**
+ * Represents the accesses to a file of a fileset, whose actual location is resolved by the client
+ * itself. The same accesses are coalesced into one with the count of them.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileAccessDTO implements RESTMessage {
+
+  @JsonProperty("fileset")
+  private String fileset;
+
+  @JsonProperty("subPath")
+  private String subPath;
+
+  @Nullable
+  @JsonProperty("locationName")
+  private String locationName;
+
+  @JsonProperty("actualFileLocation")
+  private String actualFileLocation;
+
+  @JsonProperty("operation")
+  private String operation;
+
+  @JsonProperty("timestamp")
+  private long timestamp;
+
+  @JsonProperty("count")
+  private int count;
+
+  /**
+   * Validates the file access.
+   *
+   * @throws IllegalArgumentException if the file access is invalid.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(fileset), "\"fileset\" field is required and cannot be empty");
+    Preconditions.checkArgument(subPath != null, "\"subPath\" field is required");
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(actualFileLocation),
+        "\"actualFileLocation\" field is required and cannot be empty");
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(operation), "\"operation\" field is required and cannot be empty");
+    Preconditions.checkArgument(timestamp > 0, "\"timestamp\" field must be positive");
+    Preconditions.checkArgument(count > 0, "\"count\" field must be positive");
+  }
+}
@@ -18,10 +18,12 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.apache.gravitino.NameIdentifier;
@@ -38,20 +40,36 @@ public class EntityListResponse extends BaseResponse {
   @JsonProperty("identifiers")
   private final NameIdentifier[] idents;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Constructor for EntityListResponse.
    *
    * @param idents The array of entity identifiers.
    */
   public EntityListResponse(NameIdentifier[] idents) {
+    this(idents, null);
+  }
+
+  /**
+   * Constructor for EntityListResponse of a page of the entities.
+   *
+   * @param idents The array of entity identifiers in the page.
+   * @param nextPageToken The token to list the next page, or null if this is the last page.
+   */
+  public EntityListResponse(NameIdentifier[] idents, @Nullable String nextPageToken) {
     super(0);
     this.idents = idents;
+    this.nextPageToken = nextPageToken;
   }
 
   /** Default constructor for EntityListResponse. (Used for Jackson deserialization.) */
   public EntityListResponse() {
     super();
     this.idents = null;
+    this.nextPageToken = null;
   }
 
   /**
@@ -63,6 +81,16 @@ public class EntityListResponse extends BaseResponse {
     return idents;
   }
 
+  /**
+   * Returns the token to list the next page of the entities.
+   *
+   * @return The token of the next page, or null if there are no more entities.
+   */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
   /**
    * Validates the response data.
    *
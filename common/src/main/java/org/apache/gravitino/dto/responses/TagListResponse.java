@@ -18,9 +18,11 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
+import javax.annotation.Nullable;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -35,14 +37,29 @@ public class TagListResponse extends BaseResponse {
   @JsonProperty("tags")
   private final TagDTO[] tags;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Creates a new TagListResponse.
    *
    * @param tags The list of tags.
    */
   public TagListResponse(TagDTO[] tags) {
+    this(tags, null);
+  }
+
+  /**
+   * Creates a new TagListResponse of a page of the tags.
+   *
+   * @param tags The list of tags in the page.
+   * @param nextPageToken The token to list the next page, or null if this is the last page.
+   */
+  public TagListResponse(TagDTO[] tags, @Nullable String nextPageToken) {
     super(0);
     this.tags = tags;
+    this.nextPageToken = nextPageToken;
   }
 
   /**
@@ -52,6 +69,7 @@ public class TagListResponse extends BaseResponse {
   public TagListResponse() {
     super();
     this.tags = null;
+    this.nextPageToken = null;
   }
 
   @Override
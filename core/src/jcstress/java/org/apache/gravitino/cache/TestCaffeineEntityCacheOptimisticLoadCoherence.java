@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+import org.openjdk.jcstress.infra.results.L_Result;
+
+public class TestCaffeineEntityCacheOptimisticLoadCoherence {
+  private static final SchemaEntity oldSchemaEntity =
+      getTestSchemaEntity(1L, "schema1", Namespace.of("metalake1", "catalog1"), "old_comment");
+  private static final SchemaEntity newSchemaEntity =
+      getTestSchemaEntity(1L, "schema1", Namespace.of("metalake1", "catalog1"), "new_comment");
+  private static final RoleEntity roleEntity = getTestRoleEntity(6L, "role1", "metalake1");
+  private static final UserEntity userEntity =
+      getTestUserEntity(5L, "user1", "metalake1", ImmutableList.of(6L));
+
+  private static SchemaEntity getTestSchemaEntity(
+      long id, String name, Namespace namespace, String comment) {
+    return SchemaEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(namespace)
+        .withAuditInfo(getTestAuditInfo())
+        .withComment(comment)
+        .withProperties(ImmutableMap.of())
+        .build();
+  }
+
+  private static RoleEntity getTestRoleEntity(long id, String name, String metalake) {
+    return RoleEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(NamespaceUtil.ofRole(metalake))
+        .withAuditInfo(getTestAuditInfo())
+        .withSecurableObjects(ImmutableList.of())
+        .build();
+  }
+
+  private static UserEntity getTestUserEntity(
+      long id, String name, String metalake, List<Long> roles) {
+    return UserEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(NamespaceUtil.ofUser(metalake))
+        .withAuditInfo(getTestAuditInfo())
+        .withRoleIds(roles)
+        .build();
+  }
+
+  private static AuditInfo getTestAuditInfo() {
+    return AuditInfo.builder()
+        .withCreator("admin")
+        .withCreateTime(Instant.now())
+        .withLastModifier("admin")
+        .withLastModifiedTime(Instant.now())
+        .build();
+  }
+
+  private static EntityCache newOptimisticCache() {
+    Config config = new Config() {};
+    config.set(Configs.CACHE_CONCURRENCY_MODE, Configs.CACHE_CONCURRENCY_MODE_OPTIMISTIC);
+    return new CaffeineEntityCache(config);
+  }
+
+  @JCStressTest
+  @Outcome.Outcomes({
+    @Outcome(
+        id = "NEW",
+        expect = Expect.ACCEPTABLE,
+        desc = "getOrLoad() loaded the entity after the update, the cache holds the new entity."),
+    @Outcome(
+        id = "NULL",
+        expect = Expect.ACCEPTABLE,
+        desc = "The loaded entity was invalidated or discarded, the cache is empty."),
+    @Outcome(
+        id = "OLD",
+        expect = Expect.FORBIDDEN,
+        desc = "A stale entity loaded before the update survived the invalidation.")
+  })
+  @Description(
+      "Concurrent optimistic getOrLoad() and update-then-invalidate() on the same key. "
+          + "A load that read the store before the update must never stay in the cache.")
+  @State
+  public static class GetOrLoadWithInvalidateCoherenceTest {
+    private final EntityCache cache = newOptimisticCache();
+    private final AtomicReference<SchemaEntity> store = new AtomicReference<>(oldSchemaEntity);
+
+    @Actor
+    public void actor1() {
+      cache.getOrLoad(oldSchemaEntity.nameIdentifier(), oldSchemaEntity.type(), store::get);
+    }
+
+    @Actor
+    public void actor2() {
+      store.set(newSchemaEntity);
+      cache.invalidate(oldSchemaEntity.nameIdentifier(), oldSchemaEntity.type());
+    }
+
+    @Arbiter
+    public void arbiter(L_Result r) {
+      SchemaEntity result =
+          cache
+              .<SchemaEntity>getIfPresent(oldSchemaEntity.nameIdentifier(), oldSchemaEntity.type())
+              .orElse(null);
+      r.r1 = result == null ? "NULL" : result.comment().equals("new_comment") ? "NEW" : "OLD";
+    }
+  }
+
+  @JCStressTest
+  @Outcome.Outcomes({
+    @Outcome(
+        id = "NEW",
+        expect = Expect.ACCEPTABLE,
+        desc = "getOrLoad() loaded the entity after the update, the cache holds the new entity."),
+    @Outcome(
+        id = "NULL",
+        expect = Expect.ACCEPTABLE,
+        desc = "The loaded entity was invalidated or discarded, the cache is empty."),
+    @Outcome(
+        id = "OLD",
+        expect = Expect.FORBIDDEN,
+        desc = "A stale child loaded before the parent invalidation survived in the cache.")
+  })
+  @Description(
+      "Concurrent optimistic getOrLoad() of a schema and invalidate() of its metalake. "
+          + "Invalidating a parent must also discard in-flight loads of its children.")
+  @State
+  public static class GetOrLoadWithParentInvalidateCoherenceTest {
+    private final EntityCache cache = newOptimisticCache();
+    private final AtomicReference<SchemaEntity> store = new AtomicReference<>(oldSchemaEntity);
+
+    @Actor
+    public void actor1() {
+      cache.getOrLoad(oldSchemaEntity.nameIdentifier(), oldSchemaEntity.type(), store::get);
+    }
+
+    @Actor
+    public void actor2() {
+      store.set(newSchemaEntity);
+      cache.invalidate(NameIdentifier.of("metalake1"), Entity.EntityType.METALAKE);
+    }
+
+    @Arbiter
+    public void arbiter(L_Result r) {
+      SchemaEntity result =
+          cache
+              .<SchemaEntity>getIfPresent(oldSchemaEntity.nameIdentifier(), oldSchemaEntity.type())
+              .orElse(null);
+      r.r1 = result == null ? "NULL" : result.comment().equals("new_comment") ? "NEW" : "OLD";
+    }
+  }
+
+  @JCStressTest
+  @Outcome.Outcomes({
+    @Outcome(
+        id = "1, 1",
+        expect = Expect.ACCEPTABLE,
+        desc = "Both getOrLoad() calls observed the entity and the store was read only once."),
+    @Outcome(
+        id = "1, 2",
+        expect = Expect.FORBIDDEN,
+        desc = "Concurrent misses on the same key loaded the entity twice.")
+  })
+  @Description(
+      "Concurrent optimistic getOrLoad() on the same missing key. "
+          + "The first miss loads the entity, the other one must reuse its result.")
+  @State
+  public static class ConcurrentGetOrLoadLoadsOnceTest {
+    private final EntityCache cache = newOptimisticCache();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SchemaEntity load() {
+      loads.incrementAndGet();
+      return oldSchemaEntity;
+    }
+
+    @Actor
+    public void actor1() {
+      cache.getOrLoad(oldSchemaEntity.nameIdentifier(), oldSchemaEntity.type(), this::load);
+    }
+
+    @Actor
+    public void actor2() {
+      cache.getOrLoad(oldSchemaEntity.nameIdentifier(), oldSchemaEntity.type(), this::load);
+    }
+
+    @Arbiter
+    public void arbiter(II_Result r) {
+      r.r1 = cache.contains(oldSchemaEntity.nameIdentifier(), oldSchemaEntity.type()) ? 1 : 0;
+      r.r2 = loads.get();
+    }
+  }
+
+  @JCStressTest
+  @Outcome.Outcomes({
+    @Outcome(
+        id = "NULL",
+        expect = Expect.ACCEPTABLE,
+        desc = "The relation was invalidated, discarded, or loaded empty after the update."),
+    @Outcome(
+        id = "STALE",
+        expect = Expect.FORBIDDEN,
+        desc = "A relation loaded before the update survived the invalidation.")
+  })
+  @Description(
+      "Concurrent optimistic relation getOrLoad() and update-then-invalidate() on the same key.")
+  @State
+  public static class RelationGetOrLoadWithInvalidateCoherenceTest {
+    private final EntityCache cache = newOptimisticCache();
+    private final AtomicReference<List<UserEntity>> store =
+        new AtomicReference<>(ImmutableList.of(userEntity));
+
+    @Actor
+    public void actor1() {
+      cache.getOrLoad(
+          SupportsRelationOperations.Type.ROLE_USER_REL,
+          roleEntity.nameIdentifier(),
+          roleEntity.type(),
+          store::get);
+    }
+
+    @Actor
+    public void actor2() {
+      store.set(ImmutableList.of());
+      cache.invalidate(
+          roleEntity.nameIdentifier(),
+          roleEntity.type(),
+          SupportsRelationOperations.Type.ROLE_USER_REL);
+    }
+
+    @Arbiter
+    public void arbiter(L_Result r) {
+      r.r1 =
+          cache
+                  .getIfPresent(
+                      SupportsRelationOperations.Type.ROLE_USER_REL,
+                      roleEntity.nameIdentifier(),
+                      roleEntity.type())
+                  .isPresent()
+              ? "STALE"
+              : "NULL";
+    }
+  }
+}
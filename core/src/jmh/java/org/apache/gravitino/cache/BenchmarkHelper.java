@@ -22,6 +22,7 @@ package org.apache.gravitino.cache;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -29,8 +30,13 @@ import java.util.Random;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
 import org.apache.gravitino.utils.TestUtil;
 
 public class BenchmarkHelper {
@@ -76,6 +82,46 @@ public class BenchmarkHelper {
     return entities;
   }
 
+  /**
+   * Generates a list of table entities with the specified count, every table has the specified
+   * count of columns. All the names and audit infos are distinct objects, the same as the entities
+   * loaded from the entity store.
+   *
+   * @param entityCnt the count of table entities to generate.
+   * @param columnCnt the count of columns of every table entity.
+   * @return a list of table entities.
+   */
+  public static List<TableEntity> getTableEntities(int entityCnt, int columnCnt) {
+    List<TableEntity> tables = new ArrayList<>(entityCnt);
+    for (int i = 0; i < entityCnt; i++) {
+      List<ColumnEntity> columns = new ArrayList<>(columnCnt);
+      for (int j = 0; j < columnCnt; j++) {
+        columns.add(
+            ColumnEntity.builder()
+                .withId(random.nextLong())
+                .withName("column_" + j)
+                .withPosition(j)
+                .withDataType(Types.StringType.get())
+                .withComment("comment of column_" + j)
+                .withNullable(true)
+                .withAutoIncrement(false)
+                .withAuditInfo(getAuditInfo(i))
+                .build());
+      }
+
+      tables.add(
+          TableEntity.builder()
+              .withId(random.nextLong())
+              .withName("table_" + i)
+              .withNamespace(Namespace.of("metalake", "catalog", "schema_" + i))
+              .withColumns(columns)
+              .withAuditInfo(getAuditInfo(i))
+              .build());
+    }
+
+    return tables;
+  }
+
   /**
    * Returns a randomly selected key from the given map.
    *
@@ -118,6 +164,15 @@ public class BenchmarkHelper {
         entity instanceof HasIdentifier, "Unsupported EntityType: " + entity.type());
   }
 
+  private static AuditInfo getAuditInfo(int index) {
+    return AuditInfo.builder()
+        .withCreator("creator_" + index)
+        .withCreateTime(Instant.now())
+        .withLastModifier("modifier_" + index)
+        .withLastModifiedTime(Instant.now())
+        .build();
+  }
+
   private static List<Entity> getUserList(RoleEntity roleEntity, int userCnt) {
     List<Entity> userList = new ArrayList<>(userCnt);
     List<Long> roleIds = ImmutableList.of(roleEntity.id());
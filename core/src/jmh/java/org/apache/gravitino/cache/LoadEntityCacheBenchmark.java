@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.ModelEntity;
+import org.apache.gravitino.utils.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * LoadEntityCacheBenchmark benchmarks the {@link EntityCache#getOrLoad} operation under the
+ * different {@link Configs#CACHE_CONCURRENCY_MODE} modes.
+ *
+ * <p>All threads share one cache. A configurable ratio of the operations invalidates the entity
+ * before loading it, so the load misses the cache and goes to a simulated backend that blocks for
+ * {@code loadLatencyMicros}. The entities are spread across several metalakes, so most misses are
+ * unrelated to the lookups of other threads.
+ *
+ * <p>The same operation is measured with 1, 4 and 16 threads. With the {@code global} mode the
+ * throughput stays flat as the thread count grows because every miss holds the cache lock while
+ * loading, with the {@code optimistic} mode the throughput scales with the thread count.
+ *
+ * @see org.apache.gravitino.cache.CaffeineEntityCache
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class LoadEntityCacheBenchmark {
+  private static final int METALAKE_CNT = 16;
+
+  @Param({Configs.CACHE_CONCURRENCY_MODE_GLOBAL, Configs.CACHE_CONCURRENCY_MODE_OPTIMISTIC})
+  public String concurrencyMode;
+
+  @Param({"1000"})
+  public int totalCnt;
+
+  @Param({"10"})
+  public int missPercentage;
+
+  @Param({"200"})
+  public int loadLatencyMicros;
+
+  private EntityCache cache;
+  private List<ModelEntity> entities;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    Config config = new Config() {};
+    config.set(Configs.CACHE_CONCURRENCY_MODE, concurrencyMode);
+    this.cache = new CaffeineEntityCache(config);
+    this.entities = new ArrayList<>(totalCnt);
+
+    for (int i = 0; i < totalCnt; i++) {
+      ModelEntity entity =
+          TestUtil.getTestModelEntity(
+              i, "model" + i, Namespace.of("metalake" + (i % METALAKE_CNT), "catalog", "schema"));
+      entities.add(entity);
+      cache.put(entity);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Entity benchmarkGetOrLoadWith1Thread() {
+    return getOrLoad();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Entity benchmarkGetOrLoadWith4Threads() {
+    return getOrLoad();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public Entity benchmarkGetOrLoadWith16Threads() {
+    return getOrLoad();
+  }
+
+  private Entity getOrLoad() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    ModelEntity entity = entities.get(random.nextInt(entities.size()));
+    if (random.nextInt(100) < missPercentage) {
+      cache.invalidate(entity.nameIdentifier(), entity.type());
+    }
+
+    return cache.getOrLoad(
+        entity.nameIdentifier(),
+        entity.type(),
+        () -> {
+          LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(loadLatencyMicros));
+          return entity;
+        });
+  }
+}
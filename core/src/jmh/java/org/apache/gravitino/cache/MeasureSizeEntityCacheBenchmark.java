@@ -26,6 +26,7 @@ import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.TableEntity;
 import org.openjdk.jmh.annotations.Benchmark;
 
 /**
@@ -36,11 +37,13 @@ import org.openjdk.jmh.annotations.Benchmark;
  * using the configured entity count. This ensures that the {@code size()} method operates on a
  * fully populated cache with realistic structure and distribution.
  *
- * <p>The benchmark includes a single method:
+ * <p>The benchmark includes the following methods:
  *
  * <ul>
  *   <li>{@code entityCacheSize}: Measures the execution time of retrieving the total number of
  *       cached entries.
+ *   <li>{@code estimateEntitySize}: Measures the execution time of estimating the retained size of
+ *       a table entity with 100 columns by the {@link EntityCacheSizeWeigher}.
  * </ul>
  *
  * @param <E> the type of related entity, extending {@link Entity} and implementing {@link
@@ -50,6 +53,9 @@ import org.openjdk.jmh.annotations.Benchmark;
  */
 public class MeasureSizeEntityCacheBenchmark<E extends Entity & HasIdentifier>
     extends AbstractEntityBenchmark {
+  private static final int TABLE_COLUMN_CNT = 100;
+
+  private List<TableEntity> tables;
 
   @Override
   @SuppressWarnings("unchecked")
@@ -58,8 +64,10 @@ public class MeasureSizeEntityCacheBenchmark<E extends Entity & HasIdentifier>
     this.cache = new CaffeineEntityCache(config);
     this.entities = BenchmarkHelper.getEntities(totalCnt);
     this.entitiesWithRelations = BenchmarkHelper.getRelationEntities(totalCnt);
+    this.tables = BenchmarkHelper.getTableEntities(totalCnt, TABLE_COLUMN_CNT);
 
     entities.forEach(e -> cache.put((ModelEntity) e));
+    tables.forEach(cache::put);
     entitiesWithRelations.forEach(
         (roleEntity, userList) ->
             cache.put(
@@ -73,4 +81,9 @@ public class MeasureSizeEntityCacheBenchmark<E extends Entity & HasIdentifier>
   public long entityCacheSize() {
     return cache.size();
   }
+
+  @Benchmark
+  public long estimateEntitySize() {
+    return EntityCacheSizeWeigher.estimateSize(tables.get(random.nextInt(tables.size())));
+  }
 }
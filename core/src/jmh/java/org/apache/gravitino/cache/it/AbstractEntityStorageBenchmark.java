@@ -290,6 +290,8 @@ public class AbstractEntityStorageBenchmark<E extends Entity & HasIdentifier> {
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
     Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(Configs.GARBAGE_COLLECTOR_MAX_DELETIONS_PER_SECOND)).thenReturn(0L);
+    Mockito.when(config.get(Configs.CACHE_LIST_CACHE_ENABLED)).thenReturn(false);
     Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
     // Fix cache config for test
     Mockito.when(config.get(Configs.CACHE_ENABLED)).thenReturn(CACHE_ENABLED);
@@ -298,6 +300,9 @@ public class AbstractEntityStorageBenchmark<E extends Entity & HasIdentifier> {
     Mockito.when(config.get(Configs.CACHE_WEIGHER_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
+    Mockito.when(config.get(Configs.CACHE_INVALIDATION_SYNC_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.CACHE_ID_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.CACHE_ID_CACHE_MAX_ENTRIES)).thenReturn(100_000);
 
     try {
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
@@ -307,6 +312,7 @@ public class AbstractEntityStorageBenchmark<E extends Entity & HasIdentifier> {
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("gravitino");
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("gravitino");
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+      Mockito.when(config.get(Configs.ENTITY_RELATIONAL_COLUMN_SNAPSHOT_ENABLED)).thenReturn(false);
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
 
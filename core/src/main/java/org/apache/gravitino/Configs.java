@@ -163,6 +163,58 @@ public class Configs {
           .longConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLISECONDS);
 
+  public static final ConfigEntry<List<String>> ENTITY_RELATIONAL_JDBC_BACKEND_REPLICA_URLS =
+      new ConfigBuilder("gravitino.entity.store.relational.replicaJdbcUrls")
+          .doc(
+              "The comma separated database urls of the read replicas of the JDBC Backend, the "
+                  + "reads out of a transaction are routed to them. They share the driver, user "
+                  + "and password with the primary")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .stringConf()
+          .toSequence()
+          .checkValue(
+              valueList ->
+                  valueList != null && valueList.stream().allMatch(StringUtils::isNotBlank),
+              ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(Collections.emptyList());
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_JDBC_BACKEND_REPLICA_STICKY_MILLIS =
+      new ConfigBuilder("gravitino.entity.store.relational.replicaStickyMillis")
+          .doc(
+              "The time in milliseconds a thread keeps reading from the primary after it commits "
+                  + "a write, so that it reads its own writes")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5000L);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_JDBC_BACKEND_REPLICA_MAX_LAG_MILLIS =
+      new ConfigBuilder("gravitino.entity.store.relational.replicaMaxLagMillis")
+          .doc(
+              "The maximum replication lag in milliseconds of a read replica, the reads fall back "
+                  + "to the primary when a replica lags behind more than it")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_JDBC_BACKEND_REPLICA_LAG_CHECK_MILLIS =
+      new ConfigBuilder("gravitino.entity.store.relational.replicaLagCheckIntervalMillis")
+          .doc("The interval in milliseconds to check the replication lag of the read replicas")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_COLUMN_SNAPSHOT_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.relational.columnSnapshotEnabled")
+          .doc(
+              "Whether to store the columns of a table as one compressed snapshot that replaces "
+                  + "the per-version column rows, and load the columns of a table from it")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
   public static final ConfigEntry<String> ENTITY_RELATIONAL_JDBC_BACKEND_PATH =
       new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_STORAGE_PATH_KEY)
           .doc(
@@ -256,6 +308,36 @@ public class Configs {
                   MAX_VERSION_RETENTION_COUNT))
           .createWithDefault(DEFAULT_VERSION_RETENTION_COUNT);
 
+  public static final ConfigEntry<Long> GARBAGE_COLLECTOR_MAX_DELETIONS_PER_SECOND =
+      new ConfigBuilder("gravitino.entity.store.gc.maxDeletionsPerSecond")
+          .doc(
+              "The maximum number of the rows the garbage collector of the relational entity store "
+                  + "deletes per second, 0 means no limit")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final String RANDOM_ID_GENERATOR = "random";
+
+  public static final String TIME_ORDERED_ID_GENERATOR = "timeOrdered";
+
+  public static final ConfigEntry<String> ID_GENERATOR =
+      new ConfigBuilder("gravitino.entity.idGenerator")
+          .doc(
+              "The generator of the entity ids, `random` for the random ids, or `timeOrdered` for "
+                  + "the ids ordered by the creation time, which are inserted next to each other "
+                  + "in the primary key indexes of the relational store")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  RANDOM_ID_GENERATOR.equals(value) || TIME_ORDERED_ID_GENERATOR.equals(value),
+              String.format(
+                  "The value must be either %s or %s",
+                  RANDOM_ID_GENERATOR, TIME_ORDERED_ID_GENERATOR))
+          .createWithDefault(RANDOM_ID_GENERATOR);
+
   // The followings are configurations for tree lock
 
   public static final ConfigEntry<Long> TREE_LOCK_MAX_NODE_IN_MEMORY =
@@ -279,6 +361,48 @@ public class Configs {
           .longConf()
           .createWithDefault(CLEAN_INTERVAL_IN_SECS);
 
+  public static final ConfigEntry<Long> TREE_LOCK_ACQUIRE_TIMEOUT =
+      new ConfigBuilder("gravitino.lock.acquireTimeoutMs")
+          .doc(
+              "The maximum time in milliseconds to wait for a tree lock, a request fails if it "
+                  + "can not get the lock in time. It waits without a limit if it is 0")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Boolean> TREE_LOCK_EXTERNAL_CATALOG_CALLS_UNLOCKED =
+      new ConfigBuilder("gravitino.lock.externalCatalogCallsUnlocked")
+          .doc(
+              "Whether to call the catalogs not managing their storage, such as Hive or JDBC "
+                  + "catalogs, without holding the tree lock, and only hold it while updating the "
+                  + "entity store with the result")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final int DEFAULT_TABLE_IMPORT_PARALLELISM = 8;
+  public static final ConfigEntry<Integer> TABLE_IMPORT_PARALLELISM =
+      new ConfigBuilder("gravitino.table.import.parallelism")
+          .doc(
+              "The maximum number of the tables loaded from the underlying catalog concurrently "
+                  + "when importing the tables of a schema")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_TABLE_IMPORT_PARALLELISM);
+
+  public static final int DEFAULT_TABLE_IMPORT_BATCH_SIZE = 100;
+  public static final ConfigEntry<Integer> TABLE_IMPORT_BATCH_SIZE =
+      new ConfigBuilder("gravitino.table.import.batchSize")
+          .doc(
+              "The number of the tables stored in one transaction when importing the tables of a "
+                  + "schema")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_TABLE_IMPORT_BATCH_SIZE);
+
   public static final ConfigEntry<Boolean> ENABLE_AUTHORIZATION =
       new ConfigBuilder("gravitino.authorization.enable")
           .doc("Enable the authorization")
@@ -293,6 +417,24 @@ public class Configs {
           .stringConf()
           .createWithDefault("org.apache.gravitino.server.authorization.jcasbin.JcasbinAuthorizer");
 
+  public static final ConfigEntry<Integer> AUTHORIZATION_DECISION_CACHE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.authorization.decisionCache.maxEntries")
+          .doc(
+              "Maximum number of authorization results cached by the built-in authorizer, the "
+                  + "cache is disabled if it is 0")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100_000);
+
+  public static final ConfigEntry<Long> AUTHORIZATION_DECISION_CACHE_EXPIRATION_TIME =
+      new ConfigBuilder("gravitino.authorization.decisionCache.expireTimeInMs")
+          .doc("Time-to-live of the cached authorization results in milliseconds")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60_000L);
+
   public static final ConfigEntry<List<String>> SERVICE_ADMINS =
       new ConfigBuilder("gravitino.authorization.serviceAdmins")
           .doc("The admins of Gravitino service")
@@ -399,6 +541,39 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final String CACHE_WEIGHER_MODE_TYPE = "type";
+  public static final String CACHE_WEIGHER_MODE_SIZE = "size";
+
+  // How the weight of a cache entry is calculated when the weighted cache is enabled
+  public static final ConfigEntry<String> CACHE_WEIGHER_MODE =
+      new ConfigBuilder("gravitino.cache.weigherMode")
+          .doc(
+              "How the weight of a cache entry is calculated when the weighted cache is enabled. "
+                  + "`type` gives every entity a fixed weight by its type, `size` weighs every "
+                  + "entry by the estimated bytes it retains on the heap and bounds the cache by "
+                  + "`gravitino.cache.maxWeightInBytes`.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  CACHE_WEIGHER_MODE_TYPE.equalsIgnoreCase(value)
+                      || CACHE_WEIGHER_MODE_SIZE.equalsIgnoreCase(value),
+              String.format(
+                  "The value must be either `%s` or `%s`",
+                  CACHE_WEIGHER_MODE_TYPE, CACHE_WEIGHER_MODE_SIZE))
+          .createWithDefault(CACHE_WEIGHER_MODE_TYPE);
+
+  // Maximum estimated heap size of the cache when the size weigher is used
+  public static final ConfigEntry<Long> CACHE_MAX_WEIGHT_IN_BYTES =
+      new ConfigBuilder("gravitino.cache.maxWeightInBytes")
+          .doc(
+              "Maximum estimated heap size of all cached entries in bytes, only used when "
+                  + "`gravitino.cache.weigherMode` is `size`. Default is 256 MB.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(256L * 1024 * 1024);
+
   // Provider name for cache
   public static final ConfigEntry<String> CACHE_IMPLEMENTATION =
       new ConfigBuilder("gravitino.cache.implementation")
@@ -408,6 +583,98 @@ public class Configs {
           .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
           .createWithDefault("caffeine");
 
+  // Whether to cache the ids of metalakes, catalogs and schemas by their names
+  public static final ConfigEntry<Boolean> CACHE_ID_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.cache.idCache.enabled")
+          .doc(
+              "Whether to cache the ids of metalakes, catalogs and schemas by their names, so "
+                  + "resolving the parent of an entity does not query the relational store. It "
+                  + "only takes effect when `gravitino.cache.enabled` is true. When several "
+                  + "servers share the relational store, it should only be enabled together with "
+                  + "`gravitino.cache.invalidation.syncEnabled`, otherwise ids renamed or dropped "
+                  + "on another server stay cached until they expire.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Whether to cache the results of listing the entities under a namespace
+  public static final ConfigEntry<Boolean> CACHE_LIST_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.cache.listCache.enabled")
+          .doc(
+              "Whether to cache the results of listing catalogs, schemas, tables, filesets, "
+                  + "topics, models, tags and policies under a namespace. It only takes effect "
+                  + "when `gravitino.cache.enabled` is true. When several servers share the "
+                  + "relational store, it should only be enabled together with "
+                  + "`gravitino.cache.invalidation.syncEnabled`, otherwise entities created or "
+                  + "dropped on another server are missing from or stay in the cached lists "
+                  + "until they expire.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Maximum number of names in the id cache
+  public static final ConfigEntry<Integer> CACHE_ID_CACHE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.cache.idCache.maxEntries")
+          .doc("Maximum number of metalake, catalog and schema names in the id cache.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100_000);
+
+  public static final String CACHE_CONCURRENCY_MODE_GLOBAL = "global";
+  public static final String CACHE_CONCURRENCY_MODE_OPTIMISTIC = "optimistic";
+
+  // Concurrency mode for loading entries into the cache
+  public static final ConfigEntry<String> CACHE_CONCURRENCY_MODE =
+      new ConfigBuilder("gravitino.cache.concurrencyMode")
+          .doc(
+              "The concurrency mode used when loading missing entries into the cache. `global` "
+                  + "serializes all loads behind a single cache lock, `optimistic` loads entries "
+                  + "without holding the cache lock and only publishes results that are not "
+                  + "invalidated concurrently.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  CACHE_CONCURRENCY_MODE_GLOBAL.equalsIgnoreCase(value)
+                      || CACHE_CONCURRENCY_MODE_OPTIMISTIC.equalsIgnoreCase(value),
+              String.format(
+                  "The value must be either `%s` or `%s`",
+                  CACHE_CONCURRENCY_MODE_GLOBAL, CACHE_CONCURRENCY_MODE_OPTIMISTIC))
+          .createWithDefault(CACHE_CONCURRENCY_MODE_GLOBAL);
+
+  // Whether to broadcast cache invalidations to the other servers sharing the entity store
+  public static final ConfigEntry<Boolean> CACHE_INVALIDATION_SYNC_ENABLED =
+      new ConfigBuilder("gravitino.cache.invalidation.syncEnabled")
+          .doc(
+              "Whether to broadcast cache invalidations to the other Gravitino servers sharing the "
+                  + "same relational entity store. Every change is recorded in a change log table "
+                  + "in the same transaction, and each server polls the table to invalidate its "
+                  + "local cache.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Interval to poll the cache invalidations made by the other servers
+  public static final ConfigEntry<Long> CACHE_INVALIDATION_POLL_INTERVAL_MS =
+      new ConfigBuilder("gravitino.cache.invalidation.pollIntervalMs")
+          .doc("The interval in milliseconds to poll the cache invalidations of other servers.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  // How long the cache invalidations are kept in the change log
+  public static final ConfigEntry<Long> CACHE_INVALIDATION_RETENTION_MS =
+      new ConfigBuilder("gravitino.cache.invalidation.retentionMs")
+          .doc(
+              "The time in milliseconds to keep the cache invalidations in the change log before "
+                  + "they are purged.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(3_600_000L);
+
   public static final ConfigEntry<String> JOB_STAGING_DIR =
       new ConfigBuilder("gravitino.job.stagingDir")
           .doc("Directory for managing staging files when running jobs.")
@@ -18,10 +18,14 @@
  */
 package org.apache.gravitino;
 
+import com.google.common.base.Preconditions;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -84,6 +88,34 @@ public interface EntityStore extends Closeable {
     throw new UnsupportedOperationException("Don't support to skip fields");
   }
 
+  /**
+   * List at most {@code limit} entities with the specified {@link org.apache.gravitino.Namespace}
+   * whose names sort after the given name, ordered by name. This lets a caller walk a large
+   * namespace page by page without loading the whole namespace for every page.
+   *
+   * <p>The default implementation lists the whole namespace and cuts the page from it, stores
+   * should override it to push the bound and the limit into the underlying storage.
+   *
+   * @param <E> class of the entity
+   * @param namespace the namespace of the entities
+   * @param type the detailed type of the entity
+   * @param entityType the general type of the entity
+   * @param afterName the name to list after, or null to list from the first entity
+   * @param limit the maximum number of entities to return
+   * @return the list of entities ordered by name
+   * @throws IOException if the list operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType, String afterName, int limit)
+      throws IOException {
+    Preconditions.checkArgument(limit > 0, "The limit must be positive, but got %s", limit);
+    return list(namespace, type, entityType).stream()
+        .filter(e -> afterName == null || e.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(HasIdentifier::name))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Check if the entity with the specified {@link org.apache.gravitino.NameIdentifier} exists.
    *
@@ -166,6 +198,32 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Get the entities with the specified identifiers from the underlying storage. The
+   * implementation should load the entities in as few round trips as possible, the default
+   * implementation gets them one by one.
+   *
+   * @param idents the unique identifiers of the entities
+   * @param entityType the general type of the entities
+   * @param e the entity class instance
+   * @param <E> the class of entity
+   * @return the entities in the order of the given identifiers, the entities that do not exist are
+   *     skipped
+   * @throws IOException if the retrieve operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, EntityType entityType, Class<E> e) throws IOException {
+    List<E> entities = new ArrayList<>(idents.size());
+    for (NameIdentifier ident : idents) {
+      try {
+        entities.add(get(ident, entityType, e));
+      } catch (NoSuchEntityException ex) {
+        // The entities that do not exist are skipped.
+      }
+    }
+    return entities;
+  }
+
   /**
    * Delete the entity from the underlying storage by the specified {@link
    * org.apache.gravitino.NameIdentifier}.
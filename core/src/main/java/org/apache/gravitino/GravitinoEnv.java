@@ -83,6 +83,7 @@ import org.apache.gravitino.policy.PolicyManager;
 import org.apache.gravitino.stats.StatisticManager;
 import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.IdGeneratorNodeLease;
 import org.apache.gravitino.tag.TagDispatcher;
 import org.apache.gravitino.tag.TagManager;
 import org.slf4j.Logger;
@@ -115,6 +116,8 @@ public class GravitinoEnv {
 
   private FilesetDispatcher filesetDispatcher;
 
+  private FilesetDispatcher filesetDispatcherWithoutEvents;
+
   private TopicDispatcher topicDispatcher;
 
   private ModelDispatcher modelDispatcher;
@@ -131,6 +134,8 @@ public class GravitinoEnv {
 
   private IdGenerator idGenerator;
 
+  private IdGeneratorNodeLease idGeneratorNodeLease;
+
   private AuxiliaryServiceManager auxServiceManager;
 
   private MetricsSystem metricsSystem;
@@ -264,6 +269,17 @@ public class GravitinoEnv {
     return filesetDispatcher;
   }
 
+  /**
+   * Get the FilesetDispatcher which does not dispatch the events of the fileset operations. It is
+   * used to resolve the file locations of the file accesses reported by the clients, whose events
+   * are dispatched with the reported access information.
+   *
+   * @return The FilesetDispatcher instance without events.
+   */
+  public FilesetDispatcher filesetDispatcherWithoutEvents() {
+    return filesetDispatcherWithoutEvents;
+  }
+
   /**
    * Get the TopicDispatcher associated with the Gravitino environment.
    *
@@ -431,6 +447,11 @@ public class GravitinoEnv {
   public void shutdown() {
     LOG.info("Shutting down Gravitino Environment...");
 
+    // Release the node id before the entity store is closed.
+    if (idGeneratorNodeLease != null) {
+      idGeneratorNodeLease.close();
+    }
+
     if (entityStore != null) {
       try {
         entityStore.close();
@@ -501,8 +522,13 @@ public class GravitinoEnv {
     this.entityStore = EntityStoreFactory.createEntityStore(config);
     entityStore.initialize(config);
 
-    // create and initialize a random id generator
-    this.idGenerator = new RandomIdGenerator();
+    // create and initialize the id generator
+    if (Configs.TIME_ORDERED_ID_GENERATOR.equals(config.get(Configs.ID_GENERATOR))) {
+      this.idGeneratorNodeLease = new IdGeneratorNodeLease();
+      this.idGenerator = idGeneratorNodeLease.idGenerator();
+    } else {
+      this.idGenerator = new RandomIdGenerator();
+    }
 
     // Tree lock
     this.lockManager = new LockManager(config);
@@ -556,6 +582,7 @@ public class GravitinoEnv {
         new FilesetHookDispatcher(filesetOperationDispatcher);
     FilesetNormalizeDispatcher filesetNormalizeDispatcher =
         new FilesetNormalizeDispatcher(filesetHookDispatcher, catalogManager);
+    this.filesetDispatcherWithoutEvents = filesetNormalizeDispatcher;
     this.filesetDispatcher = new FilesetEventDispatcher(eventBus, filesetNormalizeDispatcher);
 
     TopicOperationDispatcher topicOperationDispatcher =
@@ -19,7 +19,9 @@
 package org.apache.gravitino;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 
 /**
@@ -75,6 +77,34 @@ public interface SupportsRelationOperations {
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
       throws IOException;
 
+  /**
+   * List the entities according to the given entities of the same type in a specific relation. The
+   * default implementation lists them one entity at a time, the implementations may override it to
+   * list them with fewer queries.
+   *
+   * @param <E> the type of entities returned.
+   * @param relType The type of relation.
+   * @param nameIdentifiers The given entity identifiers.
+   * @param identType The given entity type.
+   * @return The lists of entities keyed by the given entity identifiers, the identifiers of the
+   *     entities that do not exist are absent.
+   * @throws IOException When occurs storage issues, it will throw IOException.
+   */
+  default <E extends Entity & HasIdentifier>
+      Map<NameIdentifier, List<E>> batchListEntitiesByRelation(
+          Type relType, List<NameIdentifier> nameIdentifiers, Entity.EntityType identType)
+          throws IOException {
+    Map<NameIdentifier, List<E>> entities = new HashMap<>();
+    for (NameIdentifier nameIdentifier : nameIdentifiers) {
+      try {
+        entities.put(nameIdentifier, listEntitiesByRelation(relType, nameIdentifier, identType));
+      } catch (NoSuchEntityException e) {
+        // The missing entities are skipped.
+      }
+    }
+    return entities;
+  }
+
   /**
    * Get a specific entity that is related to a given source entity.
    *
@@ -20,20 +20,47 @@
 package org.apache.gravitino.audit;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.io.CountingOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.AuditLogMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * DefaultFileAuditWriter is the default implementation of AuditLogWriter, which writes audit logs
  * to a file.
+ *
+ * <p>The audit logs are handed off to a bounded buffer and written by a dedicated writer thread, so
+ * the caller only formats the audit log. The caller is blocked when the buffer is full. The audit
+ * log file could be rotated by size and by time, and the rotated files could be compressed in the
+ * background without blocking the writer thread.
  */
 public class FileAuditWriter implements AuditLogWriter {
   private static final Logger Log = LoggerFactory.getLogger(FileAuditWriter.class);
@@ -41,7 +68,16 @@ public class FileAuditWriter implements AuditLogWriter {
   private static final String AUDIT_LOG_FILE_NAME = "fileName";
   private static final String APPEND = "append";
   private static final String FLUSH_INTERVAL_SECS = "flushIntervalSecs";
+  private static final String BUFFER_CAPACITY = "bufferCapacity";
+  private static final String MAX_FILE_SIZE = "maxFileSize";
+  private static final String ROTATION_INTERVAL_SECS = "rotationIntervalSecs";
+  private static final String COMPRESS_ROTATED_FILES = "compressRotatedFiles";
   private static final String LINE_SEPARATOR = System.lineSeparator();
+  private static final int WRITE_BATCH_SIZE = 1024;
+  private static final int POLL_TIMEOUT_MILLIS = 1000;
+  private static final int CLOSE_WAIT_SECS = 10;
+  private static final DateTimeFormatter ROTATED_FILE_SUFFIX_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneId.systemDefault());
 
   @VisibleForTesting Writer outWriter;
   @VisibleForTesting String fileName;
@@ -49,7 +85,24 @@ public class FileAuditWriter implements AuditLogWriter {
   private Formatter formatter;
   private boolean append;
   private int flushIntervalSecs;
+  private long maxFileSize;
+  private long rotationIntervalSecs;
+  private boolean compressRotatedFiles;
   private Instant nextFlushTime = Instant.now();
+  private Instant nextRotationTime;
+  private CountingOutputStream countingOutputStream;
+  // The size of the audit log file before it's opened, used for the size based rotation.
+  private long initialFileSize;
+
+  private BlockingQueue<AuditLog> buffer;
+  // The number of the audit logs handed off but not written yet.
+  private final AtomicLong pendingLogs = new AtomicLong(0);
+  private final Object writeLock = new Object();
+  private volatile boolean closed = false;
+  private Thread writerThread;
+  // Compresses the rotated files, it is null if the rotated files are not compressed.
+  private ExecutorService compressExecutor;
+  private AuditLogMetricsSource metricsSource;
 
   @Override
   public Formatter getFormatter() {
@@ -65,33 +118,109 @@ public class FileAuditWriter implements AuditLogWriter {
             + properties.getOrDefault(AUDIT_LOG_FILE_NAME, "gravitino_audit.log");
     this.append = Boolean.parseBoolean(properties.getOrDefault(APPEND, "true"));
     this.flushIntervalSecs = Integer.parseInt(properties.getOrDefault(FLUSH_INTERVAL_SECS, "10"));
+    int bufferCapacity = Integer.parseInt(properties.getOrDefault(BUFFER_CAPACITY, "10000"));
+    this.maxFileSize = Long.parseLong(properties.getOrDefault(MAX_FILE_SIZE, "0"));
+    this.rotationIntervalSecs =
+        Long.parseLong(properties.getOrDefault(ROTATION_INTERVAL_SECS, "0"));
+    this.compressRotatedFiles =
+        Boolean.parseBoolean(properties.getOrDefault(COMPRESS_ROTATED_FILES, "false"));
+    Preconditions.checkArgument(
+        bufferCapacity > 0, "The buffer capacity of the audit log writer should be positive");
+    Preconditions.checkArgument(
+        maxFileSize >= 0, "The max file size of the audit log should not be negative");
+    Preconditions.checkArgument(
+        rotationIntervalSecs >= 0, "The rotation interval of the audit log should not be negative");
+
     try {
-      OutputStream outputStream = new FileOutputStream(fileName, append);
-      this.outWriter = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+      openWriter(append);
     } catch (Exception e) {
       throw new GravitinoRuntimeException(
           e, "Init audit log writer fail, filename is %s", fileName);
     }
+
+    this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+    this.metricsSource = new AuditLogMetricsSource(buffer::size);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
+    if (compressRotatedFiles) {
+      this.compressExecutor =
+          Executors.newSingleThreadExecutor(
+              r -> {
+                Thread thread = new Thread(r, "audit-log-compressor");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+
+    this.writerThread = new Thread(this::processAuditLogs, "audit-log-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
   }
 
   @Override
   public void doWrite(AuditLog auditLog) {
-    String log = auditLog.toString();
+    if (closed) {
+      Log.warn("Audit log writer is closed, drop audit log: {}", auditLog);
+      return;
+    }
+
+    pendingLogs.incrementAndGet();
+    if (buffer.offer(auditLog)) {
+      return;
+    }
+
+    metricsSource.blockedWritesCounter().inc();
     try {
-      outWriter.write(log + LINE_SEPARATOR);
-      tryFlush();
-    } catch (Exception e) {
-      Log.warn("Failed to write audit log: {}", log, e);
+      buffer.put(auditLog);
+    } catch (InterruptedException e) {
+      pendingLogs.decrementAndGet();
+      Thread.currentThread().interrupt();
+      Log.warn("Interrupted while writing audit log: {}", auditLog);
     }
   }
 
   @Override
   public void close() {
-    if (outWriter != null) {
+    closed = true;
+    if (writerThread != null) {
       try {
-        outWriter.close();
-      } catch (Exception e) {
-        Log.warn("Failed to close writer", e);
+        writerThread.join(TimeUnit.SECONDS.toMillis(CLOSE_WAIT_SECS));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (writerThread.isAlive()) {
+        writerThread.interrupt();
+        Log.warn("Audit log writer thread doesn't finish in {} seconds", CLOSE_WAIT_SECS);
+      }
+    }
+
+    if (compressExecutor != null) {
+      // The rotated files are compressed before closing, they are left uncompressed on timeout.
+      compressExecutor.shutdown();
+      try {
+        if (!compressExecutor.awaitTermination(CLOSE_WAIT_SECS, TimeUnit.SECONDS)) {
+          Log.warn("Audit log compressor doesn't finish in {} seconds", CLOSE_WAIT_SECS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null && metricsSource != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
+    synchronized (writeLock) {
+      if (outWriter != null) {
+        try {
+          outWriter.close();
+        } catch (Exception e) {
+          Log.warn("Failed to close writer", e);
+        }
       }
     }
   }
@@ -101,6 +230,137 @@ public class FileAuditWriter implements AuditLogWriter {
     return "file";
   }
 
+  /** Wait until all the handed off audit logs are written, then flush the audit log file. */
+  @VisibleForTesting
+  void flush() throws InterruptedException {
+    while (pendingLogs.get() > 0 && writerThread.isAlive()) {
+      Thread.sleep(10);
+    }
+    synchronized (writeLock) {
+      doFlush();
+    }
+  }
+
+  private void processAuditLogs() {
+    List<AuditLog> auditLogs = new ArrayList<>(WRITE_BATCH_SIZE);
+    while (!closed || !buffer.isEmpty()) {
+      try {
+        AuditLog auditLog = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        Path rotatedFile;
+        synchronized (writeLock) {
+          if (auditLog != null) {
+            auditLogs.add(auditLog);
+            buffer.drainTo(auditLogs, WRITE_BATCH_SIZE - 1);
+            auditLogs.forEach(this::writeAuditLog);
+            pendingLogs.addAndGet(-auditLogs.size());
+            auditLogs.clear();
+          }
+          rotatedFile = tryRotate();
+          tryFlush();
+        }
+        // The rotated file is compressed after releasing the lock, so writing the audit logs is
+        // not blocked by it.
+        if (rotatedFile != null && compressExecutor != null) {
+          compressExecutor.execute(() -> compress(rotatedFile));
+        }
+      } catch (InterruptedException e) {
+        Log.warn(
+            "Audit log writer thread is interrupted, {} audit logs are dropped", buffer.size());
+        break;
+      } catch (Exception e) {
+        Log.warn("Audit log writer thread throw a exception while writing audit logs", e);
+      }
+    }
+
+    synchronized (writeLock) {
+      doFlush();
+    }
+  }
+
+  private void writeAuditLog(AuditLog auditLog) {
+    String log = auditLog.toString();
+    try {
+      outWriter.write(log);
+      outWriter.write(LINE_SEPARATOR);
+    } catch (Exception e) {
+      Log.warn("Failed to write audit log: {}", log, e);
+    }
+  }
+
+  private void openWriter(boolean append) throws IOException {
+    File file = new File(fileName);
+    long initialSize = append && file.exists() ? file.length() : 0;
+    OutputStream outputStream = new FileOutputStream(file, append);
+    this.countingOutputStream = new CountingOutputStream(outputStream);
+    this.outWriter =
+        new BufferedWriter(new OutputStreamWriter(countingOutputStream, StandardCharsets.UTF_8));
+    this.initialFileSize = initialSize;
+    this.nextRotationTime =
+        rotationIntervalSecs > 0 ? Instant.now().plusSeconds(rotationIntervalSecs) : null;
+  }
+
+  /**
+   * Rotates the audit log file if it's too large or too old.
+   *
+   * @return The rotated file, or null if the audit log file is not rotated.
+   */
+  private Path tryRotate() {
+    boolean sizeExceeded =
+        maxFileSize > 0 && initialFileSize + countingOutputStream.getCount() >= maxFileSize;
+    boolean timeElapsed = nextRotationTime != null && Instant.now().isAfter(nextRotationTime);
+    if (!sizeExceeded && !timeElapsed) {
+      return null;
+    }
+
+    try {
+      outWriter.close();
+      Path rotatedFile = rotatedFilePath();
+      Files.move(Paths.get(fileName), rotatedFile);
+      openWriter(false);
+      metricsSource.rotationsCounter().inc();
+      return rotatedFile;
+    } catch (Exception e) {
+      Log.warn("Failed to rotate audit log file {}", fileName, e);
+      try {
+        openWriter(true);
+      } catch (IOException ioe) {
+        Log.warn("Failed to reopen audit log file {}", fileName, ioe);
+      }
+      return null;
+    }
+  }
+
+  private Path rotatedFilePath() {
+    String prefix = fileName + "." + ROTATED_FILE_SUFFIX_FORMATTER.format(Instant.now());
+    Path rotatedFile = Paths.get(prefix);
+    int index = 1;
+    while (Files.exists(rotatedFile) || Files.exists(Paths.get(rotatedFile + ".gz"))) {
+      rotatedFile = Paths.get(prefix + "." + index++);
+    }
+    return rotatedFile;
+  }
+
+  private void compress(Path rotatedFile) {
+    Path compressedFile = Paths.get(rotatedFile + ".gz");
+    try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressedFile))) {
+      Files.copy(rotatedFile, out);
+    } catch (Exception e) {
+      Log.warn("Failed to compress rotated audit log file {}", rotatedFile, e);
+      try {
+        Files.deleteIfExists(compressedFile);
+      } catch (IOException ioe) {
+        Log.warn("Failed to delete {}", compressedFile, ioe);
+      }
+      return;
+    }
+
+    try {
+      Files.delete(rotatedFile);
+    } catch (IOException e) {
+      Log.warn("Failed to delete rotated audit log file {}", rotatedFile, e);
+    }
+  }
+
   private void tryFlush() {
     Instant now = Instant.now();
     if (now.isAfter(nextFlushTime)) {
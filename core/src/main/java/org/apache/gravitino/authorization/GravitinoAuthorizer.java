@@ -19,6 +19,7 @@ package org.apache.gravitino.authorization;
 
 import java.io.Closeable;
 import java.security.Principal;
+import java.util.List;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
@@ -66,6 +67,69 @@ public interface GravitinoAuthorizer extends Closeable {
    */
   boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject);
 
+  /**
+   * Perform authorization for a batch of metadata objects, it is used to filter the metadata
+   * returned by the list operations. The default implementation authorizes the metadata objects one
+   * by one.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObjects the metadata objects.
+   * @param privilege for example, CREATE_CATALOG, CREATE_TABLE, etc.
+   * @return authorization results in the order of the metadata objects.
+   */
+  default boolean[] authorizeBatch(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = authorize(principal, metalake, metadataObjects.get(i), privilege);
+    }
+    return results;
+  }
+
+  /**
+   * Determine whether the privilege is denied for a batch of metadata objects. The default
+   * implementation checks the metadata objects one by one.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObjects the metadata objects.
+   * @param privilege for example, CREATE_CATALOG, CREATE_TABLE, etc.
+   * @return deny results in the order of the metadata objects.
+   */
+  default boolean[] denyBatch(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = deny(principal, metalake, metadataObjects.get(i), privilege);
+    }
+    return results;
+  }
+
+  /**
+   * Determine whether the user is the Owner of each of a batch of metadata objects. The default
+   * implementation checks the metadata objects one by one.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObjects the metadata objects.
+   * @return authorization results in the order of the metadata objects.
+   */
+  default boolean[] isOwnerBatch(
+      Principal principal, String metalake, List<MetadataObject> metadataObjects) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = isOwner(principal, metalake, metadataObjects.get(i));
+    }
+    return results;
+  }
+
   /**
    * Determine whether the user is the service admin.
    *
@@ -152,4 +216,25 @@ public interface GravitinoAuthorizer extends Closeable {
    */
   void handleMetadataOwnerChange(
       String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type);
+
+  /**
+   * This method is called after a new owner is set to the metadata, including the owner set to the
+   * newly created metadata, so the authorizer can drop the authorization results it cached.
+   *
+   * @param metalake metalake;
+   * @param nameIdentifier The metadata name identifier;
+   * @param type entity type
+   */
+  default void handleMetadataOwnerSet(
+      String metalake, NameIdentifier nameIdentifier, Entity.EntityType type) {}
+
+  /**
+   * This method is called after a user or a group is removed, so the authorizer can drop the
+   * authorization results it cached for the principals of the removed user or group.
+   *
+   * @param metalake metalake;
+   * @param name The name of the removed user or group;
+   * @param type entity type, either user or group
+   */
+  default void handlePrincipalRemoved(String metalake, String name, Entity.EntityType type) {}
 }
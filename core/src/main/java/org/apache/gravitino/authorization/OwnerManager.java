@@ -116,6 +116,7 @@ public class OwnerManager implements OwnerDispatcher {
           metadataObject,
           authorizationPlugin ->
               authorizationPlugin.onOwnerSet(metadataObject, originOwner.orElse(null), newOwner));
+      notifyOwnerSet(metalake, metadataObject);
       originOwner.ifPresent(owner -> notifyOwnerChange(owner, metalake, metadataObject));
     } catch (NoSuchEntityException nse) {
       LOG.warn(
@@ -132,6 +133,16 @@ public class OwnerManager implements OwnerDispatcher {
     }
   }
 
+  private void notifyOwnerSet(String metalake, MetadataObject metadataObject) {
+    GravitinoAuthorizer gravitinoAuthorizer = GravitinoEnv.getInstance().gravitinoAuthorizer();
+    if (gravitinoAuthorizer != null) {
+      gravitinoAuthorizer.handleMetadataOwnerSet(
+          metalake,
+          MetadataObjectUtil.toEntityIdent(metalake, metadataObject),
+          Entity.EntityType.valueOf(metadataObject.type().name()));
+    }
+  }
+
   private void notifyOwnerChange(Owner oldOwner, String metalake, MetadataObject metadataObject) {
     GravitinoAuthorizer gravitinoAuthorizer = GravitinoEnv.getInstance().gravitinoAuthorizer();
     if (gravitinoAuthorizer != null) {
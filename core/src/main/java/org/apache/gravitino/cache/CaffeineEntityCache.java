@@ -24,24 +24,36 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.googlecode.concurrenttrees.common.KeyValuePair;
 import com.googlecode.concurrenttrees.radix.ConcurrentRadixTree;
 import com.googlecode.concurrenttrees.radix.RadixTree;
 import com.googlecode.concurrenttrees.radix.node.concrete.DefaultCharArrayNodeFactory;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Config;
@@ -49,6 +61,7 @@ import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.meta.ModelVersionEntity;
 import org.slf4j.Logger;
@@ -61,6 +74,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
   private static final int CACHE_CLEANUP_QUEUE_CAPACITY = 100;
   private static final int CACHE_MONITOR_PERIOD_MINUTES = 5;
   private static final int CACHE_MONITOR_INITIAL_DELAY_MINUTES = 0;
+  private static final int VERSION_STRIPES = 64;
   private static final ExecutorService CLEANUP_EXECUTOR =
       new ThreadPoolExecutor(
           CACHE_CLEANUP_CORE_THREADS,
@@ -84,8 +98,31 @@ public class CaffeineEntityCache extends BaseEntityCache {
   /** Index part */
   private RadixTree<EntityCacheKey> cacheIndex;
 
+  /**
+   * Reverse index from the entities in the cached relations to the relation keys, so a relation is
+   * invalidated together with any of the entities it contains.
+   */
+  private RadixTree<EntityCacheKey> relationIndex;
+
   private ScheduledExecutorService scheduler;
 
+  /**
+   * Whether missing entries are loaded optimistically without holding {@link #opLock}, see {@link
+   * Configs#CACHE_CONCURRENCY_MODE}.
+   */
+  private final boolean optimisticLoad;
+
+  /**
+   * Invalidation versions striped by the root (metalake) name of the identifier. A version is
+   * bumped on every invalidation under the root, a loaded value is only published if the version
+   * is unchanged since the load started.
+   */
+  private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+  /** In-flight loads, used to make sure concurrent misses on the same key only load once. */
+  private final ConcurrentMap<EntityCacheKey, InFlightLoad> inFlightLoads =
+      new ConcurrentHashMap<>();
+
   /**
    * Constructs a new {@link CaffeineEntityCache}.
    *
@@ -94,6 +131,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
   public CaffeineEntityCache(Config cacheConfig) {
     super(cacheConfig);
     this.cacheIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
+    this.relationIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
 
     Caffeine<EntityCacheKey, List<Entity>> cacheDataBuilder = newBaseBuilder(cacheConfig);
 
@@ -106,6 +144,14 @@ public class CaffeineEntityCache extends BaseEntityCache {
               }
               try {
                 invalidateExpiredItem(key);
+                if (key.relationType() != null) {
+                  withLock(
+                      () -> {
+                        if (cacheData.policy().getIfPresentQuietly(key) == null) {
+                          removeFromRelationIndex(key, value);
+                        }
+                      });
+                }
               } catch (Throwable t) {
                 LOG.error(
                     "Failed to remove entity key={} value={} from cache asynchronously, cause={}",
@@ -117,6 +163,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
             });
 
     this.cacheData = cacheDataBuilder.build();
+    this.optimisticLoad =
+        Configs.CACHE_CONCURRENCY_MODE_OPTIMISTIC.equalsIgnoreCase(
+            cacheConfig.get(Configs.CACHE_CONCURRENCY_MODE));
 
     if (cacheConfig.get(Configs.CACHE_STATS_ENABLED)) {
       this.scheduler = Executors.newSingleThreadScheduledExecutor();
@@ -150,6 +199,234 @@ public class CaffeineEntityCache extends BaseEntityCache {
         .map(entities -> convertEntity(entities.get(0)));
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> E getOrLoad(
+      NameIdentifier ident, Entity.EntityType type, ThrowingSupplier<E, X> loader) throws X {
+    checkArguments(ident, type);
+    Preconditions.checkArgument(loader != null, "Loader cannot be null");
+
+    if (!optimisticLoad) {
+      return withLockAndThrow(
+          () -> {
+            Optional<E> entityFromCache = getIfPresent(ident, type);
+            if (entityFromCache.isPresent()) {
+              return entityFromCache.get();
+            }
+
+            E entity = loader.get();
+            put(entity);
+            return entity;
+          });
+    }
+
+    List<Entity> entities =
+        loadOptimistically(
+            EntityCacheKey.of(ident, type),
+            () -> Lists.newArrayList((Entity) loader.get()),
+            loaded -> {
+              E entity = convertEntity(loaded.get(0));
+              invalidateOnKeyChange(entity);
+              syncEntitiesToCache(
+                  EntityCacheKey.of(getIdentFromEntity(entity), entity.type()), loaded);
+            });
+    return convertEntity(entities.get(0));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      List<NameIdentifier> idents,
+      Entity.EntityType type,
+      ThrowingFunction<List<NameIdentifier>, List<E>, X> loader)
+      throws X {
+    Preconditions.checkArgument(idents != null, "Identifiers cannot be null");
+    idents.forEach(ident -> checkArguments(ident, type));
+    Preconditions.checkArgument(loader != null, "Loader cannot be null");
+
+    if (!optimisticLoad) {
+      return withLockAndThrow(
+          () -> {
+            Map<NameIdentifier, E> entitiesByIdent = new HashMap<>();
+            List<NameIdentifier> missingIdents =
+                collectCachedEntities(idents, type, entitiesByIdent);
+            if (!missingIdents.isEmpty()) {
+              for (E entity : loader.apply(missingIdents)) {
+                put(entity);
+                entitiesByIdent.put(entity.nameIdentifier(), entity);
+              }
+            }
+            return orderByIdents(idents, entitiesByIdent);
+          });
+    }
+
+    Map<NameIdentifier, E> entitiesByIdent = new HashMap<>();
+    List<NameIdentifier> missingIdents = collectCachedEntities(idents, type, entitiesByIdent);
+    if (missingIdents.isEmpty()) {
+      return orderByIdents(idents, entitiesByIdent);
+    }
+
+    // Like a single load, a loaded entity is only cached if no invalidation happened in its version
+    // stripe since the load started.
+    Map<Integer, Long> loadVersions = new HashMap<>();
+    missingIdents.forEach(
+        ident -> loadVersions.computeIfAbsent(versionStripe(ident), versions::get));
+    List<E> loadedEntities = loader.apply(missingIdents);
+    withLock(
+        () -> {
+          for (E entity : loadedEntities) {
+            int stripe = versionStripe(entity.nameIdentifier());
+            if (Objects.equals(loadVersions.get(stripe), versions.get(stripe))) {
+              invalidateOnKeyChange(entity);
+              syncEntitiesToCache(
+                  EntityCacheKey.of(entity.nameIdentifier(), entity.type()),
+                  Lists.newArrayList(entity));
+            }
+          }
+        });
+    loadedEntities.forEach(entity -> entitiesByIdent.put(entity.nameIdentifier(), entity));
+    return orderByIdents(idents, entitiesByIdent);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier> Optional<List<E>> getIfPresent(
+      Namespace namespace, Entity.EntityType type, boolean allFields) {
+    checkArguments(namespace, type);
+
+    List<Entity> entitiesFromCache =
+        cacheData.getIfPresent(EntityCacheKey.ofList(namespace, type, allFields));
+    return Optional.ofNullable(entitiesFromCache)
+        .map(entities -> convertEntities(Lists.newArrayList(entities)));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      Namespace namespace,
+      Entity.EntityType type,
+      boolean allFields,
+      ThrowingSupplier<List<E>, X> loader)
+      throws X {
+    checkArguments(namespace, type);
+    Preconditions.checkArgument(loader != null, "Loader cannot be null");
+
+    EntityCacheKey key = EntityCacheKey.ofList(namespace, type, allFields);
+    if (!optimisticLoad) {
+      return withLockAndThrow(
+          () -> {
+            List<Entity> entitiesFromCache = cacheData.getIfPresent(key);
+            if (entitiesFromCache != null) {
+              return convertEntities(Lists.newArrayList(entitiesFromCache));
+            }
+
+            List<E> entities = loader.get();
+            syncEntitiesToCache(key, ImmutableList.<Entity>copyOf(entities));
+            return entities;
+          });
+    }
+
+    List<Entity> entities =
+        loadOptimistically(
+            key,
+            () -> ImmutableList.<Entity>copyOf(loader.get()),
+            loaded -> syncEntitiesToCache(key, loaded));
+    // The cached list is shared, hand out a copy the caller is free to modify.
+    return convertEntities(Lists.newArrayList(entities));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      SupportsRelationOperations.Type relType,
+      NameIdentifier nameIdentifier,
+      Entity.EntityType identType,
+      boolean allFields,
+      ThrowingSupplier<List<E>, X> loader)
+      throws X {
+    checkArguments(nameIdentifier, identType, relType);
+    Preconditions.checkArgument(loader != null, "Loader cannot be null");
+    EntityCacheKey relationKey = EntityCacheKey.of(nameIdentifier, identType, relType, allFields);
+
+    if (!optimisticLoad) {
+      return withLockAndThrow(
+          () -> {
+            List<Entity> entitiesFromCache = cacheData.getIfPresent(relationKey);
+            if (entitiesFromCache != null) {
+              return convertEntities(entitiesFromCache);
+            }
+
+            List<E> entities = loader.get();
+            if (!entities.isEmpty()) {
+              syncEntitiesToCache(relationKey, new ArrayList<Entity>(entities));
+            }
+            return entities;
+          });
+    }
+
+    List<Entity> entities =
+        loadOptimistically(
+            relationKey,
+            () -> new ArrayList<Entity>(loader.get()),
+            loaded -> {
+              if (!loaded.isEmpty()) {
+                syncEntitiesToCache(relationKey, loaded);
+              }
+            });
+    return convertEntities(entities);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception>
+      Map<NameIdentifier, List<E>> getOrLoad(
+          SupportsRelationOperations.Type relType,
+          List<NameIdentifier> nameIdentifiers,
+          Entity.EntityType identType,
+          ThrowingFunction<List<NameIdentifier>, Map<NameIdentifier, List<E>>, X> loader)
+          throws X {
+    Preconditions.checkArgument(nameIdentifiers != null, "Identifiers cannot be null");
+    nameIdentifiers.forEach(ident -> checkArguments(ident, identType, relType));
+    Preconditions.checkArgument(loader != null, "Loader cannot be null");
+
+    Map<NameIdentifier, List<E>> relatedEntities = new HashMap<>();
+    Set<NameIdentifier> missingIdents = Sets.newLinkedHashSet();
+    for (NameIdentifier nameIdentifier : nameIdentifiers) {
+      List<Entity> entitiesFromCache =
+          cacheData.getIfPresent(EntityCacheKey.of(nameIdentifier, identType, relType));
+      if (entitiesFromCache != null) {
+        relatedEntities.put(nameIdentifier, convertEntities(entitiesFromCache));
+      } else {
+        missingIdents.add(nameIdentifier);
+      }
+    }
+    if (missingIdents.isEmpty()) {
+      return relatedEntities;
+    }
+
+    // The relations are loaded without the lock in both modes, so one slow batch does not block
+    // the whole cache. Like the batch load of entities, a loaded relation is only cached if no
+    // invalidation happened in its version stripe since the load started.
+    Map<Integer, Long> loadVersions = new HashMap<>();
+    missingIdents.forEach(
+        ident -> loadVersions.computeIfAbsent(versionStripe(ident), versions::get));
+    Map<NameIdentifier, List<E>> loadedEntities = loader.apply(Lists.newArrayList(missingIdents));
+    withLock(
+        () ->
+            loadedEntities.forEach(
+                (nameIdentifier, entities) -> {
+                  int stripe = versionStripe(nameIdentifier);
+                  if (!entities.isEmpty()
+                      && Objects.equals(loadVersions.get(stripe), versions.get(stripe))) {
+                    syncEntitiesToCache(
+                        EntityCacheKey.of(nameIdentifier, identType, relType),
+                        new ArrayList<Entity>(entities));
+                  }
+                }));
+    relatedEntities.putAll(loadedEntities);
+    return relatedEntities;
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean invalidate(
@@ -164,7 +441,12 @@ public class CaffeineEntityCache extends BaseEntityCache {
   public boolean invalidate(NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
 
-    return withLock(() -> invalidateEntities(ident));
+    return withLock(
+        () -> {
+          boolean entitiesRemoved = invalidateEntities(ident);
+          boolean listsRemoved = invalidateLists(ident.namespace(), type);
+          return entitiesRemoved || listsRemoved;
+        });
   }
 
   /** {@inheritDoc} */
@@ -193,8 +475,12 @@ public class CaffeineEntityCache extends BaseEntityCache {
   public void clear() {
     withLock(
         () -> {
+          for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+          }
           cacheData.invalidateAll();
           cacheIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
+          relationIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
         });
   }
 
@@ -296,6 +582,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
 
     if (cacheData.policy().getIfPresentQuietly(key) != null) {
       cacheIndex.put(key.toString(), key);
+      if (key.relationType() != null) {
+        newEntities.forEach(entity -> relationIndex.put(relationIndexKey(entity, key), key));
+      }
     }
   }
 
@@ -312,8 +601,14 @@ public class CaffeineEntityCache extends BaseEntityCache {
     Caffeine<Object, Object> builder = Caffeine.newBuilder();
 
     if (cacheConfig.get(Configs.CACHE_WEIGHER_ENABLED)) {
-      builder.maximumWeight(EntityCacheWeigher.getMaxWeight());
-      builder.weigher(EntityCacheWeigher.getInstance());
+      if (Configs.CACHE_WEIGHER_MODE_SIZE.equalsIgnoreCase(
+          cacheConfig.get(Configs.CACHE_WEIGHER_MODE))) {
+        builder.maximumWeight(cacheConfig.get(Configs.CACHE_MAX_WEIGHT_IN_BYTES));
+        builder.weigher(EntityCacheSizeWeigher.getInstance());
+      } else {
+        builder.maximumWeight(EntityCacheWeigher.getMaxWeight());
+        builder.weigher(EntityCacheWeigher.getInstance());
+      }
     } else {
       builder.maximumSize(cacheConfig.get(Configs.CACHE_MAX_ENTRIES));
     }
@@ -336,15 +631,188 @@ public class CaffeineEntityCache extends BaseEntityCache {
    * @param identifier The identifier of the entity to invalidate
    */
   private boolean invalidateEntities(NameIdentifier identifier) {
-    List<EntityCacheKey> entityKeysToRemove =
-        Lists.newArrayList(cacheIndex.getValuesForKeysStartingWith(identifier.toString()));
-
-    cacheData.invalidateAll(entityKeysToRemove);
-    entityKeysToRemove.forEach(key -> cacheIndex.remove(key.toString()));
+    versions.incrementAndGet(versionStripe(identifier));
+    String prefix = identifier.toString();
+    Set<EntityCacheKey> entityKeysToRemove =
+        Sets.newLinkedHashSet(cacheIndex.getValuesForKeysStartingWith(prefix));
+
+    // The relations containing the entity or its children are stale as well.
+    for (KeyValuePair<EntityCacheKey> pair :
+        Lists.newArrayList(relationIndex.getKeyValuePairsForKeysStartingWith(prefix))) {
+      entityKeysToRemove.add(pair.getValue());
+      relationIndex.remove(pair.getKey());
+    }
 
+    removeKeys(entityKeysToRemove);
     return !entityKeysToRemove.isEmpty();
   }
 
+  /**
+   * Invalidates the cached lists of the entities of the given type under the given namespace.
+   *
+   * @param namespace The namespace of the listed entities
+   * @param type The type of the listed entities
+   * @return {@code true} if any list was removed, {@code false} otherwise
+   */
+  private boolean invalidateLists(Namespace namespace, Entity.EntityType type) {
+    if (namespace == null || namespace.isEmpty()) {
+      return false;
+    }
+
+    List<EntityCacheKey> listKeysToRemove =
+        Lists.newArrayList(
+            cacheIndex.getValuesForKeysStartingWith(EntityCacheKey.listKeyPrefix(namespace, type)));
+    removeKeys(listKeysToRemove);
+    return !listKeysToRemove.isEmpty();
+  }
+
+  /**
+   * Removes the given keys from the cache and from the indexes.
+   *
+   * @param keys The keys to remove
+   */
+  private void removeKeys(Collection<EntityCacheKey> keys) {
+    keys.stream()
+        .filter(key -> key.relationType() != null)
+        .forEach(key -> removeFromRelationIndex(key, cacheData.policy().getIfPresentQuietly(key)));
+
+    cacheData.invalidateAll(keys);
+    keys.forEach(key -> cacheIndex.remove(key.toString()));
+  }
+
+  /**
+   * Removes the reverse index entries of the entities in the given relation.
+   *
+   * @param relationKey The key of the relation
+   * @param entities The entities in the relation, may be null if the relation is not cached
+   */
+  private void removeFromRelationIndex(EntityCacheKey relationKey, List<Entity> entities) {
+    if (entities != null) {
+      entities.forEach(entity -> relationIndex.remove(relationIndexKey(entity, relationKey)));
+    }
+  }
+
+  /**
+   * Returns the reverse index key of an entity in a relation. The key starts with the identifier of
+   * the entity, so it can be found by the prefix of the entity or of any of its parents.
+   *
+   * @param entity The entity in the relation
+   * @param relationKey The key of the relation
+   * @return The reverse index key
+   */
+  private static String relationIndexKey(Entity entity, EntityCacheKey relationKey) {
+    return getIdentFromEntity(entity) + ":" + entity.type() + "@" + relationKey;
+  }
+
+  /**
+   * Loads the entities of the given key without holding {@link #opLock}. Concurrent misses on the
+   * same key wait for the first load instead of loading again, and the loaded entities are only
+   * published to the cache if no invalidation happened under the same root since the load started.
+   *
+   * @param key The key of the entities to load
+   * @param loader The loader to load the entities from the store
+   * @param publisher The action to publish the loaded entities to the cache, runs with the lock
+   * @param <X> The type of the exception
+   * @return The cached or loaded entities
+   * @throws X If the loader throws an exception
+   */
+  private <X extends Exception> List<Entity> loadOptimistically(
+      EntityCacheKey key,
+      ThrowingSupplier<List<Entity>, X> loader,
+      Consumer<List<Entity>> publisher)
+      throws X {
+    List<Entity> entitiesFromCache = cacheData.getIfPresent(key);
+    if (entitiesFromCache != null) {
+      return entitiesFromCache;
+    }
+
+    int stripe = versionStripe(key.identifier());
+    long version = versions.get(stripe);
+    InFlightLoad load = new InFlightLoad(version);
+    InFlightLoad existingLoad = inFlightLoads.putIfAbsent(key, load);
+    if (existingLoad != null) {
+      // Only share the result of a load that started after the latest invalidation, otherwise
+      // the shared result may be stale.
+      if (existingLoad.version == version) {
+        try {
+          return existingLoad.future.join();
+        } catch (CompletionException | CancellationException e) {
+          // The shared load failed, load it again so the original exception is thrown to caller.
+        }
+      }
+      return loader.get();
+    }
+
+    try {
+      // The entry may be published by the previous load right before it was removed from the
+      // in-flight loads.
+      entitiesFromCache = cacheData.getIfPresent(key);
+      List<Entity> entities = entitiesFromCache != null ? entitiesFromCache : loader.get();
+      if (entitiesFromCache == null) {
+        withLock(
+            () -> {
+              if (versions.get(stripe) == version) {
+                publisher.accept(entities);
+              }
+            });
+      }
+
+      load.future.complete(entities);
+      return entities;
+    } finally {
+      if (!load.future.isDone()) {
+        load.future.completeExceptionally(new IllegalStateException("Failed to load " + key));
+      }
+      inFlightLoads.remove(key, load);
+    }
+  }
+
+  /**
+   * Collects the cached entities of the given identifiers into the given map.
+   *
+   * @param idents The identifiers of the entities
+   * @param type The type of the entities
+   * @param entitiesByIdent The map to collect the cached entities into
+   * @return The identifiers whose entities are not cached
+   */
+  private <E extends Entity & HasIdentifier> List<NameIdentifier> collectCachedEntities(
+      List<NameIdentifier> idents, Entity.EntityType type, Map<NameIdentifier, E> entitiesByIdent) {
+    List<NameIdentifier> missingIdents = new ArrayList<>();
+    for (NameIdentifier ident : idents) {
+      Optional<E> entityFromCache = getIfPresent(ident, type);
+      if (entityFromCache.isPresent()) {
+        entitiesByIdent.put(ident, entityFromCache.get());
+      } else if (!missingIdents.contains(ident)) {
+        missingIdents.add(ident);
+      }
+    }
+    return missingIdents;
+  }
+
+  private static <E extends Entity & HasIdentifier> List<E> orderByIdents(
+      List<NameIdentifier> idents, Map<NameIdentifier, E> entitiesByIdent) {
+    return idents.stream()
+        .map(entitiesByIdent::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the version stripe of the given identifier. Identifiers under the same metalake always
+   * share the same stripe, so invalidating an identifier also invalidates the loads of all its
+   * children.
+   *
+   * @param identifier The identifier to get the version stripe for
+   * @return The version stripe of the identifier
+   */
+  private static int versionStripe(NameIdentifier identifier) {
+    String root =
+        identifier.hasNamespace() && !identifier.namespace().isEmpty()
+            ? identifier.namespace().level(0)
+            : identifier.name();
+    return (root.hashCode() & Integer.MAX_VALUE) % VERSION_STRIPES;
+  }
+
   /**
    * Runs the given action with the lock.
    *
@@ -470,4 +938,26 @@ public class CaffeineEntityCache extends BaseEntityCache {
     Preconditions.checkArgument(ident != null, "NameIdentifier cannot be null");
     Preconditions.checkArgument(type != null, "EntityType cannot be null");
   }
+
+  /**
+   * Checks the arguments for the list methods. The namespace must not be null or empty.
+   *
+   * @param namespace The namespace of the listed entities to check
+   * @param type The type of the listed entities to check
+   */
+  private void checkArguments(Namespace namespace, Entity.EntityType type) {
+    Preconditions.checkArgument(
+        namespace != null && !namespace.isEmpty(), "Namespace cannot be null or empty");
+    Preconditions.checkArgument(type != null, "EntityType cannot be null");
+  }
+
+  /** An in-flight load of a cache entry, with the invalidation version it started at. */
+  private static class InFlightLoad {
+    private final long version;
+    private final CompletableFuture<List<Entity>> future = new CompletableFuture<>();
+
+    private InFlightLoad(long version) {
+      this.version = version;
+    }
+  }
 }
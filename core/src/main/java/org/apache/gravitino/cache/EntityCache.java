@@ -72,6 +72,19 @@ public interface EntityCache extends SupportsEntityStoreCache, SupportsRelationE
     T get() throws E;
   }
 
+  /**
+   * A functional interface that represents a function that may throw an exception.
+   *
+   * @param <T> The type of the input to the function
+   * @param <R> The type of the result of the function
+   * @param <E> The type of exception that may be thrown
+   * @see java.util.function.Function
+   */
+  @FunctionalInterface
+  interface ThrowingFunction<T, R, E extends Exception> {
+    R apply(T t) throws E;
+  }
+
   /**
    * A functional interface that represents a runnable that may throw an exception.
    *
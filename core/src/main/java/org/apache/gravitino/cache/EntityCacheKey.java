@@ -23,6 +23,7 @@ import com.google.common.base.Preconditions;
 import java.util.Objects;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 
 /** Key for Entity cache. */
@@ -30,6 +31,8 @@ public class EntityCacheKey {
   private final NameIdentifier identifier;
   private final Entity.EntityType type;
   private final SupportsRelationOperations.Type relationType;
+  private final boolean list;
+  private final boolean allFields;
 
   /**
    * Creates a new instance of {@link EntityCacheKey} with the given arguments.
@@ -41,7 +44,24 @@ public class EntityCacheKey {
    */
   public static EntityCacheKey of(
       NameIdentifier ident, Entity.EntityType type, SupportsRelationOperations.Type relationType) {
-    return new EntityCacheKey(ident, type, relationType);
+    return of(ident, type, relationType, true);
+  }
+
+  /**
+   * Creates a new instance of {@link EntityCacheKey} for the entities related to the given entity.
+   *
+   * @param ident The identifier of the entity.
+   * @param type The type of the entity.
+   * @param relationType The type of the relation, it can be null.
+   * @param allFields Whether the related entities are loaded with all their fields.
+   * @return A new instance of {@link EntityCacheKey}.
+   */
+  public static EntityCacheKey of(
+      NameIdentifier ident,
+      Entity.EntityType type,
+      SupportsRelationOperations.Type relationType,
+      boolean allFields) {
+    return new EntityCacheKey(ident, type, relationType, false, allFields);
   }
 
   /**
@@ -52,7 +72,23 @@ public class EntityCacheKey {
    * @return A new instance of {@link EntityCacheKey}.
    */
   public static EntityCacheKey of(NameIdentifier ident, Entity.EntityType type) {
-    return new EntityCacheKey(ident, type, null);
+    return new EntityCacheKey(ident, type, null, false, false);
+  }
+
+  /**
+   * Creates a new instance of {@link EntityCacheKey} for the entities listed under the given
+   * namespace.
+   *
+   * @param namespace The namespace of the listed entities, it cannot be empty.
+   * @param type The type of the listed entities.
+   * @param allFields Whether the listed entities are loaded with all their fields.
+   * @return A new instance of {@link EntityCacheKey}.
+   */
+  public static EntityCacheKey ofList(
+      Namespace namespace, Entity.EntityType type, boolean allFields) {
+    Preconditions.checkArgument(
+        namespace != null && !namespace.isEmpty(), "namespace cannot be null or empty");
+    return new EntityCacheKey(NameIdentifier.of(namespace.levels()), type, null, true, allFields);
   }
 
   /**
@@ -61,17 +97,24 @@ public class EntityCacheKey {
    * @param identifier The identifier of the entity.
    * @param type The type of the entity.
    * @param relationType The type of the relation.
+   * @param list Whether the key is for the entities listed under the identifier.
+   * @param allFields Whether the listed or related entities are loaded with all their fields.
    */
   private EntityCacheKey(
       NameIdentifier identifier,
       Entity.EntityType type,
-      SupportsRelationOperations.Type relationType) {
+      SupportsRelationOperations.Type relationType,
+      boolean list,
+      boolean allFields) {
     Preconditions.checkArgument(identifier != null, "identifier cannot be null");
     Preconditions.checkArgument(type != null, "type cannot be null");
 
     this.identifier = identifier;
     this.type = type;
     this.relationType = relationType;
+    this.list = list;
+    // The flag only distinguishes the listed or related entities, an entity is always whole.
+    this.allFields = (list || relationType != null) && allFields;
   }
 
   /**
@@ -101,9 +144,30 @@ public class EntityCacheKey {
     return relationType;
   }
 
+  /**
+   * Returns whether the key is for the entities listed under the identifier.
+   *
+   * @return {@code true} if the key is for listed entities, {@code false} otherwise.
+   */
+  public boolean isList() {
+    return list;
+  }
+
+  /**
+   * Returns the string prefix shared by the keys of the entities of the given type listed under
+   * the given namespace, regardless of whether they are loaded with all their fields.
+   *
+   * @param namespace The namespace of the listed entities, it cannot be empty.
+   * @param type The type of the listed entities.
+   * @return The string prefix of the list keys.
+   */
+  public static String listKeyPrefix(Namespace namespace, Entity.EntityType type) {
+    return ofList(namespace, type, false).toString();
+  }
+
   /**
    * Compares two instances of {@link EntityCacheKey} for equality. The comparison is done by
-   * comparing the identifier, type, and relationType of the instances.
+   * comparing the identifier, type, relationType, and list flags of the instances.
    *
    * @param obj The object to compare to.
    * @return {@code true} if the objects are equal, {@code false} otherwise.
@@ -116,23 +180,27 @@ public class EntityCacheKey {
 
     return Objects.equals(identifier, other.identifier)
         && Objects.equals(type, other.type)
-        && Objects.equals(relationType, other.relationType);
+        && Objects.equals(relationType, other.relationType)
+        && list == other.list
+        && allFields == other.allFields;
   }
 
   /**
    * Returns a hash code for this instance. The hash code is calculated by hashing the identifier,
-   * type, and relationType of the instance.
+   * type, relationType, and list flags of the instance.
    *
    * @return A hash code for this instance.
    */
   @Override
   public int hashCode() {
-    return Objects.hash(identifier, type, relationType);
+    return Objects.hash(identifier, type, relationType, list, allFields);
   }
 
   /**
    * Returns a string representation of this instance. The string is formatted as
-   * "identifier:type:relationType".
+   * "identifier:type" for entities, "identifier:type:relationType" with an optional
+   * ":PARTIAL_FIELDS" suffix for related entities, or "namespace:type:LIST" with an optional
+   * ":ALL_FIELDS" suffix for listed entities.
    *
    * @return A string representation of this instance.
    */
@@ -141,6 +209,15 @@ public class EntityCacheKey {
     String stringExpr = identifier.toString() + ":" + type.toString();
     if (relationType != null) {
       stringExpr += ":" + relationType.name();
+      if (!allFields) {
+        stringExpr += ":PARTIAL_FIELDS";
+      }
+    }
+    if (list) {
+      stringExpr += ":LIST";
+      if (allFields) {
+        stringExpr += ":ALL_FIELDS";
+      }
     }
 
     return stringExpr;
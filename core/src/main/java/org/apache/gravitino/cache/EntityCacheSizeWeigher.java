@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Field;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.authorization.SecurableObject;
+import org.apache.gravitino.policy.PolicyContent;
+import org.apache.gravitino.storage.relational.utils.LazilyDecodedCollection;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+/**
+ * A {@link Weigher} implementation that weighs a cache entry by the estimated number of bytes the
+ * cached entities retain on the heap.
+ *
+ * <p>The estimation walks the {@link Entity#fields()} of every entity and adds up the sizes of the
+ * strings, boxed values, timestamps, collections, maps, nested entities (for example the columns of
+ * a table and the audit info) and securable objects it holds. The sizes follow the layout of a
+ * 64-bit HotSpot JVM with compressed references: a 12 bytes object header, 4 bytes references and
+ * objects aligned to 8 bytes. Values that are shared between entities, such as enums and cached
+ * boxed values, are only counted as a reference, data types and default value expressions are
+ * counted with a small fixed size. A {@link LazilyDecodedCollection} is estimated from the elements
+ * as they are held, so weighing it does not decode them.
+ */
+public class EntityCacheSizeWeigher implements Weigher<EntityCacheKey, List<Entity>> {
+  private static final EntityCacheSizeWeigher INSTANCE = new EntityCacheSizeWeigher();
+
+  private static final int OBJECT_HEADER_SIZE = 12;
+  private static final int ARRAY_HEADER_SIZE = 16;
+  private static final int REFERENCE_SIZE = 4;
+  private static final int OBJECT_ALIGNMENT = 8;
+
+  private static final int STRING_SIZE = 24;
+  private static final int BOXED_VALUE_SIZE = 16;
+  private static final int INSTANT_SIZE = 24;
+  private static final int NAMESPACE_SIZE = 16;
+  private static final int COLLECTION_SIZE = 24;
+  private static final int MAP_SIZE = 48;
+  private static final int MAP_ENTRY_SIZE = 32;
+  private static final int SECURABLE_OBJECT_SIZE = 24;
+  private static final int POLICY_CONTENT_SIZE = 24;
+  private static final int JSON_NODE_SIZE = 16;
+  private static final int JSON_OBJECT_SIZE = 72;
+  private static final int JSON_ARRAY_SIZE = 40;
+  private static final int LINKED_MAP_ENTRY_SIZE = 40;
+  private static final int UNKNOWN_OBJECT_SIZE = 32;
+
+  /**
+   * The overhead of a cache entry besides the cached entities, it covers the cache node, the key
+   * and the index entries of the key.
+   */
+  private static final int ENTRY_OVERHEAD_SIZE = 160;
+
+  /** Returns the singleton instance of the {@link EntityCacheSizeWeigher}. */
+  public static EntityCacheSizeWeigher getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Estimates the number of bytes the given entity retains on the heap.
+   *
+   * @param entity The entity to estimate.
+   * @return The estimated retained size of the entity in bytes.
+   */
+  public static long estimateSize(Entity entity) {
+    if (entity == null) {
+      return 0;
+    }
+
+    Map<Field, Object> fields = entity.fields();
+    int fieldCount = fields == null ? 0 : fields.size();
+    long size = 0;
+    if (entity instanceof HasIdentifier) {
+      // The namespace is not part of the fields, but every entity with an identifier holds one.
+      fieldCount++;
+      size += estimateNamespaceSize(((HasIdentifier) entity).namespace());
+    }
+
+    size += align(OBJECT_HEADER_SIZE + (long) REFERENCE_SIZE * fieldCount);
+    if (fields != null) {
+      for (Object value : fields.values()) {
+        size += estimateValueSize(value);
+      }
+    }
+
+    return size;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNegative int weigh(
+      @NonNull EntityCacheKey storeEntityCacheKey, @NonNull List<Entity> entities) {
+    long weight = ENTRY_OVERHEAD_SIZE + estimateArraySize(entities.size());
+    for (Entity entity : entities) {
+      weight += estimateSize(entity);
+    }
+
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
+  private static long estimateValueSize(Object value) {
+    if (value == null || value instanceof Boolean || value instanceof Enum) {
+      return 0;
+    }
+
+    if (value instanceof String) {
+      return estimateStringSize((String) value);
+    }
+
+    if (value instanceof Integer) {
+      int intValue = (Integer) value;
+      return intValue >= -128 && intValue <= 127 ? 0 : BOXED_VALUE_SIZE;
+    }
+
+    if (value instanceof Long) {
+      long longValue = (Long) value;
+      return longValue >= -128 && longValue <= 127 ? 0 : BOXED_VALUE_SIZE;
+    }
+
+    if (value instanceof Number) {
+      return BOXED_VALUE_SIZE;
+    }
+
+    if (value instanceof Instant) {
+      return INSTANT_SIZE;
+    }
+
+    if (value instanceof Entity) {
+      return estimateSize((Entity) value);
+    }
+
+    if (value instanceof Namespace) {
+      return estimateNamespaceSize((Namespace) value);
+    }
+
+    if (value instanceof Map) {
+      return estimateMapSize((Map<?, ?>) value);
+    }
+
+    if (value instanceof Collection) {
+      return estimateCollectionSize((Collection<?>) value);
+    }
+
+    if (value instanceof SecurableObject) {
+      SecurableObject securableObject = (SecurableObject) value;
+      // The privileges are shared singletons, only the references to them are counted.
+      return SECURABLE_OBJECT_SIZE
+          + estimateStringSize(securableObject.parent())
+          + estimateStringSize(securableObject.name())
+          + COLLECTION_SIZE
+          + estimateArraySize(
+              securableObject.privileges() == null ? 0 : securableObject.privileges().size());
+    }
+
+    if (value instanceof JsonNode) {
+      return estimateJsonSize((JsonNode) value);
+    }
+
+    if (value instanceof PolicyContent) {
+      PolicyContent content = (PolicyContent) value;
+      return POLICY_CONTENT_SIZE
+          + estimateMapSize(content.properties())
+          + estimateCollectionSize(content.supportedObjectTypes());
+    }
+
+    // Data types, expressions and the other values are usually small or shared.
+    return UNKNOWN_OBJECT_SIZE;
+  }
+
+  private static long estimateStringSize(String value) {
+    if (value == null) {
+      return 0;
+    }
+
+    boolean latin1 = true;
+    for (int i = 0; i < value.length() && latin1; i++) {
+      latin1 = value.charAt(i) <= 0xFF;
+    }
+
+    // Compact strings store Latin-1 strings with one byte per character.
+    long bytes = latin1 ? value.length() : 2L * value.length();
+    return STRING_SIZE + align(ARRAY_HEADER_SIZE + bytes);
+  }
+
+  private static long estimateNamespaceSize(Namespace namespace) {
+    if (namespace == null) {
+      return 0;
+    }
+
+    String[] levels = namespace.levels();
+    long size = NAMESPACE_SIZE + estimateArraySize(levels.length);
+    for (String level : levels) {
+      size += estimateStringSize(level);
+    }
+
+    return size;
+  }
+
+  private static long estimateCollectionSize(Collection<?> collection) {
+    if (collection == null) {
+      return 0;
+    }
+
+    long size = COLLECTION_SIZE + estimateArraySize(collection.size());
+    if (collection instanceof LazilyDecodedCollection) {
+      // Iterating the collection would decode all its elements.
+      LazilyDecodedCollection lazyCollection = (LazilyDecodedCollection) collection;
+      for (int i = 0; i < collection.size(); i++) {
+        size += estimateValueSize(lazyCollection.heldElement(i));
+      }
+      return size;
+    }
+
+    for (Object element : collection) {
+      size += estimateValueSize(element);
+    }
+
+    return size;
+  }
+
+  private static long estimateJsonSize(JsonNode node) {
+    if (node.isObject()) {
+      // An object node holds its fields in a linked hash map, the field names are interned by the
+      // parser and shared.
+      long size =
+          JSON_OBJECT_SIZE
+              + estimateArraySize(hashTableCapacity(node.size()))
+              + (long) LINKED_MAP_ENTRY_SIZE * node.size();
+      for (JsonNode value : node) {
+        size += estimateJsonSize(value);
+      }
+      return size;
+    }
+
+    if (node.isArray()) {
+      long size = JSON_ARRAY_SIZE + estimateArraySize(node.size());
+      for (JsonNode element : node) {
+        size += estimateJsonSize(element);
+      }
+      return size;
+    }
+
+    if (node.isTextual()) {
+      return JSON_NODE_SIZE + estimateStringSize(node.textValue());
+    }
+
+    // The numbers, booleans and nulls, of which the booleans and nulls are shared singletons.
+    return node.isNumber() ? JSON_NODE_SIZE : 0;
+  }
+
+  private static long estimateMapSize(Map<?, ?> map) {
+    if (map == null) {
+      return 0;
+    }
+
+    long size =
+        MAP_SIZE
+            + estimateArraySize(hashTableCapacity(map.size()))
+            + (long) MAP_ENTRY_SIZE * map.size();
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      size += estimateValueSize(entry.getKey()) + estimateValueSize(entry.getValue());
+    }
+
+    return size;
+  }
+
+  private static int hashTableCapacity(int size) {
+    // A hash map keeps its load factor under 0.75 with a power of two table.
+    int capacity = 1;
+    while (capacity * 3L < size * 4L) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private static long estimateArraySize(int length) {
+    return align(ARRAY_HEADER_SIZE + (long) REFERENCE_SIZE * length);
+  }
+
+  private static long align(long size) {
+    return (size + OBJECT_ALIGNMENT - 1) / OBJECT_ALIGNMENT * OBJECT_ALIGNMENT;
+  }
+}
@@ -20,12 +20,14 @@
 package org.apache.gravitino.cache;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 
 /** A cache implementation that does not cache anything. */
@@ -97,6 +99,41 @@ public class NoOpsCache extends BaseEntityCache {
     return Optional.empty();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> E getOrLoad(
+      NameIdentifier ident, Entity.EntityType type, ThrowingSupplier<E, X> loader) throws X {
+    return loader.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      List<NameIdentifier> idents,
+      Entity.EntityType type,
+      ThrowingFunction<List<NameIdentifier>, List<E>, X> loader)
+      throws X {
+    return loader.apply(idents);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier> Optional<List<E>> getIfPresent(
+      Namespace namespace, Entity.EntityType type, boolean allFields) {
+    return Optional.empty();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      Namespace namespace,
+      Entity.EntityType type,
+      boolean allFields,
+      ThrowingSupplier<List<E>, X> loader)
+      throws X {
+    return loader.get();
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean invalidate(NameIdentifier ident, Entity.EntityType type) {
@@ -130,6 +167,30 @@ public class NoOpsCache extends BaseEntityCache {
     return Optional.empty();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      SupportsRelationOperations.Type relType,
+      NameIdentifier nameIdentifier,
+      Entity.EntityType identType,
+      boolean allFields,
+      ThrowingSupplier<List<E>, X> loader)
+      throws X {
+    return loader.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception>
+      Map<NameIdentifier, List<E>> getOrLoad(
+          SupportsRelationOperations.Type relType,
+          List<NameIdentifier> nameIdentifiers,
+          Entity.EntityType identType,
+          ThrowingFunction<List<NameIdentifier>, Map<NameIdentifier, List<E>>, X> loader)
+          throws X {
+    return loader.apply(nameIdentifiers);
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean invalidate(
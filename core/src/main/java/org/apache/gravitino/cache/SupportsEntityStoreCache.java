@@ -19,10 +19,12 @@
 
 package org.apache.gravitino.cache;
 
+import java.util.List;
 import java.util.Optional;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 
 /**
  * {@code StoreEntityCache} defines caching operations for direct entity access. It supports
@@ -42,7 +44,78 @@ public interface SupportsEntityStoreCache {
       NameIdentifier ident, Entity.EntityType type);
 
   /**
-   * Invalidates the cache entry for the given entity.
+   * Retrieves an entity from the cache, or loads it with the given loader and caches it if it is
+   * missing.
+   *
+   * @param ident the name identifier
+   * @param type the entity type
+   * @param loader the loader used to load the entity from the store on a cache miss
+   * @param <E> the entity class
+   * @param <X> the type of exception that may be thrown by the loader
+   * @return the cached or loaded entity
+   * @throws X if the loader throws an exception of type X
+   */
+  <E extends Entity & HasIdentifier, X extends Exception> E getOrLoad(
+      NameIdentifier ident, Entity.EntityType type, EntityCache.ThrowingSupplier<E, X> loader)
+      throws X;
+
+  /**
+   * Retrieves the entities with the given identifiers from the cache, the missing entities are
+   * loaded together with one call to the given loader and cached.
+   *
+   * @param idents the name identifiers of the entities
+   * @param type the type of the entities
+   * @param loader the loader used to load the missing entities from the store, it returns the
+   *     entities in the order of the identifiers it is given and skips the ones that do not exist
+   * @param <E> the entity class
+   * @param <X> the type of exception that may be thrown by the loader
+   * @return the cached or loaded entities in the order of the given identifiers, the entities that
+   *     do not exist are skipped
+   * @throws X if the loader throws an exception of type X
+   */
+  <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      List<NameIdentifier> idents,
+      Entity.EntityType type,
+      EntityCache.ThrowingFunction<List<NameIdentifier>, List<E>, X> loader)
+      throws X;
+
+  /**
+   * Retrieves the entities listed under the given namespace from the cache if they exist. Will not
+   * attempt to load from the store if missing.
+   *
+   * @param namespace the namespace of the listed entities, it cannot be empty
+   * @param type the type of the listed entities
+   * @param allFields whether the listed entities are loaded with all their fields
+   * @param <E> the entity class
+   * @return an optional list of entities if cached
+   */
+  <E extends Entity & HasIdentifier> Optional<List<E>> getIfPresent(
+      Namespace namespace, Entity.EntityType type, boolean allFields);
+
+  /**
+   * Retrieves the entities listed under the given namespace from the cache, or loads them with the
+   * given loader and caches them if they are missing. The cached list is invalidated whenever an
+   * entity of the given type under the namespace, or the namespace itself, is invalidated.
+   *
+   * @param namespace the namespace of the listed entities, it cannot be empty
+   * @param type the type of the listed entities
+   * @param allFields whether the listed entities are loaded with all their fields
+   * @param loader the loader used to list the entities from the store on a cache miss
+   * @param <E> the entity class
+   * @param <X> the type of exception that may be thrown by the loader
+   * @return the cached or loaded entities
+   * @throws X if the loader throws an exception of type X
+   */
+  <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      Namespace namespace,
+      Entity.EntityType type,
+      boolean allFields,
+      EntityCache.ThrowingSupplier<List<E>, X> loader)
+      throws X;
+
+  /**
+   * Invalidates the cache entry for the given entity, the entries of its children, and the cached
+   * lists of the entities of the same type under its namespace.
    *
    * @param ident the name identifier
    * @param type the entity type
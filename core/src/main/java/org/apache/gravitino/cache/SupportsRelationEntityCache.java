@@ -20,6 +20,7 @@
 package org.apache.gravitino.cache;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
@@ -45,6 +46,74 @@ public interface SupportsRelationEntityCache {
       NameIdentifier nameIdentifier,
       Entity.EntityType identType);
 
+  /**
+   * Retrieves a list of related entities from the cache, or loads them with the given loader and
+   * caches them if they are missing. The entities loaded with and without all their fields are
+   * cached separately, so a partially loaded list is never served to a caller asking for all the
+   * fields.
+   *
+   * @param relType the relation type
+   * @param nameIdentifier the name identifier of the entity to find related entities for
+   * @param identType the identifier type of the related entities to find
+   * @param allFields whether the related entities are loaded with all their fields
+   * @param loader the loader used to load the related entities from the store on a cache miss
+   * @return the cached or loaded related entities
+   * @param <E> The class of the related entities
+   * @param <X> The type of exception that may be thrown by the loader
+   * @throws X if the loader throws an exception of type X
+   */
+  <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      SupportsRelationOperations.Type relType,
+      NameIdentifier nameIdentifier,
+      Entity.EntityType identType,
+      boolean allFields,
+      EntityCache.ThrowingSupplier<List<E>, X> loader)
+      throws X;
+
+  /**
+   * Retrieves a list of related entities loaded with all their fields from the cache, or loads
+   * them with the given loader and caches them if they are missing.
+   *
+   * @param relType the relation type
+   * @param nameIdentifier the name identifier of the entity to find related entities for
+   * @param identType the identifier type of the related entities to find
+   * @param loader the loader used to load the related entities from the store on a cache miss
+   * @return the cached or loaded related entities
+   * @param <E> The class of the related entities
+   * @param <X> The type of exception that may be thrown by the loader
+   * @throws X if the loader throws an exception of type X
+   */
+  default <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      SupportsRelationOperations.Type relType,
+      NameIdentifier nameIdentifier,
+      Entity.EntityType identType,
+      EntityCache.ThrowingSupplier<List<E>, X> loader)
+      throws X {
+    return getOrLoad(relType, nameIdentifier, identType, true, loader);
+  }
+
+  /**
+   * Retrieves the related entities of the given entities from the cache, and loads the missing ones
+   * with one call of the given loader. The loader runs without the cache lock, a loaded relation is
+   * only cached if the relation was not invalidated while it was being loaded.
+   *
+   * @param relType the relation type
+   * @param nameIdentifiers the name identifiers of the entities to find related entities for
+   * @param identType the identifier type of the related entities to find
+   * @param loader the loader used to load the related entities of the missing identifiers
+   * @return the cached or loaded related entities by the name identifiers, the identifiers the
+   *     loader returns nothing for are absent
+   * @param <E> The class of the related entities
+   * @param <X> The type of exception that may be thrown by the loader
+   * @throws X if the loader throws an exception of type X
+   */
+  <E extends Entity & HasIdentifier, X extends Exception> Map<NameIdentifier, List<E>> getOrLoad(
+      SupportsRelationOperations.Type relType,
+      List<NameIdentifier> nameIdentifiers,
+      Entity.EntityType identType,
+      EntityCache.ThrowingFunction<List<NameIdentifier>, Map<NameIdentifier, List<E>>, X> loader)
+      throws X;
+
   /**
    * Invalidates the cached relation for the given entity and relation type.
    *
@@ -131,6 +131,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
     private BaseCatalog catalog;
     private IsolatedClassLoader classLoader;
+    private volatile CatalogMetadataCache metadataCache;
 
     public CatalogWrapper(BaseCatalog catalog, IsolatedClassLoader classLoader) {
       this.catalog = catalog;
@@ -141,6 +142,17 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       return catalog;
     }
 
+    CatalogMetadataCache metadataCache() {
+      if (metadataCache == null) {
+        synchronized (this) {
+          if (metadataCache == null) {
+            metadataCache = CatalogMetadataCache.create(catalog.properties());
+          }
+        }
+      }
+      return metadataCache;
+    }
+
     public <R> R doWithSchemaOps(ThrowableFunction<SupportsSchemas, R> fn) throws Exception {
       return classLoader.withClassLoader(
           cl -> {
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.connector.BaseCatalogPropertiesMetadata.BASIC_CATALOG_PROPERTIES_METADATA;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.connector.BaseCatalog;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.utils.Executable;
+
+/**
+ * CatalogMetadataCache caches the tables and the schemas loaded from the underlying system of a
+ * catalog, so loading them repeatedly, as query engines do for every query plan, doesn't call the
+ * underlying system every time. It is enabled by the catalog property {@link
+ * BaseCatalog#METADATA_CACHE_ENABLED}.
+ *
+ * <p>A cached object is invalidated when it is changed through this server, and expires after
+ * {@link BaseCatalog#METADATA_CACHE_EXPIRE_TIME_MS}. The changes made directly in the underlying
+ * system or through other servers are visible after the expiration time at most.
+ */
+class CatalogMetadataCache {
+
+  private static final CatalogMetadataCache DISABLED = new CatalogMetadataCache(null, null);
+
+  private final Cache<NameIdentifier, Table> tables;
+
+  private final Cache<NameIdentifier, Schema> schemas;
+
+  // The count of the invalidations. An object loaded before an invalidation is not cached after
+  // it, as it may be loaded before the change.
+  private final AtomicLong invalidations = new AtomicLong();
+
+  private CatalogMetadataCache(
+      Cache<NameIdentifier, Table> tables, Cache<NameIdentifier, Schema> schemas) {
+    this.tables = tables;
+    this.schemas = schemas;
+  }
+
+  /**
+   * Creates the cache by the catalog properties.
+   *
+   * @param properties The catalog properties.
+   * @return The cache, which caches nothing if it is not enabled.
+   */
+  static CatalogMetadataCache create(Map<String, String> properties) {
+    boolean enabled =
+        (boolean)
+            BASIC_CATALOG_PROPERTIES_METADATA.getOrDefault(
+                properties, BaseCatalog.METADATA_CACHE_ENABLED);
+    if (!enabled) {
+      return DISABLED;
+    }
+
+    long maxSize =
+        (long)
+            BASIC_CATALOG_PROPERTIES_METADATA.getOrDefault(
+                properties, BaseCatalog.METADATA_CACHE_MAX_SIZE);
+    long expireTimeMs =
+        (long)
+            BASIC_CATALOG_PROPERTIES_METADATA.getOrDefault(
+                properties, BaseCatalog.METADATA_CACHE_EXPIRE_TIME_MS);
+    return new CatalogMetadataCache(
+        newCache(maxSize, expireTimeMs), newCache(maxSize, expireTimeMs));
+  }
+
+  Table loadTable(NameIdentifier ident, Executable<Table, Exception> loader) throws Exception {
+    return load(tables, ident, loader);
+  }
+
+  Schema loadSchema(NameIdentifier ident, Executable<Schema, Exception> loader) throws Exception {
+    return load(schemas, ident, loader);
+  }
+
+  /**
+   * Executes a change of the tables, and invalidates the cached tables after it, no matter whether
+   * it succeeds.
+   *
+   * @param change The change of the tables.
+   * @param changedTables The identifiers of the changed tables.
+   * @return The result of the change.
+   * @param <R> The type of the result.
+   * @throws Exception If the change fails.
+   */
+  <R> R doWithTableChange(Executable<R, Exception> change, NameIdentifier... changedTables)
+      throws Exception {
+    try {
+      return change.execute();
+    } finally {
+      if (tables != null) {
+        invalidations.incrementAndGet();
+        for (NameIdentifier ident : changedTables) {
+          tables.invalidate(ident);
+        }
+      }
+    }
+  }
+
+  /**
+   * Executes a change of the schema, and invalidates the cached schema and its tables after it, no
+   * matter whether it succeeds.
+   *
+   * @param change The change of the schema.
+   * @param changedSchema The identifier of the changed schema.
+   * @return The result of the change.
+   * @param <R> The type of the result.
+   * @throws Exception If the change fails.
+   */
+  <R> R doWithSchemaChange(Executable<R, Exception> change, NameIdentifier changedSchema)
+      throws Exception {
+    try {
+      return change.execute();
+    } finally {
+      if (schemas != null) {
+        invalidations.incrementAndGet();
+        schemas.invalidate(changedSchema);
+        Namespace tableNamespace =
+            Namespace.of(ArrayUtils.add(changedSchema.namespace().levels(), changedSchema.name()));
+        tables.asMap().keySet().removeIf(table -> table.namespace().equals(tableNamespace));
+      }
+    }
+  }
+
+  private <T> T load(
+      Cache<NameIdentifier, T> cache, NameIdentifier ident, Executable<T, Exception> loader)
+      throws Exception {
+    if (cache == null) {
+      return loader.execute();
+    }
+
+    T cached = cache.getIfPresent(ident);
+    if (cached != null) {
+      return cached;
+    }
+
+    long invalidationsBeforeLoad = invalidations.get();
+    T loaded = loader.execute();
+    cache.put(ident, loaded);
+    // The invalidation during the loading may happen before the put, so check it after the put.
+    if (invalidations.get() != invalidationsBeforeLoad) {
+      cache.invalidate(ident);
+    }
+    return loaded;
+  }
+
+  private static <T> Cache<NameIdentifier, T> newCache(long maxSize, long expireTimeMs) {
+    return Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+        .build();
+  }
+}
@@ -19,6 +19,12 @@
 
 package org.apache.gravitino.catalog;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.file.FilesetCatalog;
 
 /**
@@ -27,4 +33,25 @@ import org.apache.gravitino.file.FilesetCatalog;
  * potentially add custom behaviors or operations related to dispatching or handling fileset-related
  * events or actions that are not covered by the standard {@code FilesetCatalog} operations.
  */
-public interface FilesetDispatcher extends FilesetCatalog, FilesetFileOps {}
+public interface FilesetDispatcher extends FilesetCatalog, FilesetFileOps {
+
+  /**
+   * List at most {@code limit} filesets in the schema namespace whose names sort after the given
+   * name, ordered by name. The default implementation lists the whole schema and cuts the page from
+   * it.
+   *
+   * @param namespace A schema namespace.
+   * @param afterName The name to list after, or null to list from the first fileset.
+   * @param limit The maximum number of filesets to return.
+   * @return An array of fileset identifiers in the namespace, ordered by name.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default NameIdentifier[] listFilesets(Namespace namespace, @Nullable String afterName, int limit)
+      throws NoSuchSchemaException {
+    return Arrays.stream(listFilesets(namespace))
+        .filter(ident -> afterName == null || ident.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(NameIdentifier::name))
+        .limit(limit)
+        .toArray(NameIdentifier[]::new);
+  }
+}
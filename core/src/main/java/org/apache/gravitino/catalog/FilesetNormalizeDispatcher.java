@@ -54,6 +54,14 @@ public class FilesetNormalizeDispatcher implements FilesetDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public NameIdentifier[] listFilesets(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = normalizeCaseSensitive(namespace);
+    NameIdentifier[] identifiers = dispatcher.listFilesets(caseSensitiveNs, afterName, limit);
+    return normalizeCaseSensitive(identifiers);
+  }
+
   @Override
   public FileInfo[] listFiles(NameIdentifier ident, String locationName, String subPath)
       throws NoSuchFilesetException, IOException {
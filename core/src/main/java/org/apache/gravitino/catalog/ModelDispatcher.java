@@ -18,6 +18,33 @@
  */
 package org.apache.gravitino.catalog;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.model.ModelCatalog;
 
-public interface ModelDispatcher extends ModelCatalog {}
+public interface ModelDispatcher extends ModelCatalog {
+
+  /**
+   * List at most {@code limit} models in the schema namespace whose names sort after the given
+   * name, ordered by name. The default implementation lists the whole schema and cuts the page from
+   * it.
+   *
+   * @param namespace A schema namespace.
+   * @param afterName The name to list after, or null to list from the first model.
+   * @param limit The maximum number of models to return.
+   * @return An array of model identifiers in the namespace, ordered by name.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default NameIdentifier[] listModels(Namespace namespace, @Nullable String afterName, int limit)
+      throws NoSuchSchemaException {
+    return Arrays.stream(listModels(namespace))
+        .filter(ident -> afterName == null || ident.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(NameIdentifier::name))
+        .limit(limit)
+        .toArray(NameIdentifier[]::new);
+  }
+}
@@ -22,20 +22,32 @@ import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePro
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
 import com.google.common.collect.Maps;
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.capability.Capability;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.file.FilesetChange;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.messaging.TopicChange;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.TableChange;
@@ -232,6 +244,88 @@ public abstract class OperationDispatcher {
         IllegalArgumentException.class);
   }
 
+  /**
+   * Whether the catalog is called without holding the tree lock. It is only the case if the
+   * catalog doesn't manage the storage of the entities of the scope, and {@link
+   * Configs#TREE_LOCK_EXTERNAL_CATALOG_CALLS_UNLOCKED} is enabled.
+   */
+  boolean callCatalogUnlocked(NameIdentifier catalogIdent, Capability.Scope scope) {
+    Config config = GravitinoEnv.getInstance().config();
+    return config.get(Configs.TREE_LOCK_EXTERNAL_CATALOG_CALLS_UNLOCKED)
+        && !isManagedEntity(catalogIdent, scope);
+  }
+
+  /**
+   * Lists at most {@code limit} entities of the namespace whose names sort after the given name,
+   * ordered by name. It is only used for the catalogs managing the storage of the entities, whose
+   * entities only live in the entity store, so the page is read from the store with a bounded
+   * query instead of listing the whole catalog or schema.
+   */
+  <E extends Entity & HasIdentifier> NameIdentifier[] listManagedEntities(
+      Namespace namespace,
+      Class<E> type,
+      Entity.EntityType entityType,
+      @Nullable String afterName,
+      int limit)
+      throws NoSuchCatalogException, NoSuchSchemaException {
+    NameIdentifier parentIdent = NameIdentifier.of(namespace.levels());
+    boolean listSchemas = entityType == Entity.EntityType.SCHEMA;
+    return TreeLockUtils.doWithTreeLock(
+        parentIdent,
+        LockType.READ,
+        () -> {
+          try {
+            if (listSchemas && !store.exists(parentIdent, Entity.EntityType.CATALOG)) {
+              throw new NoSuchCatalogException("Catalog %s does not exist", parentIdent);
+            }
+            if (!listSchemas && !store.exists(parentIdent, Entity.EntityType.SCHEMA)) {
+              throw new NoSuchSchemaException("Schema %s does not exist", parentIdent);
+            }
+            return store.list(namespace, type, entityType, afterName, limit).stream()
+                .map(e -> NameIdentifier.of(namespace, e.name()))
+                .toArray(NameIdentifier[]::new);
+          } catch (IOException e) {
+            throw new RuntimeException("Failed to list the entities under " + namespace, e);
+          }
+        });
+  }
+
+  /**
+   * Calls the catalog, then reconciles the result with the entity store under the tree lock.
+   *
+   * <p>If the catalog doesn't manage the storage of the entities of the scope, the call goes to an
+   * external system such as Hive Metastore, which may take a long time. With {@link
+   * Configs#TREE_LOCK_EXTERNAL_CATALOG_CALLS_UNLOCKED} enabled, it is made without the tree lock
+   * and the other operations don't wait for it. The reconciliation must check the entities again
+   * under the lock, as they may be changed during the call. Otherwise, the call and the
+   * reconciliation are both made under the tree lock.
+   *
+   * @param catalogIdent The identifier of the catalog.
+   * @param scope The scope of the entities.
+   * @param lockIdent The identifier to lock.
+   * @param lockType The type of the lock.
+   * @param catalogCall The call to the catalog.
+   * @param reconciliation The reconciliation of the result with the entity store.
+   * @return The result of the reconciliation.
+   * @param <T> The type of the result of the call.
+   * @param <R> The type of the result of the reconciliation.
+   */
+  <T, R> R doWithCatalogAndTreeLock(
+      NameIdentifier catalogIdent,
+      Capability.Scope scope,
+      NameIdentifier lockIdent,
+      LockType lockType,
+      Supplier<T> catalogCall,
+      Function<T, R> reconciliation) {
+    if (callCatalogUnlocked(catalogIdent, scope)) {
+      T result = catalogCall.get();
+      return TreeLockUtils.doWithTreeLock(lockIdent, lockType, () -> reconciliation.apply(result));
+    }
+
+    return TreeLockUtils.doWithTreeLock(
+        lockIdent, lockType, () -> reconciliation.apply(catalogCall.get()));
+  }
+
   protected <E extends Entity & HasIdentifier> E getEntity(
       NameIdentifier ident, Entity.EntityType type, Class<E> entityClass) {
     try {
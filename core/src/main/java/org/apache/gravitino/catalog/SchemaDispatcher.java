@@ -19,7 +19,13 @@
 
 package org.apache.gravitino.catalog;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.connector.SupportsSchemas;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
 
 /**
  * {@code SchemaDispatcher} interface acts as a specialization of the {@link SupportsSchemas}
@@ -27,4 +33,24 @@ import org.apache.gravitino.connector.SupportsSchemas;
  * to dispatching or handling schema-related events or actions that are not covered by the standard
  * {@code SupportsSchemas} operations.
  */
-public interface SchemaDispatcher extends SupportsSchemas {}
+public interface SchemaDispatcher extends SupportsSchemas {
+
+  /**
+   * List at most {@code limit} schemas in the namespace whose names sort after the given name,
+   * ordered by name. The default implementation lists the catalog and cuts the page from it.
+   *
+   * @param namespace A catalog namespace.
+   * @param afterName The name to list after, or null to list from the first schema.
+   * @param limit The maximum number of schemas to return.
+   * @return An array of schema identifiers in the namespace, ordered by name.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  default NameIdentifier[] listSchemas(Namespace namespace, @Nullable String afterName, int limit)
+      throws NoSuchCatalogException {
+    return Arrays.stream(listSchemas(namespace))
+        .filter(ident -> afterName == null || ident.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(NameIdentifier::name))
+        .limit(limit)
+        .toArray(NameIdentifier[]::new);
+  }
+}
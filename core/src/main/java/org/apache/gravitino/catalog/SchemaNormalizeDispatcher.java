@@ -51,6 +51,13 @@ public class SchemaNormalizeDispatcher implements SchemaDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String afterName, int limit)
+      throws NoSuchCatalogException {
+    NameIdentifier[] identifiers = dispatcher.listSchemas(namespace, afterName, limit);
+    return normalizeCaseSensitive(identifiers);
+  }
+
   @Override
   public boolean schemaExists(NameIdentifier ident) {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -24,6 +24,7 @@ import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier
 
 import java.time.Instant;
 import java.util.Map;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
@@ -83,6 +84,18 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
                 NoSuchCatalogException.class));
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String afterName, int limit)
+      throws NoSuchCatalogException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(NameIdentifier.of(namespace.levels()));
+    if (!isManagedEntity(catalogIdent, Capability.Scope.SCHEMA)) {
+      return SchemaDispatcher.super.listSchemas(namespace, afterName, limit);
+    }
+
+    return listManagedEntities(
+        namespace, SchemaEntity.class, Entity.EntityType.SCHEMA, afterName, limit);
+  }
+
   /**
    * Creates a new schema.
    *
@@ -126,7 +139,13 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
           Schema schema =
               doWithCatalog(
                   catalogIdent,
-                  c -> c.doWithSchemaOps(s -> s.createSchema(ident, comment, updatedProperties)),
+                  c ->
+                      c.metadataCache()
+                          .doWithSchemaChange(
+                              () ->
+                                  c.doWithSchemaOps(
+                                      s -> s.createSchema(ident, comment, updatedProperties)),
+                              ident),
                   NoSuchCatalogException.class,
                   SchemaAlreadyExistsException.class);
 
@@ -225,7 +244,10 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
           Schema alteredSchema =
               doWithCatalog(
                   catalogIdent,
-                  c -> c.doWithSchemaOps(s -> s.alterSchema(ident, changes)),
+                  c ->
+                      c.metadataCache()
+                          .doWithSchemaChange(
+                              () -> c.doWithSchemaOps(s -> s.alterSchema(ident, changes)), ident),
                   NoSuchSchemaException.class);
 
           // If the Schema is maintained by the Gravitino's store, we don't have to alter again.
@@ -314,7 +336,10 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
           boolean droppedFromCatalog =
               doWithCatalog(
                   catalogIdent,
-                  c -> c.doWithSchemaOps(s -> s.dropSchema(ident, cascade)),
+                  c ->
+                      c.metadataCache()
+                          .doWithSchemaChange(
+                              () -> c.doWithSchemaOps(s -> s.dropSchema(ident, cascade)), ident),
                   NonEmptySchemaException.class,
                   RuntimeException.class);
 
@@ -402,7 +427,9 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
     Schema schema =
         doWithCatalog(
             catalogIdentifier,
-            c -> c.doWithSchemaOps(s -> s.loadSchema(ident)),
+            c ->
+                c.metadataCache()
+                    .loadSchema(ident, () -> c.doWithSchemaOps(s -> s.loadSchema(ident))),
             NoSuchSchemaException.class);
 
     // If the Schema is maintained by the entity store, we don't have to import.
@@ -19,6 +19,12 @@
 
 package org.apache.gravitino.catalog;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.rel.TableCatalog;
 
 /**
@@ -27,4 +33,35 @@ import org.apache.gravitino.rel.TableCatalog;
  * dispatching or handling table-related events or actions that are not covered by the standard
  * {@code TableCatalog} operations.
  */
-public interface TableDispatcher extends TableCatalog {}
+public interface TableDispatcher extends TableCatalog {
+
+  /**
+   * Import all the tables of the schema from the underlying catalog to the Gravitino store in bulk,
+   * instead of importing them one by one when they are loaded. The tables already imported are
+   * skipped.
+   *
+   * @param namespace The namespace of the schema.
+   * @return The identifiers of the tables in the schema.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  NameIdentifier[] importTables(Namespace namespace) throws NoSuchSchemaException;
+
+  /**
+   * List at most {@code limit} tables in the namespace whose names sort after the given name,
+   * ordered by name. The default implementation lists the schema and cuts the page from it.
+   *
+   * @param namespace A schema namespace.
+   * @param afterName The name to list after, or null to list from the first table.
+   * @param limit The maximum number of tables to return.
+   * @return An array of table identifiers in the namespace, ordered by name.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default NameIdentifier[] listTables(Namespace namespace, @Nullable String afterName, int limit)
+      throws NoSuchSchemaException {
+    return Arrays.stream(listTables(namespace))
+        .filter(ident -> afterName == null || ident.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(NameIdentifier::name))
+        .limit(limit)
+        .toArray(NameIdentifier[]::new);
+  }
+}
@@ -56,6 +56,21 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public NameIdentifier[] listTables(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = normalizeCaseSensitive(namespace);
+    NameIdentifier[] identifiers = dispatcher.listTables(caseSensitiveNs, afterName, limit);
+    return normalizeCaseSensitive(identifiers);
+  }
+
+  @Override
+  public NameIdentifier[] importTables(Namespace namespace) throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = normalizeCaseSensitive(namespace);
+    NameIdentifier[] identifiers = dispatcher.importTables(caseSensitiveNs);
+    return normalizeCaseSensitive(identifiers);
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     // The constraints of the name spec may be more strict than underlying catalog,
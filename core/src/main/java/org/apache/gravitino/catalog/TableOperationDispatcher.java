@@ -25,16 +25,28 @@ import static org.apache.gravitino.rel.expressions.transforms.Transforms.EMPTY_T
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
 import com.google.common.base.Objects;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.security.Principal;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
@@ -93,14 +105,85 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
-    return TreeLockUtils.doWithTreeLock(
-        NameIdentifier.of(namespace.levels()),
-        LockType.READ,
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    NameIdentifier catalogIdent = getCatalogIdentifier(schemaIdent);
+    Supplier<NameIdentifier[]> listTables =
         () ->
             doWithCatalog(
-                getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+                catalogIdent,
                 c -> c.doWithTableOps(t -> t.listTables(namespace)),
-                NoSuchSchemaException.class));
+                NoSuchSchemaException.class);
+    if (callCatalogUnlocked(catalogIdent, Capability.Scope.TABLE)) {
+      // Listing the tables of an external catalog reads nothing from the entity store, so it
+      // doesn't need the tree lock.
+      return listTables.get();
+    }
+
+    return TreeLockUtils.doWithTreeLock(schemaIdent, LockType.READ, listTables::get);
+  }
+
+  @Override
+  public NameIdentifier[] listTables(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(NameIdentifier.of(namespace.levels()));
+    if (!isManagedEntity(catalogIdent, Capability.Scope.TABLE)) {
+      return TableDispatcher.super.listTables(namespace, afterName, limit);
+    }
+
+    return listManagedEntities(
+        namespace, TableEntity.class, Entity.EntityType.TABLE, afterName, limit);
+  }
+
+  /**
+   * Imports all the tables of the schema from the underlying catalog. The tables not imported yet
+   * are loaded from the catalog concurrently outside the tree lock, and stored in batches, each
+   * batch is stored in one transaction under the schema lock.
+   *
+   * @param namespace The namespace of the schema.
+   * @return The identifiers of the tables in the schema.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public NameIdentifier[] importTables(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    NameIdentifier catalogIdent = getCatalogIdentifier(schemaIdent);
+    // Load the schema to make sure the schema is imported.
+    GravitinoEnv.getInstance().schemaDispatcher().loadSchema(schemaIdent);
+
+    NameIdentifier[] identifiers =
+        doWithCatalog(
+            catalogIdent,
+            c -> c.doWithTableOps(t -> t.listTables(namespace)),
+            NoSuchSchemaException.class);
+    if (isManagedEntity(catalogIdent, Capability.Scope.TABLE)) {
+      // The tables of a managed catalog are stored when they are created.
+      return identifiers;
+    }
+
+    Set<String> importedTables = listImportedTableNames(namespace);
+    List<NameIdentifier> tablesToImport =
+        Arrays.stream(identifiers)
+            .filter(ident -> !importedTables.contains(ident.name()))
+            .collect(Collectors.toList());
+    List<TableEntity> tableEntities = loadTablesToImport(tablesToImport);
+
+    int batchSize = GravitinoEnv.getInstance().config().get(Configs.TABLE_IMPORT_BATCH_SIZE);
+    for (List<TableEntity> batch : Lists.partition(tableEntities, batchSize)) {
+      TreeLockUtils.doWithTreeLock(
+          schemaIdent,
+          LockType.WRITE,
+          () -> {
+            storeImportedTables(namespace, batch);
+            return null;
+          });
+    }
+
+    LOG.info(
+        "Imported {} tables of schema {}, {} tables were imported before",
+        tableEntities.size(),
+        schemaIdent,
+        importedTables.size());
+    return identifiers;
   }
 
   /**
@@ -113,7 +196,13 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     EntityCombinedTable entityCombinedTable =
-        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
+        doWithCatalogAndTreeLock(
+            getCatalogIdentifier(ident),
+            Capability.Scope.TABLE,
+            ident,
+            LockType.READ,
+            () -> loadTableFromCatalog(ident),
+            table -> combineWithEntity(ident, table));
 
     if (!entityCombinedTable.imported()) {
       // Load the schema to make sure the schema is imported.
@@ -121,9 +210,11 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
       schemaDispatcher.loadSchema(schemaIdent);
 
-      // Import the table.
+      // Import the table with the loaded one, the catalog is not called again under the lock.
+      Table tableFromCatalog = entityCombinedTable.tableFromCatalog();
       entityCombinedTable =
-          TreeLockUtils.doWithTreeLock(schemaIdent, LockType.WRITE, () -> importTable(ident));
+          TreeLockUtils.doWithTreeLock(
+              schemaIdent, LockType.WRITE, () -> importTable(ident, tableFromCatalog));
     }
 
     // Update the column entities in Gravitino store if the columns are different from the ones
@@ -206,20 +297,30 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     NameIdentifier nameIdentifierForLock =
         containsRenameTable ? NameIdentifier.of(ident.namespace().levels()) : ident;
 
-    return TreeLockUtils.doWithTreeLock(
+    NameIdentifier catalogIdent = getCatalogIdentifier(ident);
+    return doWithCatalogAndTreeLock(
+        catalogIdent,
+        Capability.Scope.TABLE,
         nameIdentifierForLock,
         LockType.WRITE,
-        () -> {
-          NameIdentifier catalogIdent = getCatalogIdentifier(ident);
-          Table alteredTable =
-              doWithCatalog(
-                  catalogIdent,
-                  c ->
-                      c.doWithTableOps(
-                          t -> t.alterTable(ident, applyCapabilities(c.capabilities(), changes))),
-                  NoSuchTableException.class,
-                  IllegalArgumentException.class);
-
+        () ->
+            doWithCatalog(
+                catalogIdent,
+                c ->
+                    c.metadataCache()
+                        .doWithTableChange(
+                            () ->
+                                c.doWithTableOps(
+                                    t ->
+                                        t.alterTable(
+                                            ident, applyCapabilities(c.capabilities(), changes))),
+                            ident,
+                            renamedIdent(ident, changes)),
+                NoSuchTableException.class,
+                IllegalArgumentException.class),
+        alteredTable -> {
+          // The entity is looked up and its columns are merged again under the lock, as it may be
+          // changed by others while altering the table in the catalog.
           StringIdentifier stringId = getStringIdFromProperties(alteredTable.properties());
           // Case 1: The table is not created by Gravitino and this table is never imported.
           TableEntity te = null;
@@ -307,7 +408,10 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
           boolean droppedFromCatalog =
               doWithCatalog(
                   catalogIdent,
-                  c -> c.doWithTableOps(t -> t.dropTable(ident)),
+                  c ->
+                      c.metadataCache()
+                          .doWithTableChange(
+                              () -> c.doWithTableOps(t -> t.dropTable(ident)), ident),
                   RuntimeException.class);
 
           // For unmanaged table, it could happen that the table:
@@ -360,7 +464,10 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
           boolean droppedFromCatalog =
               doWithCatalog(
                   catalogIdent,
-                  c -> c.doWithTableOps(t -> t.purgeTable(ident)),
+                  c ->
+                      c.metadataCache()
+                          .doWithTableChange(
+                              () -> c.doWithTableOps(t -> t.purgeTable(ident)), ident),
                   RuntimeException.class,
                   UnsupportedOperationException.class);
 
@@ -390,13 +497,38 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         });
   }
 
-  private EntityCombinedTable importTable(NameIdentifier identifier) {
-    EntityCombinedTable table = internalLoadTable(identifier);
+  private EntityCombinedTable importTable(NameIdentifier identifier, Table tableFromCatalog) {
+    // Check the entity again under the lock, the table may be imported by others after it is
+    // loaded.
+    EntityCombinedTable table = combineWithEntity(identifier, tableFromCatalog);
 
     if (table.imported()) {
       return table;
     }
 
+    TableEntity tableEntity = toImportedTableEntity(identifier, table);
+    try {
+      store.put(tableEntity, true);
+    } catch (EntityAlreadyExistsException e) {
+      LOG.error(
+          "Failed to import table {} with id {} to the store.", identifier, tableEntity.id(), e);
+      throw new UnsupportedOperationException(
+          "Table managed by multiple catalogs. This may cause unexpected issues such as privilege conflicts. "
+              + "To resolve: Remove all catalogs managing this table, then recreate one catalog to ensure single-catalog management.");
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
+      throw new RuntimeException("Fail to import the table entity to the store.", e);
+    }
+
+    return EntityCombinedTable.of(table.tableFromCatalog(), tableEntity)
+        .withHiddenProperties(
+            getHiddenPropertyNames(
+                getCatalogIdentifier(identifier),
+                HasPropertyMetadata::tablePropertiesMetadata,
+                table.tableFromCatalog().properties()));
+  }
+
+  private TableEntity toImportedTableEntity(NameIdentifier identifier, EntityCombinedTable table) {
     StringIdentifier stringId = null;
     try {
       stringId = table.stringIdentifier();
@@ -428,42 +560,109 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
             .build();
     List<ColumnEntity> columnEntityList =
         toColumnEntities(table.tableFromCatalog().columns(), audit);
-    TableEntity tableEntity =
-        TableEntity.builder()
-            .withId(uid)
-            .withName(identifier.name())
-            .withNamespace(identifier.namespace())
-            .withColumns(columnEntityList)
-            .withAuditInfo(audit)
-            .build();
+    return TableEntity.builder()
+        .withId(uid)
+        .withName(identifier.name())
+        .withNamespace(identifier.namespace())
+        .withColumns(columnEntityList)
+        .withAuditInfo(audit)
+        .build();
+  }
+
+  private Set<String> listImportedTableNames(Namespace namespace) {
     try {
-      store.put(tableEntity, true);
-    } catch (EntityAlreadyExistsException e) {
-      LOG.error("Failed to import table {} with id {} to the store.", identifier, uid, e);
-      throw new UnsupportedOperationException(
-          "Table managed by multiple catalogs. This may cause unexpected issues such as privilege conflicts. "
-              + "To resolve: Remove all catalogs managing this table, then recreate one catalog to ensure single-catalog management.");
+      return store.list(namespace, TableEntity.class, TABLE).stream()
+          .map(TableEntity::name)
+          .collect(Collectors.toSet());
+    } catch (IOException e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "list", namespace, e);
+      throw new RuntimeException(e);
+    }
+  }
+
+  private List<TableEntity> loadTablesToImport(List<NameIdentifier> identifiers) {
+    if (identifiers.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    int parallelism = GravitinoEnv.getInstance().config().get(Configs.TABLE_IMPORT_PARALLELISM);
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(parallelism, identifiers.size()),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("table-import-%d").build());
+    // The tables are loaded as the current user, as they are loaded by the current thread.
+    Principal principal = PrincipalUtils.getCurrentPrincipal();
+    try {
+      List<Future<Table>> futures =
+          identifiers.stream()
+              .map(
+                  ident ->
+                      executor.submit(
+                          () -> PrincipalUtils.doAs(principal, () -> loadTableFromCatalog(ident))))
+              .collect(Collectors.toList());
+
+      List<TableEntity> tableEntities = Lists.newArrayListWithCapacity(identifiers.size());
+      for (int i = 0; i < identifiers.size(); i++) {
+        NameIdentifier ident = identifiers.get(i);
+        try {
+          Table table = futures.get(i).get();
+          tableEntities.add(toImportedTableEntity(ident, EntityCombinedTable.of(table)));
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof NoSuchTableException) {
+            // The table is dropped after it is listed.
+            LOG.warn("Skip importing table {} as it doesn't exist", ident);
+            continue;
+          }
+          Throwables.throwIfUnchecked(e.getCause());
+          throw new RuntimeException(e.getCause());
+        }
+      }
+      return tableEntities;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while importing the tables", e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void storeImportedTables(Namespace namespace, List<TableEntity> tableEntities) {
+    // Check the entities again under the lock, the tables may be imported by others after they
+    // are listed.
+    Set<String> importedTables = listImportedTableNames(namespace);
+    List<TableEntity> tablesToStore =
+        tableEntities.stream()
+            .filter(table -> !importedTables.contains(table.name()))
+            .collect(Collectors.toList());
+    if (tablesToStore.isEmpty()) {
+      return;
+    }
+
+    try {
+      store.batchPut(tablesToStore, true);
     } catch (Exception e) {
-      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
-      throw new RuntimeException("Fail to import the table entity to the store.", e);
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "batch put", namespace, e);
+      throw new RuntimeException("Fail to import the table entities to the store.", e);
     }
+  }
 
-    return EntityCombinedTable.of(table.tableFromCatalog(), tableEntity)
-        .withHiddenProperties(
-            getHiddenPropertyNames(
-                getCatalogIdentifier(identifier),
-                HasPropertyMetadata::tablePropertiesMetadata,
-                table.tableFromCatalog().properties()));
+  private NameIdentifier renamedIdent(NameIdentifier ident, TableChange... changes) {
+    return Arrays.stream(changes)
+        .filter(c -> c instanceof TableChange.RenameTable)
+        .map(c -> NameIdentifier.of(ident.namespace(), ((TableChange.RenameTable) c).getNewName()))
+        .reduce((c1, c2) -> c2)
+        .orElse(ident);
   }
 
-  private EntityCombinedTable internalLoadTable(NameIdentifier ident) {
-    NameIdentifier catalogIdentifier = getCatalogIdentifier(ident);
-    Table table =
-        doWithCatalog(
-            catalogIdentifier,
-            c -> c.doWithTableOps(t -> t.loadTable(ident)),
-            NoSuchTableException.class);
+  private Table loadTableFromCatalog(NameIdentifier ident) {
+    return doWithCatalog(
+        getCatalogIdentifier(ident),
+        c -> c.metadataCache().loadTable(ident, () -> c.doWithTableOps(t -> t.loadTable(ident))),
+        NoSuchTableException.class);
+  }
 
+  private EntityCombinedTable combineWithEntity(NameIdentifier ident, Table table) {
+    NameIdentifier catalogIdentifier = getCatalogIdentifier(ident);
     StringIdentifier stringId = getStringIdFromProperties(table.properties());
     // Case 1: The table is not created by Gravitino or the external system does not support storing
     // string identifier.
@@ -543,17 +742,21 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         doWithCatalog(
             catalogIdent,
             c ->
-                c.doWithTableOps(
-                    t ->
-                        t.createTable(
-                            ident,
-                            columns,
-                            comment,
-                            updatedProperties,
-                            partitions == null ? EMPTY_TRANSFORM : partitions,
-                            distribution == null ? Distributions.NONE : distribution,
-                            sortOrders == null ? new SortOrder[0] : sortOrders,
-                            indexes == null ? Indexes.EMPTY_INDEXES : indexes)),
+                c.metadataCache()
+                    .doWithTableChange(
+                        () ->
+                            c.doWithTableOps(
+                                t ->
+                                    t.createTable(
+                                        ident,
+                                        columns,
+                                        comment,
+                                        updatedProperties,
+                                        partitions == null ? EMPTY_TRANSFORM : partitions,
+                                        distribution == null ? Distributions.NONE : distribution,
+                                        sortOrders == null ? new SortOrder[0] : sortOrders,
+                                        indexes == null ? Indexes.EMPTY_INDEXES : indexes)),
+                        ident),
             NoSuchSchemaException.class,
             TableAlreadyExistsException.class);
 
@@ -715,7 +918,8 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       return combinedTable.tableFromGravitino();
     }
 
-    // Update the columns in the Gravitino store
+    // Update the columns in the Gravitino store, the columns are merged again with the stored
+    // entity, as it may be changed by others after it is loaded.
     return TreeLockUtils.doWithTreeLock(
         tableIdent,
         LockType.WRITE,
@@ -732,7 +936,10 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                                 .withId(entity.id())
                                 .withName(entity.name())
                                 .withNamespace(entity.namespace())
-                                .withColumns(columnsUpdateResult.getRight())
+                                .withColumns(
+                                    updateColumnsIfNecessary(
+                                            combinedTable.tableFromCatalog(), entity)
+                                        .getRight())
                                 .withAuditInfo(
                                     AuditInfo.builder()
                                         .withCreator(entity.auditInfo().creator())
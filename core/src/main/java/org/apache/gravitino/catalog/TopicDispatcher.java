@@ -19,6 +19,12 @@
 
 package org.apache.gravitino.catalog;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.messaging.TopicCatalog;
 
 /**
@@ -27,4 +33,24 @@ import org.apache.gravitino.messaging.TopicCatalog;
  * dispatching or handling topic-related events or actions that are not covered by the standard
  * {@code TopicCatalog} operations.
  */
-public interface TopicDispatcher extends TopicCatalog {}
+public interface TopicDispatcher extends TopicCatalog {
+
+  /**
+   * List at most {@code limit} topics in the namespace whose names sort after the given name,
+   * ordered by name. The default implementation lists the schema and cuts the page from it.
+   *
+   * @param namespace A schema namespace.
+   * @param afterName The name to list after, or null to list from the first topic.
+   * @param limit The maximum number of topics to return.
+   * @return An array of topic identifiers in the namespace, ordered by name.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default NameIdentifier[] listTopics(Namespace namespace, @Nullable String afterName, int limit)
+      throws NoSuchSchemaException {
+    return Arrays.stream(listTopics(namespace))
+        .filter(ident -> afterName == null || ident.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(NameIdentifier::name))
+        .limit(limit)
+        .toArray(NameIdentifier[]::new);
+  }
+}
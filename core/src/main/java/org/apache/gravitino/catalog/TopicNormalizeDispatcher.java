@@ -52,6 +52,14 @@ public class TopicNormalizeDispatcher implements TopicDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public NameIdentifier[] listTopics(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = normalizeCaseSensitive(namespace);
+    NameIdentifier[] identifiers = dispatcher.listTopics(caseSensitiveNs, afterName, limit);
+    return normalizeCaseSensitive(identifiers);
+  }
+
   @Override
   public Topic loadTopic(NameIdentifier ident) throws NoSuchTopicException {
     // The constraints of the name spec may be more strict than underlying catalog,
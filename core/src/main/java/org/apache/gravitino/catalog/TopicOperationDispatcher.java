@@ -26,6 +26,7 @@ import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier
 import java.time.Instant;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
@@ -83,6 +84,18 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
                 NoSuchSchemaException.class));
   }
 
+  @Override
+  public NameIdentifier[] listTopics(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(NameIdentifier.of(namespace.levels()));
+    if (!isManagedEntity(catalogIdent, Capability.Scope.TOPIC)) {
+      return TopicDispatcher.super.listTopics(namespace, afterName, limit);
+    }
+
+    return listManagedEntities(
+        namespace, TopicEntity.class, Entity.EntityType.TOPIC, afterName, limit);
+  }
+
   /**
    * Load topic metadata by {@link NameIdentifier} from the catalog.
    *
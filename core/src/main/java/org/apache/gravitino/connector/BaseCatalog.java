@@ -61,6 +61,12 @@ public abstract class BaseCatalog<T extends BaseCatalog>
   // The object you used is not stable, don't use it unless you know what you are doing.
   public static final String CATALOG_OPERATION_IMPL = "ops-impl";
 
+  // Whether to cache the tables and the schemas loaded from the underlying catalog, and the
+  // maximum size and the expiration time of the cache.
+  public static final String METADATA_CACHE_ENABLED = "metadata-cache-enabled";
+  public static final String METADATA_CACHE_MAX_SIZE = "metadata-cache-max-size";
+  public static final String METADATA_CACHE_EXPIRE_TIME_MS = "metadata-cache-expire-time-ms";
+
   // Underlying access control system plugin for this catalog.
   private volatile AuthorizationPlugin authorizationPlugin;
 
@@ -88,6 +88,26 @@ public abstract class BaseCatalogPropertiesMetadata extends BasePropertiesMetada
                   PROPERTY_IN_USE,
                   "The property indicating the catalog is in use",
                   true /* default value */,
+                  false /* hidden */),
+              PropertyEntry.booleanPropertyEntry(
+                  BaseCatalog.METADATA_CACHE_ENABLED,
+                  "Whether to cache the tables and the schemas loaded from the catalog",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* default value */,
+                  false /* hidden */,
+                  false /* reserved */),
+              PropertyEntry.longOptionalPropertyEntry(
+                  BaseCatalog.METADATA_CACHE_MAX_SIZE,
+                  "The maximum number of the tables or the schemas the cache may contain",
+                  false /* immutable */,
+                  10_000L /* default value */,
+                  false /* hidden */),
+              PropertyEntry.longOptionalPropertyEntry(
+                  BaseCatalog.METADATA_CACHE_EXPIRE_TIME_MS,
+                  "The time in milliseconds a cached table or schema expires after it is loaded",
+                  false /* immutable */,
+                  60_000L /* default value */,
                   false /* hidden */)),
           PropertyEntry::getName);
 
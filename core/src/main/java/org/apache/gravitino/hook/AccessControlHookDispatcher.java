@@ -69,7 +69,9 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
 
   @Override
   public boolean removeUser(String metalake, String user) throws NoSuchMetalakeException {
-    return dispatcher.removeUser(metalake, user);
+    boolean removed = dispatcher.removeUser(metalake, user);
+    notifyPrincipalRemoved(metalake, user, Entity.EntityType.USER);
+    return removed;
   }
 
   @Override
@@ -96,7 +98,9 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
 
   @Override
   public boolean removeGroup(String metalake, String group) throws NoSuchMetalakeException {
-    return dispatcher.removeGroup(metalake, group);
+    boolean removed = dispatcher.removeGroup(metalake, group);
+    notifyPrincipalRemoved(metalake, group, Entity.EntityType.GROUP);
+    return removed;
   }
 
   @Override
@@ -243,6 +247,14 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
     }
   }
 
+  private static void notifyPrincipalRemoved(
+      String metalake, String name, Entity.EntityType type) {
+    GravitinoAuthorizer gravitinoAuthorizer = GravitinoEnv.getInstance().gravitinoAuthorizer();
+    if (gravitinoAuthorizer != null) {
+      gravitinoAuthorizer.handlePrincipalRemoved(metalake, name, type);
+    }
+  }
+
   private static void notifyRoleUserRelChange(Long role) {
     GravitinoAuthorizer gravitinoAuthorizer = GravitinoEnv.getInstance().gravitinoAuthorizer();
     if (gravitinoAuthorizer != null) {
@@ -56,6 +56,12 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
     return dispatcher.listFilesets(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listFilesets(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    return dispatcher.listFilesets(namespace, afterName, limit);
+  }
+
   @Override
   public FileInfo[] listFiles(NameIdentifier ident, String locationName, String subPath)
       throws NoSuchFilesetException, IOException {
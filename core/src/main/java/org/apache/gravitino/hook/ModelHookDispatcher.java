@@ -59,6 +59,12 @@ public class ModelHookDispatcher implements ModelDispatcher {
     return dispatcher.listModels(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listModels(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    return dispatcher.listModels(namespace, afterName, limit);
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     return dispatcher.getModel(ident);
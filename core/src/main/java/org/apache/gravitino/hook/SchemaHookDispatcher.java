@@ -54,6 +54,12 @@ public class SchemaHookDispatcher implements SchemaDispatcher {
     return dispatcher.listSchemas(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String afterName, int limit)
+      throws NoSuchCatalogException {
+    return dispatcher.listSchemas(namespace, afterName, limit);
+  }
+
   @Override
   public Schema createSchema(NameIdentifier ident, String comment, Map<String, String> properties)
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
@@ -58,6 +58,17 @@ public class TableHookDispatcher implements TableDispatcher {
     return dispatcher.listTables(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listTables(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    return dispatcher.listTables(namespace, afterName, limit);
+  }
+
+  @Override
+  public NameIdentifier[] importTables(Namespace namespace) throws NoSuchSchemaException {
+    return dispatcher.importTables(namespace);
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     return dispatcher.loadTable(ident);
@@ -54,6 +54,12 @@ public class TopicHookDispatcher implements TopicDispatcher {
     return dispatcher.listTopics(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listTopics(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    return dispatcher.listTopics(namespace, afterName, limit);
+  }
+
   @Override
   public Topic loadTopic(NameIdentifier ident) throws NoSuchTopicException {
     return dispatcher.loadTopic(ident);
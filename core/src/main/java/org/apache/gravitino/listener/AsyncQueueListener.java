@@ -16,22 +16,29 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EventListenerMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +47,15 @@ import org.slf4j.LoggerFactory;
  * dispatcher thread to dispatch event to the real listeners. For default AsyncQueueListener it may
  * contain multi listeners share with one queue and dispatcher thread. For other
  * AsyncQueueDispatchers, contain only one listener.
+ *
+ * <p>With more than one dispatcher thread, every listener has its own queues and threads, one for
+ * each partition, so a slow listener doesn't delay the others. The events are partitioned by the
+ * identifier of the metadata object, so the events of the same object are dispatched in order, but
+ * a listener may process the events of different objects concurrently.
+ *
+ * <p>With a batch size greater than one, the queued events are taken in batches, waiting at most
+ * the linger time for a batch to be filled, and the consecutive post events in a batch are
+ * dispatched with {@link EventListenerPlugin#onPostEvents(List)}.
  */
 public class AsyncQueueListener implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncQueueListener.class);
@@ -47,29 +63,72 @@ public class AsyncQueueListener implements EventListenerPlugin {
   private static final float HIGH_WATERMARK_RATIO = 0.9f;
 
   private final List<EventListenerPlugin> eventListeners;
-  private final BlockingQueue<BaseEvent> queue;
-  private final Thread asyncProcessor;
+  // The queues of every group of the listeners, one queue for each partition.
+  private final List<DispatchQueue[]> dispatchQueues;
   private final int dispatcherJoinSeconds;
+  private final int batchSize;
+  private final long batchLingerNanos;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final AtomicLong dropEventCounters = new AtomicLong(0);
   private final AtomicLong lastDropEventCounters = new AtomicLong(0);
   private Instant lastRecordDropEventTime = Instant.EPOCH;
   private final String asyncQueueListenerName;
-  private final int highWatermarkThreshold;
+  private final EventListenerMetricsSource metricsSource;
 
   public AsyncQueueListener(
       List<EventListenerPlugin> listeners,
       String name,
       int queueCapacity,
       int dispatcherJoinSeconds) {
+    this(listeners, name, queueCapacity, dispatcherJoinSeconds, 1, 1, 0);
+  }
+
+  public AsyncQueueListener(
+      List<EventListenerPlugin> listeners,
+      String name,
+      int queueCapacity,
+      int dispatcherJoinSeconds,
+      int dispatcherThreads,
+      int batchSize,
+      long batchLingerMs) {
+    Preconditions.checkArgument(
+        dispatcherThreads > 0, "The number of the dispatcher threads should be positive");
+    Preconditions.checkArgument(batchSize > 0, "The batch size should be positive");
+    Preconditions.checkArgument(batchLingerMs >= 0, "The batch linger time should not be negative");
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
-    this.queue = new LinkedBlockingQueue<>(queueCapacity);
-    this.asyncProcessor = new Thread(() -> processEvents());
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
-    this.highWatermarkThreshold = (int) (queueCapacity * HIGH_WATERMARK_RATIO);
-    asyncProcessor.setDaemon(true);
-    asyncProcessor.setName(asyncQueueListenerName);
+    this.batchSize = batchSize;
+    this.batchLingerNanos = TimeUnit.MILLISECONDS.toNanos(batchLingerMs);
+
+    ImmutableList.Builder<DispatchQueue[]> queuesBuilder = ImmutableList.builder();
+    if (dispatcherThreads == 1) {
+      queuesBuilder.add(
+          new DispatchQueue[] {
+            new DispatchQueue(listeners, queueCapacity, asyncQueueListenerName)
+          });
+    } else {
+      // Every partition of a listener owns a part of the queue capacity of the listener.
+      int partitionCapacity = Math.max(1, queueCapacity / dispatcherThreads);
+      for (int i = 0; i < listeners.size(); i++) {
+        EventListenerPlugin listener = listeners.get(i);
+        String listenerName =
+            listener instanceof EventListenerPluginWrapper
+                ? ((EventListenerPluginWrapper) listener).listenerName()
+                : String.valueOf(i);
+        DispatchQueue[] partitions = new DispatchQueue[dispatcherThreads];
+        for (int p = 0; p < dispatcherThreads; p++) {
+          partitions[p] =
+              new DispatchQueue(
+                  ImmutableList.of(listener),
+                  partitionCapacity,
+                  asyncQueueListenerName + "-" + listenerName + "-" + p);
+        }
+        queuesBuilder.add(partitions);
+      }
+    }
+    this.dispatchQueues = queuesBuilder.build();
+    this.metricsSource = new EventListenerMetricsSource(name, this::queueSize);
   }
 
   @Override
@@ -91,24 +150,54 @@ public class AsyncQueueListener implements EventListenerPlugin {
   @Override
   public void start() {
     eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
-    asyncProcessor.start();
+    dispatchQueues.forEach(
+        partitions -> {
+          for (DispatchQueue queue : partitions) {
+            queue.processor.start();
+          }
+        });
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // The metrics system is not initialized in some test environments.
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   @Override
   public void stop() {
     Preconditions.checkState(!stopped.get(), asyncQueueListenerName + " had already stopped");
     stopped.compareAndSet(false, true);
-    asyncProcessor.interrupt();
+    dispatchQueues.forEach(
+        partitions -> {
+          for (DispatchQueue queue : partitions) {
+            queue.processor.interrupt();
+          }
+        });
+    // All the dispatcher threads share the join timeout.
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(dispatcherJoinSeconds);
     try {
-      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
+      for (DispatchQueue[] partitions : dispatchQueues) {
+        for (DispatchQueue queue : partitions) {
+          long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+          queue.processor.join(Math.max(1, remainingMillis));
+        }
+      }
     } catch (InterruptedException e) {
       LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
     }
     eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   public boolean isHighWatermark() {
-    return queue.size() > highWatermarkThreshold;
+    return dispatchQueues.stream()
+        .flatMap(Arrays::stream)
+        .anyMatch(queue -> queue.queue.size() > queue.highWatermarkThreshold);
   }
 
   @VisibleForTesting
@@ -116,31 +205,19 @@ public class AsyncQueueListener implements EventListenerPlugin {
     return this.eventListeners;
   }
 
-  private void processEvents() {
-    while (!Thread.currentThread().isInterrupted()) {
-      try {
-        BaseEvent baseEvent = queue.take();
-        if (baseEvent instanceof PreEvent) {
-          this.eventListeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
-        } else if (baseEvent instanceof Event) {
-          this.eventListeners.forEach(listener -> listener.onPostEvent((Event) baseEvent));
-        } else {
-          LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
-        }
-      } catch (InterruptedException e) {
-        LOG.warn("{} event dispatcher thread is interrupted.", asyncQueueListenerName);
-        break;
-      } catch (Exception e) {
-        LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
-      }
-    }
+  @VisibleForTesting
+  EventListenerMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
 
-    if (!queue.isEmpty()) {
-      LOG.warn(
-          "{} drop {} events since dispatch thread is interrupted",
-          asyncQueueListenerName,
-          queue.size());
+  private int queueSize() {
+    int size = 0;
+    for (DispatchQueue[] partitions : dispatchQueues) {
+      for (DispatchQueue queue : partitions) {
+        size += queue.queue.size();
+      }
     }
+    return size;
   }
 
   private void logDropEventsIfNecessary() {
@@ -172,10 +249,119 @@ public class AsyncQueueListener implements EventListenerPlugin {
       return;
     }
 
-    if (queue.offer(baseEvent)) {
-      return;
+    QueuedEvent queuedEvent = new QueuedEvent(baseEvent, System.nanoTime());
+    for (DispatchQueue[] partitions : dispatchQueues) {
+      DispatchQueue queue =
+          partitions[Math.floorMod(Objects.hashCode(baseEvent.identifier()), partitions.length)];
+      if (!queue.queue.offer(queuedEvent)) {
+        metricsSource.droppedEventsCounter().inc();
+        logDropEventsIfNecessary();
+      }
+    }
+  }
+
+  /** A queue of the events and the thread dispatching them to a group of the listeners. */
+  private class DispatchQueue {
+    private final List<EventListenerPlugin> listeners;
+    private final BlockingQueue<QueuedEvent> queue;
+    private final int highWatermarkThreshold;
+    private final String name;
+    private final Thread processor;
+
+    private DispatchQueue(List<EventListenerPlugin> listeners, int capacity, String name) {
+      this.listeners = listeners;
+      this.queue = new LinkedBlockingQueue<>(capacity);
+      this.highWatermarkThreshold = (int) (capacity * HIGH_WATERMARK_RATIO);
+      this.name = name;
+      this.processor = new Thread(this::processEvents);
+      processor.setDaemon(true);
+      processor.setName(name);
+    }
+
+    private void processEvents() {
+      while (!Thread.currentThread().isInterrupted()) {
+        try {
+          List<QueuedEvent> batch = takeBatch();
+          dispatch(batch);
+          long now = System.nanoTime();
+          batch.forEach(
+              queuedEvent ->
+                  metricsSource
+                      .dispatchTimer()
+                      .update(now - queuedEvent.queuedNanos, TimeUnit.NANOSECONDS));
+        } catch (InterruptedException e) {
+          LOG.warn("{} event dispatcher thread is interrupted.", name);
+          break;
+        } catch (Exception e) {
+          LOG.warn("{} throw a exception while processing event", name, e);
+        }
+      }
+
+      if (!queue.isEmpty()) {
+        LOG.warn("{} drop {} events since dispatch thread is interrupted", name, queue.size());
+      }
     }
 
-    logDropEventsIfNecessary();
+    private List<QueuedEvent> takeBatch() throws InterruptedException {
+      List<QueuedEvent> batch = new ArrayList<>();
+      batch.add(queue.take());
+      long deadline = System.nanoTime() + batchLingerNanos;
+      while (batch.size() < batchSize) {
+        queue.drainTo(batch, batchSize - batch.size());
+        long remainingNanos = deadline - System.nanoTime();
+        if (batch.size() >= batchSize || remainingNanos <= 0) {
+          break;
+        }
+        try {
+          QueuedEvent queuedEvent = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+          if (queuedEvent == null) {
+            break;
+          }
+          batch.add(queuedEvent);
+        } catch (InterruptedException e) {
+          // Dispatch the taken events before the thread exits.
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+      return batch;
+    }
+
+    private void dispatch(List<QueuedEvent> batch) {
+      List<Event> postEvents = new ArrayList<>();
+      for (QueuedEvent queuedEvent : batch) {
+        BaseEvent baseEvent = queuedEvent.event;
+        if (baseEvent instanceof PreEvent) {
+          // Keep the order of the pre events and the post events.
+          dispatchPostEvents(postEvents);
+          postEvents.clear();
+          listeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
+        } else if (baseEvent instanceof Event) {
+          postEvents.add((Event) baseEvent);
+        } else {
+          LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+        }
+      }
+      dispatchPostEvents(postEvents);
+    }
+
+    private void dispatchPostEvents(List<Event> postEvents) {
+      if (postEvents.size() == 1) {
+        listeners.forEach(listener -> listener.onPostEvent(postEvents.get(0)));
+      } else if (postEvents.size() > 1) {
+        List<Event> events = ImmutableList.copyOf(postEvents);
+        listeners.forEach(listener -> listener.onPostEvents(events));
+      }
+    }
+  }
+
+  private static class QueuedEvent {
+    private final BaseEvent event;
+    private final long queuedNanos;
+
+    private QueuedEvent(BaseEvent event, long queuedNanos) {
+      this.event = event;
+      this.queuedNanos = queuedNanos;
+    }
   }
 }
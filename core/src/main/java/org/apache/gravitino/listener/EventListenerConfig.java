@@ -49,6 +49,36 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<Integer> DISPATCHER_THREADS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS)
+          .doc(
+              "The number of the dispatcher threads of every async event listener, the events are "
+                  + "partitioned by the metadata object to the threads")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  static final ConfigEntry<Integer> BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_SIZE)
+          .doc(
+              "The maximum number of the post events dispatched to the async event listeners in "
+                  + "one batch")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  static final ConfigEntry<Long> BATCH_LINGER_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_LINGER_MS)
+          .doc(
+              "The maximum time in milliseconds to wait for more events to fill a batch before "
+                  + "dispatching it to the async event listeners")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
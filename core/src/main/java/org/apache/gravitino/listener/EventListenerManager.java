@@ -46,6 +46,9 @@ import org.slf4j.LoggerFactory;
  *
  * <p>For async listeners with the isolated dispatcher, will create a separate AsyncQueueListener
  * for each EventListenerWrapper.
+ *
+ * <p>With more than one dispatcher thread, every async listener has its own queues even with the
+ * shared dispatcher, see {@link AsyncQueueListener}.
  */
 public class EventListenerManager {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerManager.class);
@@ -54,17 +57,26 @@ public class EventListenerManager {
   public static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   public static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS = "dispatcherThreads";
+  static final String GRAVITINO_EVENT_LISTENER_BATCH_SIZE = "batchSize";
+  static final String GRAVITINO_EVENT_LISTENER_BATCH_LINGER_MS = "batchLingerMs";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private int dispatcherThreads;
+  private int batchSize;
+  private long batchLingerMs;
   private List<EventListenerPlugin> eventListeners;
 
   public void init(Map<String, String> properties) {
     EventListenerConfig config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.dispatcherThreads = config.get(EventListenerConfig.DISPATCHER_THREADS);
+    this.batchSize = config.get(EventListenerConfig.BATCH_SIZE);
+    this.batchLingerMs = config.get(EventListenerConfig.BATCH_LINGER_MS);
 
     String eventListenerNames = config.get(EventListenerConfig.LISTENER_NAMES);
     Map<String, EventListenerPlugin> userEventListenerPlugins =
@@ -120,7 +132,10 @@ public class EventListenerManager {
                           ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
                           listenerName,
                           queueCapacity,
-                          dispatcherJoinSeconds);
+                          dispatcherJoinSeconds,
+                          dispatcherThreads,
+                          batchSize,
+                          batchLingerMs);
                     case ASYNC_SHARED:
                       sharedQueueListeners.add(
                           new EventListenerPluginWrapper(listenerName, listener));
@@ -135,7 +150,13 @@ public class EventListenerManager {
     if (!sharedQueueListeners.isEmpty()) {
       listeners.add(
           new AsyncQueueListener(
-              sharedQueueListeners, "default", queueCapacity, dispatcherJoinSeconds));
+              sharedQueueListeners,
+              "default",
+              queueCapacity,
+              dispatcherJoinSeconds,
+              dispatcherThreads,
+              batchSize,
+              batchLingerMs));
     }
     return listeners;
   }
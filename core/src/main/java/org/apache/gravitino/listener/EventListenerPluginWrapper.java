@@ -20,6 +20,7 @@
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
@@ -38,10 +39,14 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerPluginWrapper.class);
   private String listenerName;
   private EventListenerPlugin userEventListener;
+  // Whether the user event listener handles the batches of events itself, the events of a batch
+  // are handled one by one otherwise, so a failed event doesn't drop the rest of the batch.
+  private final boolean handlesBatches;
 
   public EventListenerPluginWrapper(String listenerName, EventListenerPlugin userEventListener) {
     this.listenerName = listenerName;
     this.userEventListener = userEventListener;
+    this.handlesBatches = overridesOnPostEvents(userEventListener);
   }
 
   @Override
@@ -75,6 +80,20 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    if (!handlesBatches) {
+      events.forEach(this::onPostEvent);
+      return;
+    }
+
+    try {
+      userEventListener.onPostEvents(events);
+    } catch (Exception e) {
+      LOG.warn("Event listener {} process {} events failed", listenerName, events.size(), e);
+    }
+  }
+
   @Override
   public void onPreEvent(PreEvent preEvent) {
     try {
@@ -109,6 +128,15 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     return userEventListener;
   }
 
+  private static boolean overridesOnPostEvents(EventListenerPlugin eventListener) {
+    try {
+      return eventListener.getClass().getMethod("onPostEvents", List.class).getDeclaringClass()
+          != EventListenerPlugin.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   private void printExceptionInEventProcess(String listenerName, BaseEvent baseEvent, Exception e) {
     LOG.warn(
         "Event listener {} process event {} failed,",
@@ -86,6 +86,21 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     }
   }
 
+  @Override
+  public NameIdentifier[] listFilesets(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    eventBus.dispatchEvent(new ListFilesetPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    try {
+      NameIdentifier[] nameIdentifiers = dispatcher.listFilesets(namespace, afterName, limit);
+      eventBus.dispatchEvent(new ListFilesetEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return nameIdentifiers;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public FileInfo[] listFiles(NameIdentifier ident, String locationName, String subPath)
       throws NoSuchFilesetException, IOException {
@@ -199,6 +199,23 @@ public class ModelEventDispatcher implements ModelDispatcher {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public NameIdentifier[] listModels(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    String user = PrincipalUtils.getCurrentUserName();
+
+    eventBus.dispatchEvent(new ListModelPreEvent(user, namespace));
+    try {
+      NameIdentifier[] models = dispatcher.listModels(namespace, afterName, limit);
+      eventBus.dispatchEvent(new ListModelEvent(user, namespace));
+      return models;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(new ListModelFailureEvent(user, namespace, e));
+      throw e;
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public void linkModelVersion(
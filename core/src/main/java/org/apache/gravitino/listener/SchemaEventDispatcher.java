@@ -84,6 +84,21 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
     }
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String afterName, int limit)
+      throws NoSuchCatalogException {
+    eventBus.dispatchEvent(new ListSchemaPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    try {
+      NameIdentifier[] nameIdentifiers = dispatcher.listSchemas(namespace, afterName, limit);
+      eventBus.dispatchEvent(new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return nameIdentifiers;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public boolean schemaExists(NameIdentifier ident) {
     return dispatcher.schemaExists(ident);
@@ -92,6 +92,26 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public NameIdentifier[] listTables(Namespace namespace, String afterName, int limit)
+      throws NoSuchSchemaException {
+    eventBus.dispatchEvent(new ListTablePreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    try {
+      NameIdentifier[] nameIdentifiers = dispatcher.listTables(namespace, afterName, limit);
+      eventBus.dispatchEvent(new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return nameIdentifiers;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public NameIdentifier[] importTables(Namespace namespace) throws NoSuchSchemaException {
+    return dispatcher.importTables(namespace);
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     eventBus.dispatchEvent(new LoadTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
@@ -103,6 +103,20 @@ public class TagEventDispatcher implements TagDispatcher {
     }
   }
 
+  @Override
+  public Tag[] listTagsInfo(String metalake, String afterName, int limit) {
+    eventBus.dispatchEvent(new ListTagsInfoPreEvent(PrincipalUtils.getCurrentUserName(), metalake));
+    try {
+      Tag[] tags = dispatcher.listTagsInfo(metalake, afterName, limit);
+      eventBus.dispatchEvent(new ListTagsInfoEvent(PrincipalUtils.getCurrentUserName(), metalake));
+      return tags;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTagsInfoFailureEvent(PrincipalUtils.getCurrentUserName(), metalake, e));
+      throw e;
+    }
+  }
+
   @Override
   public Tag getTag(String metalake, String name) throws NoSuchTagException {
     eventBus.dispatchEvent(new GetTagPreEvent(PrincipalUtils.getCurrentUserName(), metalake, name));
@@ -115,6 +115,21 @@ public class TopicEventDispatcher implements TopicDispatcher {
     }
   }
 
+  @Override
+  public NameIdentifier[] listTopics(Namespace namespace, String afterName, int limit)
+      throws NoSuchTopicException {
+    eventBus.dispatchEvent(new ListTopicPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    try {
+      NameIdentifier[] nameIdentifiers = dispatcher.listTopics(namespace, afterName, limit);
+      eventBus.dispatchEvent(new ListTopicEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return nameIdentifiers;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTopicFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public Topic loadTopic(NameIdentifier ident) throws NoSuchTopicException {
     eventBus.dispatchEvent(new LoadTopicPreEvent(PrincipalUtils.getCurrentUserName(), ident));
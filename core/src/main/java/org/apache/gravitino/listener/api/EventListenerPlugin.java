@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener.api;
 
+import java.util.List;
 import java.util.Map;
 import javax.validation.constraints.NotNull;
 import org.apache.gravitino.annotation.DeveloperApi;
@@ -110,6 +111,24 @@ public interface EventListenerPlugin {
    */
   default void onPostEvent(Event postEvent) throws RuntimeException {}
 
+  /**
+   * Handle a batch of post-events in the order they are generated.
+   *
+   * <p>This method is only called for the listeners in ASYNC mode when the async event listeners
+   * are configured to dispatch the events in batches. The default implementation handles the
+   * events one by one with {@link #onPostEvent(Event)}. For the listeners not overriding it, the
+   * events of a batch are dispatched to {@link #onPostEvent(Event)} one by one, so a failed event
+   * doesn't stop the rest of the batch. The listeners writing the events to files or remote
+   * services could override it to write a batch of the events at once.
+   *
+   * @param postEvents The post events to be processed.
+   * @throws RuntimeException Indicates issues encountered during event processing, this has no
+   *     affect to the operation.
+   */
+  default void onPostEvents(List<Event> postEvents) throws RuntimeException {
+    postEvents.forEach(this::onPostEvent);
+  }
+
   /**
    * Handle pre-events generated before the operation.
    *
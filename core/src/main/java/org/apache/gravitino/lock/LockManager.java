@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.lock;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -35,7 +36,10 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +68,11 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // The maximum time in milliseconds to lock a tree lock, 0 means waiting without a limit.
+  @VisibleForTesting long acquireTimeoutMs;
+
+  @VisibleForTesting final TreeLockMetricsSource metricsSource = new TreeLockMetricsSource();
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -99,6 +108,8 @@ public class LockManager {
     }
 
     this.cleanTreeNodeIntervalInSecs = cleanIntervalInSecs;
+
+    this.acquireTimeoutMs = config.get(TREE_LOCK_ACQUIRE_TIMEOUT);
   }
 
   private void startDeadLockChecker() {
@@ -191,6 +202,12 @@ public class LockManager {
 
     // Start deadlock checker.
     startDeadLockChecker();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // The metrics system is not initialized in some test environments.
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   /**
@@ -250,7 +267,7 @@ public class LockManager {
       // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
       if (identifier == ROOT) {
         // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
+        return new TreeLock(treeLockNodes, identifier, metricsSource, acquireTimeoutMs);
       }
 
       String[] levels = identifier.namespace().levels();
@@ -270,7 +287,7 @@ public class LockManager {
         lockNode = child;
       }
 
-      return new TreeLock(treeLockNodes, identifier);
+      return new TreeLock(treeLockNodes, identifier, metricsSource, acquireTimeoutMs);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
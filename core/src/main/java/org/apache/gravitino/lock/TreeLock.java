@@ -22,8 +22,9 @@ package org.apache.gravitino.lock;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
-import org.apache.commons.lang3.tuple.Pair;
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,6 +67,11 @@ import org.slf4j.LoggerFactory;
  * If the lock manager fails to lock the resource path, it will release all the locks that have been
  * locked in the inverse sequences it locks the resource path.
  *
+ * <p>If the acquire timeout is positive, locking the whole path must finish within it, otherwise a
+ * {@link TreeLockTimeoutException} is thrown. The time waiting for and holding every node, and the
+ * times a node is held by others, are recorded in the {@link TreeLockMetricsSource} by the level of
+ * the node.
+ *
  * <p>The core of {@link TreeLock} is {@link TreeLockNode}. A TreeLock will hold several tree lock
  * nodes, all treeLock nodes shared by all tree lock instances will be stored in the {@link
  * LockManager} and can be reused later.
@@ -77,33 +83,52 @@ public class TreeLock {
   private final NameIdentifier identifier;
   // TreeLockNode to be locked
   private final List<TreeLockNode> lockNodes;
+  private final TreeLockMetricsSource metricsSource;
+  // The maximum time to lock the whole path, 0 means waiting without a limit.
+  private final long acquireTimeoutMs;
 
   // TreeLockNode that has been locked along with its lock type.
-  private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
+  private final Deque<HeldNode> heldLocks = new ConcurrentLinkedDeque<>();
   private LockType lockType;
 
-  TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+  TreeLock(
+      List<TreeLockNode> lockNodes,
+      NameIdentifier identifier,
+      TreeLockMetricsSource metricsSource,
+      long acquireTimeoutMs) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
+    this.metricsSource = metricsSource;
+    this.acquireTimeoutMs = acquireTimeoutMs;
   }
 
   /**
    * Lock the tree lock with the given lock type. This method locks all nodes in the list, from the
    * root to the leaf, and pushes them onto the deque. If an exception occurs during the locking
-   * process, it will unlock all nodes that have been locked so far.
+   * process, it will unlock all nodes that have been locked so far, and the tree lock should not be
+   * unlocked again.
    *
    * @param lockType The lock type to lock the tree lock.
+   * @throws TreeLockTimeoutException If the whole path can not be locked within the acquire
+   *     timeout.
    */
   public void lock(LockType lockType) {
     this.lockType = lockType;
 
+    long deadline =
+        acquireTimeoutMs > 0
+            ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs)
+            : 0;
     int length = lockNodes.size();
     for (int i = 0; i < length; i++) {
       TreeLockNode treeLockNode = lockNodes.get(i);
       LockType type = i == length - 1 ? lockType : LockType.READ;
       try {
-        treeLockNode.lock(type);
-        heldLocks.push(Pair.of(treeLockNode, type));
+        long waitStartTime = System.nanoTime();
+        acquire(treeLockNode, type, i, deadline);
+        long lockedTime = System.nanoTime();
+        metricsSource.waitTimer(i).update(lockedTime - waitStartTime, TimeUnit.NANOSECONDS);
+        heldLocks.push(new HeldNode(treeLockNode, type, i, lockedTime));
 
         treeLockNode.addHoldingThreadTimestamp(
             Thread.currentThread(), identifier, System.currentTimeMillis());
@@ -124,7 +149,14 @@ public class TreeLock {
             lockNodes,
             e);
         // unlock all nodes that have been locked when an exception occurs.
-        unlock();
+        if (!heldLocks.isEmpty()) {
+          unlock();
+        }
+        // Release the references of the nodes that are not locked, they are only released by
+        // unlocking otherwise.
+        for (int j = i; j < length; j++) {
+          lockNodes.get(j).decReference();
+        }
         throw e;
       }
     }
@@ -148,10 +180,13 @@ public class TreeLock {
     }
 
     while (!heldLocks.isEmpty()) {
-      Pair<TreeLockNode, LockType> pair = heldLocks.pop();
-      TreeLockNode current = pair.getLeft();
-      LockType type = pair.getRight();
+      HeldNode heldNode = heldLocks.pop();
+      TreeLockNode current = heldNode.node;
+      LockType type = heldNode.type;
       current.unlock(type);
+      metricsSource
+          .holdTimer(heldNode.depth)
+          .update(System.nanoTime() - heldNode.lockedTime, TimeUnit.NANOSECONDS);
 
       long holdStartTime = current.removeHoldingThreadTimestamp(Thread.currentThread(), identifier);
       if (LOG.isTraceEnabled()) {
@@ -173,4 +208,64 @@ public class TreeLock {
           lockType);
     }
   }
+
+  /**
+   * Lock the node, the contention is counted if the node is held by others at first.
+   *
+   * @param node The node to lock.
+   * @param type The lock type to lock the node.
+   * @param depth The depth of the node in the tree.
+   * @param deadline The {@link System#nanoTime()} to give up locking, it is ignored if the acquire
+   *     timeout is 0.
+   */
+  private void acquire(TreeLockNode node, LockType type, int depth, long deadline) {
+    if (node.tryLock(type)) {
+      return;
+    }
+
+    metricsSource.contentionCounter(depth).inc();
+    if (acquireTimeoutMs == 0) {
+      node.lock(type);
+      return;
+    }
+
+    boolean locked;
+    try {
+      locked = node.tryLock(type, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TreeLockTimeoutException(
+          e,
+          "Interrupted while waiting for the %s lock of node '%s' to lock '%s'",
+          type,
+          node.getName(),
+          identifier);
+    }
+
+    if (!locked) {
+      metricsSource.timeoutCounter(depth).inc();
+      throw new TreeLockTimeoutException(
+          "Failed to get the %s lock of node '%s' to lock '%s' in %d ms, the node is held by "
+              + "other operations, please retry later",
+          type,
+          node.getName(),
+          identifier,
+          acquireTimeoutMs);
+    }
+  }
+
+  /** A locked node along with its lock type, its depth and the time it is locked. */
+  private static class HeldNode {
+    private final TreeLockNode node;
+    private final LockType type;
+    private final int depth;
+    private final long lockedTime;
+
+    private HeldNode(TreeLockNode node, LockType type, int depth, long lockedTime) {
+      this.node = node;
+      this.type = type;
+      this.depth = depth;
+      this.lockedTime = lockedTime;
+    }
+  }
 }
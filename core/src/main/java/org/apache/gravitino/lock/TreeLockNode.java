@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.commons.lang3.tuple.Pair;
@@ -155,6 +156,39 @@ public class TreeLockNode {
     }
   }
 
+  /**
+   * Try to lock the node with the given lock type without waiting. This method should be followed
+   * by {@link #unlock(LockType)} if it returns true.
+   *
+   * @param lockType The lock type to lock the node.
+   * @return True if the node is locked, false if it is held by others.
+   */
+  boolean tryLock(LockType lockType) {
+    if (lockType == LockType.READ) {
+      return readWriteLock.readLock().tryLock();
+    } else {
+      return readWriteLock.writeLock().tryLock();
+    }
+  }
+
+  /**
+   * Try to lock the node with the given lock type, waiting at most the given time. This method
+   * should be followed by {@link #unlock(LockType)} if it returns true.
+   *
+   * @param lockType The lock type to lock the node.
+   * @param timeout The maximum time to wait.
+   * @param unit The time unit of the timeout.
+   * @return True if the node is locked, false if the waiting time elapsed.
+   * @throws InterruptedException If the current thread is interrupted while waiting.
+   */
+  boolean tryLock(LockType lockType, long timeout, TimeUnit unit) throws InterruptedException {
+    if (lockType == LockType.READ) {
+      return readWriteLock.readLock().tryLock(timeout, unit);
+    } else {
+      return readWriteLock.writeLock().tryLock(timeout, unit);
+    }
+  }
+
   /**
    * Unlock the node with the given lock type. This method should be called after {@link
    * #lock(LockType)}, and the lock type should be the same as the lock type in {@link
@@ -44,8 +44,9 @@ public class TreeLockUtils {
   public static <R, E extends Exception> R doWithTreeLock(
       NameIdentifier identifier, LockType lockType, Executable<R, E> executable) throws E {
     TreeLock lock = GravitinoEnv.getInstance().lockManager().createTreeLock(identifier);
+    // The tree lock releases what it has locked by itself if it fails to lock.
+    lock.lock(lockType);
     try {
-      lock.lock(lockType);
       return executable.execute();
     } finally {
       lock.unlock();
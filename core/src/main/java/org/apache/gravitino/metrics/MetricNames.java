@@ -28,6 +28,30 @@ public class MetricNames {
       "entity-store.relation-datasource.idle-connections";
   public static final String ENTITY_STORE_RELATION_DATASOURCE_MAX_CONNECTIONS =
       "entity-store.relation-datasource.max-connections";
+  public static final String ENTITY_STORE_RELATION_REPLICA_DATASOURCE_PREFIX =
+      "entity-store.relation-datasource.replica-";
+  public static final String ENTITY_STORE_RELATION_REPLICA_LAG_MILLIS = "lag-millis";
+  public static final String ENTITY_STORE_RELATION_REPLICA_READS =
+      "entity-store.relation-datasource.replica-reads";
+  public static final String ENTITY_STORE_RELATION_PRIMARY_READS =
+      "entity-store.relation-datasource.primary-reads";
+  public static final String ENTITY_STORE_RELATION_ID_CACHE_HITS =
+      "entity-store.relation-id-cache.hits";
+  public static final String ENTITY_STORE_RELATION_ID_CACHE_MISSES =
+      "entity-store.relation-id-cache.misses";
+  public static final String TREE_LOCK_WAIT_TIME = "wait-time";
+  public static final String TREE_LOCK_HOLD_TIME = "hold-time";
+  public static final String TREE_LOCK_CONTENTIONS = "contentions";
+  public static final String TREE_LOCK_TIMEOUTS = "timeouts";
+  public static final String EVENT_LISTENER_QUEUE_SIZE = "queue-size";
+  public static final String EVENT_LISTENER_DISPATCH_TIME = "dispatch-time";
+  public static final String EVENT_LISTENER_DROPPED_EVENTS = "dropped-events";
+  public static final String AUDIT_LOG_QUEUE_SIZE = "queue-size";
+  public static final String AUDIT_LOG_BLOCKED_WRITES = "blocked-writes";
+  public static final String AUDIT_LOG_ROTATIONS = "rotations";
+  public static final String GARBAGE_COLLECTOR_DELETED_ROWS = "deleted-rows";
+  public static final String GARBAGE_COLLECTOR_BACKLOG_ENTITY_TYPES = "backlog-entity-types";
+  public static final String GARBAGE_COLLECTOR_LAG_SECONDS = "lag-seconds";
 
   private MetricNames() {}
 }
@@ -177,7 +177,15 @@ public class MetricsSystem implements Closeable {
         new MapperConfig(
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".*.*",
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + "_${1}",
-            ImmutableMap.of("operation", "${0}")));
+            ImmutableMap.of("operation", "${0}")),
+        new MapperConfig(
+            MetricsSource.TREE_LOCK_METRIC_NAME + ".*.*",
+            MetricsSource.TREE_LOCK_METRIC_NAME + "_${1}",
+            ImmutableMap.of("level", "${0}")),
+        new MapperConfig(
+            MetricsSource.EVENT_LISTENER_METRIC_NAME + ".*.*",
+            MetricsSource.EVENT_LISTENER_METRIC_NAME + "_${1}",
+            ImmutableMap.of("listener", "${0}")));
   }
 
   private void registerMetricsToPrometheusRegistry() {
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * AuditLogMetricsSource collects the metrics of the audit log writer, which are the number of the
+ * audit logs waiting to be written, the number of the writes blocked since the buffer is full and
+ * the number of the rotated audit log files. The metric name is "audit-log.{name}", such as
+ * "audit-log.queue-size".
+ */
+public class AuditLogMetricsSource extends MetricsSource {
+
+  private final Counter blockedWritesCounter;
+  private final Counter rotationsCounter;
+
+  /**
+   * Create the metrics source of the audit log writer.
+   *
+   * @param queueSize The gauge of the number of the audit logs waiting to be written.
+   */
+  public AuditLogMetricsSource(Gauge<Integer> queueSize) {
+    super(MetricsSource.AUDIT_LOG_METRIC_NAME);
+    registerGauge(MetricNames.AUDIT_LOG_QUEUE_SIZE, queueSize);
+    this.blockedWritesCounter = getCounter(MetricNames.AUDIT_LOG_BLOCKED_WRITES);
+    this.rotationsCounter = getCounter(MetricNames.AUDIT_LOG_ROTATIONS);
+  }
+
+  /**
+   * Get the counter of the writes blocked since the buffer of the audit logs is full.
+   *
+   * @return The counter of the blocked writes.
+   */
+  public Counter blockedWritesCounter() {
+    return blockedWritesCounter;
+  }
+
+  /**
+   * Get the counter of the rotated audit log files.
+   *
+   * @return The counter of the rotations.
+   */
+  public Counter rotationsCounter() {
+    return rotationsCounter;
+  }
+}
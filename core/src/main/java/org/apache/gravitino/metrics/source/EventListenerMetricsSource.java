@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * EventListenerMetricsSource collects the metrics of an asynchronous event listener, which are the
+ * number of the events in its queues, the time from an event is queued to it is dispatched to all
+ * the listeners and the number of the events dropped since the queues are full. The metric name is
+ * "event-listener.{listener}.{name}", such as "event-listener.default.dispatch-time".
+ */
+public class EventListenerMetricsSource extends MetricsSource {
+
+  private final Timer dispatchTimer;
+  private final Counter droppedEventsCounter;
+
+  /**
+   * Create the metrics source of an asynchronous event listener.
+   *
+   * @param listenerName The name of the asynchronous event listener.
+   * @param queueSize The gauge of the number of the events in the queues of the listener.
+   */
+  public EventListenerMetricsSource(String listenerName, Gauge<Integer> queueSize) {
+    super(MetricsSource.EVENT_LISTENER_METRIC_NAME + "." + listenerName);
+    registerGauge(MetricNames.EVENT_LISTENER_QUEUE_SIZE, queueSize);
+    this.dispatchTimer = getTimer(MetricNames.EVENT_LISTENER_DISPATCH_TIME);
+    this.droppedEventsCounter = getCounter(MetricNames.EVENT_LISTENER_DROPPED_EVENTS);
+  }
+
+  /**
+   * Get the timer of the time from an event is queued to it is dispatched to all the listeners.
+   *
+   * @return The timer of the dispatch time.
+   */
+  public Timer dispatchTimer() {
+    return dispatchTimer;
+  }
+
+  /**
+   * Get the counter of the events dropped since the queues are full.
+   *
+   * @return The counter of the dropped events.
+   */
+  public Counter droppedEventsCounter() {
+    return droppedEventsCounter;
+  }
+}
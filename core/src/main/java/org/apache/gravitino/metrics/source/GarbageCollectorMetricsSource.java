@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * GarbageCollectorMetricsSource collects the metrics of the garbage collector of the relational
+ * entity store, which are the number of the deleted rows, the number of the entity types with
+ * garbage not reclaimed yet and the lag of the garbage collection. The metric name is
+ * "garbage-collector.{name}", such as "garbage-collector.deleted-rows".
+ */
+public class GarbageCollectorMetricsSource extends MetricsSource {
+
+  private final Counter deletedRowsCounter;
+
+  /**
+   * Create the metrics source of the garbage collector.
+   *
+   * @param backlogEntityTypes The gauge of the number of the entity types with garbage not
+   *     reclaimed yet.
+   * @param lagSeconds The gauge of the seconds since the oldest garbage not reclaimed yet is found.
+   */
+  public GarbageCollectorMetricsSource(Gauge<Integer> backlogEntityTypes, Gauge<Long> lagSeconds) {
+    super(MetricsSource.GARBAGE_COLLECTOR_METRIC_NAME);
+    registerGauge(MetricNames.GARBAGE_COLLECTOR_BACKLOG_ENTITY_TYPES, backlogEntityTypes);
+    registerGauge(MetricNames.GARBAGE_COLLECTOR_LAG_SECONDS, lagSeconds);
+    this.deletedRowsCounter = getCounter(MetricNames.GARBAGE_COLLECTOR_DELETED_ROWS);
+  }
+
+  /**
+   * Get the counter of the rows deleted by the garbage collector.
+   *
+   * @return The counter of the deleted rows.
+   */
+  public Counter deletedRowsCounter() {
+    return deletedRowsCounter;
+  }
+}
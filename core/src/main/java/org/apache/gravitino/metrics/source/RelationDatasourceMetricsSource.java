@@ -20,12 +20,19 @@
 package org.apache.gravitino.metrics.source;
 
 import com.codahale.metrics.Gauge;
+import java.util.List;
+import javax.annotation.Nullable;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
+import org.apache.gravitino.storage.relational.session.ReadReplicaRouter;
 
 public class RelationDatasourceMetricsSource extends MetricsSource {
 
-  public RelationDatasourceMetricsSource(BasicDataSource dataSource) {
+  public RelationDatasourceMetricsSource(
+      BasicDataSource dataSource,
+      List<BasicDataSource> replicaDataSources,
+      @Nullable ReadReplicaRouter readReplicaRouter) {
     super(MetricsSource.GRAVITINO_SERVER_METRIC_NAME);
     registerGauge(
         MetricNames.ENTITY_STORE_RELATION_DATASOURCE_ACTIVE_CONNECTIONS,
@@ -36,5 +43,35 @@ public class RelationDatasourceMetricsSource extends MetricsSource {
     registerGauge(
         MetricNames.ENTITY_STORE_RELATION_DATASOURCE_MAX_CONNECTIONS,
         (Gauge<Integer>) dataSource::getMaxTotal);
+    // The pool of the i-th read replica is reported as
+    // "entity-store.relation-datasource.replica-{i}.*".
+    for (int i = 0; i < replicaDataSources.size(); i++) {
+      BasicDataSource replica = replicaDataSources.get(i);
+      String prefix = MetricNames.ENTITY_STORE_RELATION_REPLICA_DATASOURCE_PREFIX + i + ".";
+      registerGauge(prefix + "active-connections", (Gauge<Integer>) replica::getNumActive);
+      registerGauge(prefix + "idle-connections", (Gauge<Integer>) replica::getNumIdle);
+      registerGauge(prefix + "max-connections", (Gauge<Integer>) replica::getMaxTotal);
+      if (readReplicaRouter != null) {
+        int index = i;
+        registerGauge(
+            prefix + MetricNames.ENTITY_STORE_RELATION_REPLICA_LAG_MILLIS,
+            (Gauge<Long>) () -> readReplicaRouter.lagMillis(index));
+      }
+    }
+    if (readReplicaRouter != null) {
+      registerGauge(
+          MetricNames.ENTITY_STORE_RELATION_REPLICA_READS,
+          (Gauge<Long>) readReplicaRouter::replicaReads);
+      registerGauge(
+          MetricNames.ENTITY_STORE_RELATION_PRIMARY_READS,
+          (Gauge<Long>) readReplicaRouter::primaryReads);
+    }
+    // Every hit of the id cache saves a query to the relational store.
+    registerGauge(
+        MetricNames.ENTITY_STORE_RELATION_ID_CACHE_HITS,
+        (Gauge<Long>) EntityIdCache.getInstance()::hitCount);
+    registerGauge(
+        MetricNames.ENTITY_STORE_RELATION_ID_CACHE_MISSES,
+        (Gauge<Long>) EntityIdCache.getInstance()::missCount);
   }
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * TreeLockMetricsSource collects the metrics of the tree locks. The metrics are grouped by the
+ * level of the locked node in the tree, which is the root, the metalake, the catalog, the schema
+ * or the leaf of a deeper path, rather than by the locked node, so the number of the metrics is
+ * bounded. The metric name is "tree-lock.{level}.{name}", such as "tree-lock.catalog.wait-time".
+ */
+public class TreeLockMetricsSource extends MetricsSource {
+
+  /** The names of the levels, a node deeper than the last level is counted in the last level. */
+  private static final String[] LEVELS = {"root", "metalake", "catalog", "schema", "leaf"};
+
+  private final Timer[] waitTimers = new Timer[LEVELS.length];
+  private final Timer[] holdTimers = new Timer[LEVELS.length];
+  private final Counter[] contentionCounters = new Counter[LEVELS.length];
+  private final Counter[] timeoutCounters = new Counter[LEVELS.length];
+
+  public TreeLockMetricsSource() {
+    super(MetricsSource.TREE_LOCK_METRIC_NAME);
+    for (int i = 0; i < LEVELS.length; i++) {
+      waitTimers[i] = getTimer(metricName(i, MetricNames.TREE_LOCK_WAIT_TIME));
+      holdTimers[i] = getTimer(metricName(i, MetricNames.TREE_LOCK_HOLD_TIME));
+      contentionCounters[i] = getCounter(metricName(i, MetricNames.TREE_LOCK_CONTENTIONS));
+      timeoutCounters[i] = getCounter(metricName(i, MetricNames.TREE_LOCK_TIMEOUTS));
+    }
+  }
+
+  /**
+   * Get the timer of the time waiting for the nodes of the level.
+   *
+   * @param depth The depth of the node, the root node is 0.
+   * @return The timer of the level.
+   */
+  public Timer waitTimer(int depth) {
+    return waitTimers[level(depth)];
+  }
+
+  /**
+   * Get the timer of the time holding the nodes of the level.
+   *
+   * @param depth The depth of the node, the root node is 0.
+   * @return The timer of the level.
+   */
+  public Timer holdTimer(int depth) {
+    return holdTimers[level(depth)];
+  }
+
+  /**
+   * Get the counter of the times the nodes of the level are held by others when locking them.
+   *
+   * @param depth The depth of the node, the root node is 0.
+   * @return The counter of the level.
+   */
+  public Counter contentionCounter(int depth) {
+    return contentionCounters[level(depth)];
+  }
+
+  /**
+   * Get the counter of the times locking the nodes of the level timed out.
+   *
+   * @param depth The depth of the node, the root node is 0.
+   * @return The counter of the level.
+   */
+  public Counter timeoutCounter(int depth) {
+    return timeoutCounters[level(depth)];
+  }
+
+  private static int level(int depth) {
+    return Math.min(depth, LEVELS.length - 1);
+  }
+
+  private static String metricName(int level, String name) {
+    return LEVELS[level] + "." + name;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Time-ordered id generator. An id is composed of the milliseconds since {@link #EPOCH_MILLIS} in
+ * the high 41 bits, the node id of the server in the following 10 bits and a sequence in the low
+ * 12 bits, so the ids generated later are greater in general and inserted next to each other in
+ * the primary key indexes of the relational store.
+ *
+ * <p>The generator is lock-free and does not allocate. When more than 4096 ids are generated in
+ * one millisecond, or the clock goes backwards, the ids are generated ahead of the clock, so the
+ * ids of a node are always strictly increasing. The node ids must be unique among the servers
+ * sharing the same entity store, see {@link
+ * org.apache.gravitino.storage.relational.IdGeneratorNodeLease}.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+  /** The start time of the ids, 2025-01-01T00:00:00Z, the ids run out in 69 years from it. */
+  public static final long EPOCH_MILLIS = 1735689600000L;
+
+  public static final int NODE_ID_BITS = 10;
+
+  public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+  private static final int SEQUENCE_BITS = 12;
+
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  private final IntSupplier nodeId;
+
+  // The milliseconds of the last id in the high bits and its sequence in the low bits. Adding one
+  // to it moves to the next millisecond when the sequence of the current one runs out.
+  private final AtomicLong lastState = new AtomicLong();
+
+  /**
+   * @param nodeId the supplier of the node id of the server, which is asked for every id, so the
+   *     node id can be changed at runtime.
+   */
+  public TimeOrderedIdGenerator(IntSupplier nodeId) {
+    this.nodeId = nodeId;
+  }
+
+  @Override
+  public long nextId() {
+    long now = System.currentTimeMillis() - EPOCH_MILLIS;
+    while (true) {
+      long last = lastState.get();
+      long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+      if (lastState.compareAndSet(last, next)) {
+        return compose(next >>> SEQUENCE_BITS, nodeId.getAsInt(), next & SEQUENCE_MASK);
+      }
+    }
+  }
+
+  /**
+   * @return the timestamp in milliseconds of the last id generated, or of {@link #EPOCH_MILLIS} if
+   *     no id is generated yet.
+   */
+  public long lastIdMillis() {
+    return (lastState.get() >>> SEQUENCE_BITS) + EPOCH_MILLIS;
+  }
+
+  @VisibleForTesting
+  static long compose(long millis, int nodeId, long sequence) {
+    return (millis << (NODE_ID_BITS + SEQUENCE_BITS))
+        | ((long) nodeId << SEQUENCE_BITS)
+        | sequence;
+  }
+}
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.CACHE_INVALIDATION_POLL_INTERVAL_MS;
+import static org.apache.gravitino.Configs.CACHE_INVALIDATION_RETENTION_MS;
+import static org.apache.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogService;
+import org.apache.gravitino.storage.relational.session.SqlSessions;
+import org.apache.gravitino.utils.Executable;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * EntityCacheSynchronizer keeps the entity caches of the Gravitino servers sharing the same
+ * relational store coherent.
+ *
+ * <p>Every write of the local server records the changed entities in the entity change log table in
+ * the same transaction as the write itself, so a change is visible to the other servers if and only
+ * if the write is committed. A background thread polls the changes recorded by the other servers
+ * and invalidates the affected entries of the local cache. The created time of the changes and the
+ * poll cursor are both taken from the clock of the database, so the clock skew between the servers
+ * cannot make a server skip the changes of another one. The changes are polled with a lookback of
+ * {@link org.apache.gravitino.Configs#STORE_TRANSACTION_MAX_SKEW_TIME}, so a change committed a
+ * while after it is recorded is not missed.
+ */
+public final class EntityCacheSynchronizer implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EntityCacheSynchronizer.class);
+
+  @VisibleForTesting static final int POLL_BATCH_SIZE = 1000;
+
+  private static final int PURGE_BATCH_SIZE = 1000;
+
+  private final EntityCache cache;
+  private final String sourceId = UUID.randomUUID().toString();
+  private final long pollIntervalMillis;
+  private final long retentionMillis;
+  private final long maxTransactionSkewMillis;
+
+  // The changes applied in the current lookback window, keyed by change id, valued by the time
+  // the changes were created. They are used to avoid invalidating the same change repeatedly.
+  private final Map<Long, Long> appliedChanges = new ConcurrentHashMap<>();
+  private volatile long lastPollTime;
+
+  @VisibleForTesting
+  final ScheduledExecutorService synchronizerPool =
+      new ScheduledThreadPoolExecutor(
+          1,
+          r -> {
+            Thread t = new Thread(r, "RelationalBackend-Entity-Cache-Synchronizer");
+            t.setDaemon(true);
+            return t;
+          },
+          new ThreadPoolExecutor.AbortPolicy());
+
+  /** A change of an entity, or of the relations of an entity when the relation type is set. */
+  public static final class EntityChange {
+    private final NameIdentifier ident;
+    private final Entity.EntityType type;
+    private final SupportsRelationOperations.Type relType;
+
+    private EntityChange(
+        NameIdentifier ident, Entity.EntityType type, SupportsRelationOperations.Type relType) {
+      this.ident = ident;
+      this.type = type;
+      this.relType = relType;
+    }
+
+    public static EntityChange of(NameIdentifier ident, Entity.EntityType type) {
+      return new EntityChange(ident, type, null);
+    }
+
+    public static EntityChange of(
+        NameIdentifier ident, Entity.EntityType type, SupportsRelationOperations.Type relType) {
+      return new EntityChange(ident, type, relType);
+    }
+  }
+
+  public EntityCacheSynchronizer(EntityCache cache, Config config) {
+    this.cache = cache;
+    this.pollIntervalMillis = config.get(CACHE_INVALIDATION_POLL_INTERVAL_MS);
+    this.retentionMillis = config.get(CACHE_INVALIDATION_RETENTION_MS);
+    this.maxTransactionSkewMillis = config.get(STORE_TRANSACTION_MAX_SKEW_TIME);
+    this.lastPollTime = EntityChangeLogService.getInstance().currentTimeMillis();
+  }
+
+  public void start() {
+    synchronizerPool.scheduleWithFixedDelay(
+        this::pollChanges, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+
+    long purgeIntervalMillis = Math.max(retentionMillis / 10, pollIntervalMillis);
+    synchronizerPool.scheduleWithFixedDelay(
+        this::purgeChanges, purgeIntervalMillis, purgeIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Executes the write and records the changes in the same transaction. The changes are only
+   * recorded if the write succeeds, and the write is rolled back if the changes cannot be recorded.
+   *
+   * @param changes The changes made by the write.
+   * @param write The write to execute.
+   * @return The result of the write.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception thrown by the write.
+   * @throws E If the write fails.
+   */
+  public <R, E extends Exception> R executeAndPublish(
+      List<EntityChange> changes, Executable<R, E> write) throws E {
+    // Open the outermost session, the backend operations and the change log insertion join it.
+    SqlSessions.getSqlSession();
+    try {
+      R result = write.execute();
+      EntityChangeLogService.getInstance().insertEntityChanges(toChangeLogPOs(changes));
+      SqlSessions.commitAndCloseSqlSession();
+      return result;
+    } catch (Exception e) {
+      SqlSessions.rollbackAndCloseSqlSession();
+      throw e;
+    }
+  }
+
+  @VisibleForTesting
+  void pollChanges() {
+    long since = lastPollTime - maxTransactionSkewMillis;
+    appliedChanges.values().removeIf(createdAt -> createdAt < since);
+
+    try {
+      long pollTime = EntityChangeLogService.getInstance().currentTimeMillis();
+      while (true) {
+        List<EntityChangeLogPO> changes =
+            EntityChangeLogService.getInstance()
+                .listEntityChangesSince(since, sourceId, POLL_BATCH_SIZE);
+        changes.stream()
+            .filter(c -> appliedChanges.putIfAbsent(c.changeId(), c.createdAt()) == null)
+            .forEach(this::applyChange);
+
+        if (changes.size() < POLL_BATCH_SIZE) {
+          break;
+        }
+
+        long nextSince = changes.get(changes.size() - 1).createdAt();
+        if (nextSince == since) {
+          // Too many changes created in the same millisecond to page through, drop everything.
+          LOG.warn("Too many entity changes created at {}, clear the entity cache", since);
+          cache.clear();
+          EntityIdCache.getInstance().invalidateAll();
+          break;
+        }
+        since = nextSince;
+      }
+
+      lastPollTime = pollTime;
+    } catch (Exception e) {
+      // Keep the last poll time, so the changes will be polled again in the next round.
+      LOG.error("Failed to poll the entity changes since {}", since, e);
+    }
+  }
+
+  @VisibleForTesting
+  void purgeChanges() {
+    long legacyTimeline = 0;
+    try {
+      legacyTimeline = EntityChangeLogService.getInstance().currentTimeMillis() - retentionMillis;
+      int deletedCount;
+      do {
+        deletedCount =
+            EntityChangeLogService.getInstance()
+                .deleteEntityChangesByLegacyTimeline(legacyTimeline, PURGE_BATCH_SIZE);
+      } while (deletedCount > 0);
+    } catch (Exception e) {
+      LOG.error("Failed to delete the entity changes created before {}", legacyTimeline, e);
+    }
+  }
+
+  private void applyChange(EntityChangeLogPO change) {
+    try {
+      String[] levels = JsonUtils.anyFieldMapper().readValue(change.identifier(), String[].class);
+      NameIdentifier ident =
+          NameIdentifier.of(
+              Namespace.of(Arrays.copyOf(levels, levels.length - 1)), levels[levels.length - 1]);
+      Entity.EntityType type = Entity.EntityType.valueOf(change.entityType());
+
+      if (change.relationType() == null) {
+        cache.invalidate(ident, type);
+        EntityIdCache.getInstance().invalidate(ident, type);
+        if (type == Entity.EntityType.MODEL_VERSION) {
+          // A model version change also changes the latest version of its model, the cached
+          // entries under the model are dropped together with it.
+          cache.invalidate(
+              NameIdentifierUtil.toModelIdentifier(ident.namespace()), Entity.EntityType.MODEL);
+        }
+      } else {
+        cache.invalidate(
+            ident, type, SupportsRelationOperations.Type.valueOf(change.relationType()));
+      }
+    } catch (Exception e) {
+      // An unknown change may come from a server of a newer version, drop everything to be safe.
+      LOG.warn("Failed to apply the entity change {}, clear the entity cache", change, e);
+      cache.clear();
+      EntityIdCache.getInstance().invalidateAll();
+    }
+  }
+
+  private List<EntityChangeLogPO> toChangeLogPOs(List<EntityChange> changes) {
+    return changes.stream()
+        .map(
+            c ->
+                EntityChangeLogPO.builder()
+                    .withChangeId(RandomIdGenerator.INSTANCE.nextId())
+                    .withSourceId(sourceId)
+                    .withEntityType(c.type.name())
+                    .withIdentifier(serializeIdentifier(c.ident))
+                    .withRelationType(c.relType == null ? null : c.relType.name())
+                    .build())
+        .collect(Collectors.toList());
+  }
+
+  private static String serializeIdentifier(NameIdentifier ident) {
+    List<String> levels = Lists.newArrayList(ident.namespace().levels());
+    levels.add(ident.name());
+    try {
+      return JsonUtils.anyFieldMapper().writeValueAsString(levels);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to serialize name identifier " + ident, e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.synchronizerPool.shutdown();
+    try {
+      if (!this.synchronizerPool.awaitTermination(5, TimeUnit.SECONDS)) {
+        this.synchronizerPool.shutdownNow();
+      }
+    } catch (InterruptedException ex) {
+      this.synchronizerPool.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
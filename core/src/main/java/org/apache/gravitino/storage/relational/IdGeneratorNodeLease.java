@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.storage.TimeOrderedIdGenerator;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogService;
+import org.apache.gravitino.storage.relational.service.IdGeneratorNodeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * IdGeneratorNodeLease leases a node id of the {@link TimeOrderedIdGenerator} from the relational
+ * store, so the node ids are unique among the Gravitino servers sharing the same store.
+ *
+ * <p>A server takes a node id whose lease has expired, or a node id never leased, when it starts,
+ * and renews the lease periodically. The leases expire by the clock of the database, so the clocks
+ * of the servers do not need to agree. If the lease is lost, for example when the store can not be
+ * reached for longer than the lease, the server switches to another node id. The node id is not
+ * handed out once the local lease expires, so an id can not be generated with a node id taken by
+ * another server. The lease is released when the server shuts down.
+ *
+ * <p>The ids are built from the clock of the server, which may be behind the clock of the previous
+ * holder of a node id. So each lease persists a high-water mark of the timestamps of its ids, and
+ * the ids beyond it are not generated until it is raised by a renewal. A node id is not taken
+ * again until its high-water mark is in the past of the taker, so an id is never generated twice.
+ */
+public final class IdGeneratorNodeLease implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IdGeneratorNodeLease.class);
+
+  private static final long DEFAULT_LEASE_MILLIS = 60_000L;
+
+  private final String holder = UUID.randomUUID().toString();
+  private final long leaseMillis;
+  private final TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(this::nodeId);
+  private final ScheduledExecutorService renewer =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("id-generator-node-lease-renewer")
+              .build());
+
+  private volatile int nodeId;
+  // The local expiration of the lease by System.nanoTime(), which never outlives the lease in the
+  // store, as it counts from a moment before the lease is written.
+  private volatile long expireAtNanos;
+  // The persisted high-water mark of the timestamps of the ids generated with the node id.
+  private volatile long lastIdMillis;
+
+  public IdGeneratorNodeLease() {
+    this(DEFAULT_LEASE_MILLIS);
+  }
+
+  @VisibleForTesting
+  IdGeneratorNodeLease(long leaseMillis) {
+    this.leaseMillis = leaseMillis;
+    acquire();
+    LOG.info("Leased the node id {} of the id generator", nodeId);
+
+    // Renew several times in a lease, so a few failed renewals do not lose it.
+    long renewIntervalMillis = leaseMillis / 6;
+    renewer.scheduleWithFixedDelay(
+        this::renew, renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /** @return the id generator with the leased node ids. */
+  public TimeOrderedIdGenerator idGenerator() {
+    return idGenerator;
+  }
+
+  /**
+   * @return the leased node id.
+   * @throws IllegalStateException if the lease has expired and is not renewed yet, or the id to
+   *     generate is beyond the high-water mark of the lease.
+   */
+  public int nodeId() {
+    if (System.nanoTime() - expireAtNanos >= 0) {
+      throw new IllegalStateException(
+          "The lease of the id generator node id " + nodeId + " has expired");
+    }
+    // The generator asks for the node id after it advances to the timestamp of the id, so the
+    // timestamp is not greater than its last one.
+    if (idGenerator.lastIdMillis() > lastIdMillis) {
+      throw new IllegalStateException(
+          "The ids of the id generator node id " + nodeId + " are beyond its high-water mark");
+    }
+    return nodeId;
+  }
+
+  @VisibleForTesting
+  void renew() {
+    long startNanos = System.nanoTime();
+    try {
+      IdGeneratorNodeService service = IdGeneratorNodeService.getInstance();
+      long now = EntityChangeLogService.getInstance().currentTimeMillis();
+      long newLastIdMillis = Math.max(lastIdMillis, nextLastIdMillis());
+      if (service.renewNode(nodeId, holder, now + leaseMillis, newLastIdMillis)) {
+        setLease(nodeId, startNanos, newLastIdMillis);
+        return;
+      }
+
+      // The lease has expired and the node id is taken by another server.
+      int lostNodeId = nodeId;
+      acquire();
+      LOG.warn(
+          "The lease of the id generator node id {} is lost, switched to the node id {}",
+          lostNodeId,
+          nodeId);
+    } catch (Exception e) {
+      LOG.warn("Failed to renew the lease of the id generator node id {}", nodeId, e);
+    }
+  }
+
+  private void acquire() {
+    IdGeneratorNodeService service = IdGeneratorNodeService.getInstance();
+    long startNanos = System.nanoTime();
+    long now = EntityChangeLogService.getInstance().currentTimeMillis();
+    long newLastIdMillis = nextLastIdMillis();
+    // The ids of this server are not earlier than its clock, nor than the ids it has generated.
+    long firstIdMillis = Math.max(System.currentTimeMillis(), idGenerator.lastIdMillis());
+    List<Integer> leasedNodeIds = service.listNodeIds();
+    for (int candidate : leasedNodeIds) {
+      if (service.takeExpiredNode(
+          candidate, holder, now + leaseMillis, newLastIdMillis, now, firstIdMillis)) {
+        setLease(candidate, startNanos, newLastIdMillis);
+        return;
+      }
+    }
+
+    Set<Integer> existing = new HashSet<>(leasedNodeIds);
+    for (int candidate = 0; candidate <= TimeOrderedIdGenerator.MAX_NODE_ID; candidate++) {
+      if (existing.contains(candidate)) {
+        continue;
+      }
+
+      try {
+        service.insertNode(candidate, holder, now + leaseMillis, newLastIdMillis);
+        setLease(candidate, startNanos, newLastIdMillis);
+        return;
+      } catch (Exception e) {
+        // Another server has inserted the node id at the same time.
+        LOG.debug("Failed to lease the id generator node id {}", candidate, e);
+      }
+    }
+
+    throw new IllegalStateException(
+        String.format(
+            "All the %d id generator node ids are leased", TimeOrderedIdGenerator.MAX_NODE_ID + 1));
+  }
+
+  /** @return the high-water mark covering the ids generated until the lease is renewed again. */
+  private long nextLastIdMillis() {
+    return Math.max(System.currentTimeMillis(), idGenerator.lastIdMillis()) + leaseMillis;
+  }
+
+  private void setLease(int nodeId, long startNanos, long lastIdMillis) {
+    // Set the node id and the high-water mark before the expiration, so a reader never pairs a new
+    // expiration with an old node id.
+    this.nodeId = nodeId;
+    this.lastIdMillis = lastIdMillis;
+    this.expireAtNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(leaseMillis);
+  }
+
+  @Override
+  public void close() {
+    renewer.shutdownNow();
+    // Stop handing out the node id before the high-water mark is lowered to the last id, so the
+    // node id can be taken again as soon as that id is in the past.
+    expireAtNanos = System.nanoTime();
+    try {
+      IdGeneratorNodeService.getInstance()
+          .renewNode(nodeId, holder, 0L, Math.min(lastIdMillis, idGenerator.lastIdMillis()));
+    } catch (Exception e) {
+      LOG.warn("Failed to release the lease of the id generator node id {}", nodeId, e);
+    }
+  }
+}
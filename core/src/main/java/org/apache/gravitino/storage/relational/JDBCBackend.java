@@ -24,10 +24,14 @@ import static org.apache.gravitino.Entity.EntityType.TABLE;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
@@ -95,6 +99,17 @@ public class JDBCBackend implements RelationalBackend {
   private static final Map<JDBCBackendType, String> EMBEDDED_JDBC_DATABASE_MAP =
       ImmutableMap.of(JDBCBackendType.H2, H2Database.class.getCanonicalName());
 
+  // The entity types whose owners are listed in batch, their ids are resolved with the IN queries
+  // of their names.
+  private static final Set<Entity.EntityType> BATCH_OWNER_ENTITY_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.CATALOG,
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC,
+          Entity.EntityType.MODEL);
+
   // Database instance of this JDBCBackend.
   private JDBCDatabase jdbcDatabase;
 
@@ -105,6 +120,7 @@ public class JDBCBackend implements RelationalBackend {
 
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+    TableColumnMetaService.getInstance().init(config);
   }
 
   @Override
@@ -154,6 +170,35 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String afterName, int limit)
+      throws IOException {
+    switch (entityType) {
+      case SCHEMA:
+        return (List<E>)
+            SchemaMetaService.getInstance().listSchemasByNamespace(namespace, afterName, limit);
+      case TABLE:
+        return (List<E>)
+            TableMetaService.getInstance().listTablesByNamespace(namespace, afterName, limit);
+      case FILESET:
+        return (List<E>)
+            FilesetMetaService.getInstance().listFilesetsByNamespace(namespace, afterName, limit);
+      case TOPIC:
+        return (List<E>)
+            TopicMetaService.getInstance().listTopicsByNamespace(namespace, afterName, limit);
+      case MODEL:
+        return (List<E>)
+            ModelMetaService.getInstance().listModelsByNamespace(namespace, afterName, limit);
+      case TAG:
+        return (List<E>)
+            TagMetaService.getInstance().listTagsByNamespace(namespace, afterName, limit);
+      default:
+        throw new UnsupportedEntityTypeException(
+            "Unsupported entity type: %s for paged list operation", entityType);
+    }
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     try {
@@ -286,6 +331,33 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException {
+    if (idents.isEmpty()) {
+      return Lists.newArrayList();
+    }
+
+    switch (entityType) {
+      case CATALOG:
+        return (List<E>) CatalogMetaService.getInstance().batchGetCatalogByIdentifier(idents);
+      case SCHEMA:
+        return (List<E>) SchemaMetaService.getInstance().batchGetSchemaByIdentifier(idents);
+      case TABLE:
+        return (List<E>) TableMetaService.getInstance().batchGetTableByIdentifier(idents);
+      case FILESET:
+        return (List<E>) FilesetMetaService.getInstance().batchGetFilesetByIdentifier(idents);
+      case TOPIC:
+        return (List<E>) TopicMetaService.getInstance().batchGetTopicByIdentifier(idents);
+      case MODEL:
+        return (List<E>) ModelMetaService.getInstance().batchGetModelByIdentifier(idents);
+      case ROLE:
+        return (List<E>) RoleMetaService.getInstance().batchGetRoleByIdentifier(idents);
+      default:
+        return RelationalBackend.super.batchGet(idents, entityType);
+    }
+  }
+
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
@@ -533,6 +605,9 @@ public class JDBCBackend implements RelationalBackend {
     Preconditions.checkArgument(
         1 == entities.stream().collect(Collectors.groupingBy(Entity::type)).size(),
         "All entities must be of the same type for batchPut operation.");
+    Preconditions.checkArgument(
+        1 == entities.stream().collect(Collectors.groupingBy(HasIdentifier::namespace)).size(),
+        "All entities must be in the same namespace for batchPut operation.");
     Entity.EntityType entityType = entities.get(0).type();
 
     switch (entityType) {
@@ -540,16 +615,18 @@ public class JDBCBackend implements RelationalBackend {
         Preconditions.checkArgument(overwritten, "Batch put for statistics must be overwritten.");
         List<StatisticEntity> statisticEntities =
             entities.stream().map(e -> (StatisticEntity) e).collect(Collectors.toList());
-        Preconditions.checkArgument(
-            1 == entities.stream().collect(Collectors.groupingBy(HasIdentifier::namespace)).size(),
-            "All entities must be in the same namespace for batchPut operation.");
-
         StatisticMetaService.getInstance()
             .batchInsertStatisticPOsOnDuplicateKeyUpdate(
                 statisticEntities,
                 NameIdentifier.parse(statisticEntities.get(0).namespace().toString()),
                 Entity.EntityType.TABLE);
         break;
+      case TABLE:
+        TableMetaService.getInstance()
+            .batchInsertTables(
+                entities.stream().map(e -> (TableEntity) e).collect(Collectors.toList()),
+                overwritten);
+        break;
       default:
         throw new IllegalArgumentException(
             String.format("Batch put is not supported for entity type %s", entityType.name()));
@@ -641,6 +718,55 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier>
+      Map<NameIdentifier, List<E>> batchListEntitiesByRelation(
+          Type relType, List<NameIdentifier> nameIdentifiers, Entity.EntityType identType)
+          throws IOException {
+    if (relType != Type.OWNER_REL) {
+      throw new IllegalArgumentException(
+          String.format("Batch listing is not supported for the relation type %s", relType));
+    }
+
+    if (!BATCH_OWNER_ENTITY_TYPES.contains(identType)) {
+      // The entities of the other types, like metalakes and roles, have no IN queries of their
+      // names, so their owners are listed one entity at a time.
+      return RelationalBackend.super.batchListEntitiesByRelation(
+          relType, nameIdentifiers, identType);
+    }
+
+    Map<NameIdentifier, Long> entityIds = batchGetEntityIds(nameIdentifiers, identType);
+    Map<String, List<NameIdentifier>> identsByMetalake =
+        entityIds.keySet().stream()
+            .collect(Collectors.groupingBy(ident -> ident.namespace().level(0)));
+
+    Map<NameIdentifier, List<E>> owners = Maps.newHashMap();
+    for (Map.Entry<String, List<NameIdentifier>> entry : identsByMetalake.entrySet()) {
+      List<Long> ids = entry.getValue().stream().map(entityIds::get).collect(Collectors.toList());
+      Map<Long, Entity> ownersById =
+          OwnerMetaService.getInstance().batchGetOwners(entry.getKey(), ids, identType);
+      for (NameIdentifier nameIdentifier : entry.getValue()) {
+        List<E> list = Lists.newArrayList();
+        Optional.ofNullable(ownersById.get(entityIds.get(nameIdentifier)))
+            .ifPresent(e -> list.add((E) e));
+        owners.put(nameIdentifier, list);
+      }
+    }
+    return owners;
+  }
+
+  private <E extends Entity & HasIdentifier> Map<NameIdentifier, Long> batchGetEntityIds(
+      List<NameIdentifier> nameIdentifiers, Entity.EntityType entityType) throws IOException {
+    if (entityType == TABLE) {
+      // The columns of the tables are not needed to resolve their ids.
+      return TableMetaService.getInstance().batchGetTableIdByIdentifier(nameIdentifiers);
+    }
+
+    List<E> entities = batchGet(nameIdentifiers, entityType);
+    return entities.stream()
+        .collect(Collectors.toMap(HasIdentifier::nameIdentifier, HasIdentifier::id));
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E getEntityByRelation(
       Type relType,
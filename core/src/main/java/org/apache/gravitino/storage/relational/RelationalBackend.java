@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import org.apache.commons.lang3.tuple.Pair;
@@ -64,6 +65,24 @@ public interface RelationalBackend
       Namespace namespace, Entity.EntityType entityType, boolean allFields)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Lists at most {@code limit} entities associated with the given parent namespace and entityType
+   * whose names sort after the given name, ordered by name.
+   *
+   * @param namespace The parent namespace of these entities.
+   * @param entityType The type of these entities.
+   * @param afterName The name to list after, or null to list from the first entity.
+   * @param limit The maximum number of entities to return.
+   * @return The list of entities ordered by name.
+   * @param <E> The type of entity to return.
+   * @throws NoSuchEntityException If the corresponding parent entity of these list entities cannot
+   *     be found.
+   * @throws IOException If the store operation fails
+   */
+  <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String afterName, int limit)
+      throws NoSuchEntityException, IOException;
+
   /**
    * Checks the entity associated with the given identifier and entityType whether exists.
    *
@@ -115,6 +134,34 @@ public interface RelationalBackend
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, Entity.EntityType entityType)
       throws IOException;
 
+  /**
+   * Retrieves the entities associated with the identifiers and the entity type. The default
+   * implementation retrieves them one by one, the backend should override it for the entity types
+   * it can retrieve with one query.
+   *
+   * @param <E> The type of the entities returned.
+   * @param idents The identifiers of the entities.
+   * @param entityType The type of the entities.
+   * @return The entities in the order of the given identifiers, the entities that do not exist are
+   *     skipped.
+   * @throws IOException If an I/O exception occurs during retrieval.
+   */
+  default <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException {
+    List<E> entities = new ArrayList<>(idents.size());
+    for (NameIdentifier ident : idents) {
+      try {
+        E entity = get(ident, entityType);
+        if (entity != null) {
+          entities.add(entity);
+        }
+      } catch (NoSuchEntityException e) {
+        // The entities that do not exist are skipped.
+      }
+    }
+    return entities;
+  }
+
   /**
    * Soft deletes the entity associated with the identifier and the entity type.
    *
@@ -20,11 +20,14 @@ package org.apache.gravitino.storage.relational;
 
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -41,6 +44,9 @@ import org.apache.gravitino.cache.EntityCache;
 import org.apache.gravitino.cache.NoOpsCache;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.storage.relational.EntityCacheSynchronizer.EntityChange;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
+import org.apache.gravitino.storage.relational.session.SqlSessions;
 import org.apache.gravitino.tag.SupportsTagOperations;
 import org.apache.gravitino.utils.Executable;
 import org.slf4j.Logger;
@@ -57,19 +63,64 @@ public class RelationalEntityStore
   public static final ImmutableMap<String, String> RELATIONAL_BACKENDS =
       ImmutableMap.of(
           Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
+
+  /**
+   * The entity types whose lists are cached. The lists of the other types either are rarely
+   * listed, or contain fields that can change without an update of the listed entity itself.
+   */
+  private static final ImmutableSet<Entity.EntityType> LIST_CACHEABLE_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.CATALOG,
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC,
+          Entity.EntityType.MODEL,
+          Entity.EntityType.TAG,
+          Entity.EntityType.POLICY);
+
+  /** The entity types whose pages are listed by the backend with a bounded query. */
+  private static final ImmutableSet<Entity.EntityType> PAGEABLE_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC,
+          Entity.EntityType.MODEL,
+          Entity.EntityType.TAG);
+
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
   private EntityCache cache;
+  private EntityCacheSynchronizer cacheSynchronizer;
+  private boolean listCacheEnabled;
 
   @Override
   public void initialize(Config config) throws RuntimeException {
     this.backend = createRelationalEntityBackend(config);
     this.garbageCollector = new RelationalGarbageCollector(backend, config);
     this.garbageCollector.start();
+    EntityIdCache.getInstance().init(config);
     this.cache =
         config.get(Configs.CACHE_ENABLED)
             ? CacheFactory.getEntityCache(config)
             : new NoOpsCache(config);
+    this.listCacheEnabled = config.get(Configs.CACHE_LIST_CACHE_ENABLED);
+    if (config.get(Configs.CACHE_ENABLED)
+        && config.get(Configs.CACHE_INVALIDATION_SYNC_ENABLED)
+        && backend instanceof JDBCBackend) {
+      this.cacheSynchronizer = new EntityCacheSynchronizer(cache, config);
+      this.cacheSynchronizer.start();
+    }
+  }
+
+  /**
+   * Loads the entities to be cached from the primary rather than from a read replica. A lagging
+   * replica may return an entity whose invalidation has already been applied, and the stale entity
+   * would then stay in the cache.
+   */
+  private <R> R loadForCache(Executable<R, IOException> load) throws IOException {
+    return cache instanceof NoOpsCache ? load.execute() : SqlSessions.readFromPrimary(load);
   }
 
   private static RelationalBackend createRelationalEntityBackend(Config config) {
@@ -93,14 +144,39 @@ public class RelationalEntityStore
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
-    return backend.list(namespace, entityType, false);
+    return list(namespace, type, entityType, false);
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
       throws IOException {
-    return backend.list(namespace, entityType, allFields);
+    if (!listCacheEnabled || namespace.isEmpty() || !LIST_CACHEABLE_TYPES.contains(entityType)) {
+      return backend.list(namespace, entityType, allFields);
+    }
+
+    return cache.getOrLoad(
+        namespace,
+        entityType,
+        allFields,
+        () -> loadForCache(() -> backend.list(namespace, entityType, allFields)));
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace,
+      Class<E> type,
+      Entity.EntityType entityType,
+      String afterName,
+      int limit)
+      throws IOException {
+    if (!PAGEABLE_TYPES.contains(entityType)) {
+      return EntityStore.super.list(namespace, type, entityType, afterName, limit);
+    }
+
+    // Pages are read from the backend directly, they are bounded by the limit and the cached full
+    // list would not help to serve them.
+    return backend.list(namespace, entityType, afterName, limit);
   }
 
   @Override
@@ -112,7 +188,20 @@ public class RelationalEntityStore
   @Override
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
-    backend.insert(e, overwritten);
+    // Invalidate the lists of the namespace, before and after the insertion in case a concurrent
+    // load cached the list before the insertion committed.
+    cache.invalidate(e.nameIdentifier(), e.type());
+    executeAndPublish(
+        ImmutableList.of(EntityChange.of(e.nameIdentifier(), e.type())),
+        () -> {
+          backend.insert(e, overwritten);
+          return null;
+        });
+    cache.invalidate(e.nameIdentifier(), e.type());
+    if (overwritten) {
+      // The overwritten entity may have a different id.
+      EntityIdCache.getInstance().invalidate(e.nameIdentifier(), e.type());
+    }
     cache.put(e);
   }
 
@@ -121,24 +210,36 @@ public class RelationalEntityStore
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
     cache.invalidate(ident, entityType);
-    return backend.update(ident, entityType, updater);
+    E updatedEntity =
+        executeAndPublish(
+            ImmutableList.of(EntityChange.of(ident, entityType)),
+            () -> backend.update(ident, entityType, updater));
+    // Invalidate again in case a concurrent load cached the entity before the update committed.
+    cache.invalidate(ident, entityType);
+    EntityIdCache.getInstance().invalidate(ident, entityType);
+    if (!updatedEntity.nameIdentifier().equals(ident)) {
+      // The entity is renamed, the lists of its new namespace are stale as well.
+      cache.invalidate(updatedEntity.nameIdentifier(), entityType);
+    }
+    return updatedEntity;
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException {
-    return cache.withCacheLock(
-        () -> {
-          Optional<E> entityFromCache = cache.getIfPresent(ident, entityType);
-          if (entityFromCache.isPresent()) {
-            return entityFromCache.get();
-          }
-
-          E entity = backend.get(ident, entityType);
-          cache.put(entity);
-          return entity;
-        });
+    return cache.getOrLoad(
+        ident, entityType, () -> loadForCache(() -> backend.get(ident, entityType)));
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType, Class<E> e) throws IOException {
+    // The cached entities are served from the cache, the others are loaded with one batch.
+    return cache.getOrLoad(
+        idents,
+        entityType,
+        missingIdents -> loadForCache(() -> backend.batchGet(missingIdents, entityType)));
   }
 
   @Override
@@ -146,9 +247,17 @@ public class RelationalEntityStore
       throws IOException {
     try {
       cache.invalidate(ident, entityType);
-      return backend.delete(ident, entityType, cascade);
+      return executeAndPublish(
+          ImmutableList.of(EntityChange.of(ident, entityType)),
+          () -> backend.delete(ident, entityType, cascade));
     } catch (NoSuchEntityException e) {
       return false;
+    } finally {
+      // Invalidate again after the deletion committed, in case a concurrent load cached the entity
+      // before it. The ids are invalidated after it as well, so a concurrent lookup cannot cache
+      // them again.
+      cache.invalidate(ident, entityType);
+      EntityIdCache.getInstance().invalidate(ident, entityType);
     }
   }
 
@@ -159,7 +268,11 @@ public class RelationalEntityStore
 
   @Override
   public void close() throws IOException {
+    if (cacheSynchronizer != null) {
+      cacheSynchronizer.close();
+    }
     cache.clear();
+    EntityIdCache.getInstance().close();
     garbageCollector.close();
     backend.close();
   }
@@ -209,20 +322,31 @@ public class RelationalEntityStore
   public <E extends Entity & HasIdentifier> List<E> listEntitiesByRelation(
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
       throws IOException {
-    return cache.withCacheLock(
-        () -> {
-          Optional<List<E>> entities = cache.getIfPresent(relType, nameIdentifier, identType);
-          if (entities.isPresent()) {
-            return entities.get();
-          }
-
-          List<E> backendEntities =
-              backend.listEntitiesByRelation(relType, nameIdentifier, identType, allFields);
-
-          cache.put(nameIdentifier, identType, relType, backendEntities);
+    return cache.getOrLoad(
+        relType,
+        nameIdentifier,
+        identType,
+        allFields,
+        () ->
+            loadForCache(
+                () ->
+                    backend.listEntitiesByRelation(relType, nameIdentifier, identType, allFields)));
+  }
 
-          return backendEntities;
-        });
+  @Override
+  public <E extends Entity & HasIdentifier>
+      Map<NameIdentifier, List<E>> batchListEntitiesByRelation(
+          Type relType, List<NameIdentifier> nameIdentifiers, Entity.EntityType identType)
+          throws IOException {
+    // The missing relations are loaded with one batch outside the cache lock, and only cached if
+    // they were not invalidated during the load.
+    return cache.getOrLoad(
+        relType,
+        nameIdentifiers,
+        identType,
+        missingIdents ->
+            loadForCache(
+                () -> backend.batchListEntitiesByRelation(relType, missingIdents, identType)));
   }
 
   @Override
@@ -232,7 +356,24 @@ public class RelationalEntityStore
       Entity.EntityType srcType,
       NameIdentifier destEntityIdent)
       throws IOException, NoSuchEntityException {
-    // todo: support cache
+    // Serve the lookup from the cached relation of the source entity, which is invalidated when
+    // the relation, the source entity, or any of the related entities changes.
+    List<E> relatedEntities =
+        cache.getOrLoad(
+            relType,
+            srcIdentifier,
+            srcType,
+            true,
+            () ->
+                loadForCache(
+                    () -> backend.listEntitiesByRelation(relType, srcIdentifier, srcType, true)));
+    for (E entity : relatedEntities) {
+      if (entity.nameIdentifier().equals(destEntityIdent)) {
+        return entity;
+      }
+    }
+
+    // Let the backend throw the proper exception if the entity is not related.
     return backend.getEntityByRelation(relType, srcIdentifier, srcType, destEntityIdent);
   }
 
@@ -246,7 +387,15 @@ public class RelationalEntityStore
       boolean override)
       throws IOException {
     cache.invalidate(srcIdentifier, srcType, relType);
-    backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, override);
+    executeAndPublish(
+        ImmutableList.of(EntityChange.of(srcIdentifier, srcType, relType)),
+        () -> {
+          backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, override);
+          return null;
+        });
+    // Invalidate again in case a concurrent load cached the relation before the insertion
+    // committed.
+    cache.invalidate(srcIdentifier, srcType, relType);
   }
 
   @Override
@@ -258,20 +407,63 @@ public class RelationalEntityStore
       NameIdentifier[] destEntitiesToRemove)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
     cache.invalidate(srcEntityIdent, srcEntityType, relType);
-    return backend.updateEntityRelations(
-        relType, srcEntityIdent, srcEntityType, destEntitiesToAdd, destEntitiesToRemove);
+    List<E> relatedEntities =
+        executeAndPublish(
+            ImmutableList.of(EntityChange.of(srcEntityIdent, srcEntityType, relType)),
+            () ->
+                backend.updateEntityRelations(
+                    relType,
+                    srcEntityIdent,
+                    srcEntityType,
+                    destEntitiesToAdd,
+                    destEntitiesToRemove));
+    // Invalidate again in case a concurrent load cached the relation before the update committed.
+    cache.invalidate(srcEntityIdent, srcEntityType, relType);
+    return relatedEntities;
   }
 
   @Override
   public int batchDelete(
       List<Pair<NameIdentifier, Entity.EntityType>> entitiesToDelete, boolean cascade)
       throws IOException {
-    return backend.batchDelete(entitiesToDelete, cascade);
+    entitiesToDelete.forEach(p -> cache.invalidate(p.getLeft(), p.getRight()));
+    try {
+      return executeAndPublish(
+          entitiesToDelete.stream()
+              .map(p -> EntityChange.of(p.getLeft(), p.getRight()))
+              .collect(Collectors.toList()),
+          () -> backend.batchDelete(entitiesToDelete, cascade));
+    } finally {
+      // Invalidate again in case a concurrent load cached the entities before the deletion
+      // committed.
+      entitiesToDelete.forEach(p -> cache.invalidate(p.getLeft(), p.getRight()));
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
-    backend.batchPut(entities, overwritten);
+    entities.forEach(e -> cache.invalidate(e.nameIdentifier(), e.type()));
+    executeAndPublish(
+        entities.stream()
+            .map(e -> EntityChange.of(e.nameIdentifier(), e.type()))
+            .collect(Collectors.toList()),
+        () -> {
+          backend.batchPut(entities, overwritten);
+          return null;
+        });
+    // Invalidate again in case a concurrent load cached the lists before the insertion committed.
+    entities.forEach(e -> cache.invalidate(e.nameIdentifier(), e.type()));
+  }
+
+  /**
+   * Executes the write of the backend. If the cache synchronization is enabled, the changes are
+   * recorded in the same transaction, so the other servers can invalidate their caches.
+   */
+  private <R, E extends Exception> R executeAndPublish(
+      List<EntityChange> changes, Executable<R, E> write) throws E {
+    return cacheSynchronizer == null
+        ? write.execute()
+        : cacheSynchronizer.executeAndPublish(changes, write);
   }
 }
@@ -19,21 +19,40 @@
 
 package org.apache.gravitino.storage.relational;
 
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_DELETIONS_PER_SECOND;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.GarbageCollectorMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * RelationalGarbageCollector physically deletes the legacy data, which is marked deleted before the
+ * delete-after time, and the old version data of the entities periodically.
+ *
+ * <p>The garbage is deleted batch by batch, and the entity types take turns to delete a batch, so a
+ * large cascade of one entity type doesn't delay the others. If the maximum number of the rows
+ * deleted per second is configured, the collector pauses between the batches to keep the pressure
+ * on the backend flat. An entity type is tracked as backlog from its first batch with rows deleted
+ * until no more rows are deleted, and the lag is the time since the oldest backlog is found.
+ */
 public final class RelationalGarbageCollector implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(RelationalGarbageCollector.class);
@@ -41,6 +60,11 @@ public final class RelationalGarbageCollector implements Closeable {
 
   private final long storeDeleteAfterTimeMillis;
   private final long versionRetentionCount;
+  private final long maxDeletionsPerSecond;
+
+  // The time in milliseconds when the garbage of each entity type in backlog is found.
+  private final Map<String, Long> backlogSinceMillis = new ConcurrentHashMap<>();
+  private final GarbageCollectorMetricsSource metricsSource;
 
   @VisibleForTesting
   final ScheduledExecutorService garbageCollectorPool =
@@ -57,11 +81,19 @@ public final class RelationalGarbageCollector implements Closeable {
     this.backend = backend;
     storeDeleteAfterTimeMillis = config.get(STORE_DELETE_AFTER_TIME);
     versionRetentionCount = config.get(VERSION_RETENTION_COUNT);
+    maxDeletionsPerSecond = config.get(GARBAGE_COLLECTOR_MAX_DELETIONS_PER_SECOND);
+    this.metricsSource =
+        new GarbageCollectorMetricsSource(backlogSinceMillis::size, this::lagSeconds);
   }
 
   public void start() {
     long dateTimelineMinute = storeDeleteAfterTimeMillis / 1000 / 60;
 
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
     // We will collect garbage every 10 minutes at least. If the dateTimelineMinute is larger than
     // 100 minutes, we would collect garbage every dateTimelineMinute/10 minutes.
     long frequency = Math.max(dateTimelineMinute / 10, 10);
@@ -76,36 +108,25 @@ public final class RelationalGarbageCollector implements Closeable {
     try {
       LOG.debug("Start to collect and delete legacy data by thread {}", threadId);
       long legacyTimeline = System.currentTimeMillis() - storeDeleteAfterTimeMillis;
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to physically delete {} legacy data that has been marked deleted before {}",
-            entityType,
-            legacyTimeline);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.hardDeleteLegacyData(entityType, legacyTimeline);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
-        }
-      }
+      LOG.debug(
+          "Try to physically delete legacy data that has been marked deleted before {}",
+          legacyTimeline);
+      deleteInTurn(
+          "legacy",
+          entityType -> backend.hardDeleteLegacyData(entityType, legacyTimeline),
+          "physically delete");
 
       LOG.info("Start to collect and delete old version data by thread {}", threadId);
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to softly delete {} old version data that has been over retention count {}",
-            entityType,
-            versionRetentionCount);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.deleteOldVersionData(entityType, versionRetentionCount);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
-        }
-      }
+      LOG.debug(
+          "Try to softly delete old version data that has been over retention count {}",
+          versionRetentionCount);
+      deleteInTurn(
+          "old-version",
+          entityType -> backend.deleteOldVersionData(entityType, versionRetentionCount),
+          "softly delete");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Thread {} is interrupted while collecting garbage.", threadId);
     } catch (Exception e) {
       LOG.error("Thread {} failed to collect and clean garbage.", threadId, e);
     } finally {
@@ -113,6 +134,63 @@ public final class RelationalGarbageCollector implements Closeable {
     }
   }
 
+  /**
+   * Delete the garbage of all the entity types, every entity type deletes one batch in its turn
+   * until no more rows are deleted.
+   */
+  private void deleteInTurn(String garbageKind, BatchDeletion batchDeletion, String action)
+      throws InterruptedException {
+    Deque<Entity.EntityType> entityTypes =
+        new ArrayDeque<>(Arrays.asList(Entity.EntityType.values()));
+    while (!entityTypes.isEmpty()) {
+      Entity.EntityType entityType = entityTypes.poll();
+      String backlogKey = garbageKind + "." + entityType;
+      long startNanos = System.nanoTime();
+      int deletedCount;
+      try {
+        deletedCount = batchDeletion.delete(entityType);
+      } catch (RuntimeException | IOException e) {
+        // Skip the entity type in this run, it stays in backlog and is retried in the next run.
+        LOG.error("Failed to {} type of {}'s {} data: ", action, entityType, garbageKind, e);
+        continue;
+      }
+
+      if (deletedCount <= 0) {
+        backlogSinceMillis.remove(backlogKey);
+        continue;
+      }
+
+      metricsSource.deletedRowsCounter().inc(deletedCount);
+      backlogSinceMillis.putIfAbsent(backlogKey, System.currentTimeMillis());
+      entityTypes.offer(entityType);
+      throttle(deletedCount, startNanos);
+    }
+  }
+
+  private void throttle(int deletedCount, long batchStartNanos) throws InterruptedException {
+    if (maxDeletionsPerSecond <= 0) {
+      return;
+    }
+
+    long expectedNanos = TimeUnit.SECONDS.toNanos(deletedCount) / maxDeletionsPerSecond;
+    long sleepNanos = expectedNanos - (System.nanoTime() - batchStartNanos);
+    if (sleepNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(sleepNanos);
+    }
+  }
+
+  private long lagSeconds() {
+    return backlogSinceMillis.values().stream()
+        .mapToLong(since -> TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - since))
+        .max()
+        .orElse(0L);
+  }
+
+  @VisibleForTesting
+  GarbageCollectorMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
   @Override
   public void close() throws IOException {
     this.garbageCollectorPool.shutdown();
@@ -124,5 +202,15 @@ public final class RelationalGarbageCollector implements Closeable {
       this.garbageCollectorPool.shutdownNow();
       Thread.currentThread().interrupt();
     }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  @FunctionalInterface
+  private interface BatchDeletion {
+    int delete(Entity.EntityType entityType) throws IOException;
   }
 }
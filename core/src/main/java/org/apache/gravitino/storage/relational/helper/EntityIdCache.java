@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.helper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.storage.relational.session.SqlSessions;
+
+/**
+ * EntityIdCache caches the ids of metalakes, catalogs and schemas by their names, so resolving the
+ * parent of an entity does not need a query to the relational store every time.
+ *
+ * <p>The ids are cached only if they are loaded outside a transaction, and the cache is bypassed
+ * inside a transaction, so an uncommitted id never leaks to the other threads. The cached ids of an
+ * entity and all its children are invalidated when the entity is renamed or dropped. A load that
+ * races with an invalidation is not cached. The ids to cache are always loaded from the primary,
+ * never from a read replica.
+ */
+public class EntityIdCache {
+  private static final EntityIdCache INSTANCE = new EntityIdCache();
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  // Bumped on every invalidation, a load only caches its result if no invalidation happened since
+  // the load started.
+  private long generation;
+
+  // The cache is null if it is disabled or not initialized, the lookups go to the store directly.
+  private volatile Cache<NameIdentifier, Object> cache;
+
+  public static EntityIdCache getInstance() {
+    return INSTANCE;
+  }
+
+  private EntityIdCache() {}
+
+  public synchronized void init(Config config) {
+    if (!config.get(Configs.CACHE_ENABLED) || !config.get(Configs.CACHE_ID_CACHE_ENABLED)) {
+      this.cache = null;
+      return;
+    }
+
+    Caffeine<Object, Object> builder =
+        Caffeine.newBuilder().maximumSize(config.get(Configs.CACHE_ID_CACHE_MAX_ENTRIES));
+    if (config.get(Configs.CACHE_EXPIRATION_TIME) > 0) {
+      builder.expireAfterWrite(config.get(Configs.CACHE_EXPIRATION_TIME), TimeUnit.MILLISECONDS);
+    }
+    this.cache = builder.build();
+  }
+
+  public synchronized void close() {
+    this.cache = null;
+  }
+
+  public Long getMetalakeId(String metalakeName, Supplier<Long> loader) {
+    return get(NameIdentifier.of(metalakeName), loader);
+  }
+
+  public CatalogIds getCatalogIds(
+      String metalakeName, String catalogName, Supplier<CatalogIds> loader) {
+    return get(NameIdentifier.of(metalakeName, catalogName), loader);
+  }
+
+  public SchemaIds getSchemaIds(
+      String metalakeName, String catalogName, String schemaName, Supplier<SchemaIds> loader) {
+    return get(NameIdentifier.of(metalakeName, catalogName, schemaName), loader);
+  }
+
+  /**
+   * Invalidates the cached ids of the entity and all its children. Only metalakes, catalogs and
+   * schemas have cached ids, the other entity types are ignored.
+   *
+   * @param ident The identifier of the entity.
+   * @param type The type of the entity.
+   */
+  public void invalidate(NameIdentifier ident, Entity.EntityType type) {
+    if (type != Entity.EntityType.METALAKE
+        && type != Entity.EntityType.CATALOG
+        && type != Entity.EntityType.SCHEMA) {
+      return;
+    }
+
+    String[] prefix = levels(ident);
+    synchronized (this) {
+      generation++;
+      Cache<NameIdentifier, Object> current = cache;
+      if (current == null) {
+        return;
+      }
+
+      if (type == Entity.EntityType.SCHEMA) {
+        // A schema has no children with cached ids.
+        current.invalidate(ident);
+      } else {
+        current.asMap().keySet().removeIf(key -> startsWith(levels(key), prefix));
+      }
+    }
+  }
+
+  public void invalidateAll() {
+    synchronized (this) {
+      generation++;
+      Cache<NameIdentifier, Object> current = cache;
+      if (current != null) {
+        current.invalidateAll();
+      }
+    }
+  }
+
+  /** Returns the number of lookups served by the cache, each of them saves a store query. */
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  /** Returns the number of lookups that are not served by the cache. */
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  @VisibleForTesting
+  boolean isEnabled() {
+    return cache != null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T get(NameIdentifier key, Supplier<T> loader) {
+    Cache<NameIdentifier, Object> current = cache;
+    if (current == null || SqlSessions.hasSqlSession()) {
+      return loader.get();
+    }
+
+    Object cached = current.getIfPresent(key);
+    if (cached != null) {
+      hitCount.increment();
+      return (T) cached;
+    }
+
+    missCount.increment();
+    long loadGeneration;
+    synchronized (this) {
+      loadGeneration = generation;
+    }
+
+    // Load from the primary, a lagging read replica may return the id of an entity already dropped
+    // or recreated, and it would stay cached until it expires.
+    T loaded = SqlSessions.readFromPrimary(loader::get);
+    if (loaded != null) {
+      synchronized (this) {
+        if (loadGeneration == generation && current == cache) {
+          current.put(key, loaded);
+        }
+      }
+    }
+    return loaded;
+  }
+
+  private static String[] levels(NameIdentifier ident) {
+    String[] namespaceLevels = ident.namespace().levels();
+    String[] levels = Arrays.copyOf(namespaceLevels, namespaceLevels.length + 1);
+    levels[namespaceLevels.length] = ident.name();
+    return levels;
+  }
+
+  private static boolean startsWith(String[] levels, String[] prefix) {
+    if (levels.length < prefix.length) {
+      return false;
+    }
+
+    for (int i = 0; i < prefix.length; i++) {
+      if (!levels[i].equals(prefix[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -65,6 +65,11 @@ public class CatalogMetaSQLProviderFactory {
     return getProvider().listCatalogPOsByCatalogIds(catalogIds);
   }
 
+  public static String listCatalogPOsByMetalakeIdAndNames(
+      @Param("metalakeId") Long metalakeId, @Param("catalogNames") List<String> catalogNames) {
+    return getProvider().listCatalogPOsByMetalakeIdAndNames(metalakeId, catalogNames);
+  }
+
   public static String selectCatalogIdByName(
       @Param("metalakeName") String metalakeName, @Param("catalogName") String catalogName) {
     return getProvider().selectCatalogIdByName(metalakeName, catalogName);
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.ColumnSnapshotPO;
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+
+/**
+ * A MyBatis Mapper for the column snapshots, each of which stores all the columns of a table
+ * version compressed in one row, so a table is loaded without merging its column versions.
+ */
+public interface ColumnSnapshotMapper {
+  String TABLE_NAME = "table_column_snapshot";
+
+  @SelectProvider(
+      type = ColumnSnapshotSQLProviderFactory.class,
+      method = "selectColumnSnapshotByTableIdAndVersion")
+  ColumnSnapshotPO selectColumnSnapshotByTableIdAndVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion);
+
+  @InsertProvider(type = ColumnSnapshotSQLProviderFactory.class, method = "insertColumnSnapshots")
+  void insertColumnSnapshots(@Param("snapshots") List<ColumnSnapshotPO> snapshots);
+
+  @DeleteProvider(
+      type = ColumnSnapshotSQLProviderFactory.class,
+      method = "deleteColumnSnapshotsByTableId")
+  Integer deleteColumnSnapshotsByTableId(@Param("tableId") Long tableId);
+
+  @DeleteProvider(
+      type = ColumnSnapshotSQLProviderFactory.class,
+      method = "deleteColumnSnapshotsBeforeVersion")
+  Integer deleteColumnSnapshotsBeforeVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion);
+
+  @DeleteProvider(
+      type = ColumnSnapshotSQLProviderFactory.class,
+      method = "deleteColumnSnapshotsByMetalakeId")
+  Integer deleteColumnSnapshotsByMetalakeId(@Param("metalakeId") Long metalakeId);
+
+  @DeleteProvider(
+      type = ColumnSnapshotSQLProviderFactory.class,
+      method = "deleteColumnSnapshotsByCatalogId")
+  Integer deleteColumnSnapshotsByCatalogId(@Param("catalogId") Long catalogId);
+
+  @DeleteProvider(
+      type = ColumnSnapshotSQLProviderFactory.class,
+      method = "deleteColumnSnapshotsBySchemaId")
+  Integer deleteColumnSnapshotsBySchemaId(@Param("schemaId") Long schemaId);
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.storage.relational.JDBCBackend;
+import org.apache.gravitino.storage.relational.mapper.provider.base.ColumnSnapshotBaseSQLProvider;
+import org.apache.gravitino.storage.relational.po.ColumnSnapshotPO;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.annotations.Param;
+
+public class ColumnSnapshotSQLProviderFactory {
+
+  static class ColumnSnapshotMySQLProvider extends ColumnSnapshotBaseSQLProvider {}
+
+  static class ColumnSnapshotH2Provider extends ColumnSnapshotBaseSQLProvider {}
+
+  static class ColumnSnapshotPostgreSQLProvider extends ColumnSnapshotBaseSQLProvider {}
+
+  private static final Map<JDBCBackend.JDBCBackendType, ColumnSnapshotBaseSQLProvider>
+      COLUMN_SNAPSHOT_SQL_PROVIDER_MAP =
+          ImmutableMap.of(
+              JDBCBackend.JDBCBackendType.MYSQL, new ColumnSnapshotMySQLProvider(),
+              JDBCBackend.JDBCBackendType.H2, new ColumnSnapshotH2Provider(),
+              JDBCBackend.JDBCBackendType.POSTGRESQL, new ColumnSnapshotPostgreSQLProvider());
+
+  public static ColumnSnapshotBaseSQLProvider getProvider() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+
+    JDBCBackend.JDBCBackendType jdbcBackendType =
+        JDBCBackend.JDBCBackendType.fromString(databaseId);
+    return COLUMN_SNAPSHOT_SQL_PROVIDER_MAP.get(jdbcBackendType);
+  }
+
+  public static String selectColumnSnapshotByTableIdAndVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return getProvider().selectColumnSnapshotByTableIdAndVersion(tableId, tableVersion);
+  }
+
+  public static String insertColumnSnapshots(
+      @Param("snapshots") List<ColumnSnapshotPO> snapshots) {
+    return getProvider().insertColumnSnapshots(snapshots);
+  }
+
+  public static String deleteColumnSnapshotsByTableId(@Param("tableId") Long tableId) {
+    return getProvider().deleteColumnSnapshotsByTableId(tableId);
+  }
+
+  public static String deleteColumnSnapshotsBeforeVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return getProvider().deleteColumnSnapshotsBeforeVersion(tableId, tableVersion);
+  }
+
+  public static String deleteColumnSnapshotsByMetalakeId(@Param("metalakeId") Long metalakeId) {
+    return getProvider().deleteColumnSnapshotsByMetalakeId(metalakeId);
+  }
+
+  public static String deleteColumnSnapshotsByCatalogId(@Param("catalogId") Long catalogId) {
+    return getProvider().deleteColumnSnapshotsByCatalogId(catalogId);
+  }
+
+  public static String deleteColumnSnapshotsBySchemaId(@Param("schemaId") Long schemaId) {
+    return getProvider().deleteColumnSnapshotsBySchemaId(schemaId);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+
+/**
+ * A MyBatis Mapper for the entity change log, which records the entity changes so that the other
+ * Gravitino servers sharing the same entity store can invalidate their caches.
+ */
+public interface EntityChangeLogMapper {
+  String TABLE_NAME = "entity_change_log";
+
+  @InsertProvider(type = EntityChangeLogSQLProviderFactory.class, method = "insertEntityChanges")
+  void insertEntityChanges(@Param("changes") List<EntityChangeLogPO> changes);
+
+  @SelectProvider(
+      type = EntityChangeLogSQLProviderFactory.class,
+      method = "listEntityChangesSince")
+  List<EntityChangeLogPO> listEntityChangesSince(
+      @Param("createdAt") Long createdAt,
+      @Param("sourceId") String sourceId,
+      @Param("limit") int limit);
+
+  @SelectProvider(
+      type = EntityChangeLogSQLProviderFactory.class,
+      method = "selectCurrentTimeMillis")
+  Long selectCurrentTimeMillis();
+
+  @SelectProvider(type = EntityChangeLogSQLProviderFactory.class, method = "selectMaxCreatedAt")
+  Long selectMaxCreatedAt();
+
+  @SelectProvider(
+      type = EntityChangeLogSQLProviderFactory.class,
+      method = "selectMinCreatedAtAfter")
+  Long selectMinCreatedAtAfter(@Param("createdAt") Long createdAt);
+
+  @DeleteProvider(
+      type = EntityChangeLogSQLProviderFactory.class,
+      method = "deleteEntityChangesByLegacyTimeline")
+  Integer deleteEntityChangesByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+}
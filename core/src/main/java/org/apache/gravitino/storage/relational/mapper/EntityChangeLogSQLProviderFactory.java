@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.storage.relational.JDBCBackend;
+import org.apache.gravitino.storage.relational.mapper.provider.base.EntityChangeLogBaseSQLProvider;
+import org.apache.gravitino.storage.relational.mapper.provider.postgresql.EntityChangeLogPostgreSQLProvider;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.annotations.Param;
+
+public class EntityChangeLogSQLProviderFactory {
+
+  static class EntityChangeLogMySQLProvider extends EntityChangeLogBaseSQLProvider {}
+
+  static class EntityChangeLogH2Provider extends EntityChangeLogBaseSQLProvider {}
+
+  private static final Map<JDBCBackend.JDBCBackendType, EntityChangeLogBaseSQLProvider>
+      ENTITY_CHANGE_LOG_SQL_PROVIDER_MAP =
+          ImmutableMap.of(
+              JDBCBackend.JDBCBackendType.MYSQL, new EntityChangeLogMySQLProvider(),
+              JDBCBackend.JDBCBackendType.H2, new EntityChangeLogH2Provider(),
+              JDBCBackend.JDBCBackendType.POSTGRESQL, new EntityChangeLogPostgreSQLProvider());
+
+  public static EntityChangeLogBaseSQLProvider getProvider() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+
+    JDBCBackend.JDBCBackendType jdbcBackendType =
+        JDBCBackend.JDBCBackendType.fromString(databaseId);
+    return ENTITY_CHANGE_LOG_SQL_PROVIDER_MAP.get(jdbcBackendType);
+  }
+
+  public static String insertEntityChanges(@Param("changes") List<EntityChangeLogPO> changes) {
+    return getProvider().insertEntityChanges(changes);
+  }
+
+  public static String listEntityChangesSince(
+      @Param("createdAt") Long createdAt,
+      @Param("sourceId") String sourceId,
+      @Param("limit") int limit) {
+    return getProvider().listEntityChangesSince(createdAt, sourceId, limit);
+  }
+
+  public static String selectCurrentTimeMillis() {
+    return getProvider().selectCurrentTimeMillis();
+  }
+
+  public static String selectMaxCreatedAt() {
+    return getProvider().selectMaxCreatedAt();
+  }
+
+  public static String selectMinCreatedAtAfter(@Param("createdAt") Long createdAt) {
+    return getProvider().selectMinCreatedAtAfter(createdAt);
+  }
+
+  public static String deleteEntityChangesByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return getProvider().deleteEntityChangesByLegacyTimeline(legacyTimeline, limit);
+  }
+}
@@ -55,6 +55,9 @@ public interface GroupMetaMapper {
   @SelectProvider(type = GroupMetaSQLProviderFactory.class, method = "listGroupPOsByMetalake")
   List<GroupPO> listGroupPOsByMetalake(@Param("metalakeName") String metalakeName);
 
+  @SelectProvider(type = GroupMetaSQLProviderFactory.class, method = "listGroupPOsByGroupIds")
+  List<GroupPO> listGroupPOsByGroupIds(@Param("groupIds") List<Long> groupIds);
+
   @SelectProvider(
       type = GroupMetaSQLProviderFactory.class,
       method = "listExtendedGroupPOsByMetalakeId")
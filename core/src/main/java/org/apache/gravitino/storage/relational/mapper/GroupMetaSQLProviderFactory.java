@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.GroupMetaBaseSQLProvider;
@@ -87,6 +88,10 @@ public class GroupMetaSQLProviderFactory {
     return getProvider().listGroupPOsByMetalake(metalakeName);
   }
 
+  public static String listGroupPOsByGroupIds(@Param("groupIds") List<Long> groupIds) {
+    return getProvider().listGroupPOsByGroupIds(groupIds);
+  }
+
   public static String listExtendedGroupPOsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return getProvider().listExtendedGroupPOsByMetalakeId(metalakeId);
   }
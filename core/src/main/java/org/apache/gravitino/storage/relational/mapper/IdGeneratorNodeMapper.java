@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.annotations.UpdateProvider;
+
+/**
+ * A MyBatis Mapper for the leases of the node ids of the time-ordered id generator, which keep the
+ * node ids unique among the Gravitino servers sharing the same entity store.
+ */
+public interface IdGeneratorNodeMapper {
+  String TABLE_NAME = "id_generator_node";
+
+  @SelectProvider(type = IdGeneratorNodeSQLProviderFactory.class, method = "listNodeIds")
+  List<Integer> listNodeIds();
+
+  @InsertProvider(type = IdGeneratorNodeSQLProviderFactory.class, method = "insertNode")
+  void insertNode(
+      @Param("nodeId") int nodeId,
+      @Param("holder") String holder,
+      @Param("expireAt") long expireAt,
+      @Param("lastIdMillis") long lastIdMillis);
+
+  @UpdateProvider(type = IdGeneratorNodeSQLProviderFactory.class, method = "takeExpiredNode")
+  Integer takeExpiredNode(
+      @Param("nodeId") int nodeId,
+      @Param("holder") String holder,
+      @Param("expireAt") long expireAt,
+      @Param("lastIdMillis") long lastIdMillis,
+      @Param("now") long now,
+      @Param("firstIdMillis") long firstIdMillis);
+
+  @UpdateProvider(type = IdGeneratorNodeSQLProviderFactory.class, method = "renewNode")
+  Integer renewNode(
+      @Param("nodeId") int nodeId,
+      @Param("holder") String holder,
+      @Param("expireAt") long expireAt,
+      @Param("lastIdMillis") long lastIdMillis);
+}
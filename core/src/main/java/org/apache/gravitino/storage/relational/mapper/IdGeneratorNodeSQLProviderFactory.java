@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.apache.gravitino.storage.relational.JDBCBackend;
+import org.apache.gravitino.storage.relational.mapper.provider.base.IdGeneratorNodeBaseSQLProvider;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.annotations.Param;
+
+public class IdGeneratorNodeSQLProviderFactory {
+
+  static class IdGeneratorNodeMySQLProvider extends IdGeneratorNodeBaseSQLProvider {}
+
+  static class IdGeneratorNodeH2Provider extends IdGeneratorNodeBaseSQLProvider {}
+
+  static class IdGeneratorNodePostgreSQLProvider extends IdGeneratorNodeBaseSQLProvider {}
+
+  private static final Map<JDBCBackend.JDBCBackendType, IdGeneratorNodeBaseSQLProvider>
+      ID_GENERATOR_NODE_SQL_PROVIDER_MAP =
+          ImmutableMap.of(
+              JDBCBackend.JDBCBackendType.MYSQL, new IdGeneratorNodeMySQLProvider(),
+              JDBCBackend.JDBCBackendType.H2, new IdGeneratorNodeH2Provider(),
+              JDBCBackend.JDBCBackendType.POSTGRESQL, new IdGeneratorNodePostgreSQLProvider());
+
+  public static IdGeneratorNodeBaseSQLProvider getProvider() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+
+    JDBCBackend.JDBCBackendType jdbcBackendType =
+        JDBCBackend.JDBCBackendType.fromString(databaseId);
+    return ID_GENERATOR_NODE_SQL_PROVIDER_MAP.get(jdbcBackendType);
+  }
+
+  public static String listNodeIds() {
+    return getProvider().listNodeIds();
+  }
+
+  public static String insertNode(
+      @Param("nodeId") int nodeId,
+      @Param("holder") String holder,
+      @Param("expireAt") long expireAt,
+      @Param("lastIdMillis") long lastIdMillis) {
+    return getProvider().insertNode(nodeId, holder, expireAt, lastIdMillis);
+  }
+
+  public static String takeExpiredNode(
+      @Param("nodeId") int nodeId,
+      @Param("holder") String holder,
+      @Param("expireAt") long expireAt,
+      @Param("lastIdMillis") long lastIdMillis,
+      @Param("now") long now,
+      @Param("firstIdMillis") long firstIdMillis) {
+    return getProvider()
+        .takeExpiredNode(nodeId, holder, expireAt, lastIdMillis, now, firstIdMillis);
+  }
+
+  public static String renewNode(
+      @Param("nodeId") int nodeId,
+      @Param("holder") String holder,
+      @Param("expireAt") long expireAt,
+      @Param("lastIdMillis") long lastIdMillis) {
+    return getProvider().renewNode(nodeId, holder, expireAt, lastIdMillis);
+  }
+}
@@ -40,9 +40,23 @@ public interface ModelMetaMapper {
   @SelectProvider(type = ModelMetaSQLProviderFactory.class, method = "listModelPOsBySchemaId")
   List<ModelPO> listModelPOsBySchemaId(@Param("schemaId") Long schemaId);
 
+  @SelectProvider(
+      type = ModelMetaSQLProviderFactory.class,
+      method = "listModelPOsBySchemaIdAfterName")
+  List<ModelPO> listModelPOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit);
+
   @SelectProvider(type = ModelMetaSQLProviderFactory.class, method = "listModelPOsByModelIds")
   List<ModelPO> listModelPOsByModelIds(@Param("modelIds") List<Long> modelIds);
 
+  @SelectProvider(
+      type = ModelMetaSQLProviderFactory.class,
+      method = "listModelPOsBySchemaIdAndNames")
+  List<ModelPO> listModelPOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("modelNames") List<String> modelNames);
+
   @SelectProvider(
       type = ModelMetaSQLProviderFactory.class,
       method = "selectModelMetaBySchemaIdAndModelName")
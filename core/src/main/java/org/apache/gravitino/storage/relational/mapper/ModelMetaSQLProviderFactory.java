@@ -63,10 +63,22 @@ public class ModelMetaSQLProviderFactory {
     return getProvider().listModelPOsBySchemaId(schemaId);
   }
 
+  public static String listModelPOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit) {
+    return getProvider().listModelPOsBySchemaIdAfterName(schemaId, afterName, limit);
+  }
+
   public static String listModelPOsByModelIds(@Param("modelIds") List<Long> modelIds) {
     return getProvider().listModelPOsByModelIds(modelIds);
   }
 
+  public static String listModelPOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("modelNames") List<String> modelNames) {
+    return getProvider().listModelPOsBySchemaIdAndNames(schemaId, modelNames);
+  }
+
   public static String selectModelMetaBySchemaIdAndModelName(
       @Param("schemaId") Long schemaId, @Param("modelName") String modelName) {
     return getProvider().selectModelMetaBySchemaIdAndModelName(schemaId, modelName);
@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.OwnerMetaBaseSQLProvider;
@@ -64,6 +65,13 @@ public class OwnerMetaSQLProviderFactory {
         .selectGroupOwnerMetaByMetadataObjectIdAndType(metadataObjectId, metadataObjectType);
   }
 
+  public static String listOwnerRelsByMetadataObjectIdsAndType(
+      @Param("metadataObjectIds") List<Long> metadataObjectIds,
+      @Param("metadataObjectType") String metadataObjectType) {
+    return getProvider()
+        .listOwnerRelsByMetadataObjectIdsAndType(metadataObjectIds, metadataObjectType);
+  }
+
   public static String insertOwnerRel(@Param("ownerRelPO") OwnerRelPO ownerRelPO) {
     return getProvider().insertOwnerRel(ownerRelPO);
   }
@@ -52,6 +52,12 @@ public interface RoleMetaMapper {
   Long selectRoleIdByMetalakeIdAndName(
       @Param("metalakeId") Long metalakeId, @Param("roleName") String name);
 
+  @SelectProvider(
+      type = RoleMetaSQLProviderFactory.class,
+      method = "listRolePOsByMetalakeIdAndNames")
+  List<RolePO> listRolePOsByMetalakeIdAndNames(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames);
+
   @SelectProvider(type = RoleMetaSQLProviderFactory.class, method = "listRolesByUserId")
   List<RolePO> listRolesByUserId(@Param("userId") Long userId);
 
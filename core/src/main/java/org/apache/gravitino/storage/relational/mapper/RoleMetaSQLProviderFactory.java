@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.RoleMetaBaseSQLProvider;
@@ -59,6 +60,11 @@ public class RoleMetaSQLProviderFactory {
     return getProvider().selectRoleIdByMetalakeIdAndName(metalakeId, name);
   }
 
+  public static String listRolePOsByMetalakeIdAndNames(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames) {
+    return getProvider().listRolePOsByMetalakeIdAndNames(metalakeId, roleNames);
+  }
+
   public static String listRolesByUserId(@Param("userId") Long userId) {
     return getProvider().listRolesByUserId(userId);
   }
@@ -42,9 +42,23 @@ public interface SchemaMetaMapper {
   @SelectProvider(type = SchemaMetaSQLProviderFactory.class, method = "listSchemaPOsByCatalogId")
   List<SchemaPO> listSchemaPOsByCatalogId(@Param("catalogId") Long catalogId);
 
+  @SelectProvider(
+      type = SchemaMetaSQLProviderFactory.class,
+      method = "listSchemaPOsByCatalogIdAfterName")
+  List<SchemaPO> listSchemaPOsByCatalogIdAfterName(
+      @Param("catalogId") Long catalogId,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit);
+
   @SelectProvider(type = SchemaMetaSQLProviderFactory.class, method = "listSchemaPOsBySchemaIds")
   List<SchemaPO> listSchemaPOsBySchemaIds(@Param("schemaIds") List<Long> schemaIds);
 
+  @SelectProvider(
+      type = SchemaMetaSQLProviderFactory.class,
+      method = "listSchemaPOsByCatalogIdAndNames")
+  List<SchemaPO> listSchemaPOsByCatalogIdAndNames(
+      @Param("catalogId") Long catalogId, @Param("schemaNames") List<String> schemaNames);
+
   @SelectProvider(
       type = SchemaMetaSQLProviderFactory.class,
       method = "selectSchemaIdByCatalogIdAndName")
@@ -55,10 +55,22 @@ public class SchemaMetaSQLProviderFactory {
     return getProvider().listSchemaPOsBySchemaIds(schemaIds);
   }
 
+  public static String listSchemaPOsByCatalogIdAndNames(
+      @Param("catalogId") Long catalogId, @Param("schemaNames") List<String> schemaNames) {
+    return getProvider().listSchemaPOsByCatalogIdAndNames(catalogId, schemaNames);
+  }
+
   public static String listSchemaPOsByCatalogId(@Param("catalogId") Long catalogId) {
     return getProvider().listSchemaPOsByCatalogId(catalogId);
   }
 
+  public static String listSchemaPOsByCatalogIdAfterName(
+      @Param("catalogId") Long catalogId,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit) {
+    return getProvider().listSchemaPOsByCatalogIdAfterName(catalogId, afterName, limit);
+  }
+
   public static String selectSchemaIdByCatalogIdAndName(
       @Param("catalogId") Long catalogId, @Param("schemaName") String name) {
     return getProvider().selectSchemaIdByCatalogIdAndName(catalogId, name);
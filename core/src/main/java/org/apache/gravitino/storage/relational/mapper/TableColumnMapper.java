@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.mapper;
 
 import java.util.List;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.ibatis.annotations.DeleteProvider;
 import org.apache.ibatis.annotations.InsertProvider;
 import org.apache.ibatis.annotations.Param;
@@ -36,12 +37,23 @@ public interface TableColumnMapper {
   List<ColumnPO> listColumnPOsByTableIdAndVersion(
       @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion);
 
+  @SelectProvider(type = TableColumnSQLProviderFactory.class, method = "listColumnPOsByTablePOs")
+  List<ColumnPO> listColumnPOsByTablePOs(@Param("tablePOs") List<TablePO> tablePOs);
+
   @InsertProvider(type = TableColumnSQLProviderFactory.class, method = "insertColumnPOs")
   void insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs);
 
   @UpdateProvider(type = TableColumnSQLProviderFactory.class, method = "softDeleteColumnsByTableId")
   Integer softDeleteColumnsByTableId(@Param("tableId") Long tableId);
 
+  @UpdateProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "softDeleteColumnsBeforeVersion")
+  Integer softDeleteColumnsBeforeVersion(
+      @Param("tableId") Long tableId,
+      @Param("columnIds") List<Long> columnIds,
+      @Param("tableVersion") Long tableVersion);
+
   @UpdateProvider(
       type = TableColumnSQLProviderFactory.class,
       method = "softDeleteColumnsByMetalakeId")
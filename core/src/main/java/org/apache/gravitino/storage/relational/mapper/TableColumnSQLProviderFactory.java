@@ -25,6 +25,7 @@ import org.apache.gravitino.storage.relational.JDBCBackend;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TableColumnBaseSQLProvider;
 import org.apache.gravitino.storage.relational.mapper.provider.postgresql.TableColumnPostgreSQLProvider;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.apache.ibatis.annotations.Param;
 
@@ -57,6 +58,10 @@ public class TableColumnSQLProviderFactory {
     return getProvider().listColumnPOsByTableIdAndVersion(tableId, tableVersion);
   }
 
+  public static String listColumnPOsByTablePOs(@Param("tablePOs") List<TablePO> tablePOs) {
+    return getProvider().listColumnPOsByTablePOs(tablePOs);
+  }
+
   public static String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
     return getProvider().insertColumnPOs(columnPOs);
   }
@@ -65,6 +70,13 @@ public class TableColumnSQLProviderFactory {
     return getProvider().softDeleteColumnsByTableId(tableId);
   }
 
+  public static String softDeleteColumnsBeforeVersion(
+      @Param("tableId") Long tableId,
+      @Param("columnIds") List<Long> columnIds,
+      @Param("tableVersion") Long tableVersion) {
+    return getProvider().softDeleteColumnsBeforeVersion(tableId, columnIds, tableVersion);
+  }
+
   public static String deleteColumnPOsByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
     return getProvider().deleteColumnPOsByLegacyTimeline(legacyTimeline, limit);
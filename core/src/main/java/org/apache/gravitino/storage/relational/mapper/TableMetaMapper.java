@@ -41,9 +41,23 @@ public interface TableMetaMapper {
   @SelectProvider(type = TableMetaSQLProviderFactory.class, method = "listTablePOsBySchemaId")
   List<TablePO> listTablePOsBySchemaId(@Param("schemaId") Long schemaId);
 
+  @SelectProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "listTablePOsBySchemaIdAfterName")
+  List<TablePO> listTablePOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit);
+
   @SelectProvider(type = TableMetaSQLProviderFactory.class, method = "listTablePOsByTableIds")
   List<TablePO> listTablePOsByTableIds(@Param("tableIds") List<Long> tableIds);
 
+  @SelectProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "listTablePOsBySchemaIdAndNames")
+  List<TablePO> listTablePOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames);
+
   @SelectProvider(
       type = TableMetaSQLProviderFactory.class,
       method = "selectTableIdBySchemaIdAndName")
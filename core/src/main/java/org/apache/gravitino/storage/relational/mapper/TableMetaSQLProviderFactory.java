@@ -55,10 +55,22 @@ public class TableMetaSQLProviderFactory {
     return getProvider().listTablePOsBySchemaId(schemaId);
   }
 
+  public static String listTablePOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit) {
+    return getProvider().listTablePOsBySchemaIdAfterName(schemaId, afterName, limit);
+  }
+
   public static String listTablePOsByTableIds(@Param("tableIds") List<Long> tableIds) {
     return getProvider().listTablePOsByTableIds(tableIds);
   }
 
+  public static String listTablePOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames) {
+    return getProvider().listTablePOsBySchemaIdAndNames(schemaId, tableNames);
+  }
+
   public static String selectTableIdBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("tableName") String name) {
     return getProvider().selectTableIdBySchemaIdAndName(schemaId, name);
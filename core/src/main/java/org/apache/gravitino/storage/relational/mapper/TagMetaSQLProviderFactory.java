@@ -55,6 +55,13 @@ public class TagMetaSQLProviderFactory {
     return getProvider().listTagPOsByMetalake(metalakeName);
   }
 
+  public static String listTagPOsByMetalakeAfterName(
+      @Param("metalakeName") String metalakeName,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit) {
+    return getProvider().listTagPOsByMetalakeAfterName(metalakeName, afterName, limit);
+  }
+
   public static String listTagPOsByMetalakeAndTagNames(
       @Param("metalakeName") String metalakeName, @Param("tagNames") List<String> tagNames) {
     return getProvider().listTagPOsByMetalakeAndTagNames(metalakeName, tagNames);
@@ -40,9 +40,23 @@ public interface TopicMetaMapper {
   @SelectProvider(type = TopicMetaSQLProviderFactory.class, method = "listTopicPOsBySchemaId")
   List<TopicPO> listTopicPOsBySchemaId(@Param("schemaId") Long schemaId);
 
+  @SelectProvider(
+      type = TopicMetaSQLProviderFactory.class,
+      method = "listTopicPOsBySchemaIdAfterName")
+  List<TopicPO> listTopicPOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit);
+
   @SelectProvider(type = TopicMetaSQLProviderFactory.class, method = "listTopicPOsByTopicIds")
   List<TopicPO> listTopicPOsByTopicIds(@Param("topicIds") List<Long> topicIds);
 
+  @SelectProvider(
+      type = TopicMetaSQLProviderFactory.class,
+      method = "listTopicPOsBySchemaIdAndNames")
+  List<TopicPO> listTopicPOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("topicNames") List<String> topicNames);
+
   @SelectProvider(
       type = TopicMetaSQLProviderFactory.class,
       method = "selectTopicMetaBySchemaIdAndName")
@@ -64,10 +64,22 @@ public class TopicMetaSQLProviderFactory {
     return getProvider().listTopicPOsBySchemaId(schemaId);
   }
 
+  public static String listTopicPOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit) {
+    return getProvider().listTopicPOsBySchemaIdAfterName(schemaId, afterName, limit);
+  }
+
   public static String listTopicPOsByTopicIds(@Param("topicIds") List<Long> topicIds) {
     return getProvider().listTopicPOsByTopicIds(topicIds);
   }
 
+  public static String listTopicPOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("topicNames") List<String> topicNames) {
+    return getProvider().listTopicPOsBySchemaIdAndNames(schemaId, topicNames);
+  }
+
   public static String selectTopicMetaBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("topicName") String topicName) {
     return getProvider().selectTopicMetaBySchemaIdAndName(schemaId, topicName);
@@ -58,6 +58,9 @@ public interface UserMetaMapper {
   @SelectProvider(type = UserMetaSQLProviderFactory.class, method = "listUserPOsByMetalake")
   List<UserPO> listUserPOsByMetalake(@Param("metalakeName") String metalakeName);
 
+  @SelectProvider(type = UserMetaSQLProviderFactory.class, method = "listUserPOsByUserIds")
+  List<UserPO> listUserPOsByUserIds(@Param("userIds") List<Long> userIds);
+
   @SelectProvider(
       type = UserMetaSQLProviderFactory.class,
       method = "listExtendedUserPOsByMetalakeId")
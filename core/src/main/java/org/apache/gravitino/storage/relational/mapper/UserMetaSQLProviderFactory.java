@@ -20,6 +20,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.UserMetaBaseSQLProvider;
@@ -89,6 +90,10 @@ public class UserMetaSQLProviderFactory {
     return getProvider().listUserPOsByMetalake(metalakeName);
   }
 
+  public static String listUserPOsByUserIds(@Param("userIds") List<Long> userIds) {
+    return getProvider().listUserPOsByUserIds(userIds);
+  }
+
   public static String listExtendedUserPOsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return getProvider().listExtendedUserPOsByMetalakeId(metalakeId);
   }
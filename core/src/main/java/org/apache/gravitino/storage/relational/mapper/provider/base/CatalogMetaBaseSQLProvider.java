@@ -71,6 +71,24 @@ public class CatalogMetaBaseSQLProvider {
         + "</script>";
   }
 
+  public String listCatalogPOsByMetalakeIdAndNames(
+      @Param("metalakeId") Long metalakeId, @Param("catalogNames") List<String> catalogNames) {
+    return "<script>"
+        + "SELECT catalog_id as catalogId, catalog_name as catalogName,"
+        + " metalake_id as metalakeId, type, provider,"
+        + " catalog_comment as catalogComment, properties, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE metalake_id = #{metalakeId} AND catalog_name IN ("
+        + "<foreach collection='catalogNames' item='catalogName' separator=','>"
+        + "#{catalogName}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String selectCatalogIdByName(
       @Param("metalakeName") String metalakeName, @Param("catalogName") String catalogName) {
     return "SELECT cm.catalog_id as catalogId FROM "
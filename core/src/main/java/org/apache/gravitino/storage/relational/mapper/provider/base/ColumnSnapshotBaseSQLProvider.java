@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.ColumnSnapshotMapper.TABLE_NAME;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.ColumnSnapshotPO;
+import org.apache.ibatis.annotations.Param;
+
+public class ColumnSnapshotBaseSQLProvider {
+
+  public String selectColumnSnapshotByTableIdAndVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return "SELECT table_id AS tableId, table_version AS tableVersion,"
+        + " metalake_id AS metalakeId, catalog_id AS catalogId, schema_id AS schemaId,"
+        + " column_count AS columnCount, column_data AS columns"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE table_id = #{tableId} AND table_version = #{tableVersion}";
+  }
+
+  public String insertColumnSnapshots(@Param("snapshots") List<ColumnSnapshotPO> snapshots) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + " (table_id, table_version, metalake_id, catalog_id, schema_id, column_count,"
+        + " column_data)"
+        + " VALUES "
+        + "<foreach collection='snapshots' item='item' separator=','>"
+        + "(#{item.tableId}, "
+        + "#{item.tableVersion}, "
+        + "#{item.metalakeId}, "
+        + "#{item.catalogId}, "
+        + "#{item.schemaId}, "
+        + "#{item.columnCount}, "
+        + "#{item.columns})"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String deleteColumnSnapshotsByTableId(@Param("tableId") Long tableId) {
+    return "DELETE FROM " + TABLE_NAME + " WHERE table_id = #{tableId}";
+  }
+
+  public String deleteColumnSnapshotsBeforeVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return "DELETE FROM "
+        + TABLE_NAME
+        + " WHERE table_id = #{tableId} AND table_version < #{tableVersion}";
+  }
+
+  public String deleteColumnSnapshotsByMetalakeId(@Param("metalakeId") Long metalakeId) {
+    return "DELETE FROM " + TABLE_NAME + " WHERE metalake_id = #{metalakeId}";
+  }
+
+  public String deleteColumnSnapshotsByCatalogId(@Param("catalogId") Long catalogId) {
+    return "DELETE FROM " + TABLE_NAME + " WHERE catalog_id = #{catalogId}";
+  }
+
+  public String deleteColumnSnapshotsBySchemaId(@Param("schemaId") Long schemaId) {
+    return "DELETE FROM " + TABLE_NAME + " WHERE schema_id = #{schemaId}";
+  }
+}
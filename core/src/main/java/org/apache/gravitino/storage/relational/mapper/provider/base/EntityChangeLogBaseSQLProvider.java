@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper.TABLE_NAME;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.ibatis.annotations.Param;
+
+public class EntityChangeLogBaseSQLProvider {
+
+  public String insertEntityChanges(@Param("changes") List<EntityChangeLogPO> changes) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + " (change_id, source_id, entity_type, identifier, relation_type, created_at) VALUES "
+        + "<foreach collection='changes' item='item' separator=','>"
+        + "(#{item.changeId}, "
+        + "#{item.sourceId}, "
+        + "#{item.entityType}, "
+        + "#{item.identifier}, "
+        + "#{item.relationType}, "
+        + currentTimeMillis()
+        + ")"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String listEntityChangesSince(
+      @Param("createdAt") Long createdAt,
+      @Param("sourceId") String sourceId,
+      @Param("limit") int limit) {
+    return "SELECT change_id AS changeId, source_id AS sourceId, entity_type AS entityType,"
+        + " identifier AS identifier, relation_type AS relationType, created_at AS createdAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE created_at >= #{createdAt} AND source_id != #{sourceId}"
+        + " ORDER BY created_at LIMIT #{limit}";
+  }
+
+  public String selectCurrentTimeMillis() {
+    return "SELECT " + currentTimeMillis();
+  }
+
+  public String selectMaxCreatedAt() {
+    return "SELECT MAX(created_at) FROM " + TABLE_NAME;
+  }
+
+  public String selectMinCreatedAtAfter(@Param("createdAt") Long createdAt) {
+    return "SELECT MIN(created_at) FROM " + TABLE_NAME + " WHERE created_at > #{createdAt}";
+  }
+
+  protected String currentTimeMillis() {
+    return "(UNIX_TIMESTAMP() * 1000.0 + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000)";
+  }
+
+  public String deleteEntityChangesByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return "DELETE FROM "
+        + TABLE_NAME
+        + " WHERE created_at < #{legacyTimeline} LIMIT #{limit}";
+  }
+}
@@ -22,6 +22,7 @@ import static org.apache.gravitino.storage.relational.mapper.GroupMetaMapper.GRO
 import static org.apache.gravitino.storage.relational.mapper.RoleMetaMapper.GROUP_ROLE_RELATION_TABLE_NAME;
 import static org.apache.gravitino.storage.relational.mapper.RoleMetaMapper.ROLE_TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
 import org.apache.gravitino.storage.relational.po.GroupPO;
 import org.apache.ibatis.annotations.Param;
@@ -47,6 +48,23 @@ public class GroupMetaBaseSQLProvider {
         + " AND gt.deleted_at = 0 AND mt.deleted_at = 0";
   }
 
+  public String listGroupPOsByGroupIds(@Param("groupIds") List<Long> groupIds) {
+    return "<script>"
+        + "SELECT group_id as groupId, group_name as groupName,"
+        + " metalake_id as metalakeId,"
+        + " audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + GROUP_TABLE_NAME
+        + " WHERE group_id IN ("
+        + "<foreach collection='groupIds' item='groupId' separator=','>"
+        + "#{groupId}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String listExtendedGroupPOsByMetalakeId(Long metalakeId) {
     return "SELECT gt.group_id as groupId, gt.group_name as groupName,"
         + " gt.metalake_id as metalakeId,"
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.IdGeneratorNodeMapper.TABLE_NAME;
+
+import org.apache.ibatis.annotations.Param;
+
+public class IdGeneratorNodeBaseSQLProvider {
+
+  public String listNodeIds() {
+    return "SELECT node_id FROM " + TABLE_NAME + " ORDER BY node_id";
+  }
+
+  public String insertNode(
+      @Param("nodeId") int nodeId,
+      @Param("holder") String holder,
+      @Param("expireAt") long expireAt,
+      @Param("lastIdMillis") long lastIdMillis) {
+    return "INSERT INTO "
+        + TABLE_NAME
+        + " (node_id, holder, expire_at, last_id_millis)"
+        + " VALUES (#{nodeId}, #{holder}, #{expireAt}, #{lastIdMillis})";
+  }
+
+  public String takeExpiredNode(
+      @Param("nodeId") int nodeId,
+      @Param("holder") String holder,
+      @Param("expireAt") long expireAt,
+      @Param("lastIdMillis") long lastIdMillis,
+      @Param("now") long now,
+      @Param("firstIdMillis") long firstIdMillis) {
+    return "UPDATE "
+        + TABLE_NAME
+        + " SET holder = #{holder}, expire_at = #{expireAt}, last_id_millis = #{lastIdMillis}"
+        + " WHERE node_id = #{nodeId} AND expire_at < #{now}"
+        + " AND last_id_millis < #{firstIdMillis}";
+  }
+
+  public String renewNode(
+      @Param("nodeId") int nodeId,
+      @Param("holder") String holder,
+      @Param("expireAt") long expireAt,
+      @Param("lastIdMillis") long lastIdMillis) {
+    return "UPDATE "
+        + TABLE_NAME
+        + " SET expire_at = #{expireAt}, last_id_millis = #{lastIdMillis}"
+        + " WHERE node_id = #{nodeId} AND holder = #{holder}";
+  }
+}
@@ -67,6 +67,23 @@ public class ModelMetaBaseSQLProvider {
         + " WHERE schema_id = #{schemaId} AND deleted_at = 0";
   }
 
+  public String listModelPOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit) {
+    return "<script>"
+        + "SELECT model_id AS modelId, model_name AS modelName, metalake_id AS metalakeId,"
+        + " catalog_id AS catalogId, schema_id AS schemaId, model_comment AS modelComment,"
+        + " model_properties AS modelProperties, model_latest_version AS"
+        + " modelLatestVersion, audit_info AS auditInfo, deleted_at AS deletedAt"
+        + " FROM "
+        + ModelMetaMapper.TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND deleted_at = 0"
+        + "<if test='afterName != null'> AND model_name &gt; #{afterName}</if>"
+        + " ORDER BY model_name LIMIT #{limit}"
+        + "</script>";
+  }
+
   public String listModelPOsByModelIds(List<Long> modelIds) {
     return "<script>"
         + " SELECT model_id AS modelId, model_name AS modelName, metalake_id AS metalakeId,"
@@ -84,6 +101,23 @@ public class ModelMetaBaseSQLProvider {
         + "</script>";
   }
 
+  public String listModelPOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("modelNames") List<String> modelNames) {
+    return "<script>"
+        + "SELECT model_id AS modelId, model_name AS modelName, metalake_id AS metalakeId,"
+        + " catalog_id AS catalogId, schema_id AS schemaId, model_comment AS modelComment,"
+        + " model_properties AS modelProperties, model_latest_version AS"
+        + " modelLatestVersion, audit_info AS auditInfo, deleted_at AS deletedAt"
+        + " FROM "
+        + ModelMetaMapper.TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND model_name IN ("
+        + "<foreach collection='modelNames' item='modelName' separator=','>"
+        + "#{modelName}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String selectModelMetaBySchemaIdAndModelName(
       @Param("schemaId") Long schemaId, @Param("modelName") String modelName) {
     return "SELECT model_id AS modelId, model_name AS modelName, metalake_id AS metalakeId,"
@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import static org.apache.gravitino.storage.relational.mapper.OwnerMetaMapper.OWNER_TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
@@ -74,6 +75,29 @@ public class OwnerMetaBaseSQLProvider {
         + " ot.deleted_at = 0 AND gt.deleted_at = 0";
   }
 
+  public String listOwnerRelsByMetadataObjectIdsAndType(
+      @Param("metadataObjectIds") List<Long> metadataObjectIds,
+      @Param("metadataObjectType") String metadataObjectType) {
+    return "<script>"
+        + "SELECT metalake_id as metalakeId,"
+        + " owner_id as ownerId,"
+        + " owner_type as ownerType,"
+        + " metadata_object_id as metadataObjectId,"
+        + " metadata_object_type as metadataObjectType,"
+        + " audit_info as auditInfo,"
+        + " current_version as currentVersion,"
+        + " last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + OWNER_TABLE_NAME
+        + " WHERE metadata_object_id IN ("
+        + "<foreach collection='metadataObjectIds' item='metadataObjectId' separator=','>"
+        + "#{metadataObjectId}"
+        + "</foreach>"
+        + ") AND metadata_object_type = #{metadataObjectType} AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String insertOwnerRel(@Param("ownerRelPO") OwnerRelPO ownerRelPO) {
     return "INSERT INTO "
         + OWNER_TABLE_NAME
@@ -21,6 +21,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.ibatis.annotations.Param;
 
 public class TableColumnBaseSQLProvider {
@@ -48,6 +49,33 @@ public class TableColumnBaseSQLProvider {
         + " AND t1.table_id = #{tableId}";
   }
 
+  public String listColumnPOsByTablePOs(@Param("tablePOs") List<TablePO> tablePOs) {
+    return "<script>"
+        + "SELECT t1.column_id AS columnId, t1.column_name AS columnName,"
+        + " t1.column_position AS columnPosition,"
+        + " t1.metalake_id AS metalakeId, t1.catalog_id AS catalogId,"
+        + " t1.schema_id AS schemaId, t1.table_id AS tableId,"
+        + " t1.table_version AS tableVersion, t1.column_type AS columnType,"
+        + " t1.column_comment AS columnComment, t1.column_nullable AS nullable,"
+        + " t1.column_auto_increment AS autoIncrement,"
+        + " t1.column_default_value AS defaultValue, t1.column_op_type AS columnOpType,"
+        + " t1.deleted_at AS deletedAt, t1.audit_info AS auditInfo"
+        + " FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " t1 JOIN ("
+        + " SELECT table_id, column_id, MAX(table_version) AS max_table_version"
+        + " FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " WHERE deleted_at = 0 AND ("
+        + "<foreach collection='tablePOs' item='tablePO' separator=' OR '>"
+        + "(table_id = #{tablePO.tableId} AND table_version &lt;= #{tablePO.currentVersion})"
+        + "</foreach>"
+        + ") GROUP BY table_id, column_id) t2"
+        + " ON t1.table_id = t2.table_id AND t1.column_id = t2.column_id"
+        + " AND t1.table_version = t2.max_table_version"
+        + "</script>";
+  }
+
   public String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
     return "<script>"
         + "INSERT INTO "
@@ -74,6 +102,24 @@ public class TableColumnBaseSQLProvider {
         + " WHERE table_id = #{tableId} AND deleted_at = 0";
   }
 
+  public String softDeleteColumnsBeforeVersion(
+      @Param("tableId") Long tableId,
+      @Param("columnIds") List<Long> columnIds,
+      @Param("tableVersion") Long tableVersion) {
+    return "<script>"
+        + "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE table_id = #{tableId} AND table_version &lt; #{tableVersion}"
+        + " AND column_id IN ("
+        + "<foreach collection='columnIds' item='columnId' separator=','>"
+        + "#{columnId}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String softDeleteColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return "UPDATE "
         + TableColumnMapper.COLUMN_TABLE_NAME
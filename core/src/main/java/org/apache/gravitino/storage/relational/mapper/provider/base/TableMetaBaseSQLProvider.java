@@ -37,6 +37,24 @@ public class TableMetaBaseSQLProvider {
         + " WHERE schema_id = #{schemaId} AND deleted_at = 0";
   }
 
+  public String listTablePOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit) {
+    return "<script>"
+        + "SELECT table_id as tableId, table_name as tableName,"
+        + " metalake_id as metalakeId, catalog_id as catalogId,"
+        + " schema_id as schemaId, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND deleted_at = 0"
+        + "<if test='afterName != null'> AND table_name &gt; #{afterName}</if>"
+        + " ORDER BY table_name LIMIT #{limit}"
+        + "</script>";
+  }
+
   public String listTablePOsByTableIds(List<Long> tableIds) {
     return "<script>"
         + " SELECT table_id as tableId, table_name as tableName,"
@@ -55,6 +73,24 @@ public class TableMetaBaseSQLProvider {
         + "</script>";
   }
 
+  public String listTablePOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames) {
+    return "<script>"
+        + "SELECT table_id as tableId, table_name as tableName,"
+        + " metalake_id as metalakeId, catalog_id as catalogId,"
+        + " schema_id as schemaId, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND table_name IN ("
+        + "<foreach collection='tableNames' item='tableName' separator=','>"
+        + "#{tableName}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String selectTableIdBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("tableName") String name) {
     return "SELECT table_id as tableId FROM "
@@ -44,6 +44,30 @@ public class TagMetaBaseSQLProvider {
         + " WHERE mm.metalake_name = #{metalakeName} AND tm.deleted_at = 0 AND mm.deleted_at = 0";
   }
 
+  public String listTagPOsByMetalakeAfterName(
+      @Param("metalakeName") String metalakeName,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit) {
+    return "<script>"
+        + "SELECT tm.tag_id as tagId, tm.tag_name as tagName,"
+        + " tm.metalake_id as metalakeId,"
+        + " tm.tag_comment as comment,"
+        + " tm.properties as properties,"
+        + " tm.audit_info as auditInfo,"
+        + " tm.current_version as currentVersion,"
+        + " tm.last_version as lastVersion,"
+        + " tm.deleted_at as deletedAt"
+        + " FROM "
+        + TAG_TABLE_NAME
+        + " tm JOIN "
+        + MetalakeMetaMapper.TABLE_NAME
+        + " mm ON tm.metalake_id = mm.metalake_id"
+        + " WHERE mm.metalake_name = #{metalakeName} AND tm.deleted_at = 0 AND mm.deleted_at = 0"
+        + "<if test='afterName != null'> AND tm.tag_name &gt; #{afterName}</if>"
+        + " ORDER BY tm.tag_name LIMIT #{limit}"
+        + "</script>";
+  }
+
   public String listTagPOsByMetalakeAndTagNames(
       @Param("metalakeName") String metalakeName, @Param("tagNames") List<String> tagNames) {
     return "<script>"
@@ -91,6 +91,24 @@ public class TopicMetaBaseSQLProvider {
         + " WHERE schema_id = #{schemaId} AND deleted_at = 0";
   }
 
+  public String listTopicPOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") Integer limit) {
+    return "<script>"
+        + "SELECT topic_id as topicId, topic_name as topicName, metalake_id as metalakeId,"
+        + " catalog_id as catalogId, schema_id as schemaId,"
+        + " comment as comment, properties as properties, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND deleted_at = 0"
+        + "<if test='afterName != null'> AND topic_name &gt; #{afterName}</if>"
+        + " ORDER BY topic_name LIMIT #{limit}"
+        + "</script>";
+  }
+
   public String listTopicPOsByTopicIds(@Param("topicIds") List<Long> topicIds) {
     return "<script>"
         + " SELECT topic_id as topicId, topic_name as topicName, metalake_id as metalakeId,"
@@ -109,6 +127,24 @@ public class TopicMetaBaseSQLProvider {
         + "</script>";
   }
 
+  public String listTopicPOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("topicNames") List<String> topicNames) {
+    return "<script>"
+        + "SELECT topic_id as topicId, topic_name as topicName, metalake_id as metalakeId,"
+        + " catalog_id as catalogId, schema_id as schemaId,"
+        + " comment as comment, properties as properties, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND topic_name IN ("
+        + "<foreach collection='topicNames' item='topicName' separator=','>"
+        + "#{topicName}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String selectTopicMetaBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("topicName") String topicName) {
     return "SELECT topic_id as topicId, topic_name as topicName,"
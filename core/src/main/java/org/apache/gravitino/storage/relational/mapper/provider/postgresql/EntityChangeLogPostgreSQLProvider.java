@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.postgresql;
+
+import static org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper.TABLE_NAME;
+
+import org.apache.gravitino.storage.relational.mapper.provider.base.EntityChangeLogBaseSQLProvider;
+import org.apache.ibatis.annotations.Param;
+
+public class EntityChangeLogPostgreSQLProvider extends EntityChangeLogBaseSQLProvider {
+
+  @Override
+  protected String currentTimeMillis() {
+    return "floor(extract(epoch from((current_timestamp - timestamp '1970-01-01 00:00:00')*1000)))";
+  }
+
+  @Override
+  public String deleteEntityChangesByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return "DELETE FROM "
+        + TABLE_NAME
+        + " WHERE change_id IN (SELECT change_id FROM "
+        + TABLE_NAME
+        + " WHERE created_at < #{legacyTimeline} LIMIT #{limit})";
+  }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.storage.relational.mapper.provider.postgresql;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TableColumnBaseSQLProvider;
 import org.apache.ibatis.annotations.Param;
@@ -33,6 +34,25 @@ public class TableColumnPostgreSQLProvider extends TableColumnBaseSQLProvider {
         + " WHERE table_id = #{tableId} AND deleted_at = 0";
   }
 
+  @Override
+  public String softDeleteColumnsBeforeVersion(
+      @Param("tableId") Long tableId,
+      @Param("columnIds") List<Long> columnIds,
+      @Param("tableVersion") Long tableVersion) {
+    return "<script>"
+        + "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE table_id = #{tableId} AND table_version &lt; #{tableVersion}"
+        + " AND column_id IN ("
+        + "<foreach collection='columnIds' item='columnId' separator=','>"
+        + "#{columnId}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   @Override
   public String softDeleteColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return "UPDATE "
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * This class is the persistent object of the compressed snapshot of all the columns of a table
+ * version.
+ */
+@Getter
+@Accessors(fluent = true)
+@EqualsAndHashCode
+@ToString(exclude = "columns")
+public class ColumnSnapshotPO {
+
+  private Long tableId;
+  private Long tableVersion;
+  private Long metalakeId;
+  private Long catalogId;
+  private Long schemaId;
+  private Integer columnCount;
+  private byte[] columns;
+
+  public ColumnSnapshotPO() {
+    // Default constructor for JPA
+  }
+
+  @lombok.Builder(setterPrefix = "with")
+  private ColumnSnapshotPO(
+      Long tableId,
+      Long tableVersion,
+      Long metalakeId,
+      Long catalogId,
+      Long schemaId,
+      Integer columnCount,
+      byte[] columns) {
+    Preconditions.checkArgument(tableId != null, "tableId cannot be null");
+    Preconditions.checkArgument(tableVersion != null, "tableVersion cannot be null");
+    Preconditions.checkArgument(metalakeId != null, "metalakeId cannot be null");
+    Preconditions.checkArgument(catalogId != null, "catalogId cannot be null");
+    Preconditions.checkArgument(schemaId != null, "schemaId cannot be null");
+    Preconditions.checkArgument(columnCount != null, "columnCount cannot be null");
+    Preconditions.checkArgument(columns != null, "columns cannot be null");
+
+    this.tableId = tableId;
+    this.tableVersion = tableVersion;
+    this.metalakeId = metalakeId;
+    this.catalogId = catalogId;
+    this.schemaId = schemaId;
+    this.columnCount = columnCount;
+    this.columns = columns;
+  }
+
+  public static class ColumnSnapshotPOBuilder {
+    // Builder class for ColumnSnapshotPO
+    // Lombok will generate the builder methods based on the fields defined in ColumnSnapshotPO
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+import org.apache.commons.lang3.StringUtils;
+
+/** This class is the persistent object of an entity change recorded for cache invalidation. */
+@Getter
+@Accessors(fluent = true)
+@EqualsAndHashCode
+@ToString
+public class EntityChangeLogPO {
+
+  private Long changeId;
+  private String sourceId;
+  private String entityType;
+  private String identifier;
+  private String relationType;
+  // Set by the database when the change is inserted, so all the servers share one clock.
+  private Long createdAt;
+
+  public EntityChangeLogPO() {
+    // Default constructor for JPA
+  }
+
+  @lombok.Builder(setterPrefix = "with")
+  private EntityChangeLogPO(
+      Long changeId,
+      String sourceId,
+      String entityType,
+      String identifier,
+      String relationType) {
+    Preconditions.checkArgument(changeId != null, "changeId cannot be null");
+    Preconditions.checkArgument(StringUtils.isNotBlank(sourceId), "sourceId cannot be blank");
+    Preconditions.checkArgument(StringUtils.isNotBlank(entityType), "entityType cannot be blank");
+    Preconditions.checkArgument(StringUtils.isNotBlank(identifier), "identifier cannot be blank");
+
+    this.changeId = changeId;
+    this.sourceId = sourceId;
+    this.entityType = entityType;
+    this.identifier = identifier;
+    this.relationType = relationType;
+  }
+
+  public static class EntityChangeLogPOBuilder {
+    // Builder class for EntityChangeLogPO
+    // Lombok will generate the builder methods based on the fields defined in EntityChangeLogPO
+  }
+}
@@ -34,7 +34,9 @@ import org.apache.gravitino.exceptions.NonEmptyEntityException;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.SchemaEntity;
 import org.apache.gravitino.storage.relational.helper.CatalogIds;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.ColumnSnapshotMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
 import org.apache.gravitino.storage.relational.mapper.ModelMetaMapper;
@@ -84,9 +86,16 @@ public class CatalogMetaService {
   }
 
   public CatalogIds getCatalogIdByMetalakeAndCatalogName(String metalakeName, String catalogName) {
-    return SessionUtils.getWithoutCommit(
-        CatalogMetaMapper.class,
-        mapper -> mapper.selectCatalogIdByMetalakeNameAndCatalogName(metalakeName, catalogName));
+    return EntityIdCache.getInstance()
+        .getCatalogIds(
+            metalakeName,
+            catalogName,
+            () ->
+                SessionUtils.getWithoutCommit(
+                    CatalogMetaMapper.class,
+                    mapper ->
+                        mapper.selectCatalogIdByMetalakeNameAndCatalogName(
+                            metalakeName, catalogName)));
   }
 
   // Catalog may be deleted, so the CatalogPO may be null.
@@ -138,6 +147,27 @@ public class CatalogMetaService {
     return POConverters.fromCatalogPO(catalogPO, identifier.namespace());
   }
 
+  /**
+   * Gets the catalogs with the given identifiers. The catalogs of the same namespace are loaded
+   * with one query.
+   *
+   * @param identifiers The identifiers of the catalogs.
+   * @return The catalogs in the order of the given identifiers, the catalogs that do not exist are
+   *     skipped.
+   */
+  public List<CatalogEntity> batchGetCatalogByIdentifier(List<NameIdentifier> identifiers) {
+    identifiers.forEach(NameIdentifierUtil::checkCatalog);
+    return CommonMetaService.getInstance()
+        .batchGetByNamespace(
+            identifiers,
+            (metalakeId, namespace, names) ->
+                POConverters.fromCatalogPOs(
+                    SessionUtils.getWithoutCommit(
+                        CatalogMetaMapper.class,
+                        mapper -> mapper.listCatalogPOsByMetalakeIdAndNames(metalakeId, names)),
+                    namespace));
+  }
+
   public List<CatalogEntity> listCatalogsByNamespace(Namespace namespace) {
     NamespaceUtil.checkCatalog(namespace);
     List<CatalogPO> catalogPOS =
@@ -237,6 +267,10 @@ public class CatalogMetaService {
               SessionUtils.doWithoutCommit(
                   TableColumnMapper.class,
                   mapper -> mapper.softDeleteColumnsByCatalogId(catalogId)),
+          () ->
+              SessionUtils.doWithoutCommit(
+                  ColumnSnapshotMapper.class,
+                  mapper -> mapper.deleteColumnSnapshotsByCatalogId(catalogId)),
           () ->
               SessionUtils.doWithoutCommit(
                   FilesetMetaMapper.class,
@@ -20,7 +20,19 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.storage.relational.helper.CatalogIds;
@@ -30,6 +42,28 @@ import org.apache.gravitino.storage.relational.helper.SchemaIds;
 public class CommonMetaService {
   private static final CommonMetaService INSTANCE = new CommonMetaService();
 
+  // The maximum number of names bound to one IN query, it keeps a query under the limit of bound
+  // parameters of the databases.
+  private static final int MAX_NAMES_PER_QUERY = 1000;
+
+  /**
+   * Loads the entities with the given names under a parent entity.
+   *
+   * @param <E> The type of the entities.
+   */
+  @FunctionalInterface
+  public interface BatchEntityLoader<E> {
+    /**
+     * Loads the entities with the given names under a parent entity.
+     *
+     * @param parentEntityId The id of the parent entity.
+     * @param namespace The namespace of the entities.
+     * @param names The names of the entities.
+     * @return The entities that exist, in any order.
+     */
+    List<E> load(Long parentEntityId, Namespace namespace, List<String> names);
+  }
+
   public static CommonMetaService getInstance() {
     return INSTANCE;
   }
@@ -145,4 +179,48 @@ public class CommonMetaService {
         throw new IllegalArgumentException("Namespace length should be less than or equal to 3.");
     }
   }
+
+  /**
+   * Gets the entities with the given identifiers. The parent entity id of each namespace is
+   * resolved once, and the entities of the same namespace are loaded with the IN queries of the
+   * loader instead of one query per entity.
+   *
+   * @param identifiers The identifiers of the entities.
+   * @param loader The loader of the entities with the given names under a parent entity.
+   * @return The entities in the order of the given identifiers, the entities that do not exist are
+   *     skipped.
+   * @param <E> The type of the entities.
+   */
+  public <E extends HasIdentifier> List<E> batchGetByNamespace(
+      List<NameIdentifier> identifiers, BatchEntityLoader<E> loader) {
+    Map<Namespace, Set<String>> namesByNamespace = new LinkedHashMap<>();
+    for (NameIdentifier identifier : identifiers) {
+      namesByNamespace
+          .computeIfAbsent(identifier.namespace(), k -> new LinkedHashSet<>())
+          .add(identifier.name());
+    }
+
+    Map<NameIdentifier, E> entitiesByIdentifier = new HashMap<>();
+    for (Map.Entry<Namespace, Set<String>> entry : namesByNamespace.entrySet()) {
+      Namespace namespace = entry.getKey();
+      Long parentEntityId;
+      try {
+        parentEntityId = getParentEntityIdByNamespace(namespace);
+      } catch (NoSuchEntityException e) {
+        continue;
+      }
+
+      List<String> names = new ArrayList<>(entry.getValue());
+      for (List<String> partition : Lists.partition(names, MAX_NAMES_PER_QUERY)) {
+        loader
+            .load(parentEntityId, namespace, partition)
+            .forEach(entity -> entitiesByIdentifier.put(entity.nameIdentifier(), entity));
+      }
+    }
+
+    return identifiers.stream()
+        .map(entitiesByIdentifier::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
 }
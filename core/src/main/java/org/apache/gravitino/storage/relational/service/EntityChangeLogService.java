@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+
+/**
+ * The service class for the entity change log. It provides the basic database operations for the
+ * changes used to invalidate the entity caches of the other Gravitino servers.
+ */
+public class EntityChangeLogService {
+
+  private static final EntityChangeLogService INSTANCE = new EntityChangeLogService();
+
+  public static EntityChangeLogService getInstance() {
+    return INSTANCE;
+  }
+
+  private EntityChangeLogService() {}
+
+  /**
+   * Inserts the entity changes. If a transaction is already open in the current thread, the changes
+   * are inserted in that transaction and are committed or rolled back together with it.
+   *
+   * @param changes The entity changes to insert.
+   */
+  public void insertEntityChanges(List<EntityChangeLogPO> changes) {
+    if (changes == null || changes.isEmpty()) {
+      return;
+    }
+
+    SessionUtils.doWithCommit(
+        EntityChangeLogMapper.class, mapper -> mapper.insertEntityChanges(changes));
+  }
+
+  public List<EntityChangeLogPO> listEntityChangesSince(
+      long createdAt, String excludedSourceId, int limit) {
+    // A read replica may not have the latest changes, which would be skipped by the next poll.
+    return SessionUtils.getFromPrimaryWithoutCommit(
+        EntityChangeLogMapper.class,
+        mapper -> mapper.listEntityChangesSince(createdAt, excludedSourceId, limit));
+  }
+
+  /**
+   * Gets the current time of the database in milliseconds, the clock of the created time of the
+   * entity changes.
+   *
+   * @return The current time of the database in milliseconds.
+   */
+  public long currentTimeMillis() {
+    return SessionUtils.getFromPrimaryWithoutCommit(
+        EntityChangeLogMapper.class, EntityChangeLogMapper::selectCurrentTimeMillis);
+  }
+
+  public int deleteEntityChangesByLegacyTimeline(long legacyTimeline, int limit) {
+    return SessionUtils.doWithCommitAndFetchResult(
+        EntityChangeLogMapper.class,
+        mapper -> mapper.deleteEntityChangesByLegacyTimeline(legacyTimeline, limit));
+  }
+}
@@ -113,6 +113,27 @@ public class FilesetMetaService {
     return POConverters.fromFilesetPO(filesetPO, identifier.namespace());
   }
 
+  /**
+   * Gets the filesets with the given identifiers. The filesets of the same namespace are loaded
+   * with one query.
+   *
+   * @param identifiers The identifiers of the filesets.
+   * @return The filesets in the order of the given identifiers, the filesets that do not exist are
+   *     skipped.
+   */
+  public List<FilesetEntity> batchGetFilesetByIdentifier(List<NameIdentifier> identifiers) {
+    identifiers.forEach(NameIdentifierUtil::checkFileset);
+    return CommonMetaService.getInstance()
+        .batchGetByNamespace(
+            identifiers,
+            (schemaId, namespace, names) ->
+                POConverters.fromFilesetPOs(
+                    SessionUtils.getWithoutCommit(
+                        FilesetMetaMapper.class,
+                        mapper -> mapper.listFilesetPOsBySchemaIdAndNames(schemaId, names)),
+                    namespace));
+  }
+
   public List<FilesetEntity> listFilesetsByNamespace(Namespace namespace) {
     NamespaceUtil.checkFileset(namespace);
 
@@ -125,6 +146,29 @@ public class FilesetMetaService {
     return POConverters.fromFilesetPOs(filesetPOs, namespace);
   }
 
+  /**
+   * Lists at most {@code limit} filesets of the namespace whose names sort after the given name,
+   * ordered by name.
+   *
+   * @param namespace The namespace of the filesets.
+   * @param afterName The name to list after, or null to list from the first fileset.
+   * @param limit The maximum number of filesets to return.
+   * @return The filesets ordered by name.
+   */
+  public List<FilesetEntity> listFilesetsByNamespace(
+      Namespace namespace, String afterName, int limit) {
+    NamespaceUtil.checkFileset(namespace);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<FilesetPO> filesetPOs =
+        SessionUtils.getWithoutCommit(
+            FilesetMetaMapper.class,
+            mapper -> mapper.listFilesetPOsBySchemaIdAfterName(schemaId, afterName, limit));
+
+    return POConverters.fromFilesetPOs(filesetPOs, namespace);
+  }
+
   public void insertFileset(FilesetEntity filesetEntity, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkFileset(filesetEntity.nameIdentifier());
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.mapper.IdGeneratorNodeMapper;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+
+/**
+ * The service class for the leases of the node ids of the time-ordered id generator. It provides
+ * the basic database operations to acquire, renew and release a node id.
+ */
+public class IdGeneratorNodeService {
+
+  private static final IdGeneratorNodeService INSTANCE = new IdGeneratorNodeService();
+
+  public static IdGeneratorNodeService getInstance() {
+    return INSTANCE;
+  }
+
+  private IdGeneratorNodeService() {}
+
+  public List<Integer> listNodeIds() {
+    // Read from the primary, a read replica may miss the latest leases.
+    return SessionUtils.getFromPrimaryWithoutCommit(
+        IdGeneratorNodeMapper.class, IdGeneratorNodeMapper::listNodeIds);
+  }
+
+  public void insertNode(int nodeId, String holder, long expireAt, long lastIdMillis) {
+    SessionUtils.doWithCommit(
+        IdGeneratorNodeMapper.class,
+        mapper -> mapper.insertNode(nodeId, holder, expireAt, lastIdMillis));
+  }
+
+  /**
+   * Takes a node id whose lease has expired, and whose ids are all earlier than the first id of the
+   * new holder.
+   *
+   * @param nodeId The node id to take.
+   * @param holder The new holder of the node id.
+   * @param expireAt The expiration of the new lease by the clock of the database.
+   * @param lastIdMillis The high-water mark of the timestamps of the ids of the new lease.
+   * @param now The current time of the database.
+   * @param firstIdMillis The timestamp of the first id the new holder may generate.
+   * @return true if the node id is taken, false if it is still leased by another holder, or its
+   *     high-water mark is not earlier than the first id of the new holder.
+   */
+  public boolean takeExpiredNode(
+      int nodeId, String holder, long expireAt, long lastIdMillis, long now, long firstIdMillis) {
+    return SessionUtils.doWithCommitAndFetchResult(
+            IdGeneratorNodeMapper.class,
+            mapper ->
+                mapper.takeExpiredNode(nodeId, holder, expireAt, lastIdMillis, now, firstIdMillis))
+        > 0;
+  }
+
+  /**
+   * Renews the lease of a node id and its high-water mark, or releases it with an expiration in the
+   * past.
+   *
+   * @return true if the lease is renewed, false if the node id is not held by the holder anymore.
+   */
+  public boolean renewNode(int nodeId, String holder, long expireAt, long lastIdMillis) {
+    return SessionUtils.doWithCommitAndFetchResult(
+            IdGeneratorNodeMapper.class,
+            mapper -> mapper.renewNode(nodeId, holder, expireAt, lastIdMillis))
+        > 0;
+  }
+}
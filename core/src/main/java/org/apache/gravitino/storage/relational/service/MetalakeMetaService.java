@@ -31,7 +31,9 @@ import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.exceptions.NonEmptyEntityException;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.ColumnSnapshotMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
@@ -84,8 +86,13 @@ public class MetalakeMetaService {
 
   public Long getMetalakeIdByName(String metalakeName) {
     Long metalakeId =
-        SessionUtils.getWithoutCommit(
-            MetalakeMetaMapper.class, mapper -> mapper.selectMetalakeIdMetaByName(metalakeName));
+        EntityIdCache.getInstance()
+            .getMetalakeId(
+                metalakeName,
+                () ->
+                    SessionUtils.getWithoutCommit(
+                        MetalakeMetaMapper.class,
+                        mapper -> mapper.selectMetalakeIdMetaByName(metalakeName)));
     if (metalakeId == null) {
       throw new NoSuchEntityException(
           NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
@@ -204,6 +211,10 @@ public class MetalakeMetaService {
                 SessionUtils.doWithoutCommit(
                     TableColumnMapper.class,
                     mapper -> mapper.softDeleteColumnsByMetalakeId(metalakeId)),
+            () ->
+                SessionUtils.doWithoutCommit(
+                    ColumnSnapshotMapper.class,
+                    mapper -> mapper.deleteColumnSnapshotsByMetalakeId(metalakeId)),
             () ->
                 SessionUtils.doWithoutCommit(
                     FilesetMetaMapper.class,
@@ -75,11 +75,55 @@ public class ModelMetaService {
     return modelPOs.stream().map(m -> POConverters.fromModelPO(m, ns)).collect(Collectors.toList());
   }
 
+  /**
+   * Lists at most {@code limit} models of the namespace whose names sort after the given name,
+   * ordered by name.
+   *
+   * @param ns The namespace of the models.
+   * @param afterName The name to list after, or null to list from the first model.
+   * @param limit The maximum number of models to return.
+   * @return The models ordered by name.
+   */
+  public List<ModelEntity> listModelsByNamespace(Namespace ns, String afterName, int limit) {
+    NamespaceUtil.checkModel(ns);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(ns);
+
+    List<ModelPO> modelPOs =
+        SessionUtils.getWithoutCommit(
+            ModelMetaMapper.class,
+            mapper -> mapper.listModelPOsBySchemaIdAfterName(schemaId, afterName, limit));
+
+    return modelPOs.stream().map(m -> POConverters.fromModelPO(m, ns)).collect(Collectors.toList());
+  }
+
   public ModelEntity getModelByIdentifier(NameIdentifier ident) {
     ModelPO modelPO = getModelPOByIdentifier(ident);
     return POConverters.fromModelPO(modelPO, ident.namespace());
   }
 
+  /**
+   * Gets the models with the given identifiers. The models of the same namespace are loaded
+   * with one query.
+   *
+   * @param identifiers The identifiers of the models.
+   * @return The models in the order of the given identifiers, the models that do not exist are
+   *     skipped.
+   */
+  public List<ModelEntity> batchGetModelByIdentifier(List<NameIdentifier> identifiers) {
+    identifiers.forEach(NameIdentifierUtil::checkModel);
+    return CommonMetaService.getInstance()
+        .batchGetByNamespace(
+            identifiers,
+            (schemaId, namespace, names) ->
+                SessionUtils.getWithoutCommit(
+                        ModelMetaMapper.class,
+                        mapper -> mapper.listModelPOsBySchemaIdAndNames(schemaId, names))
+                    .stream()
+                    .map(modelPO -> POConverters.fromModelPO(modelPO, namespace))
+                    .collect(Collectors.toList()));
+  }
+
   public void insertModel(ModelEntity modelEntity, boolean overwrite) throws IOException {
     NameIdentifierUtil.checkModel(modelEntity.nameIdentifier());
 
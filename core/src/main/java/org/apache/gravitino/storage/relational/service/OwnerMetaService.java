@@ -18,13 +18,20 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.authorization.AuthorizationUtils;
+import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.OwnerMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.UserMetaMapper;
 import org.apache.gravitino.storage.relational.po.GroupPO;
 import org.apache.gravitino.storage.relational.po.OwnerRelPO;
 import org.apache.gravitino.storage.relational.po.UserPO;
@@ -35,6 +42,9 @@ import org.apache.gravitino.utils.NameIdentifierUtil;
 /** This class is an utilization class to retrieve owner relation. */
 public class OwnerMetaService {
 
+  // The max number of ids bound to one query.
+  private static final int MAX_IDS_PER_QUERY = 1000;
+
   private OwnerMetaService() {}
 
   private static final OwnerMetaService INSTANCE = new OwnerMetaService();
@@ -78,6 +88,79 @@ public class OwnerMetaService {
     return Optional.empty();
   }
 
+  /**
+   * Retrieves the owners of the entities of the same type in a metalake. It queries the owner
+   * relations of the entities, then the owning users and groups, instead of querying them one
+   * entity at a time.
+   *
+   * @param metalake The metalake of the entities.
+   * @param entityIds The ids of the entities.
+   * @param type The type of the entities.
+   * @return The owners keyed by the entity ids, the entities without an owner are absent.
+   */
+  public Map<Long, Entity> batchGetOwners(
+      String metalake, List<Long> entityIds, Entity.EntityType type) {
+    List<OwnerRelPO> ownerRelPOs = new ArrayList<>();
+    // Split the ids so a query never exceeds the limit of bound parameters of the databases.
+    for (List<Long> partition : Lists.partition(entityIds, MAX_IDS_PER_QUERY)) {
+      ownerRelPOs.addAll(
+          SessionUtils.getWithoutCommit(
+              OwnerMetaMapper.class,
+              mapper -> mapper.listOwnerRelsByMetadataObjectIdsAndType(partition, type.name())));
+    }
+
+    List<Long> userIds = new ArrayList<>();
+    List<Long> groupIds = new ArrayList<>();
+    for (OwnerRelPO ownerRelPO : ownerRelPOs) {
+      if (Entity.EntityType.USER.name().equals(ownerRelPO.getOwnerType())) {
+        userIds.add(ownerRelPO.getOwnerId());
+      } else {
+        groupIds.add(ownerRelPO.getOwnerId());
+      }
+    }
+
+    Map<Long, Entity> users = new HashMap<>();
+    for (List<Long> partition : Lists.partition(userIds, MAX_IDS_PER_QUERY)) {
+      SessionUtils.getWithoutCommit(
+              UserMetaMapper.class, mapper -> mapper.listUserPOsByUserIds(partition))
+          .forEach(
+              userPO ->
+                  users.put(
+                      userPO.getUserId(),
+                      POConverters.fromUserPO(
+                          userPO,
+                          Collections.emptyList(),
+                          AuthorizationUtils.ofUserNamespace(metalake))));
+    }
+
+    Map<Long, Entity> groups = new HashMap<>();
+    for (List<Long> partition : Lists.partition(groupIds, MAX_IDS_PER_QUERY)) {
+      SessionUtils.getWithoutCommit(
+              GroupMetaMapper.class, mapper -> mapper.listGroupPOsByGroupIds(partition))
+          .forEach(
+              groupPO ->
+                  groups.put(
+                      groupPO.getGroupId(),
+                      POConverters.fromGroupPO(
+                          groupPO,
+                          Collections.emptyList(),
+                          AuthorizationUtils.ofGroupNamespace(metalake))));
+    }
+
+    Map<Long, Entity> owners = new HashMap<>();
+    for (OwnerRelPO ownerRelPO : ownerRelPOs) {
+      Entity owner =
+          Entity.EntityType.USER.name().equals(ownerRelPO.getOwnerType())
+              ? users.get(ownerRelPO.getOwnerId())
+              : groups.get(ownerRelPO.getOwnerId());
+      // The owner may be deleted concurrently.
+      if (owner != null) {
+        owners.put(ownerRelPO.getMetadataObjectId(), owner);
+      }
+    }
+    return owners;
+  }
+
   public void setOwner(
       NameIdentifier entity,
       Entity.EntityType entityType,
@@ -23,6 +23,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -276,6 +277,67 @@ public class RoleMetaService {
     return POConverters.fromRolePO(rolePO, securableObjects, identifier.namespace());
   }
 
+  /**
+   * Gets the roles with the given identifiers. The roles of a metalake and their securable objects
+   * are loaded with one query each, no matter how many roles there are.
+   *
+   * @param identifiers The identifiers of the roles.
+   * @return The roles in the order of the given identifiers, the roles that do not exist are
+   *     skipped.
+   */
+  public List<RoleEntity> batchGetRoleByIdentifier(List<NameIdentifier> identifiers) {
+    identifiers.forEach(AuthorizationUtils::checkRole);
+
+    Map<String, List<String>> roleNamesByMetalake =
+        identifiers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    identifier -> identifier.namespace().level(0),
+                    Collectors.mapping(NameIdentifier::name, Collectors.toList())));
+
+    Map<NameIdentifier, RoleEntity> rolesByIdentifier = new HashMap<>();
+    for (Map.Entry<String, List<String>> entry : roleNamesByMetalake.entrySet()) {
+      String metalake = entry.getKey();
+      Long metalakeId;
+      try {
+        metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(metalake);
+      } catch (NoSuchEntityException e) {
+        continue;
+      }
+
+      List<String> roleNames = entry.getValue().stream().distinct().collect(Collectors.toList());
+      List<RolePO> rolePOs =
+          SessionUtils.getWithoutCommit(
+              RoleMetaMapper.class,
+              mapper -> mapper.listRolePOsByMetalakeIdAndNames(metalakeId, roleNames));
+      if (rolePOs.isEmpty()) {
+        continue;
+      }
+
+      List<Long> roleIds = rolePOs.stream().map(RolePO::getRoleId).collect(Collectors.toList());
+      Map<Long, List<SecurableObject>> securableObjectsByRoleId =
+          groupSecurableObjectsByRoleId(
+              SessionUtils.getWithoutCommit(
+                  SecurableObjectMapper.class,
+                  mapper -> mapper.listSecurableObjectsByRoleIds(roleIds)));
+
+      Namespace namespace = AuthorizationUtils.ofRoleNamespace(metalake);
+      for (RolePO rolePO : rolePOs) {
+        RoleEntity roleEntity =
+            POConverters.fromRolePO(
+                rolePO,
+                securableObjectsByRoleId.getOrDefault(rolePO.getRoleId(), Lists.newArrayList()),
+                namespace);
+        rolesByIdentifier.put(roleEntity.nameIdentifier(), roleEntity);
+      }
+    }
+
+    return identifiers.stream()
+        .map(rolesByIdentifier::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
   public boolean deleteRole(NameIdentifier identifier) {
     AuthorizationUtils.checkRole(identifier);
 
@@ -365,7 +427,13 @@ public class RoleMetaService {
 
   private static List<SecurableObject> listSecurableObjects(RolePO po) {
     List<SecurableObjectPO> securableObjectPOs = listSecurableObjectsByRoleId(po.getRoleId());
-    List<SecurableObject> securableObjects = Lists.newArrayList();
+    return groupSecurableObjectsByRoleId(securableObjectPOs)
+        .getOrDefault(po.getRoleId(), Lists.newArrayList());
+  }
+
+  private static Map<Long, List<SecurableObject>> groupSecurableObjectsByRoleId(
+      List<SecurableObjectPO> securableObjectPOs) {
+    Map<Long, List<SecurableObject>> securableObjectsByRoleId = new HashMap<>();
 
     securableObjectPOs.stream()
         .collect(Collectors.groupingBy(SecurableObjectPO::getType))
@@ -374,6 +442,7 @@ public class RoleMetaService {
               List<Long> objectIds =
                   objects.stream()
                       .map(SecurableObjectPO::getMetadataObjectId)
+                      .distinct()
                       .collect(Collectors.toList());
 
               // dynamically calling getter function based on type
@@ -390,9 +459,11 @@ public class RoleMetaService {
               for (SecurableObjectPO securableObjectPO : objects) {
                 String fullName = objectIdAndNameMap.get(securableObjectPO.getMetadataObjectId());
                 if (fullName != null) {
-                  securableObjects.add(
-                      POConverters.fromSecurableObjectPO(
-                          fullName, securableObjectPO, getType(securableObjectPO.getType())));
+                  securableObjectsByRoleId
+                      .computeIfAbsent(securableObjectPO.getRoleId(), id -> Lists.newArrayList())
+                      .add(
+                          POConverters.fromSecurableObjectPO(
+                              fullName, securableObjectPO, getType(securableObjectPO.getType())));
                 } else {
                   LOG.warn(
                       "The securable object {} {} may be deleted",
@@ -401,7 +472,7 @@ public class RoleMetaService {
                 }
               }
             });
-    return securableObjects;
+    return securableObjectsByRoleId;
   }
 
   private static RolePO getRolePOByMetalakeIdAndName(Long metalakeId, String roleName) {
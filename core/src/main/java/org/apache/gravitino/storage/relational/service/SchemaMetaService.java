@@ -34,7 +34,9 @@ import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.SchemaEntity;
 import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
 import org.apache.gravitino.storage.relational.helper.SchemaIds;
+import org.apache.gravitino.storage.relational.mapper.ColumnSnapshotMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
 import org.apache.gravitino.storage.relational.mapper.ModelMetaMapper;
@@ -83,11 +85,17 @@ public class SchemaMetaService {
 
   public SchemaIds getSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
       String metalakeName, String catalogName, String schemaName) {
-    return SessionUtils.getWithoutCommit(
-        SchemaMetaMapper.class,
-        mapper ->
-            mapper.selectSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
-                metalakeName, catalogName, schemaName));
+    return EntityIdCache.getInstance()
+        .getSchemaIds(
+            metalakeName,
+            catalogName,
+            schemaName,
+            () ->
+                SessionUtils.getWithoutCommit(
+                    SchemaMetaMapper.class,
+                    mapper ->
+                        mapper.selectSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
+                            metalakeName, catalogName, schemaName)));
   }
 
   // Schema may be deleted, so the SchemaPO may be null.
@@ -123,6 +131,27 @@ public class SchemaMetaService {
     return POConverters.fromSchemaPO(schemaPO, identifier.namespace());
   }
 
+  /**
+   * Gets the schemas with the given identifiers. The schemas of the same namespace are loaded
+   * with one query.
+   *
+   * @param identifiers The identifiers of the schemas.
+   * @return The schemas in the order of the given identifiers, the schemas that do not exist are
+   *     skipped.
+   */
+  public List<SchemaEntity> batchGetSchemaByIdentifier(List<NameIdentifier> identifiers) {
+    identifiers.forEach(NameIdentifierUtil::checkSchema);
+    return CommonMetaService.getInstance()
+        .batchGetByNamespace(
+            identifiers,
+            (catalogId, namespace, names) ->
+                POConverters.fromSchemaPOs(
+                    SessionUtils.getWithoutCommit(
+                        SchemaMetaMapper.class,
+                        mapper -> mapper.listSchemaPOsByCatalogIdAndNames(catalogId, names)),
+                    namespace));
+  }
+
   public List<SchemaEntity> listSchemasByNamespace(Namespace namespace) {
     NamespaceUtil.checkSchema(namespace);
 
@@ -134,6 +163,28 @@ public class SchemaMetaService {
     return POConverters.fromSchemaPOs(schemaPOs, namespace);
   }
 
+  /**
+   * Lists at most {@code limit} schemas of the namespace whose names sort after the given name,
+   * ordered by name.
+   *
+   * @param namespace The namespace of the schemas.
+   * @param afterName The name to list after, or null to list from the first schema.
+   * @param limit The maximum number of schemas to return.
+   * @return The schemas ordered by name.
+   */
+  public List<SchemaEntity> listSchemasByNamespace(
+      Namespace namespace, String afterName, int limit) {
+    NamespaceUtil.checkSchema(namespace);
+
+    Long catalogId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<SchemaPO> schemaPOs =
+        SessionUtils.getWithoutCommit(
+            SchemaMetaMapper.class,
+            mapper -> mapper.listSchemaPOsByCatalogIdAfterName(catalogId, afterName, limit));
+    return POConverters.fromSchemaPOs(schemaPOs, namespace);
+  }
+
   public void insertSchema(SchemaEntity schemaEntity, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkSchema(schemaEntity.nameIdentifier());
@@ -220,6 +271,10 @@ public class SchemaMetaService {
                 SessionUtils.doWithoutCommit(
                     TableColumnMapper.class,
                     mapper -> mapper.softDeleteColumnsBySchemaId(schemaId)),
+            () ->
+                SessionUtils.doWithoutCommit(
+                    ColumnSnapshotMapper.class,
+                    mapper -> mapper.deleteColumnSnapshotsBySchemaId(schemaId)),
             () ->
                 SessionUtils.doWithoutCommit(
                     FilesetMetaMapper.class,
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import java.util.Collections;
 import java.util.List;
@@ -25,12 +26,16 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.relational.mapper.ColumnSnapshotMapper;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.ColumnSnapshotPO;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -39,12 +44,51 @@ public class TableColumnMetaService {
 
   private static final TableColumnMetaService INSTANCE = new TableColumnMetaService();
 
+  // The max number of column rows inserted with one statement, it keeps the bound parameters of a
+  // statement below the limit of PostgreSQL.
+  private static final int MAX_COLUMNS_PER_INSERT = 1000;
+
+  // The max number of snapshots inserted with one statement, a snapshot holds all the columns of a
+  // table, so fewer of them keep a statement below the packet size limit of MySQL.
+  private static final int MAX_SNAPSHOTS_PER_INSERT = 50;
+
+  // Whether the columns of a table are stored as one compressed snapshot of its current version.
+  // The snapshot replaces the per-version column rows: only the latest row of each live column is
+  // kept for the column id and column level metadata lookups, the rows superseded by a new table
+  // version are soft deleted together with the older snapshot.
+  private volatile boolean columnSnapshotEnabled = false;
+
   private TableColumnMetaService() {}
 
   public static TableColumnMetaService getInstance() {
     return INSTANCE;
   }
 
+  public void init(Config config) {
+    this.columnSnapshotEnabled = config.get(Configs.ENTITY_RELATIONAL_COLUMN_SNAPSHOT_ENABLED);
+  }
+
+  @VisibleForTesting
+  void setColumnSnapshotEnabled(boolean columnSnapshotEnabled) {
+    this.columnSnapshotEnabled = columnSnapshotEnabled;
+  }
+
+  List<ColumnEntity> getColumnEntitiesByTableIdAndVersion(Long tableId, Long version) {
+    if (columnSnapshotEnabled) {
+      ColumnSnapshotPO snapshotPO =
+          SessionUtils.getWithoutCommit(
+              ColumnSnapshotMapper.class,
+              mapper -> mapper.selectColumnSnapshotByTableIdAndVersion(tableId, version));
+      // The table versions written before the snapshot is enabled have no snapshot, merge their
+      // column rows instead.
+      if (snapshotPO != null) {
+        return POConverters.fromColumnSnapshotPO(snapshotPO);
+      }
+    }
+
+    return POConverters.fromColumnPOs(getColumnsByTableIdAndVersion(tableId, version));
+  }
+
   List<ColumnPO> getColumnsByTableIdAndVersion(Long tableId, Long version) {
     List<ColumnPO> columnPOs =
         SessionUtils.getWithoutCommit(
@@ -57,6 +101,24 @@ public class TableColumnMetaService {
         .collect(Collectors.toList());
   }
 
+  Map<Long, List<ColumnEntity>> batchGetColumnEntitiesByTablePOs(List<TablePO> tablePOs) {
+    if (tablePOs.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    // The columns of all the tables are merged from the column rows with one query, the snapshots
+    // are not used since they are only stored for the table versions written after enabling them.
+    List<ColumnPO> columnPOs =
+        SessionUtils.getWithoutCommit(
+            TableColumnMapper.class, mapper -> mapper.listColumnPOsByTablePOs(tablePOs));
+    return columnPOs.stream()
+        .filter(c -> c.getColumnOpType() != ColumnPO.ColumnOpType.DELETE.value())
+        .collect(
+            Collectors.groupingBy(
+                ColumnPO::getTableId,
+                Collectors.collectingAndThen(Collectors.toList(), POConverters::fromColumnPOs)));
+  }
+
   Long getColumnIdByTableIdAndName(Long tableId, String columnName) {
     Long columnId =
         SessionUtils.getWithoutCommit(
@@ -93,8 +155,54 @@ public class TableColumnMetaService {
         POConverters.initializeColumnPOs(tablePO, columnEntities, ColumnPO.ColumnOpType.CREATE);
 
     // insertColumnPOs will be done in insertTable transaction, so we don't do commit here.
-    SessionUtils.doWithoutCommit(
-        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
+    doInsertColumnPOs(columnPOs);
+
+    if (columnSnapshotEnabled) {
+      List<ColumnSnapshotPO> snapshotPOs =
+          Collections.singletonList(POConverters.initializeColumnSnapshotPO(tablePO, columnPOs));
+      SessionUtils.doWithoutCommit(
+          ColumnSnapshotMapper.class, mapper -> mapper.insertColumnSnapshots(snapshotPOs));
+    }
+  }
+
+  void batchInsertColumnPOs(Map<TablePO, List<ColumnEntity>> columnEntitiesByTable) {
+    Map<TablePO, List<ColumnPO>> columnPOsByTable =
+        columnEntitiesByTable.entrySet().stream()
+            .collect(
+                Collectors.toMap(
+                    Map.Entry::getKey,
+                    e ->
+                        POConverters.initializeColumnPOs(
+                            e.getKey(), e.getValue(), ColumnPO.ColumnOpType.CREATE)));
+    List<ColumnPO> columnPOs =
+        columnPOsByTable.values().stream().flatMap(List::stream).collect(Collectors.toList());
+    if (columnPOs.isEmpty()) {
+      return;
+    }
+
+    // The columns of all the tables are inserted with multi-row statements in the transaction of
+    // batchInsertTables.
+    doInsertColumnPOs(columnPOs);
+
+    if (columnSnapshotEnabled) {
+      List<ColumnSnapshotPO> snapshotPOs =
+          columnPOsByTable.entrySet().stream()
+              .filter(e -> !e.getValue().isEmpty())
+              .map(e -> POConverters.initializeColumnSnapshotPO(e.getKey(), e.getValue()))
+              .collect(Collectors.toList());
+      for (List<ColumnSnapshotPO> partition :
+          Lists.partition(snapshotPOs, MAX_SNAPSHOTS_PER_INSERT)) {
+        SessionUtils.doWithoutCommit(
+            ColumnSnapshotMapper.class, mapper -> mapper.insertColumnSnapshots(partition));
+      }
+    }
+  }
+
+  private void doInsertColumnPOs(List<ColumnPO> columnPOs) {
+    for (List<ColumnPO> partition : Lists.partition(columnPOs, MAX_COLUMNS_PER_INSERT)) {
+      SessionUtils.doWithoutCommit(
+          TableColumnMapper.class, mapper -> mapper.insertColumnPOs(partition));
+    }
   }
 
   boolean deleteColumnsByTableId(Long tableId) {
@@ -102,6 +210,10 @@ public class TableColumnMetaService {
     Integer result =
         SessionUtils.getWithoutCommit(
             TableColumnMapper.class, mapper -> mapper.softDeleteColumnsByTableId(tableId));
+    // The snapshots are deleted even if they are disabled now, since a table overwritten later
+    // restarts from the first version and must not load the stale snapshot of the old table.
+    SessionUtils.doWithoutCommit(
+        ColumnSnapshotMapper.class, mapper -> mapper.deleteColumnSnapshotsByTableId(tableId));
     return result > 0;
   }
 
@@ -141,30 +253,62 @@ public class TableColumnMetaService {
                 .collect(Collectors.toMap(ColumnEntity::id, Function.identity()));
 
     List<ColumnPO> columnPOsToInsert = Lists.newArrayList();
+    List<Long> changedColumnIds = Lists.newArrayList();
     for (ColumnEntity newColumn : newColumns.values()) {
       ColumnEntity oldColumn = oldColumns.get(newColumn.id());
       // If the column is not existed in old columns, or if the column is updated, mark it as UPDATE
       if (oldColumn == null || !oldColumn.equals(newColumn)) {
         columnPOsToInsert.add(
             POConverters.initializeColumnPO(newTablePO, newColumn, ColumnPO.ColumnOpType.UPDATE));
+        changedColumnIds.add(newColumn.id());
       }
     }
 
-    // Mark the columns to DELETE if they are not existed in new columns.
+    // Mark the columns to DELETE if they are not existed in new columns. With the snapshot, the
+    // rows of a deleted column are soft deleted instead, so no DELETE row is needed.
     for (ColumnEntity oldColumn : oldColumns.values()) {
       if (!newColumns.containsKey(oldColumn.id())) {
-        columnPOsToInsert.add(
-            POConverters.initializeColumnPO(newTablePO, oldColumn, ColumnPO.ColumnOpType.DELETE));
+        if (!columnSnapshotEnabled) {
+          columnPOsToInsert.add(
+              POConverters.initializeColumnPO(
+                  newTablePO, oldColumn, ColumnPO.ColumnOpType.DELETE));
+        }
+        changedColumnIds.add(oldColumn.id());
       }
     }
 
     // If there is no change, directly return
-    if (columnPOsToInsert.isEmpty()) {
+    if (changedColumnIds.isEmpty()) {
       return;
     }
 
     // updateColumns will be done in updateTable transaction, so we don't do commit here.
-    SessionUtils.doWithoutCommit(
-        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOsToInsert));
+    if (!columnPOsToInsert.isEmpty()) {
+      doInsertColumnPOs(columnPOsToInsert);
+    }
+
+    if (columnSnapshotEnabled) {
+      // The snapshot of the new version holds all the columns, it replaces the older snapshot and
+      // the older rows of the changed columns, so neither of them piles up with the versions.
+      Long tableId = newTablePO.getTableId();
+      Long version = newTablePO.getCurrentVersion();
+      for (List<Long> partition : Lists.partition(changedColumnIds, MAX_COLUMNS_PER_INSERT)) {
+        SessionUtils.doWithoutCommit(
+            TableColumnMapper.class,
+            mapper -> mapper.softDeleteColumnsBeforeVersion(tableId, partition, version));
+      }
+
+      List<ColumnSnapshotPO> snapshotPOs =
+          Collections.singletonList(
+              POConverters.initializeColumnSnapshotPO(
+                  newTablePO,
+                  POConverters.initializeColumnPOs(
+                      newTablePO, newTable.columns(), ColumnPO.ColumnOpType.UPDATE)));
+      SessionUtils.doWithoutCommit(
+          ColumnSnapshotMapper.class,
+          mapper -> mapper.deleteColumnSnapshotsBeforeVersion(tableId, version));
+      SessionUtils.doWithoutCommit(
+          ColumnSnapshotMapper.class, mapper -> mapper.insertColumnSnapshots(snapshotPOs));
+    }
   }
 }
@@ -19,18 +19,23 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.storage.relational.mapper.OwnerMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.PolicyMetadataObjectRelMapper;
@@ -38,7 +43,6 @@ import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.mapper.StatisticMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
-import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
@@ -86,11 +90,67 @@ public class TableMetaService {
         CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
 
     TablePO tablePO = getTablePOBySchemaIdAndName(schemaId, identifier.name());
-    List<ColumnPO> columnPOs =
+    List<ColumnEntity> columns =
         TableColumnMetaService.getInstance()
-            .getColumnsByTableIdAndVersion(tablePO.getTableId(), tablePO.getCurrentVersion());
+            .getColumnEntitiesByTableIdAndVersion(
+                tablePO.getTableId(), tablePO.getCurrentVersion());
 
-    return POConverters.fromTableAndColumnPOs(tablePO, columnPOs, identifier.namespace());
+    return POConverters.fromTableAndColumns(tablePO, columns, identifier.namespace());
+  }
+
+  /**
+   * Gets the tables with the given identifiers. The tables of the same namespace and their columns
+   * are loaded with one query each.
+   *
+   * @param identifiers The identifiers of the tables.
+   * @return The tables in the order of the given identifiers, the tables that do not exist are
+   *     skipped.
+   */
+  public List<TableEntity> batchGetTableByIdentifier(List<NameIdentifier> identifiers) {
+    identifiers.forEach(NameIdentifierUtil::checkTable);
+    return CommonMetaService.getInstance()
+        .batchGetByNamespace(
+            identifiers,
+            (schemaId, namespace, names) -> {
+              List<TablePO> tablePOs =
+                  SessionUtils.getWithoutCommit(
+                      TableMetaMapper.class,
+                      mapper -> mapper.listTablePOsBySchemaIdAndNames(schemaId, names));
+              Map<Long, List<ColumnEntity>> columnsByTableId =
+                  TableColumnMetaService.getInstance().batchGetColumnEntitiesByTablePOs(tablePOs);
+              return tablePOs.stream()
+                  .map(
+                      tablePO ->
+                          POConverters.fromTableAndColumns(
+                              tablePO,
+                              columnsByTableId.getOrDefault(
+                                  tablePO.getTableId(), Collections.emptyList()),
+                              namespace))
+                  .collect(Collectors.toList());
+            });
+  }
+
+  /**
+   * Gets the ids of the tables with the given identifiers with the IN queries of their names. The
+   * columns of the tables are not loaded.
+   *
+   * @param identifiers The identifiers of the tables.
+   * @return The ids of the tables keyed by their identifiers, the tables that do not exist are
+   *     absent.
+   */
+  public Map<NameIdentifier, Long> batchGetTableIdByIdentifier(List<NameIdentifier> identifiers) {
+    identifiers.forEach(NameIdentifierUtil::checkTable);
+    return CommonMetaService.getInstance()
+        .batchGetByNamespace(
+            identifiers,
+            (schemaId, namespace, names) ->
+                POConverters.fromTablePOs(
+                    SessionUtils.getWithoutCommit(
+                        TableMetaMapper.class,
+                        mapper -> mapper.listTablePOsBySchemaIdAndNames(schemaId, names)),
+                    namespace))
+        .stream()
+        .collect(Collectors.toMap(TableEntity::nameIdentifier, TableEntity::id));
   }
 
   public List<TableEntity> listTablesByNamespace(Namespace namespace) {
@@ -105,6 +165,27 @@ public class TableMetaService {
     return POConverters.fromTablePOs(tablePOs, namespace);
   }
 
+  /**
+   * Lists at most {@code limit} tables of the namespace whose names sort after the given name,
+   * ordered by name.
+   *
+   * @param namespace The namespace of the tables.
+   * @param afterName The name to list after, or null to list from the first table.
+   * @param limit The maximum number of tables to return.
+   * @return The tables ordered by name.
+   */
+  public List<TableEntity> listTablesByNamespace(Namespace namespace, String afterName, int limit) {
+    NamespaceUtil.checkTable(namespace);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<TablePO> tablePOs =
+        SessionUtils.getWithoutCommit(
+            TableMetaMapper.class,
+            mapper -> mapper.listTablePOsBySchemaIdAfterName(schemaId, afterName, limit));
+    return POConverters.fromTablePOs(tablePOs, namespace);
+  }
+
   public void insertTable(TableEntity tableEntity, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkTable(tableEntity.nameIdentifier());
@@ -147,6 +228,67 @@ public class TableMetaService {
     }
   }
 
+  /**
+   * Inserts the tables of the same schema and their columns in one transaction.
+   *
+   * @param tableEntities The tables to insert.
+   * @param overwrite Whether to overwrite the existing tables.
+   * @throws IOException If the tables can not be inserted.
+   */
+  public void batchInsertTables(List<TableEntity> tableEntities, boolean overwrite)
+      throws IOException {
+    if (tableEntities.isEmpty()) {
+      return;
+    }
+
+    Namespace namespace = tableEntities.get(0).namespace();
+    try {
+      NamespaceUtil.checkTable(namespace);
+      // The tables are in the same schema, so the parent entity ids are fetched only once.
+      Long[] parentEntityIds =
+          CommonMetaService.getInstance().getParentEntityIdsByNamespace(namespace);
+      Map<TablePO, List<ColumnEntity>> columnEntitiesByTable = Maps.newLinkedHashMap();
+      for (TableEntity tableEntity : tableEntities) {
+        TablePO.Builder builder =
+            TablePO.builder()
+                .withMetalakeId(parentEntityIds[0])
+                .withCatalogId(parentEntityIds[1])
+                .withSchemaId(parentEntityIds[2]);
+        columnEntitiesByTable.put(
+            POConverters.initializeTablePOWithVersion(tableEntity, builder),
+            tableEntity.columns() == null ? Collections.emptyList() : tableEntity.columns());
+      }
+
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableMetaMapper.class,
+                  mapper ->
+                      columnEntitiesByTable
+                          .keySet()
+                          .forEach(
+                              po -> {
+                                if (overwrite) {
+                                  mapper.insertTableMetaOnDuplicateKeyUpdate(po);
+                                } else {
+                                  mapper.insertTableMeta(po);
+                                }
+                              })),
+          () -> {
+            // We need to delete the columns first if we want to overwrite the tables.
+            if (overwrite) {
+              for (TablePO po : columnEntitiesByTable.keySet()) {
+                TableColumnMetaService.getInstance().deleteColumnsByTableId(po.getTableId());
+              }
+            }
+          },
+          () -> TableColumnMetaService.getInstance().batchInsertColumnPOs(columnEntitiesByTable));
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(re, Entity.EntityType.TABLE, namespace.toString());
+      throw re;
+    }
+  }
+
   public <E extends Entity & HasIdentifier> TableEntity updateTable(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
     NameIdentifierUtil.checkTable(identifier);
@@ -157,11 +299,12 @@ public class TableMetaService {
         CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
 
     TablePO oldTablePO = getTablePOBySchemaIdAndName(schemaId, tableName);
-    List<ColumnPO> oldTableColumns =
+    List<ColumnEntity> oldTableColumns =
         TableColumnMetaService.getInstance()
-            .getColumnsByTableIdAndVersion(oldTablePO.getTableId(), oldTablePO.getCurrentVersion());
+            .getColumnEntitiesByTableIdAndVersion(
+                oldTablePO.getTableId(), oldTablePO.getCurrentVersion());
     TableEntity oldTableEntity =
-        POConverters.fromTableAndColumnPOs(oldTablePO, oldTableColumns, identifier.namespace());
+        POConverters.fromTableAndColumns(oldTablePO, oldTableColumns, identifier.namespace());
 
     TableEntity newTableEntity = (TableEntity) updater.apply((E) oldTableEntity);
     Preconditions.checkArgument(
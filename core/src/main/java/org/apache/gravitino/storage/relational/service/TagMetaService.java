@@ -68,6 +68,26 @@ public class TagMetaService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Lists at most {@code limit} tags of the metalake whose names sort after the given name, ordered
+   * by name.
+   *
+   * @param ns The namespace of the tags.
+   * @param afterName The name to list after, or null to list from the first tag.
+   * @param limit The maximum number of tags to return.
+   * @return The tags ordered by name.
+   */
+  public List<TagEntity> listTagsByNamespace(Namespace ns, String afterName, int limit) {
+    String metalakeName = ns.level(0);
+    List<TagPO> tagPOs =
+        SessionUtils.getWithoutCommit(
+            TagMetaMapper.class,
+            mapper -> mapper.listTagPOsByMetalakeAfterName(metalakeName, afterName, limit));
+    return tagPOs.stream()
+        .map(tagPO -> POConverters.fromTagPO(tagPO, ns))
+        .collect(Collectors.toList());
+  }
+
   public TagEntity getTagByIdentifier(NameIdentifier ident) {
     String metalakeName = ident.namespace().level(0);
     TagPO tagPO = getTagPOByMetalakeAndName(metalakeName, ident.name());
@@ -93,6 +93,27 @@ public class TopicMetaService {
     return POConverters.fromTopicPOs(topicPOs, namespace);
   }
 
+  /**
+   * Lists at most {@code limit} topics of the namespace whose names sort after the given name,
+   * ordered by name.
+   *
+   * @param namespace The namespace of the topics.
+   * @param afterName The name to list after, or null to list from the first topic.
+   * @param limit The maximum number of topics to return.
+   * @return The topics ordered by name.
+   */
+  public List<TopicEntity> listTopicsByNamespace(Namespace namespace, String afterName, int limit) {
+    NamespaceUtil.checkTopic(namespace);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<TopicPO> topicPOs =
+        SessionUtils.getWithoutCommit(
+            TopicMetaMapper.class,
+            mapper -> mapper.listTopicPOsBySchemaIdAfterName(schemaId, afterName, limit));
+    return POConverters.fromTopicPOs(topicPOs, namespace);
+  }
+
   public <E extends Entity & HasIdentifier> TopicEntity updateTopic(
       NameIdentifier ident, Function<E, E> updater) throws IOException {
     NameIdentifierUtil.checkTopic(ident);
@@ -174,6 +195,27 @@ public class TopicMetaService {
     return POConverters.fromTopicPO(topicPO, identifier.namespace());
   }
 
+  /**
+   * Gets the topics with the given identifiers. The topics of the same namespace are loaded
+   * with one query.
+   *
+   * @param identifiers The identifiers of the topics.
+   * @return The topics in the order of the given identifiers, the topics that do not exist are
+   *     skipped.
+   */
+  public List<TopicEntity> batchGetTopicByIdentifier(List<NameIdentifier> identifiers) {
+    identifiers.forEach(NameIdentifierUtil::checkTopic);
+    return CommonMetaService.getInstance()
+        .batchGetByNamespace(
+            identifiers,
+            (schemaId, namespace, names) ->
+                POConverters.fromTopicPOs(
+                    SessionUtils.getWithoutCommit(
+                        TopicMetaMapper.class,
+                        mapper -> mapper.listTopicPOsBySchemaIdAndNames(schemaId, names)),
+                    namespace));
+  }
+
   public boolean deleteTopic(NameIdentifier identifier) {
     NameIdentifierUtil.checkTopic(identifier);
 
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ReadReplicaRouter picks the read replica to serve a read out of any transaction, or none to read
+ * from the primary. A thread reads from the primary for a while after it commits a write, so it
+ * always reads its own writes, and a replica lagging behind the primary more than the allowed
+ * maximum is skipped until it catches up.
+ *
+ * <p>The replication lag is measured with the entity change log: it is the age of the oldest
+ * change on the primary that is not on the replica yet. The change log is only written when the
+ * cache invalidation sync is enabled, so the read replicas can not be configured without it.
+ */
+public class ReadReplicaRouter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(ReadReplicaRouter.class);
+
+  /** The lag of a replica that can not be reached. */
+  static final long UNREACHABLE_LAG_MILLIS = Long.MAX_VALUE;
+
+  private static final ThreadLocal<Long> lastWriteMillis = new ThreadLocal<>();
+
+  private final SqlSessionFactory primary;
+  private final List<SqlSessionFactory> replicas;
+  private final long stickyMillis;
+  private final long maxLagMillis;
+  private final AtomicLongArray lagMillis;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final AtomicLong replicaReads = new AtomicLong();
+  private final AtomicLong primaryReads = new AtomicLong();
+  private final ScheduledExecutorService lagChecker;
+
+  ReadReplicaRouter(
+      SqlSessionFactory primary,
+      List<SqlSessionFactory> replicas,
+      long stickyMillis,
+      long maxLagMillis) {
+    Preconditions.checkArgument(!replicas.isEmpty(), "The read replicas must not be empty");
+    this.primary = primary;
+    this.replicas = ImmutableList.copyOf(replicas);
+    this.stickyMillis = stickyMillis;
+    this.maxLagMillis = maxLagMillis;
+    // The replicas are not read until their lags are checked for the first time.
+    this.lagMillis = new AtomicLongArray(replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      lagMillis.set(i, UNREACHABLE_LAG_MILLIS);
+    }
+    this.lagChecker =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "replica-lag-checker");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Starts to check the replication lags of the replicas periodically.
+   *
+   * @param lagCheckIntervalMillis the interval in milliseconds between two checks.
+   */
+  void start(long lagCheckIntervalMillis) {
+    lagChecker.scheduleWithFixedDelay(
+        this::checkLags, 0, lagCheckIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /** Records that the current thread has just committed a write to the primary. */
+  static void recordWrite() {
+    lastWriteMillis.set(System.currentTimeMillis());
+  }
+
+  /**
+   * Selects the read replica to serve a read of the current thread.
+   *
+   * @return the factory of the selected replica, or null if the read should go to the primary.
+   */
+  SqlSessionFactory selectReplica() {
+    Long lastWrite = lastWriteMillis.get();
+    if (lastWrite != null) {
+      if (System.currentTimeMillis() - lastWrite < stickyMillis) {
+        primaryReads.incrementAndGet();
+        return null;
+      }
+      lastWriteMillis.remove();
+    }
+
+    // Round-robin over the replicas, skipping the ones lagging behind.
+    int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      int index = (start + i) % replicas.size();
+      if (lagMillis.get(index) <= maxLagMillis) {
+        replicaReads.incrementAndGet();
+        return replicas.get(index);
+      }
+    }
+    primaryReads.incrementAndGet();
+    return null;
+  }
+
+  /** @return the factories of the read replicas. */
+  List<SqlSessionFactory> replicaFactories() {
+    return replicas;
+  }
+
+  /**
+   * @param index the index of the replica.
+   * @return the last measured replication lag of the replica in milliseconds, {@link
+   *     Long#MAX_VALUE} if it can not be reached.
+   */
+  public long lagMillis(int index) {
+    return lagMillis.get(index);
+  }
+
+  /** @return the number of the reads served by the replicas. */
+  public long replicaReads() {
+    return replicaReads.get();
+  }
+
+  /** @return the number of the reads out of transactions that fell back to the primary. */
+  public long primaryReads() {
+    return primaryReads.get();
+  }
+
+  @VisibleForTesting
+  void checkLags() {
+    for (int i = 0; i < replicas.size(); i++) {
+      try {
+        Long replicaLatest = latestChange(replicas.get(i));
+        long lag = lagOnPrimary(replicaLatest == null ? 0L : replicaLatest);
+        if (lag > maxLagMillis && lagMillis.get(i) <= maxLagMillis) {
+          LOG.warn("Read replica {} lags behind {} ms, reads fall back to the primary", i, lag);
+        }
+        lagMillis.set(i, lag);
+      } catch (Exception e) {
+        if (lagMillis.get(i) != UNREACHABLE_LAG_MILLIS) {
+          LOG.warn(
+              "Failed to check the lag of read replica {}, reads fall back to the primary", i, e);
+        }
+        lagMillis.set(i, UNREACHABLE_LAG_MILLIS);
+      }
+    }
+  }
+
+  private static Long latestChange(SqlSessionFactory factory) {
+    try (SqlSession session = factory.openSession(true)) {
+      return session.getMapper(EntityChangeLogMapper.class).selectMaxCreatedAt();
+    }
+  }
+
+  /**
+   * Measures the lag with the clock of the primary, which writes the creation time of the changes,
+   * so a clock skew between this server and the database is not taken as a lag.
+   */
+  private long lagOnPrimary(long replicaLatest) {
+    try (SqlSession session = primary.openSession(true)) {
+      EntityChangeLogMapper mapper = session.getMapper(EntityChangeLogMapper.class);
+      Long oldestMissing = mapper.selectMinCreatedAtAfter(replicaLatest);
+      return oldestMissing == null
+          ? 0L
+          : Math.max(0L, mapper.selectCurrentTimeMillis() - oldestMissing);
+    }
+  }
+
+  @Override
+  public void close() {
+    lagChecker.shutdownNow();
+  }
+}
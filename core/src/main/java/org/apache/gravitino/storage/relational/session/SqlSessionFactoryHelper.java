@@ -22,7 +22,11 @@ package org.apache.gravitino.storage.relational.session;
 import com.google.common.base.Preconditions;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.pool2.impl.BaseObjectPoolConfig;
 import org.apache.gravitino.Config;
@@ -47,6 +51,7 @@ import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
  */
 public class SqlSessionFactoryHelper {
   private static volatile SqlSessionFactory sqlSessionFactory;
+  private static volatile ReadReplicaRouter readReplicaRouter;
   private static final SqlSessionFactoryHelper INSTANCE = new SqlSessionFactoryHelper();
 
   public static SqlSessionFactoryHelper getInstance() {
@@ -60,17 +65,75 @@ public class SqlSessionFactoryHelper {
    *
    * @param config Config object to get the jdbc connection details from the config.
    */
-  @SuppressWarnings("deprecation")
   public void init(Config config) {
-    // Initialize the data source
-    BasicDataSource dataSource = new BasicDataSource();
     String jdbcUrl = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL);
     String driverClass = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER);
     JdbcUrlUtils.validateJdbcConfig(driverClass, jdbcUrl, config.getAllConfig());
 
     JDBCBackendType jdbcType = JDBCBackendType.fromURI(jdbcUrl);
+    List<String> replicaUrls = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_REPLICA_URLS);
+    if (replicaUrls != null && !replicaUrls.isEmpty()) {
+      // The replication lag is measured with the entity change log, which is only written when the
+      // cache invalidation sync is enabled.
+      Preconditions.checkArgument(
+          config.get(Configs.CACHE_ENABLED) && config.get(Configs.CACHE_INVALIDATION_SYNC_ENABLED),
+          "The read replicas require %s and %s to be enabled",
+          Configs.CACHE_ENABLED.getKey(),
+          Configs.CACHE_INVALIDATION_SYNC_ENABLED.getKey());
+      for (String replicaUrl : replicaUrls) {
+        JdbcUrlUtils.validateJdbcConfig(driverClass, replicaUrl, config.getAllConfig());
+        Preconditions.checkArgument(
+            JDBCBackendType.fromURI(replicaUrl) == jdbcType,
+            "The read replica %s must be the same type of database as the primary",
+            replicaUrl);
+      }
+    }
+
+    // Create the SqlSessionFactory object, it is a singleton object. The data sources are only
+    // created with it, so no pool is left open when it already exists.
+    if (sqlSessionFactory == null) {
+      synchronized (SqlSessionFactoryHelper.class) {
+        if (sqlSessionFactory == null) {
+          BasicDataSource dataSource = createDataSource(config, jdbcUrl);
+          List<BasicDataSource> replicaDataSources = new ArrayList<>();
+          if (replicaUrls != null) {
+            for (String replicaUrl : replicaUrls) {
+              replicaDataSources.add(createDataSource(config, replicaUrl));
+            }
+          }
+
+          sqlSessionFactory = createSqlSessionFactory(dataSource, jdbcType);
+          if (!replicaDataSources.isEmpty()) {
+            readReplicaRouter =
+                new ReadReplicaRouter(
+                    sqlSessionFactory,
+                    replicaDataSources.stream()
+                        .map(replica -> createSqlSessionFactory(replica, jdbcType))
+                        .collect(Collectors.toList()),
+                    config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_REPLICA_STICKY_MILLIS),
+                    config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_REPLICA_MAX_LAG_MILLIS));
+            readReplicaRouter.start(
+                config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_REPLICA_LAG_CHECK_MILLIS));
+          }
+
+          MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+          // Add null check to avoid NPE when metrics system is not initialized in test environments
+          if (metricsSystem != null) {
+            // Register connection pool metrics when metrics system is available
+            metricsSystem.register(
+                new RelationDatasourceMetricsSource(
+                    dataSource, replicaDataSources, readReplicaRouter));
+          }
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static BasicDataSource createDataSource(Config config, String jdbcUrl) {
+    BasicDataSource dataSource = new BasicDataSource();
     dataSource.setUrl(jdbcUrl);
-    dataSource.setDriverClassName(driverClass);
+    dataSource.setDriverClassName(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER));
     dataSource.setUsername(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
     dataSource.setPassword(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
     // Close the auto commit, so that we can control the transaction manual commit
@@ -92,12 +155,11 @@ public class SqlSessionFactoryHelper {
     dataSource.setSoftMinEvictableIdleTimeMillis(
         BaseObjectPoolConfig.DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME.toMillis());
     dataSource.setLifo(BaseObjectPoolConfig.DEFAULT_LIFO);
-    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
-    // Add null check to avoid NPE when metrics system is not initialized in test environments
-    if (metricsSystem != null) {
-      // Register connection pool metrics when metrics system is available
-      metricsSystem.register(new RelationDatasourceMetricsSource(dataSource));
-    }
+    return dataSource;
+  }
+
+  private static SqlSessionFactory createSqlSessionFactory(
+      BasicDataSource dataSource, JDBCBackendType jdbcType) {
     // Create the transaction factory and env
     TransactionFactory transactionFactory = new JdbcTransactionFactory();
     Environment environment = new Environment("development", transactionFactory, dataSource);
@@ -109,15 +171,7 @@ public class SqlSessionFactoryHelper {
     for (MapperPackageProvider provider : loader) {
       provider.getMapperClasses().forEach(configuration::addMapper);
     }
-
-    // Create the SqlSessionFactory object, it is a singleton object
-    if (sqlSessionFactory == null) {
-      synchronized (SqlSessionFactoryHelper.class) {
-        if (sqlSessionFactory == null) {
-          sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
-        }
-      }
-    }
+    return new SqlSessionFactoryBuilder().build(configuration);
   }
 
   public SqlSessionFactory getSqlSessionFactory() {
@@ -125,21 +179,39 @@ public class SqlSessionFactoryHelper {
     return sqlSessionFactory;
   }
 
+  /**
+   * Get the router of the read replicas.
+   *
+   * @return the router, or null if no read replica is configured.
+   */
+  @Nullable
+  public ReadReplicaRouter getReadReplicaRouter() {
+    return readReplicaRouter;
+  }
+
   public void close() {
     if (sqlSessionFactory != null) {
       synchronized (SqlSessionFactoryHelper.class) {
         if (sqlSessionFactory != null) {
-          try {
-            BasicDataSource dataSource =
-                (BasicDataSource)
-                    sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
-            dataSource.close();
-          } catch (SQLException e) {
-            // silently ignore the error report
+          if (readReplicaRouter != null) {
+            readReplicaRouter.close();
+            readReplicaRouter.replicaFactories().forEach(SqlSessionFactoryHelper::closeDataSource);
+            readReplicaRouter = null;
           }
+          closeDataSource(sqlSessionFactory);
           sqlSessionFactory = null;
         }
       }
     }
   }
+
+  private static void closeDataSource(SqlSessionFactory factory) {
+    try {
+      BasicDataSource dataSource =
+          (BasicDataSource) factory.getConfiguration().getEnvironment().getDataSource();
+      dataSource.close();
+    } catch (SQLException e) {
+      // silently ignore the error report
+    }
+  }
 }
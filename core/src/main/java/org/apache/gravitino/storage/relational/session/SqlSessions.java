@@ -21,7 +21,10 @@ package org.apache.gravitino.storage.relational.session;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.apache.gravitino.utils.Executable;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.TransactionIsolationLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +39,8 @@ public final class SqlSessions {
   private static final ThreadLocal<SqlSession> sessions = new ThreadLocal<>();
   private static final ThreadLocal<AtomicInteger> sessionCount =
       ThreadLocal.withInitial(() -> new AtomicInteger(0));
+  private static final ThreadLocal<AtomicInteger> primaryReadScopes =
+      ThreadLocal.withInitial(() -> new AtomicInteger(0));
 
   private SqlSessions() {}
 
@@ -49,6 +54,16 @@ public final class SqlSessions {
     return sessionCount.get().get();
   }
 
+  /**
+   * Whether the current thread has an opened SqlSession, which means the caller runs inside a
+   * transaction that is not committed yet.
+   *
+   * @return true if the current thread has an opened SqlSession.
+   */
+  public static boolean hasSqlSession() {
+    return sessions.get() != null;
+  }
+
   /**
    * Get the SqlSession object. If the SqlSession object is not present in the thread local, then
    * create a new SqlSession object and set it in the thread local. This method also increments the
@@ -69,6 +84,52 @@ public final class SqlSessions {
     return sqlSession;
   }
 
+  /**
+   * Open a SqlSession on a read replica for a read out of any transaction. The caller owns the
+   * returned SqlSession and should close it after the read.
+   *
+   * @return the SqlSession on the selected read replica, or null if the read should go to the
+   *     primary, because no read replica is configured or available, the current thread is in a
+   *     transaction or in {@link #readFromPrimary}, or it has just committed a write.
+   */
+  @Nullable
+  public static SqlSession openReplicaSqlSession() {
+    if (sessions.get() != null || primaryReadScopes.get().get() > 0) {
+      return null;
+    }
+
+    ReadReplicaRouter router = SqlSessionFactoryHelper.getInstance().getReadReplicaRouter();
+    if (router == null) {
+      return null;
+    }
+
+    SqlSessionFactory replica = router.selectReplica();
+    return replica == null ? null : replica.openSession(TransactionIsolationLevel.READ_COMMITTED);
+  }
+
+  /**
+   * Run the executable with all its reads served by the primary, never by a read replica. It is
+   * for the reads that must not be stale, such as the polling of the entity change log and the
+   * loading of the entities to be cached.
+   *
+   * @param executable the executable to run.
+   * @param <R> the type of the result.
+   * @param <E> the type of the exception.
+   * @return the result of the executable.
+   * @throws E if the executable fails.
+   */
+  public static <R, E extends Exception> R readFromPrimary(Executable<R, E> executable) throws E {
+    AtomicInteger scopes = primaryReadScopes.get();
+    scopes.incrementAndGet();
+    try {
+      return executable.execute();
+    } finally {
+      if (scopes.decrementAndGet() == 0) {
+        primaryReadScopes.remove();
+      }
+    }
+  }
+
   /**
    * Commit the SqlSession object and close it. It also removes the SqlSession object from the
    * thread local storage.
@@ -114,6 +175,7 @@ public final class SqlSessions {
       try {
         if (commit) {
           sqlSession.commit();
+          ReadReplicaRouter.recordWrite();
         } else if (rollback) {
           sqlSession.rollback();
         }
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.utils;
+
+/**
+ * A collection that holds its elements in an encoded form, and decodes an element only when it is
+ * accessed for the first time.
+ */
+public interface LazilyDecodedCollection {
+
+  /**
+   * Returns the element at the given index as it is held, without decoding it.
+   *
+   * @param index The index of the element.
+   * @return The decoded element if it has been accessed, otherwise its encoded form.
+   */
+  Object heldElement(int index);
+}
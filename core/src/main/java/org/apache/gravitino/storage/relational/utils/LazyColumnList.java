@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import org.apache.gravitino.meta.ColumnEntity;
+
+/**
+ * The columns of a table read from a column snapshot. A column is converted to a {@link
+ * ColumnEntity} only when it is accessed for the first time, so loading a wide table does not pay
+ * for deserializing the types, default values and audit infos of the columns not used.
+ */
+final class LazyColumnList extends AbstractList<ColumnEntity> implements LazilyDecodedCollection {
+
+  // Each element is the encoded JsonNode of a column until it is decoded to a ColumnEntity.
+  private final AtomicReferenceArray<Object> columns;
+  private final Function<JsonNode, ColumnEntity> decoder;
+
+  LazyColumnList(List<JsonNode> encodedColumns, Function<JsonNode, ColumnEntity> decoder) {
+    this.columns = new AtomicReferenceArray<>(encodedColumns.toArray());
+    this.decoder = decoder;
+  }
+
+  @Override
+  public ColumnEntity get(int index) {
+    Object column = columns.get(index);
+    if (column instanceof ColumnEntity) {
+      return (ColumnEntity) column;
+    }
+
+    // Decoding a column twice by racing threads is harmless, both get equal entities.
+    ColumnEntity decoded = decoder.apply((JsonNode) column);
+    columns.set(index, decoded);
+    return decoded;
+  }
+
+  @Override
+  public Object heldElement(int index) {
+    return columns.get(index);
+  }
+
+  @Override
+  public int size() {
+    return columns.length();
+  }
+}
@@ -20,13 +20,20 @@
 package org.apache.gravitino.storage.relational.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.common.collect.Lists;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.MetadataObject;
@@ -63,6 +70,7 @@ import org.apache.gravitino.rel.expressions.Expression;
 import org.apache.gravitino.rel.types.Type;
 import org.apache.gravitino.storage.relational.po.CatalogPO;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.ColumnSnapshotPO;
 import org.apache.gravitino.storage.relational.po.ExtendedGroupPO;
 import org.apache.gravitino.storage.relational.po.ExtendedUserPO;
 import org.apache.gravitino.storage.relational.po.FilesetPO;
@@ -93,6 +101,17 @@ public class POConverters {
   public static final long INIT_VERSION = 1L;
   public static final long DEFAULT_DELETED_AT = 0L;
 
+  // The keys of a column in the compressed columns of a column snapshot.
+  private static final String SNAPSHOT_COLUMN_ID = "id";
+  private static final String SNAPSHOT_COLUMN_NAME = "name";
+  private static final String SNAPSHOT_COLUMN_POSITION = "position";
+  private static final String SNAPSHOT_COLUMN_TYPE = "type";
+  private static final String SNAPSHOT_COLUMN_COMMENT = "comment";
+  private static final String SNAPSHOT_COLUMN_NULLABLE = "nullable";
+  private static final String SNAPSHOT_COLUMN_AUTO_INCREMENT = "autoIncrement";
+  private static final String SNAPSHOT_COLUMN_DEFAULT_VALUE = "defaultValue";
+  private static final String SNAPSHOT_COLUMN_AUDIT_INFO = "auditInfo";
+
   private POConverters() {}
 
   /**
@@ -453,12 +472,25 @@ public class POConverters {
 
   public static TableEntity fromTableAndColumnPOs(
       TablePO tablePO, List<ColumnPO> columnPOs, Namespace namespace) {
+    return fromTableAndColumns(tablePO, fromColumnPOs(columnPOs), namespace);
+  }
+
+  /**
+   * Convert {@link TablePO} and its {@link ColumnEntity} list to {@link TableEntity}
+   *
+   * @param tablePO TablePO object to be converted
+   * @param columns the columns of the table
+   * @param namespace Namespace object to be associated with the table
+   * @return TableEntity object from TablePO object and the columns
+   */
+  public static TableEntity fromTableAndColumns(
+      TablePO tablePO, List<ColumnEntity> columns, Namespace namespace) {
     try {
       return TableEntity.builder()
           .withId(tablePO.getTableId())
           .withName(tablePO.getTableName())
           .withNamespace(namespace)
-          .withColumns(fromColumnPOs(columnPOs))
+          .withColumns(columns)
           .withAuditInfo(
               JsonUtils.anyFieldMapper().readValue(tablePO.getAuditInfo(), AuditInfo.class))
           .build();
@@ -536,6 +568,92 @@ public class POConverters {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Compresses all the columns of a table version into a {@link ColumnSnapshotPO}.
+   *
+   * @param tablePO the table version the columns belong to
+   * @param columnPOs all the columns of the table version
+   * @return the column snapshot of the table version
+   */
+  public static ColumnSnapshotPO initializeColumnSnapshotPO(
+      TablePO tablePO, List<ColumnPO> columnPOs) {
+    ArrayNode columns = JsonUtils.anyFieldMapper().createArrayNode();
+    for (ColumnPO columnPO : columnPOs) {
+      columns
+          .addObject()
+          .put(SNAPSHOT_COLUMN_ID, columnPO.getColumnId())
+          .put(SNAPSHOT_COLUMN_NAME, columnPO.getColumnName())
+          .put(SNAPSHOT_COLUMN_POSITION, columnPO.getColumnPosition())
+          .put(SNAPSHOT_COLUMN_TYPE, columnPO.getColumnType())
+          .put(SNAPSHOT_COLUMN_COMMENT, columnPO.getColumnComment())
+          .put(SNAPSHOT_COLUMN_NULLABLE, columnPO.getNullable().intValue())
+          .put(SNAPSHOT_COLUMN_AUTO_INCREMENT, columnPO.getAutoIncrement().intValue())
+          .put(SNAPSHOT_COLUMN_DEFAULT_VALUE, columnPO.getDefaultValue())
+          .put(SNAPSHOT_COLUMN_AUDIT_INFO, columnPO.getAuditInfo());
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      JsonUtils.anyFieldMapper().writeValue(out, columns);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to compress the column snapshot:", e);
+    }
+
+    return ColumnSnapshotPO.builder()
+        .withTableId(tablePO.getTableId())
+        .withTableVersion(tablePO.getCurrentVersion())
+        .withMetalakeId(tablePO.getMetalakeId())
+        .withCatalogId(tablePO.getCatalogId())
+        .withSchemaId(tablePO.getSchemaId())
+        .withColumnCount(columnPOs.size())
+        .withColumns(bytes.toByteArray())
+        .build();
+  }
+
+  /**
+   * Decompresses the columns of a {@link ColumnSnapshotPO}. The columns are converted to {@link
+   * ColumnEntity} lazily when they are accessed.
+   *
+   * @param snapshotPO the column snapshot
+   * @return the columns of the table version
+   */
+  public static List<ColumnEntity> fromColumnSnapshotPO(ColumnSnapshotPO snapshotPO) {
+    JsonNode columns;
+    try (GZIPInputStream in =
+        new GZIPInputStream(new ByteArrayInputStream(snapshotPO.columns()))) {
+      columns = JsonUtils.anyFieldMapper().readTree(in);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to decompress the column snapshot:", e);
+    }
+
+    return new LazyColumnList(
+        Lists.newArrayList(columns.elements()),
+        column ->
+            fromColumnPO(
+                ColumnPO.builder()
+                    .withColumnId(column.get(SNAPSHOT_COLUMN_ID).asLong())
+                    .withColumnName(column.get(SNAPSHOT_COLUMN_NAME).asText())
+                    .withColumnPosition(column.get(SNAPSHOT_COLUMN_POSITION).asInt())
+                    .withMetalakeId(snapshotPO.metalakeId())
+                    .withCatalogId(snapshotPO.catalogId())
+                    .withSchemaId(snapshotPO.schemaId())
+                    .withTableId(snapshotPO.tableId())
+                    .withTableVersion(snapshotPO.tableVersion())
+                    .withColumnType(column.get(SNAPSHOT_COLUMN_TYPE).asText())
+                    .withColumnComment(textOrNull(column.get(SNAPSHOT_COLUMN_COMMENT)))
+                    .withNullable((byte) column.get(SNAPSHOT_COLUMN_NULLABLE).asInt())
+                    .withAutoIncrement((byte) column.get(SNAPSHOT_COLUMN_AUTO_INCREMENT).asInt())
+                    .withDefaultValue(textOrNull(column.get(SNAPSHOT_COLUMN_DEFAULT_VALUE)))
+                    .withColumnOpType(ColumnPO.ColumnOpType.CREATE.value())
+                    .withAuditInfo(column.get(SNAPSHOT_COLUMN_AUDIT_INFO).asText())
+                    .withDeletedAt(DEFAULT_DELETED_AT)
+                    .build()));
+  }
+
+  private static String textOrNull(JsonNode node) {
+    return node == null || node.isNull() ? null : node.asText();
+  }
+
   /**
    * Convert list of {@link TablePO} to list of {@link TableEntity}
    *
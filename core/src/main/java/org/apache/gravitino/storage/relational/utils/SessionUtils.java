@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.gravitino.storage.relational.session.SqlSessions;
+import org.apache.ibatis.session.SqlSession;
 
 /**
  * This class provides utility methods to perform database operations with MyBatis mappers in the
@@ -64,9 +65,19 @@ public class SessionUtils {
 
   /**
    * Performs a read-only database operation without a commit. Can be used standalone or nested
-   * within other transactions.
+   * within other transactions. A standalone operation is served by a read replica if there is one
+   * available.
    */
   public static <T, R> R getWithoutCommit(Class<T> mapperClazz, Function<T, R> func) {
+    SqlSession replicaSession = SqlSessions.openReplicaSqlSession();
+    if (replicaSession != null) {
+      try {
+        return func.apply(replicaSession.getMapper(mapperClazz));
+      } finally {
+        replicaSession.close();
+      }
+    }
+
     try {
       T mapper = SqlSessions.getMapper(mapperClazz);
       return func.apply(mapper);
@@ -76,6 +87,14 @@ public class SessionUtils {
     }
   }
 
+  /**
+   * Performs a read-only database operation without a commit on the primary, never on a read
+   * replica. It is for the reads that must see the latest writes of all the servers.
+   */
+  public static <T, R> R getFromPrimaryWithoutCommit(Class<T> mapperClazz, Function<T, R> func) {
+    return SqlSessions.readFromPrimary(() -> getWithoutCommit(mapperClazz, func));
+  }
+
   /**
    * Performs a database operation without a commit. Can be used standalone or nested within other
    * transactions. This method is for operations that do not return a result.
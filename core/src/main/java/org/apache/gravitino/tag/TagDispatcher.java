@@ -18,7 +18,10 @@
  */
 package org.apache.gravitino.tag;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
+import javax.annotation.Nullable;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 
@@ -44,6 +47,23 @@ public interface TagDispatcher {
    */
   Tag[] listTagsInfo(String metalake);
 
+  /**
+   * List at most {@code limit} tags with details whose names sort after the given name, ordered by
+   * name. The default implementation lists all the tags and cuts the page from them.
+   *
+   * @param metalake The name of the metalake.
+   * @param afterName The name to list after, or null to list from the first tag.
+   * @param limit The maximum number of tags to return.
+   * @return The list of tags ordered by name.
+   */
+  default Tag[] listTagsInfo(String metalake, @Nullable String afterName, int limit) {
+    return Arrays.stream(listTagsInfo(metalake))
+        .filter(tag -> afterName == null || tag.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(Tag::name))
+        .limit(limit)
+        .toArray(Tag[]::new);
+  }
+
   /**
    * Get a tag by its name for the specific object.
    *
@@ -22,14 +22,19 @@ package org.apache.gravitino.audit;
 import static org.apache.gravitino.audit.AuditLog.Operation;
 import static org.apache.gravitino.audit.AuditLog.Status;
 
+import com.google.common.collect.ImmutableMap;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.NameIdentifier;
@@ -144,8 +149,8 @@ public class TestAuditManager {
     FileAuditWriter fileAuditWriter = (FileAuditWriter) auditLogManager.getAuditLogWriter();
     String fileName = fileAuditWriter.fileName;
     try {
-      fileAuditWriter.outWriter.flush();
-    } catch (IOException e) {
+      fileAuditWriter.flush();
+    } catch (InterruptedException e) {
       throw new RuntimeException(e);
     }
 
@@ -177,14 +182,62 @@ public class TestAuditManager {
     FileAuditWriter fileAuditWriter = (FileAuditWriter) auditLogManager.getAuditLogWriter();
     String fileName = fileAuditWriter.fileName;
     try {
-      fileAuditWriter.outWriter.flush();
-    } catch (IOException e) {
+      fileAuditWriter.flush();
+    } catch (InterruptedException e) {
       throw new RuntimeException(e);
     }
     long auditSize = getAuditSize(fileName);
     Assertions.assertEquals(EVENT_NUM, auditSize);
   }
 
+  @SuppressWarnings("deprecation")
+  @Test
+  public void testRotateAuditLog() throws Exception {
+    String fileName = "gravitino_audit_rotation.log";
+    FileAuditWriter fileAuditWriter = new FileAuditWriter();
+    fileAuditWriter.init(
+        new SimpleFormatterV2(),
+        ImmutableMap.of(
+            "fileName", fileName, "maxFileSize", "1024", "compressRotatedFiles", "true"));
+
+    for (int i = 0; i < EVENT_NUM; i++) {
+      fileAuditWriter.doWrite(
+          DummyAuditLog.builder()
+              .user("user")
+              .operation(Operation.UNKNOWN_OPERATION)
+              .identifier("a.b.c.d")
+              .timestamp(i)
+              .status(Status.SUCCESS)
+              .build());
+    }
+    fileAuditWriter.close();
+
+    Path logDir = logPath.getParent();
+    List<Path> rotatedFiles;
+    try (Stream<Path> files = Files.list(logDir)) {
+      rotatedFiles =
+          files
+              .filter(file -> file.getFileName().toString().startsWith(fileName + "."))
+              .collect(Collectors.toList());
+    }
+    Assertions.assertFalse(rotatedFiles.isEmpty());
+
+    long auditSize = getAuditSize(fileAuditWriter.fileName);
+    for (Path rotatedFile : rotatedFiles) {
+      Assertions.assertTrue(rotatedFile.toString().endsWith(".gz"));
+      try (BufferedReader reader =
+          new BufferedReader(
+              new InputStreamReader(
+                  new GZIPInputStream(Files.newInputStream(rotatedFile)),
+                  StandardCharsets.UTF_8))) {
+        auditSize += reader.lines().count();
+      }
+      Files.delete(rotatedFile);
+    }
+    Files.delete(Paths.get(fileAuditWriter.fileName));
+    Assertions.assertEquals(EVENT_NUM, auditSize);
+  }
+
   @AfterEach
   public void cleanup() {
     try {
@@ -31,10 +31,17 @@ public class TestCacheConfig {
     Assertions.assertFalse(config.get(Configs.CACHE_STATS_ENABLED));
     Assertions.assertTrue(config.get(Configs.CACHE_ENABLED));
     Assertions.assertTrue(config.get(Configs.CACHE_WEIGHER_ENABLED));
+    Assertions.assertFalse(config.get(Configs.CACHE_ID_CACHE_ENABLED));
+    Assertions.assertFalse(config.get(Configs.CACHE_LIST_CACHE_ENABLED));
     Assertions.assertEquals(10_000, config.get(Configs.CACHE_MAX_ENTRIES));
     Assertions.assertEquals(3_600_000L, config.get(Configs.CACHE_EXPIRATION_TIME));
     Assertions.assertEquals(200_302_000L, EntityCacheWeigher.getMaxWeight());
+    Assertions.assertEquals(
+        Configs.CACHE_WEIGHER_MODE_TYPE, config.get(Configs.CACHE_WEIGHER_MODE));
+    Assertions.assertEquals(256L * 1024 * 1024, config.get(Configs.CACHE_MAX_WEIGHT_IN_BYTES));
     Assertions.assertEquals("caffeine", config.get(Configs.CACHE_IMPLEMENTATION));
+    Assertions.assertEquals(
+        Configs.CACHE_CONCURRENCY_MODE_GLOBAL, config.get(Configs.CACHE_CONCURRENCY_MODE));
   }
 
   @Test
@@ -51,5 +58,15 @@ public class TestCacheConfig {
     Assertions.assertFalse(config.get(Configs.CACHE_WEIGHER_ENABLED));
     Assertions.assertEquals(5000, config.get(Configs.CACHE_MAX_ENTRIES));
     Assertions.assertEquals(600_000L, config.get(Configs.CACHE_EXPIRATION_TIME));
+
+    config.set(Configs.CACHE_CONCURRENCY_MODE, Configs.CACHE_CONCURRENCY_MODE_OPTIMISTIC);
+    Assertions.assertEquals(
+        Configs.CACHE_CONCURRENCY_MODE_OPTIMISTIC, config.get(Configs.CACHE_CONCURRENCY_MODE));
+
+    config.set(Configs.CACHE_WEIGHER_MODE, Configs.CACHE_WEIGHER_MODE_SIZE);
+    config.set(Configs.CACHE_MAX_WEIGHT_IN_BYTES, 64L * 1024 * 1024);
+    Assertions.assertEquals(
+        Configs.CACHE_WEIGHER_MODE_SIZE, config.get(Configs.CACHE_WEIGHER_MODE));
+    Assertions.assertEquals(64L * 1024 * 1024, config.get(Configs.CACHE_MAX_WEIGHT_IN_BYTES));
   }
 }
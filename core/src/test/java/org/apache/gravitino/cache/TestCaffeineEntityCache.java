@@ -26,17 +26,28 @@ import static org.mockito.Mockito.mockStatic;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.GroupEntity;
 import org.apache.gravitino.meta.ModelEntity;
@@ -48,11 +59,14 @@ import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.model.ModelVersion;
+import org.apache.gravitino.rel.types.Types;
 import org.apache.gravitino.utils.TestUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.MockedStatic;
 
 @TestInstance(TestInstance.Lifecycle.PER_METHOD)
@@ -945,6 +959,77 @@ public class TestCaffeineEntityCache {
     Assertions.assertEquals(30, multiUserWeight);
   }
 
+  @Test
+  void testSizeWeightCalculation() {
+    TableEntity narrowTable = getTestTableEntityWithColumns(100L, "narrow_table", 1);
+    TableEntity wideTable = getTestTableEntityWithColumns(101L, "wide_table", 1000);
+    long narrowTableSize = EntityCacheSizeWeigher.estimateSize(narrowTable);
+    long wideTableSize = EntityCacheSizeWeigher.estimateSize(wideTable);
+    Assertions.assertTrue(narrowTableSize > 0);
+    Assertions.assertTrue(wideTableSize > 500 * narrowTableSize);
+
+    SchemaEntity schemaWithoutProperties =
+        TestUtil.getTestSchemaEntity(
+            102L, "schema1", Namespace.of("metalake1", "catalog1"), "comment");
+    SchemaEntity schemaWithProperties =
+        SchemaEntity.builder()
+            .withId(103L)
+            .withName("schema1")
+            .withNamespace(Namespace.of("metalake1", "catalog1"))
+            .withComment("comment")
+            .withProperties(ImmutableMap.of("key", StringUtils.repeat('v', 10_000)))
+            .withAuditInfo(TestUtil.getTestAuditInfo())
+            .build();
+    Assertions.assertTrue(
+        EntityCacheSizeWeigher.estimateSize(schemaWithProperties)
+            > EntityCacheSizeWeigher.estimateSize(schemaWithoutProperties) + 10_000);
+
+    int singleWeight =
+        EntityCacheSizeWeigher.getInstance()
+            .weigh(
+                EntityCacheKey.of(entity8.nameIdentifier(), entity8.type()),
+                ImmutableList.of(entity8));
+    int multiUserWeight =
+        EntityCacheSizeWeigher.getInstance()
+            .weigh(
+                EntityCacheKey.of(
+                    entity12.nameIdentifier(),
+                    entity12.type(),
+                    SupportsRelationOperations.Type.ROLE_USER_REL),
+                ImmutableList.of(entity8, entity9));
+    Assertions.assertTrue(multiUserWeight > singleWeight);
+    Assertions.assertTrue(singleWeight > EntityCacheSizeWeigher.estimateSize(entity8));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testExpireBySizeWeight() {
+    Config config = new Config() {};
+    config.set(Configs.CACHE_WEIGHER_ENABLED, true);
+    config.set(Configs.CACHE_WEIGHER_MODE, Configs.CACHE_WEIGHER_MODE_SIZE);
+    config.set(Configs.CACHE_MAX_WEIGHT_IN_BYTES, 100_000L);
+    EntityCache cache = new CaffeineEntityCache(config);
+
+    Cache<EntityCacheKey, List<Entity>> caffeineObject =
+        (Cache<EntityCacheKey, List<Entity>>) getCacheDataFrom(cache);
+
+    TableEntity wideTable = getTestTableEntityWithColumns(104L, "wide_table", 1000);
+    cache.put(entity1);
+    cache.put(wideTable);
+
+    await()
+        .atMost(1, TimeUnit.SECONDS)
+        .pollInterval(50, TimeUnit.MILLISECONDS)
+        .until(
+            () -> {
+              caffeineObject.cleanUp();
+              return !cache.contains(wideTable.nameIdentifier(), wideTable.type());
+            });
+
+    Assertions.assertTrue(cache.contains(entity1.nameIdentifier(), entity1.type()));
+    Assertions.assertEquals(1, cache.size());
+  }
+
   @Test
   void testGetIfPresentWithNull() {
     EntityCache cache = getNormalCache();
@@ -1058,6 +1143,393 @@ public class TestCaffeineEntityCache {
                 null));
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {"global", "optimistic"})
+  void testGetOrLoad(String concurrencyMode) throws IOException {
+    EntityCache cache = getCacheWithConcurrencyMode(concurrencyMode);
+    AtomicInteger loadCount = new AtomicInteger();
+
+    SchemaEntity loaded =
+        cache.getOrLoad(
+            entity1.nameIdentifier(),
+            entity1.type(),
+            () -> {
+              loadCount.incrementAndGet();
+              return entity1;
+            });
+    Assertions.assertEquals(entity1, loaded);
+    Assertions.assertTrue(cache.contains(entity1.nameIdentifier(), entity1.type()));
+
+    SchemaEntity cached =
+        cache.getOrLoad(
+            entity1.nameIdentifier(),
+            entity1.type(),
+            () -> {
+              loadCount.incrementAndGet();
+              return entity1;
+            });
+    Assertions.assertEquals(entity1, cached);
+    Assertions.assertEquals(1, loadCount.get());
+
+    List<UserEntity> users =
+        cache.getOrLoad(
+            SupportsRelationOperations.Type.ROLE_USER_REL,
+            entity12.nameIdentifier(),
+            entity12.type(),
+            () -> ImmutableList.of(entity8, entity9));
+    Assertions.assertEquals(ImmutableList.of(entity8, entity9), users);
+    Assertions.assertTrue(
+        cache.contains(
+            entity12.nameIdentifier(),
+            entity12.type(),
+            SupportsRelationOperations.Type.ROLE_USER_REL));
+
+    // The related entities loaded without all their fields are not served to all fields lookups.
+    List<UserEntity> partialUsers =
+        cache.getOrLoad(
+            SupportsRelationOperations.Type.ROLE_USER_REL,
+            entity13.nameIdentifier(),
+            entity13.type(),
+            false,
+            () -> ImmutableList.of(entity8));
+    Assertions.assertEquals(ImmutableList.of(entity8), partialUsers);
+    Assertions.assertFalse(
+        cache.contains(
+            entity13.nameIdentifier(),
+            entity13.type(),
+            SupportsRelationOperations.Type.ROLE_USER_REL));
+    List<UserEntity> allFieldsUsers =
+        cache.getOrLoad(
+            SupportsRelationOperations.Type.ROLE_USER_REL,
+            entity13.nameIdentifier(),
+            entity13.type(),
+            () -> ImmutableList.of(entity8, entity9));
+    Assertions.assertEquals(ImmutableList.of(entity8, entity9), allFieldsUsers);
+
+    Assertions.assertThrows(
+        IOException.class,
+        () ->
+            cache.getOrLoad(
+                entity2.nameIdentifier(),
+                entity2.type(),
+                () -> {
+                  throw new IOException("mock load failure");
+                }));
+    Assertions.assertFalse(cache.contains(entity2.nameIdentifier(), entity2.type()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"global", "optimistic"})
+  void testBatchGetOrLoad(String concurrencyMode) throws IOException {
+    EntityCache cache = getCacheWithConcurrencyMode(concurrencyMode);
+    cache.put(entity12);
+    NameIdentifier missingIdent = NameIdentifier.of(entity13.namespace(), "missing");
+    List<List<NameIdentifier>> loadedIdents = Lists.newArrayList();
+
+    List<RoleEntity> roles =
+        cache.getOrLoad(
+            ImmutableList.of(entity13.nameIdentifier(), missingIdent, entity12.nameIdentifier()),
+            Entity.EntityType.ROLE,
+            idents -> {
+              loadedIdents.add(idents);
+              return ImmutableList.of(entity13);
+            });
+    // Only the missing entities are loaded, the result follows the order of the identifiers.
+    Assertions.assertEquals(ImmutableList.of(entity13, entity12), roles);
+    Assertions.assertEquals(
+        ImmutableList.of(ImmutableList.of(entity13.nameIdentifier(), missingIdent)), loadedIdents);
+    Assertions.assertTrue(cache.contains(entity13.nameIdentifier(), Entity.EntityType.ROLE));
+    Assertions.assertFalse(cache.contains(missingIdent, Entity.EntityType.ROLE));
+
+    roles =
+        cache.getOrLoad(
+            ImmutableList.of(entity12.nameIdentifier(), entity13.nameIdentifier()),
+            Entity.EntityType.ROLE,
+            idents -> {
+              loadedIdents.add(idents);
+              return ImmutableList.of();
+            });
+    Assertions.assertEquals(ImmutableList.of(entity12, entity13), roles);
+    Assertions.assertEquals(1, loadedIdents.size());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"global", "optimistic"})
+  void testBatchGetOrLoadRelations(String concurrencyMode) throws IOException {
+    EntityCache cache = getCacheWithConcurrencyMode(concurrencyMode);
+    cache.put(
+        entity12.nameIdentifier(),
+        entity12.type(),
+        SupportsRelationOperations.Type.ROLE_USER_REL,
+        ImmutableList.of(entity8));
+    List<List<NameIdentifier>> loadedIdents = Lists.newArrayList();
+
+    Map<NameIdentifier, List<UserEntity>> users =
+        cache.getOrLoad(
+            SupportsRelationOperations.Type.ROLE_USER_REL,
+            ImmutableList.of(entity12.nameIdentifier(), entity13.nameIdentifier()),
+            Entity.EntityType.ROLE,
+            idents -> {
+              loadedIdents.add(idents);
+              // The loader runs without the cache lock, an invalidation during the load discards
+              // the loaded relation.
+              cache.invalidate(entity13.nameIdentifier(), entity13.type());
+              return ImmutableMap.of(entity13.nameIdentifier(), ImmutableList.of(entity9));
+            });
+    Assertions.assertEquals(
+        ImmutableMap.of(
+            entity12.nameIdentifier(),
+            ImmutableList.of(entity8),
+            entity13.nameIdentifier(),
+            ImmutableList.of(entity9)),
+        users);
+    Assertions.assertEquals(
+        ImmutableList.of(ImmutableList.of(entity13.nameIdentifier())), loadedIdents);
+    Assertions.assertFalse(
+        cache.contains(
+            entity13.nameIdentifier(),
+            entity13.type(),
+            SupportsRelationOperations.Type.ROLE_USER_REL));
+
+    cache.getOrLoad(
+        SupportsRelationOperations.Type.ROLE_USER_REL,
+        ImmutableList.of(entity13.nameIdentifier()),
+        Entity.EntityType.ROLE,
+        idents -> ImmutableMap.of(entity13.nameIdentifier(), ImmutableList.of(entity9)));
+    Assertions.assertTrue(
+        cache.contains(
+            entity13.nameIdentifier(),
+            entity13.type(),
+            SupportsRelationOperations.Type.ROLE_USER_REL));
+  }
+
+  @Test
+  void testOptimisticLoadDiscardedAfterInvalidation() throws Exception {
+    EntityCache cache = getCacheWithConcurrencyMode(Configs.CACHE_CONCURRENCY_MODE_OPTIMISTIC);
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch invalidated = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      Future<TableEntity> future =
+          executor.submit(
+              () ->
+                  cache.getOrLoad(
+                      entity3.nameIdentifier(),
+                      entity3.type(),
+                      () -> {
+                        loadStarted.countDown();
+                        invalidated.await();
+                        return entity3;
+                      }));
+
+      loadStarted.await();
+      // Invalidating the parent schema must not be blocked by the in-flight load.
+      cache.invalidate(entity1.nameIdentifier(), entity1.type());
+      invalidated.countDown();
+
+      Assertions.assertEquals(entity3, future.get(10, TimeUnit.SECONDS));
+      Assertions.assertFalse(cache.contains(entity3.nameIdentifier(), entity3.type()));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testOptimisticLoadOnlyOnce() throws Exception {
+    EntityCache cache = getCacheWithConcurrencyMode(Configs.CACHE_CONCURRENCY_MODE_OPTIMISTIC);
+    AtomicInteger loadCount = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    try {
+      List<Future<TableEntity>> futures = Lists.newArrayList();
+      for (int i = 0; i < threads; i++) {
+        futures.add(
+            executor.submit(
+                () ->
+                    cache.getOrLoad(
+                        entity3.nameIdentifier(),
+                        entity3.type(),
+                        () -> {
+                          loadCount.incrementAndGet();
+                          release.await();
+                          return entity3;
+                        })));
+      }
+
+      await().atMost(10, TimeUnit.SECONDS).until(() -> loadCount.get() > 0);
+      // Lookups of unrelated entities must not be blocked by the in-flight load.
+      cache.put(entity4);
+      Assertions.assertTrue(
+          cache.getIfPresent(entity4.nameIdentifier(), entity4.type()).isPresent());
+      release.countDown();
+
+      for (Future<TableEntity> future : futures) {
+        Assertions.assertEquals(entity3, future.get(10, TimeUnit.SECONDS));
+      }
+      Assertions.assertEquals(1, loadCount.get());
+      Assertions.assertTrue(cache.contains(entity3.nameIdentifier(), entity3.type()));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"global", "optimistic"})
+  void testGetOrLoadList(String concurrencyMode) throws IOException {
+    EntityCache cache = getCacheWithConcurrencyMode(concurrencyMode);
+    AtomicInteger loadCount = new AtomicInteger();
+    Namespace namespace = entity3.namespace();
+
+    List<TableEntity> loaded =
+        cache.getOrLoad(
+            namespace,
+            Entity.EntityType.TABLE,
+            false,
+            () -> {
+              loadCount.incrementAndGet();
+              return ImmutableList.of(entity3);
+            });
+    Assertions.assertEquals(ImmutableList.of(entity3), loaded);
+
+    List<TableEntity> cached =
+        cache.getOrLoad(
+            namespace,
+            Entity.EntityType.TABLE,
+            false,
+            () -> {
+              loadCount.incrementAndGet();
+              return ImmutableList.of(entity3);
+            });
+    Assertions.assertEquals(ImmutableList.of(entity3), cached);
+    Assertions.assertEquals(1, loadCount.get());
+
+    // The returned list is a copy, modifying it doesn't change the cached list.
+    cached.clear();
+    Assertions.assertEquals(
+        ImmutableList.of(entity3),
+        cache.getIfPresent(namespace, Entity.EntityType.TABLE, false).get());
+
+    // Lists with and without all fields are cached separately.
+    Assertions.assertFalse(
+        cache.getIfPresent(namespace, Entity.EntityType.TABLE, true).isPresent());
+
+    // Empty lists are cached as well.
+    List<TableEntity> empty =
+        cache.getOrLoad(
+            Namespace.of("metalake1", "catalog1", "schema3"),
+            Entity.EntityType.TABLE,
+            false,
+            ImmutableList::of);
+    Assertions.assertTrue(empty.isEmpty());
+    Assertions.assertTrue(
+        cache
+            .getIfPresent(
+                Namespace.of("metalake1", "catalog1", "schema3"), Entity.EntityType.TABLE, false)
+            .isPresent());
+  }
+
+  @Test
+  void testInvalidateList() throws IOException {
+    EntityCache cache = getNormalCache();
+    Namespace tableNamespace = entity3.namespace();
+    Namespace schemaNamespace = entity1.namespace();
+
+    cache.getOrLoad(
+        tableNamespace, Entity.EntityType.TABLE, false, () -> ImmutableList.of(entity3));
+    cache.getOrLoad(
+        tableNamespace, Entity.EntityType.TABLE, true, () -> ImmutableList.of(entity3));
+    cache.getOrLoad(
+        schemaNamespace, Entity.EntityType.SCHEMA, false, () -> ImmutableList.of(entity1));
+    cache.put(entity1);
+    Assertions.assertEquals(4, cache.size());
+
+    // Invalidating an entity of another type under the namespace keeps the lists.
+    cache.invalidate(NameIdentifier.of(tableNamespace, "model1"), Entity.EntityType.MODEL);
+    Assertions.assertTrue(
+        cache.getIfPresent(tableNamespace, Entity.EntityType.TABLE, false).isPresent());
+
+    // Inserting, altering or dropping a table invalidates the table lists of its schema.
+    Assertions.assertTrue(cache.invalidate(entity3.nameIdentifier(), entity3.type()));
+    Assertions.assertFalse(
+        cache.getIfPresent(tableNamespace, Entity.EntityType.TABLE, false).isPresent());
+    Assertions.assertFalse(
+        cache.getIfPresent(tableNamespace, Entity.EntityType.TABLE, true).isPresent());
+    Assertions.assertTrue(
+        cache.getIfPresent(schemaNamespace, Entity.EntityType.SCHEMA, false).isPresent());
+
+    // Dropping a schema invalidates the lists under it through the prefix index.
+    cache.getOrLoad(
+        tableNamespace, Entity.EntityType.TABLE, false, () -> ImmutableList.of(entity3));
+    cache.invalidate(entity1.nameIdentifier(), entity1.type());
+    Assertions.assertFalse(
+        cache.getIfPresent(tableNamespace, Entity.EntityType.TABLE, false).isPresent());
+    Assertions.assertFalse(
+        cache.getIfPresent(schemaNamespace, Entity.EntityType.SCHEMA, false).isPresent());
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testInvalidateRelationByRelatedEntity() {
+    EntityCache cache = getNormalCache();
+
+    cache.put(
+        entity12.nameIdentifier(),
+        Entity.EntityType.ROLE,
+        SupportsRelationOperations.Type.ROLE_USER_REL,
+        ImmutableList.of(entity8, entity9));
+    cache.put(
+        entity8.nameIdentifier(),
+        Entity.EntityType.USER,
+        SupportsRelationOperations.Type.ROLE_USER_REL,
+        ImmutableList.of(entity12));
+    cache.put(
+        entity13.nameIdentifier(),
+        Entity.EntityType.ROLE,
+        SupportsRelationOperations.Type.ROLE_GROUP_REL,
+        ImmutableList.of(entity10, entity11));
+
+    // Altering a user invalidates the relations containing the user.
+    Assertions.assertTrue(cache.invalidate(entity9.nameIdentifier(), entity9.type()));
+    Assertions.assertFalse(
+        cache.contains(
+            entity12.nameIdentifier(),
+            entity12.type(),
+            SupportsRelationOperations.Type.ROLE_USER_REL));
+    Assertions.assertTrue(
+        cache.contains(
+            entity8.nameIdentifier(),
+            entity8.type(),
+            SupportsRelationOperations.Type.ROLE_USER_REL));
+
+    // Altering a role invalidates the relations of the users granted with it.
+    cache.invalidate(entity12.nameIdentifier(), entity12.type());
+    Assertions.assertFalse(
+        cache.contains(
+            entity8.nameIdentifier(),
+            entity8.type(),
+            SupportsRelationOperations.Type.ROLE_USER_REL));
+
+    Assertions.assertTrue(
+        cache.contains(
+            entity13.nameIdentifier(),
+            entity13.type(),
+            SupportsRelationOperations.Type.ROLE_GROUP_REL));
+    Assertions.assertEquals(1, cache.size());
+  }
+
+  private EntityCache getCacheWithConcurrencyMode(String concurrencyMode) {
+    Config config = new Config() {};
+    config.set(Configs.CACHE_EXPIRATION_TIME, 0L);
+    config.set(Configs.CACHE_WEIGHER_ENABLED, false);
+    config.set(Configs.CACHE_MAX_ENTRIES, 1000000);
+    config.set(Configs.CACHE_CONCURRENCY_MODE, concurrencyMode);
+
+    return new CaffeineEntityCache(config);
+  }
+
   private EntityCache getNormalCache() {
     Config config = new Config() {};
     config.set(Configs.CACHE_EXPIRATION_TIME, 0L);
@@ -1066,4 +1538,29 @@ public class TestCaffeineEntityCache {
 
     return new CaffeineEntityCache(config);
   }
+
+  private TableEntity getTestTableEntityWithColumns(long id, String name, int columnCount) {
+    List<ColumnEntity> columns = Lists.newArrayListWithCapacity(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId(id * columnCount + i)
+              .withName("column_" + i)
+              .withPosition(i)
+              .withDataType(Types.StringType.get())
+              .withComment("comment of column_" + i)
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withAuditInfo(TestUtil.getTestAuditInfo())
+              .build());
+    }
+
+    return TableEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(Namespace.of("metalake1", "catalog1", "schema1"))
+        .withColumns(columns)
+        .withAuditInfo(TestUtil.getTestAuditInfo())
+        .build();
+  }
 }
@@ -21,6 +21,7 @@ package org.apache.gravitino.cache;
 
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.junit.jupiter.api.Assertions;
@@ -149,5 +150,41 @@ public class TestEntityCacheKey {
     EntityCacheKey key = EntityCacheKey.of(ident, type, relationType);
 
     Assertions.assertEquals("metalake.system.user.user1:USER:ROLE_USER_REL", key.toString());
+
+    EntityCacheKey partialKey = EntityCacheKey.of(ident, type, relationType, false);
+    Assertions.assertEquals(
+        "metalake.system.user.user1:USER:ROLE_USER_REL:PARTIAL_FIELDS", partialKey.toString());
+    Assertions.assertNotEquals(key, partialKey);
+    Assertions.assertEquals(key, EntityCacheKey.of(ident, type, relationType, true));
+    Assertions.assertEquals(EntityCacheKey.of(ident, type), EntityCacheKey.of(ident, type, null));
+  }
+
+  @Test
+  public void testListKey() {
+    Namespace namespace = Namespace.of("metalake", "catalog", "schema");
+    EntityCacheKey key = EntityCacheKey.ofList(namespace, Entity.EntityType.TABLE, false);
+    EntityCacheKey allFieldsKey = EntityCacheKey.ofList(namespace, Entity.EntityType.TABLE, true);
+
+    Assertions.assertTrue(key.isList());
+    Assertions.assertEquals("metalake.catalog.schema:TABLE:LIST", key.toString());
+    Assertions.assertEquals(
+        "metalake.catalog.schema:TABLE:LIST:ALL_FIELDS", allFieldsKey.toString());
+    Assertions.assertEquals(
+        EntityCacheKey.ofList(
+            Namespace.of("metalake", "catalog", "schema"), Entity.EntityType.TABLE, false),
+        key);
+    Assertions.assertNotEquals(key, allFieldsKey);
+    Assertions.assertNotEquals(
+        EntityCacheKey.of(
+            NameIdentifier.of("metalake", "catalog", "schema"), Entity.EntityType.TABLE),
+        key);
+    Assertions.assertTrue(
+        allFieldsKey
+            .toString()
+            .startsWith(EntityCacheKey.listKeyPrefix(namespace, Entity.EntityType.TABLE)));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> EntityCacheKey.ofList(Namespace.empty(), Entity.EntityType.METALAKE, false));
   }
 }
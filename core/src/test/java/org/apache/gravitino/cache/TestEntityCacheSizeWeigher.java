@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableList;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.relational.utils.LazilyDecodedCollection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityCacheSizeWeigher {
+
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.EPOCH).build();
+
+  @Test
+  void testEstimateGrowsWithColumns() {
+    List<ColumnEntity> columns = new ArrayList<>();
+    long previousSize = EntityCacheSizeWeigher.estimateSize(createTable(columns));
+    for (int i = 0; i < 100; i++) {
+      ColumnEntity column = createColumn(i, "comment of column_" + i);
+      columns.add(column);
+      long tableSize = EntityCacheSizeWeigher.estimateSize(createTable(new ArrayList<>(columns)));
+
+      // Every added column grows the table by at least its own size.
+      Assertions.assertTrue(
+          tableSize >= previousSize + EntityCacheSizeWeigher.estimateSize(column),
+          String.format("The table of %d columns is estimated at %d bytes", i + 1, tableSize));
+      previousSize = tableSize;
+    }
+  }
+
+  @Test
+  void testEstimateOrdersEntitiesBySize() {
+    ColumnEntity shortColumn = createColumn(0, "comment");
+    ColumnEntity longColumn = createColumn(0, "a much longer comment of the same column");
+    long shortColumnSize = EntityCacheSizeWeigher.estimateSize(shortColumn);
+    long longColumnSize = EntityCacheSizeWeigher.estimateSize(longColumn);
+    long tableSize = EntityCacheSizeWeigher.estimateSize(createTable(ImmutableList.of(longColumn)));
+
+    Assertions.assertTrue(shortColumnSize > 0);
+    Assertions.assertTrue(shortColumnSize < longColumnSize);
+    Assertions.assertTrue(longColumnSize < tableSize);
+  }
+
+  @Test
+  void testEstimateTableSizeByColumns() {
+    List<ColumnEntity> columns = new ArrayList<>();
+    long columnsSize = 0;
+    for (int i = 0; i < 4; i++) {
+      ColumnEntity column = createColumn(i, "comment of column_" + i);
+      columns.add(column);
+      columnsSize += EntityCacheSizeWeigher.estimateSize(column);
+    }
+
+    long emptyTableSize = EntityCacheSizeWeigher.estimateSize(createTable(Collections.emptyList()));
+    long tableSize = EntityCacheSizeWeigher.estimateSize(createTable(columns));
+
+    // The columns and the 16 more bytes of the array holding their 4 references.
+    Assertions.assertEquals(emptyTableSize + columnsSize + 16, tableSize);
+  }
+
+  @Test
+  void testEstimateLazilyDecodedColumns() {
+    ColumnEntity decodedColumn = createColumn(0, "comment of column_0");
+    ObjectNode encodedColumn =
+        JsonNodeFactory.instance
+            .objectNode()
+            .put("name", "column_1")
+            .put("position", 1)
+            .put("comment", "comment of column_1");
+    List<ColumnEntity> columns =
+        new LazilyDecodedColumns(ImmutableList.of(decodedColumn, encodedColumn));
+
+    long emptyTableSize = EntityCacheSizeWeigher.estimateSize(createTable(Collections.emptyList()));
+    long tableSize = EntityCacheSizeWeigher.estimateSize(createTable(columns));
+
+    // The columns are weighed as they are held without being decoded, the encoded column adds its
+    // nodes besides the decoded column and the 8 more bytes of the array holding 2 references.
+    Assertions.assertTrue(
+        tableSize > emptyTableSize + EntityCacheSizeWeigher.estimateSize(decodedColumn) + 8);
+  }
+
+  @Test
+  void testEstimateNonLatin1String() {
+    long latin1Size = EntityCacheSizeWeigher.estimateSize(createColumn(1, "abcdefgh"));
+    long utf16Size =
+        EntityCacheSizeWeigher.estimateSize(
+            createColumn(1, "\u4e00\u4e01\u4e02\u4e03\u4e04\u4e05\u4e06\u4e07"));
+
+    // 8 characters take 8 bytes in Latin-1 and 16 bytes in UTF-16.
+    Assertions.assertEquals(latin1Size + 8, utf16Size);
+  }
+
+  @Test
+  void testWeighEntries() {
+    TableEntity table = createTable(ImmutableList.of(createColumn(0, "comment")));
+    EntityCacheKey key = EntityCacheKey.of(table.nameIdentifier(), Entity.EntityType.TABLE);
+    EntityCacheSizeWeigher weigher = EntityCacheSizeWeigher.getInstance();
+
+    int oneEntityWeight = weigher.weigh(key, ImmutableList.of(table));
+    int twoEntitiesWeight = weigher.weigh(key, ImmutableList.of(table, table));
+
+    Assertions.assertTrue(oneEntityWeight > EntityCacheSizeWeigher.estimateSize(table));
+    Assertions.assertEquals(
+        oneEntityWeight + EntityCacheSizeWeigher.estimateSize(table), twoEntitiesWeight);
+  }
+
+  private static ColumnEntity createColumn(int position, String comment) {
+    return ColumnEntity.builder()
+        .withId(1000L + position)
+        .withName("column_" + position)
+        .withPosition(position)
+        .withDataType(Types.StringType.get())
+        .withComment(comment)
+        .withNullable(true)
+        .withAutoIncrement(false)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private static class LazilyDecodedColumns extends AbstractList<ColumnEntity>
+      implements LazilyDecodedCollection {
+    private final List<Object> heldColumns;
+
+    LazilyDecodedColumns(List<Object> heldColumns) {
+      this.heldColumns = heldColumns;
+    }
+
+    @Override
+    public ColumnEntity get(int index) {
+      throw new UnsupportedOperationException("The columns must not be decoded");
+    }
+
+    @Override
+    public Object heldElement(int index) {
+      return heldColumns.get(index);
+    }
+
+    @Override
+    public int size() {
+      return heldColumns.size();
+    }
+  }
+
+  private static TableEntity createTable(List<ColumnEntity> columns) {
+    return TableEntity.builder()
+        .withId(1000L)
+        .withName("table")
+        .withNamespace(Namespace.of("metalake", "catalog", "schema"))
+        .withColumns(columns)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+}
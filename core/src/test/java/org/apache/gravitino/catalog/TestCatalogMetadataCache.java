@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.catalog;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.connector.BaseCatalog;
+import org.apache.gravitino.rel.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCatalogMetadataCache {
+
+  private static final NameIdentifier SCHEMA = NameIdentifier.of("metalake", "catalog", "schema");
+
+  private static final NameIdentifier TABLE =
+      NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+  @Test
+  public void testCacheDisabledByDefault() throws Exception {
+    CatalogMetadataCache cache = CatalogMetadataCache.create(ImmutableMap.of());
+    AtomicInteger loads = new AtomicInteger();
+    Table table = Mockito.mock(Table.class);
+
+    cache.loadTable(TABLE, () -> countLoad(loads, table));
+    cache.loadTable(TABLE, () -> countLoad(loads, table));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testInvalidateByChanges() throws Exception {
+    CatalogMetadataCache cache =
+        CatalogMetadataCache.create(ImmutableMap.of(BaseCatalog.METADATA_CACHE_ENABLED, "true"));
+    AtomicInteger tableLoads = new AtomicInteger();
+    AtomicInteger schemaLoads = new AtomicInteger();
+    Table table = Mockito.mock(Table.class);
+    Schema schema = Mockito.mock(Schema.class);
+
+    Assertions.assertSame(table, cache.loadTable(TABLE, () -> countLoad(tableLoads, table)));
+    Assertions.assertSame(table, cache.loadTable(TABLE, () -> countLoad(tableLoads, table)));
+    cache.loadSchema(SCHEMA, () -> countLoad(schemaLoads, schema));
+    cache.loadSchema(SCHEMA, () -> countLoad(schemaLoads, schema));
+    Assertions.assertEquals(1, tableLoads.get());
+    Assertions.assertEquals(1, schemaLoads.get());
+
+    // The table is invalidated even if the change fails.
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () ->
+            cache.doWithTableChange(
+                () -> {
+                  throw new IllegalStateException("mock failure");
+                },
+                TABLE));
+    cache.loadTable(TABLE, () -> countLoad(tableLoads, table));
+    Assertions.assertEquals(2, tableLoads.get());
+
+    // Changing the schema invalidates the schema and its tables.
+    cache.doWithSchemaChange(() -> true, SCHEMA);
+    cache.loadTable(TABLE, () -> countLoad(tableLoads, table));
+    cache.loadSchema(SCHEMA, () -> countLoad(schemaLoads, schema));
+    Assertions.assertEquals(3, tableLoads.get());
+    Assertions.assertEquals(2, schemaLoads.get());
+  }
+
+  @Test
+  public void testNotCacheLoadedBeforeChange() throws Exception {
+    CatalogMetadataCache cache =
+        CatalogMetadataCache.create(ImmutableMap.of(BaseCatalog.METADATA_CACHE_ENABLED, "true"));
+    AtomicInteger loads = new AtomicInteger();
+    Table table = Mockito.mock(Table.class);
+
+    // The table is changed while it is being loaded, so the loaded one may be stale.
+    cache.loadTable(
+        TABLE,
+        () -> {
+          cache.doWithTableChange(() -> null, TABLE);
+          return countLoad(loads, table);
+        });
+    cache.loadTable(TABLE, () -> countLoad(loads, table));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  private static <T> T countLoad(AtomicInteger loads, T loaded) {
+    loads.incrementAndGet();
+    return loaded;
+  }
+}
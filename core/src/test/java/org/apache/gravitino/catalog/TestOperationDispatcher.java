@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.catalog;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -79,6 +80,8 @@ public abstract class TestOperationDispatcher {
 
   private static Config config;
 
+  private static Object oldEnvConfig;
+
   @BeforeAll
   public static void setUp() throws IOException, IllegalAccessException {
     config = new Config(false) {};
@@ -103,8 +106,16 @@ public abstract class TestOperationDispatcher {
     doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
 
+    Config envConfig = mock(Config.class);
+    doReturn(2).when(envConfig).get(Configs.TABLE_IMPORT_PARALLELISM);
+    doReturn(2).when(envConfig).get(Configs.TABLE_IMPORT_BATCH_SIZE);
+    doReturn(false).when(envConfig).get(Configs.TREE_LOCK_EXTERNAL_CATALOG_CALLS_UNLOCKED);
+    oldEnvConfig = FieldUtils.readField(GravitinoEnv.getInstance(), "config", true);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "config", envConfig, true);
+
     NameIdentifier ident = NameIdentifier.of(metalake, catalog);
     Map<String, String> props =
         ImmutableMap.of(
@@ -113,7 +124,9 @@ public abstract class TestOperationDispatcher {
   }
 
   @AfterAll
-  public static void tearDown() throws IOException {
+  public static void tearDown() throws IOException, IllegalAccessException {
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "config", oldEnvConfig, true);
+
     if (entityStore != null) {
       entityStore.close();
       entityStore = null;
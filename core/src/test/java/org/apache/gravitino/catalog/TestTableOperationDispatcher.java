@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.catalog;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -34,7 +35,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -42,10 +45,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
@@ -56,6 +62,8 @@ import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.connector.TestCatalogOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLock;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.TableEntity;
@@ -84,6 +92,7 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
     FieldUtils.writeField(
         GravitinoEnv.getInstance(), "schemaDispatcher", schemaOperationDispatcher, true);
@@ -177,6 +186,57 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", table2.auditInfo().creator());
   }
 
+  @Test
+  public void testListTablesWithoutTreeLock() throws Exception {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema47");
+    NameIdentifier schemaIdent = NameIdentifier.of(tableNs.levels());
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(schemaIdent, "comment", props);
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    tableOperationDispatcher.createTable(
+        NameIdentifier.of(tableNs, "table1"), columns, "comment", props, new Transform[0]);
+
+    // The tables of an external catalog are listed while the schema is locked by others.
+    Config config = new Config(false) {};
+    config.set(Configs.TREE_LOCK_EXTERNAL_CATALOG_CALLS_UNLOCKED, true);
+    Object oldConfig = FieldUtils.readField(GravitinoEnv.getInstance(), "config", true);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "config", config, true);
+    CountDownLatch locked = new CountDownLatch(1);
+    CountDownLatch listed = new CountDownLatch(1);
+    CompletableFuture<Void> holder =
+        CompletableFuture.runAsync(
+            () -> {
+              TreeLock lock = GravitinoEnv.getInstance().lockManager().createTreeLock(schemaIdent);
+              lock.lock(LockType.WRITE);
+              try {
+                locked.countDown();
+                listed.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } finally {
+                lock.unlock();
+              }
+            });
+    try {
+      locked.await();
+      NameIdentifier[] tables =
+          Assertions.assertTimeoutPreemptively(
+              Duration.ofSeconds(10), () -> tableOperationDispatcher.listTables(tableNs));
+      Assertions.assertEquals(1, tables.length);
+    } finally {
+      listed.countDown();
+      FieldUtils.writeField(GravitinoEnv.getInstance(), "config", oldConfig, true);
+    }
+    holder.get();
+  }
+
   @Test
   public void testCreateAndLoadTable() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema51");
@@ -256,6 +316,45 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", loadedTable4.auditInfo().creator());
   }
 
+  @Test
+  public void testImportTables() throws IOException {
+    reset(entityStore);
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema52");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    NameIdentifier[] tableIdents = new NameIdentifier[3];
+    for (int i = 0; i < tableIdents.length; i++) {
+      tableIdents[i] = NameIdentifier.of(tableNs, "table" + i);
+      tableOperationDispatcher.createTable(
+          tableIdents[i], columns, "comment", props, new Transform[0]);
+    }
+    TableEntity importedEntity = entityStore.get(tableIdents[0], TABLE, TableEntity.class);
+
+    // The tables created in the underlying catalog directly are not imported.
+    entityStore.delete(tableIdents[1], TABLE);
+    entityStore.delete(tableIdents[2], TABLE);
+
+    NameIdentifier[] importedIdents = tableOperationDispatcher.importTables(tableNs);
+    Assertions.assertEquals(Sets.newHashSet(tableIdents), Sets.newHashSet(importedIdents));
+    for (NameIdentifier tableIdent : tableIdents) {
+      TableEntity tableEntity = entityStore.get(tableIdent, TABLE, TableEntity.class);
+      Assertions.assertEquals(1, tableEntity.columns().size());
+      Assertions.assertEquals("col1", tableEntity.columns().get(0).name());
+    }
+    // The table imported before is not imported again.
+    Assertions.assertSame(
+        importedEntity, entityStore.get(tableIdents[0], TABLE, TableEntity.class));
+  }
+
   @Test
   public void testCreateAndAlterTable() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema61");
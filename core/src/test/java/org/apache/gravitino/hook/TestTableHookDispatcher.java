@@ -30,6 +30,7 @@ import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.apache.gravitino.Configs.SERVICE_ADMINS;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -42,6 +43,7 @@ import java.io.IOException;
 import java.util.Map;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -153,16 +155,22 @@ public class TestTableHookDispatcher extends TestOperationDispatcher {
                   String.format("jdbc:h2:file:%s;DB_CLOSE_DELAY=-1;MODE=MYSQL", "/tmp/testdb"));
           Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER))
               .thenReturn("org.h2.Driver");
+          Mockito.when(config.get(Configs.ENTITY_RELATIONAL_COLUMN_SNAPSHOT_ENABLED))
+              .thenReturn(false);
           Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
           Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS))
               .thenReturn(1000L);
           Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
           Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+          Mockito.when(config.get(Configs.GARBAGE_COLLECTOR_MAX_DELETIONS_PER_SECOND))
+              .thenReturn(0L);
+          Mockito.when(config.get(Configs.CACHE_LIST_CACHE_ENABLED)).thenReturn(false);
           Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
           Mockito.when(config.get(CATALOG_CACHE_EVICTION_INTERVAL_MS)).thenReturn(1000L);
           Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
           Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
           Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+          Mockito.doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
           try {
             FieldUtils.writeField(
                 GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
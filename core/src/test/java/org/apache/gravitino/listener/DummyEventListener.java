@@ -36,6 +36,7 @@ public class DummyEventListener implements EventListenerPlugin {
   Map<String, String> properties;
   @Getter LinkedList<Event> postEvents = new LinkedList<>();
   @Getter LinkedList<PreEvent> preEvents = new LinkedList<>();
+  @Getter LinkedList<Integer> postEventBatchSizes = new LinkedList<>();
 
   @Override
   public void init(Map<String, String> properties) {
@@ -53,9 +54,16 @@ public class DummyEventListener implements EventListenerPlugin {
     postEvents.add(event);
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    postEventBatchSizes.add(events.size());
+    postEvents.addAll(events);
+  }
+
   public void clear() {
     postEvents.clear();
     preEvents.clear();
+    postEventBatchSizes.clear();
   }
 
   @Override
@@ -19,12 +19,15 @@
 
 package org.apache.gravitino.listener;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.exceptions.ForbiddenException;
@@ -35,6 +38,7 @@ import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.OperationStatus;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -176,6 +180,128 @@ public class TestEventListenerManager {
     eventListenerManager.stop();
   }
 
+  @Test
+  void testPartitionedAsyncListeners() {
+    String async1 = "async1";
+    String async2 = "async2";
+    Map<String, String> properties = createAsyncEventListenerConfig(async1, async2);
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS, "4");
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+    EventBus eventBus = eventListenerManager.createEventBus();
+
+    // The events of the same metadata object are dispatched in order.
+    List<Event> events = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      DummyPostEvent event = new DummyPostEvent("user" + i, NameIdentifier.of("a", "b"));
+      events.add(event);
+      eventBus.dispatchEvent(event);
+    }
+
+    List<EventListenerPlugin> listeners = eventBus.getEventListeners();
+    Assertions.assertEquals(1, listeners.size());
+    AsyncQueueListener asyncQueueListener = (AsyncQueueListener) listeners.get(0);
+    List<EventListenerPlugin> shareQueueListeners = asyncQueueListener.getEventListeners();
+    Assertions.assertEquals(2, shareQueueListeners.size());
+    shareQueueListeners.forEach(
+        shareQueueListener -> {
+          DummyAsyncEventListener userListener =
+              (DummyAsyncEventListener)
+                  ((EventListenerPluginWrapper) shareQueueListener).getUserEventListener();
+          Awaitility.await()
+              .atMost(20, TimeUnit.SECONDS)
+              .pollInterval(10, TimeUnit.MILLISECONDS)
+              .until(() -> userListener.getPostEvents().size() == events.size());
+          Assertions.assertEquals(events, new ArrayList<>(userListener.getPostEvents()));
+        });
+    Assertions.assertEquals(
+        0, asyncQueueListener.getMetricsSource().droppedEventsCounter().getCount());
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(
+            () ->
+                asyncQueueListener.getMetricsSource().dispatchTimer().getCount()
+                    == 2L * events.size());
+
+    eventListenerManager.stop();
+  }
+
+  @Test
+  void testBatchedAsyncListeners() {
+    String async1 = "async1";
+    String async2 = "async2";
+    Map<String, String> properties = createAsyncEventListenerConfig(async1, async2);
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_SIZE, "5");
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_LINGER_MS, "10000");
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+    EventBus eventBus = eventListenerManager.createEventBus();
+
+    List<Event> events = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      DummyPostEvent event = new DummyPostEvent("user" + i, NameIdentifier.of("a", "b"));
+      events.add(event);
+      eventBus.dispatchEvent(event);
+    }
+
+    AsyncQueueListener asyncQueueListener =
+        (AsyncQueueListener) eventBus.getEventListeners().get(0);
+    asyncQueueListener
+        .getEventListeners()
+        .forEach(
+            shareQueueListener -> {
+              DummyAsyncEventListener userListener =
+                  (DummyAsyncEventListener)
+                      ((EventListenerPluginWrapper) shareQueueListener).getUserEventListener();
+              Awaitility.await()
+                  .atMost(20, TimeUnit.SECONDS)
+                  .pollInterval(10, TimeUnit.MILLISECONDS)
+                  .until(() -> userListener.getPostEvents().size() == events.size());
+              Assertions.assertEquals(events, new ArrayList<>(userListener.getPostEvents()));
+              // The batches are filled up before the linger time elapses.
+              Assertions.assertEquals(
+                  ImmutableList.of(5, 5), new ArrayList<>(userListener.getPostEventBatchSizes()));
+            });
+
+    eventListenerManager.stop();
+  }
+
+  @Test
+  void testBatchOfFailedEventsToListenerWithoutBatchSupport() {
+    List<Event> handledEvents = new ArrayList<>();
+    EventListenerPlugin userListener =
+        new EventListenerPlugin() {
+          @Override
+          public void init(Map<String, String> properties) {}
+
+          @Override
+          public void start() {}
+
+          @Override
+          public void stop() {}
+
+          @Override
+          public void onPostEvent(Event postEvent) {
+            if ("failed".equals(postEvent.user())) {
+              throw new RuntimeException("Failed to handle the event");
+            }
+            handledEvents.add(postEvent);
+          }
+        };
+    EventListenerPluginWrapper wrapper = new EventListenerPluginWrapper("listener", userListener);
+
+    // The events after the failed one are still handled.
+    Event event1 = new DummyPostEvent("user1", NameIdentifier.of("a", "b"));
+    Event failedEvent = new DummyPostEvent("failed", NameIdentifier.of("a", "b"));
+    Event event2 = new DummyPostEvent("user2", NameIdentifier.of("a", "b"));
+    wrapper.onPostEvents(ImmutableList.of(event1, failedEvent, event2));
+    Assertions.assertEquals(ImmutableList.of(event1, event2), handledEvents);
+  }
+
   @Test
   void testIsolatedAsyncListeners() {
     String async1 = "async1";
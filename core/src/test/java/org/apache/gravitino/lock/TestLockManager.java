@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.lock;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -72,6 +73,7 @@ public class TestLockManager {
     Mockito.when(config.get(TREE_LOCK_MAX_NODE_IN_MEMORY)).thenReturn(100000L);
     Mockito.when(config.get(TREE_LOCK_MIN_NODE_IN_MEMORY)).thenReturn(1000L);
     Mockito.when(config.get(TREE_LOCK_CLEAN_INTERVAL)).thenReturn(60L);
+    Mockito.when(config.get(TREE_LOCK_ACQUIRE_TIMEOUT)).thenReturn(0L);
     return config;
   }
 
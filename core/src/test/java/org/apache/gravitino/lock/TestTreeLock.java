@@ -19,13 +19,20 @@
 
 package org.apache.gravitino.lock;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.lock.TestLockManager.getConfig;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -88,7 +95,9 @@ class TestTreeLock {
     doThrow(new RuntimeException("Mock exception")).when(mockNode2).lock(Mockito.any());
 
     List<TreeLockNode> lockNodes = Arrays.asList(mockNode1, mockNode2, mockNode3);
-    TreeLock treeLock = new TreeLock(lockNodes, TestLockManager.randomNameIdentifier());
+    TreeLock treeLock =
+        new TreeLock(
+            lockNodes, TestLockManager.randomNameIdentifier(), new TreeLockMetricsSource(), 0);
 
     assertThrows(
         RuntimeException.class,
@@ -109,4 +118,35 @@ class TestTreeLock {
     lock.unlock();
     assertThrows(IllegalStateException.class, () -> lock.unlock());
   }
+
+  @Test
+  void testLockTimeout() throws ExecutionException, InterruptedException {
+    Config config = getConfig();
+    Mockito.when(config.get(TREE_LOCK_ACQUIRE_TIMEOUT)).thenReturn(100L);
+    LockManager timeoutLockManager = new LockManager(config);
+    NameIdentifier identifier = NameIdentifier.of("metalake", "catalog");
+    TreeLock holder = timeoutLockManager.createTreeLock(identifier);
+    holder.lock(LockType.WRITE);
+    try {
+      // The tree lock is reentrant, so lock it in another thread.
+      CompletableFuture.runAsync(
+              () -> {
+                TreeLock waiter = timeoutLockManager.createTreeLock(identifier);
+                assertThrows(TreeLockTimeoutException.class, () -> waiter.lock(LockType.READ));
+              })
+          .get();
+    } finally {
+      holder.unlock();
+    }
+
+    TreeLockMetricsSource metricsSource = timeoutLockManager.metricsSource;
+    assertEquals(1, metricsSource.contentionCounter(2).getCount());
+    assertEquals(1, metricsSource.timeoutCounter(2).getCount());
+    assertEquals(0, metricsSource.contentionCounter(1).getCount());
+
+    // All the references are released, so the nodes can be evicted.
+    TreeLockNode catalogNode =
+        timeoutLockManager.treeLockRootNode.childMap.get("metalake").childMap.get("catalog");
+    assertEquals(0, catalogNode.getReference());
+  }
 }
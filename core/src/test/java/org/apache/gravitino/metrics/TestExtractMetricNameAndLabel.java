@@ -109,5 +109,21 @@ public class TestExtractMetricNameAndLabel {
             + Collector.sanitizeMetricName(
                 MetricNames.ENTITY_STORE_RELATION_DATASOURCE_MAX_CONNECTIONS),
         ImmutableMap.of());
+
+    checkResult(
+        MetricsSource.TREE_LOCK_METRIC_NAME + ".catalog." + MetricNames.TREE_LOCK_WAIT_TIME,
+        Collector.sanitizeMetricName(MetricsSource.TREE_LOCK_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.TREE_LOCK_WAIT_TIME),
+        ImmutableMap.of("level", "catalog"));
+
+    checkResult(
+        MetricsSource.EVENT_LISTENER_METRIC_NAME
+            + ".default."
+            + MetricNames.EVENT_LISTENER_DISPATCH_TIME,
+        Collector.sanitizeMetricName(MetricsSource.EVENT_LISTENER_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.EVENT_LISTENER_DISPATCH_TIME),
+        ImmutableMap.of("listener", "default"));
   }
 }
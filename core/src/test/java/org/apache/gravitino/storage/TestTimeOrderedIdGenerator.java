@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+public class TestTimeOrderedIdGenerator {
+
+  @Test
+  public void testIdsAreIncreasing() {
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> 5);
+    long start = System.currentTimeMillis() - TimeOrderedIdGenerator.EPOCH_MILLIS;
+
+    long last = generator.nextId();
+    assertTrue(last > 0);
+    assertEquals(5, (last >>> 12) & TimeOrderedIdGenerator.MAX_NODE_ID);
+    assertTrue(last >= TimeOrderedIdGenerator.compose(start, 5, 0));
+
+    // More ids than the sequence of one millisecond holds.
+    for (int i = 0; i < 100_000; i++) {
+      long id = generator.nextId();
+      assertTrue(id > last);
+      last = id;
+    }
+  }
+
+  @Test
+  public void testIdsAreUniqueAcrossThreads() throws Exception {
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> 1);
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 10_000; j++) {
+                    ids.add(generator.nextId());
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(80_000, ids.size());
+  }
+
+  @Test
+  public void testIdsOfDifferentNodesDiffer() {
+    TimeOrderedIdGenerator node1 = new TimeOrderedIdGenerator(() -> 1);
+    TimeOrderedIdGenerator node2 = new TimeOrderedIdGenerator(() -> 2);
+    for (int i = 0; i < 1000; i++) {
+      long id1 = node1.nextId();
+      long id2 = node2.nextId();
+      assertEquals(1, (id1 >>> 12) & TimeOrderedIdGenerator.MAX_NODE_ID);
+      assertEquals(2, (id2 >>> 12) & TimeOrderedIdGenerator.MAX_NODE_ID);
+    }
+  }
+}
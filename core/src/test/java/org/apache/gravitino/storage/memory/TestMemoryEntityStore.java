@@ -181,7 +181,13 @@ public class TestMemoryEntityStore {
     @Override
     public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
         throws IOException, EntityAlreadyExistsException {
-      throw new UnsupportedOperationException("Batch put is not supported in InMemoryEntityStore.");
+      executeInTransaction(
+          () -> {
+            for (E e : entities) {
+              put(e, overwritten);
+            }
+            return null;
+          });
     }
 
     @Override
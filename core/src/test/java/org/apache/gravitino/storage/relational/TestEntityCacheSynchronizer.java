@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.EntityCacheSynchronizer.EntityChange;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogService;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestEntityCacheSynchronizer extends TestJDBCBackend {
+
+  private static EntityCacheSynchronizer newSynchronizer(EntityCache cache, long retentionMs) {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.CACHE_INVALIDATION_POLL_INTERVAL_MS)).thenReturn(1000L);
+    Mockito.when(config.get(Configs.CACHE_INVALIDATION_RETENTION_MS)).thenReturn(retentionMs);
+    Mockito.when(config.get(Configs.STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(2000L);
+    return new EntityCacheSynchronizer(cache, config);
+  }
+
+  @Test
+  public void testInvalidateChangesOfOtherServers() throws IOException {
+    EntityCache localCache = Mockito.mock(EntityCache.class);
+    EntityCache remoteCache = Mockito.mock(EntityCache.class);
+    EntityCacheSynchronizer local = newSynchronizer(localCache, 3_600_000L);
+    EntityCacheSynchronizer remote = newSynchronizer(remoteCache, 3_600_000L);
+
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    NameIdentifier roleIdent = NameIdentifier.of("metalake", "system", "role", "role1");
+    local.executeAndPublish(
+        ImmutableList.of(
+            EntityChange.of(metalake.nameIdentifier(), Entity.EntityType.METALAKE),
+            EntityChange.of(
+                roleIdent, Entity.EntityType.ROLE, SupportsRelationOperations.Type.ROLE_USER_REL)),
+        () -> {
+          backend.insert(metalake, false);
+          return null;
+        });
+
+    remote.pollChanges();
+    Mockito.verify(remoteCache).invalidate(metalake.nameIdentifier(), Entity.EntityType.METALAKE);
+    Mockito.verify(remoteCache)
+        .invalidate(
+            roleIdent, Entity.EntityType.ROLE, SupportsRelationOperations.Type.ROLE_USER_REL);
+
+    // The changes are applied only once, and never to the server that made them.
+    remote.pollChanges();
+    local.pollChanges();
+    Mockito.verify(remoteCache, Mockito.times(1))
+        .invalidate(metalake.nameIdentifier(), Entity.EntityType.METALAKE);
+    Mockito.verifyNoInteractions(localCache);
+
+    local.close();
+    remote.close();
+  }
+
+  @Test
+  public void testInvalidateModelOfChangedModelVersion() throws IOException {
+    EntityCache remoteCache = Mockito.mock(EntityCache.class);
+    EntityCacheSynchronizer local = newSynchronizer(Mockito.mock(EntityCache.class), 3_600_000L);
+    EntityCacheSynchronizer remote = newSynchronizer(remoteCache, 3_600_000L);
+
+    NameIdentifier versionIdent = NameIdentifier.of("metalake", "catalog", "schema", "model", "1");
+    local.executeAndPublish(
+        ImmutableList.of(EntityChange.of(versionIdent, Entity.EntityType.MODEL_VERSION)),
+        () -> null);
+
+    remote.pollChanges();
+    Mockito.verify(remoteCache).invalidate(versionIdent, Entity.EntityType.MODEL_VERSION);
+    Mockito.verify(remoteCache)
+        .invalidate(
+            NameIdentifier.of("metalake", "catalog", "schema", "model"), Entity.EntityType.MODEL);
+
+    local.close();
+    remote.close();
+  }
+
+  @Test
+  public void testChangesRolledBackWithFailedWrite() throws IOException {
+    EntityCache cache = Mockito.mock(EntityCache.class);
+    EntityCacheSynchronizer synchronizer = newSynchronizer(cache, 3_600_000L);
+
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    List<EntityChange> changes =
+        ImmutableList.of(EntityChange.of(metalake.nameIdentifier(), Entity.EntityType.METALAKE));
+
+    Assertions.assertThrows(
+        IOException.class,
+        () ->
+            synchronizer.executeAndPublish(
+                changes,
+                () -> {
+                  backend.insert(metalake, false);
+                  throw new IOException("mock failure");
+                }));
+
+    Assertions.assertFalse(backend.exists(metalake.nameIdentifier(), Entity.EntityType.METALAKE));
+    Assertions.assertTrue(listAllChanges().isEmpty());
+    synchronizer.close();
+  }
+
+  @Test
+  public void testPurgeChanges() throws IOException {
+    EntityCache cache = Mockito.mock(EntityCache.class);
+    EntityCacheSynchronizer synchronizer = newSynchronizer(cache, 1L);
+
+    synchronizer.executeAndPublish(
+        ImmutableList.of(
+            EntityChange.of(NameIdentifier.of("metalake"), Entity.EntityType.METALAKE)),
+        () -> null);
+    Assertions.assertEquals(1, listAllChanges().size());
+
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .untilAsserted(
+            () -> {
+              synchronizer.purgeChanges();
+              Assertions.assertTrue(listAllChanges().isEmpty());
+            });
+    synchronizer.close();
+  }
+
+  private static List<EntityChangeLogPO> listAllChanges() {
+    return EntityChangeLogService.getInstance().listEntityChangesSince(0L, "", Integer.MAX_VALUE);
+  }
+}
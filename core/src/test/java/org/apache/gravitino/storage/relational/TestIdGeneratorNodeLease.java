@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.apache.gravitino.storage.TimeOrderedIdGenerator;
+import org.apache.gravitino.storage.relational.service.IdGeneratorNodeService;
+import org.junit.jupiter.api.Test;
+
+public class TestIdGeneratorNodeLease extends TestJDBCBackend {
+
+  @Test
+  public void testLeaseUniqueNodeIds() {
+    try (IdGeneratorNodeLease lease1 = new IdGeneratorNodeLease(60_000L);
+        IdGeneratorNodeLease lease2 = new IdGeneratorNodeLease(60_000L)) {
+      assertNotEquals(lease1.nodeId(), lease2.nodeId());
+    }
+
+    // The released node ids are leased again instead of new ones.
+    try (IdGeneratorNodeLease lease = new IdGeneratorNodeLease(60_000L)) {
+      assertEquals(2, IdGeneratorNodeService.getInstance().listNodeIds().size());
+      assertEquals(0, lease.nodeId());
+    }
+  }
+
+  @Test
+  public void testSwitchNodeIdWhenLeaseLost() {
+    try (IdGeneratorNodeLease lease = new IdGeneratorNodeLease(60_000L)) {
+      int nodeId = lease.nodeId();
+
+      // Another server takes the node id, as if the lease expired.
+      IdGeneratorNodeService.getInstance()
+          .takeExpiredNode(nodeId, "other", Long.MAX_VALUE - 1, 0L, Long.MAX_VALUE, Long.MAX_VALUE);
+
+      lease.renew();
+      assertNotEquals(nodeId, lease.nodeId());
+    }
+  }
+
+  @Test
+  public void testNotReuseNodeIdBeforeHighWaterMark() {
+    try (IdGeneratorNodeLease lease = new IdGeneratorNodeLease(60_000L)) {
+      assertEquals(0, lease.nodeId());
+      long id = lease.idGenerator().nextId();
+      assertEquals(0, (id >>> 12) & TimeOrderedIdGenerator.MAX_NODE_ID);
+    }
+
+    // The node id 0 is released, but the ids of another server may be ahead of the clock.
+    IdGeneratorNodeService.getInstance()
+        .takeExpiredNode(0, "other", 0L, Long.MAX_VALUE - 1, Long.MAX_VALUE, Long.MAX_VALUE);
+    try (IdGeneratorNodeLease lease = new IdGeneratorNodeLease(60_000L)) {
+      assertEquals(1, lease.nodeId());
+    }
+  }
+}
@@ -62,9 +62,11 @@ import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.authorization.Privileges;
 import org.apache.gravitino.authorization.SecurableObject;
@@ -149,6 +151,7 @@ public class TestJDBCBackend {
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("root");
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("123456");
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_COLUMN_SNAPSHOT_ENABLED)).thenReturn(false);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
 
@@ -1153,6 +1156,164 @@ public class TestJDBCBackend {
     assertEquals(roleWithoutDot.id(), roleIdWithoutDot);
   }
 
+  @Test
+  public void testBatchPutTables() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    String metalakeName = "batch_put_metalake";
+    String catalogName = "catalog";
+    backend.insert(
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo), false);
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog(metalakeName),
+            catalogName,
+            auditInfo),
+        false);
+
+    backend.insert(
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofSchema(metalakeName, catalogName),
+            "schema1",
+            auditInfo),
+        false);
+
+    Namespace tableNs = NamespaceUtil.ofTable(metalakeName, catalogName, "schema1");
+    List<TableEntity> tables = Lists.newArrayList();
+    for (int i = 0; i < 10; i++) {
+      tables.add(
+          createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, "table" + i, auditInfo));
+    }
+    backend.batchPut(tables, false);
+    assertEquals(10, backend.list(tableNs, Entity.EntityType.TABLE, true).size());
+  }
+
+  @Test
+  public void testListSchemasTablesAndTopicsByPage() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    String metalakeName = "page_list_metalake";
+    String catalogName = "catalog";
+    backend.insert(
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo), false);
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog(metalakeName),
+            catalogName,
+            auditInfo),
+        false);
+
+    Namespace schemaNs = NamespaceUtil.ofSchema(metalakeName, catalogName);
+    Namespace tableNs = NamespaceUtil.ofTable(metalakeName, catalogName, "schema1");
+    Namespace topicNs = NamespaceUtil.ofTopic(metalakeName, catalogName, "schema1");
+    for (String name : new String[] {"schema3", "schema1", "schema2"}) {
+      backend.insert(
+          createSchemaEntity(RandomIdGenerator.INSTANCE.nextId(), schemaNs, name, auditInfo),
+          false);
+    }
+    for (String name : new String[] {"table3", "table1", "table2"}) {
+      backend.insert(
+          createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, name, auditInfo), false);
+    }
+    for (String name : new String[] {"topic3", "topic1", "topic2"}) {
+      backend.insert(
+          createTopicEntity(RandomIdGenerator.INSTANCE.nextId(), topicNs, name, auditInfo), false);
+    }
+
+    assertEquals(
+        Lists.newArrayList("schema1", "schema2"),
+        pageNames(backend.list(schemaNs, Entity.EntityType.SCHEMA, null, 2)));
+    assertEquals(
+        Lists.newArrayList("schema3"),
+        pageNames(backend.list(schemaNs, Entity.EntityType.SCHEMA, "schema2", 2)));
+    assertEquals(
+        Lists.newArrayList("table1", "table2"),
+        pageNames(backend.list(tableNs, Entity.EntityType.TABLE, null, 2)));
+    assertEquals(
+        Lists.newArrayList("table3"),
+        pageNames(backend.list(tableNs, Entity.EntityType.TABLE, "table2", 2)));
+    assertEquals(
+        Lists.newArrayList("topic1", "topic2"),
+        pageNames(backend.list(topicNs, Entity.EntityType.TOPIC, null, 2)));
+    assertTrue(backend.list(topicNs, Entity.EntityType.TOPIC, "topic3", 2).isEmpty());
+  }
+
+  @Test
+  public void testBatchListOwnersOfTables() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    String metalakeName = "batch_owner_metalake";
+    String catalogName = "catalog";
+    backend.insert(
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo), false);
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog(metalakeName),
+            catalogName,
+            auditInfo),
+        false);
+    backend.insert(
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofSchema(metalakeName, catalogName),
+            "schema1",
+            auditInfo),
+        false);
+    UserEntity user =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user",
+            auditInfo);
+    backend.insert(user, false);
+
+    Namespace tableNs = NamespaceUtil.ofTable(metalakeName, catalogName, "schema1");
+    TableEntity ownedTable =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, "table1", auditInfo);
+    TableEntity unownedTable =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, "table2", auditInfo);
+    backend.insert(ownedTable, false);
+    backend.insert(unownedTable, false);
+    backend.insertRelation(
+        OWNER_REL,
+        ownedTable.nameIdentifier(),
+        ownedTable.type(),
+        user.nameIdentifier(),
+        user.type(),
+        true);
+
+    NameIdentifier missingTable = NameIdentifier.of(tableNs, "table3");
+    Map<NameIdentifier, List<UserEntity>> owners =
+        backend.batchListEntitiesByRelation(
+            OWNER_REL,
+            Lists.newArrayList(
+                ownedTable.nameIdentifier(), unownedTable.nameIdentifier(), missingTable),
+            Entity.EntityType.TABLE);
+    assertEquals(2, owners.size());
+    assertEquals(1, owners.get(ownedTable.nameIdentifier()).size());
+    assertEquals(user.id(), owners.get(ownedTable.nameIdentifier()).get(0).id());
+    assertTrue(owners.get(unownedTable.nameIdentifier()).isEmpty());
+    assertFalse(owners.containsKey(missingTable));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            backend.batchListEntitiesByRelation(
+                SupportsRelationOperations.Type.METADATA_OBJECT_ROLE_REL,
+                Lists.newArrayList(ownedTable.nameIdentifier()),
+                Entity.EntityType.TABLE));
+  }
+
+  private static List<String> pageNames(List<? extends HasIdentifier> entities) {
+    List<String> names = new ArrayList<>();
+    entities.forEach(e -> names.add(e.name()));
+    return names;
+  }
+
   @Test
   public void testInsertRelationWithDotInRoleName() throws IOException {
     AuditInfo auditInfo =
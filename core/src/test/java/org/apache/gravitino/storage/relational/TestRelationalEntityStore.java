@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.cache.CaffeineEntityCache;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.utils.TestUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestRelationalEntityStore {
+
+  @Test
+  public void testLoadInterleavedWithDeleteNotCached() throws Exception {
+    Config config = new Config() {};
+    config.set(Configs.CACHE_EXPIRATION_TIME, 0L);
+    config.set(Configs.CACHE_WEIGHER_ENABLED, false);
+    config.set(Configs.CACHE_MAX_ENTRIES, 1000);
+    config.set(Configs.CACHE_CONCURRENCY_MODE, Configs.CACHE_CONCURRENCY_MODE_OPTIMISTIC);
+    EntityCache cache = new CaffeineEntityCache(config);
+    RelationalBackend backend = Mockito.mock(RelationalBackend.class);
+    RelationalEntityStore store = new RelationalEntityStore();
+    FieldUtils.writeField(store, "backend", backend, true);
+    FieldUtils.writeField(store, "cache", cache, true);
+
+    TableEntity table =
+        TestUtil.getTestTableEntity(1L, "table1", Namespace.of("metalake", "catalog", "schema"));
+    Mockito.when(backend.get(table.nameIdentifier(), Entity.EntityType.TABLE)).thenReturn(table);
+    Mockito.when(backend.exists(table.nameIdentifier(), Entity.EntityType.TABLE)).thenReturn(false);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      // A load on another server thread reads the table after the first invalidation of the
+      // deletion, but before the deletion commits.
+      Mockito.when(backend.delete(table.nameIdentifier(), Entity.EntityType.TABLE, false))
+          .thenAnswer(
+              invocation -> {
+                executor
+                    .submit(
+                        () ->
+                            store.get(
+                                table.nameIdentifier(), Entity.EntityType.TABLE, TableEntity.class))
+                    .get(10, TimeUnit.SECONDS);
+                Assertions.assertTrue(
+                    cache.contains(table.nameIdentifier(), Entity.EntityType.TABLE));
+                return true;
+              });
+
+      Assertions.assertTrue(store.delete(table.nameIdentifier(), Entity.EntityType.TABLE, false));
+      Assertions.assertFalse(cache.contains(table.nameIdentifier(), Entity.EntityType.TABLE));
+      Assertions.assertFalse(store.exists(table.nameIdentifier(), Entity.EntityType.TABLE));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_DELETIONS_PER_SECOND;
+import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.Gauge;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.GarbageCollectorMetricsSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+public class TestRelationalGarbageCollector {
+
+  @Test
+  public void testCollectInTurnWithRateLimit() throws IOException {
+    Config config = mock(Config.class);
+    when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    when(config.get(GARBAGE_COLLECTOR_MAX_DELETIONS_PER_SECOND)).thenReturn(1000L);
+
+    RelationalBackend backend = mock(RelationalBackend.class);
+    when(backend.hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong()))
+        .thenReturn(100, 100, 0);
+    when(backend.hardDeleteLegacyData(eq(Entity.EntityType.SCHEMA), anyLong())).thenReturn(100, 0);
+
+    RelationalGarbageCollector garbageCollector = new RelationalGarbageCollector(backend, config);
+    long startNanos = System.nanoTime();
+    garbageCollector.collectAndClean();
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    // The entity types take turns to delete a batch.
+    InOrder inOrder = Mockito.inOrder(backend);
+    inOrder.verify(backend).hardDeleteLegacyData(eq(Entity.EntityType.SCHEMA), anyLong());
+    inOrder.verify(backend).hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong());
+    inOrder.verify(backend).hardDeleteLegacyData(eq(Entity.EntityType.SCHEMA), anyLong());
+    inOrder.verify(backend, Mockito.times(2))
+        .hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong());
+
+    // 300 rows are deleted at the rate of 1000 rows per second.
+    Assertions.assertTrue(elapsedMillis >= 250, "Elapsed time: " + elapsedMillis);
+    GarbageCollectorMetricsSource metricsSource = garbageCollector.getMetricsSource();
+    Assertions.assertEquals(300, metricsSource.deletedRowsCounter().getCount());
+    Map<String, Gauge> gauges = metricsSource.getMetricRegistry().getGauges();
+    Assertions.assertEquals(
+        0, gauges.get(MetricNames.GARBAGE_COLLECTOR_BACKLOG_ENTITY_TYPES).getValue());
+    Assertions.assertEquals(0L, gauges.get(MetricNames.GARBAGE_COLLECTOR_LAG_SECONDS).getValue());
+  }
+}
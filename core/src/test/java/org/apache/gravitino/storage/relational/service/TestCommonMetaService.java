@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
+import org.apache.gravitino.storage.relational.session.SqlSessions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestCommonMetaService extends TestJDBCBackend {
+  private final String metalakeName = "metalake_for_common_test";
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  private BaseMetalake metalake;
+  private CatalogEntity catalog;
+  private SchemaEntity schema;
+
+  @BeforeEach
+  public void prepare() throws IOException {
+    EntityIdCache.getInstance().init(new Config(false) {});
+
+    metalake = createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog", auditInfo);
+    backend.insert(catalog, false);
+    schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of(metalakeName, "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+  }
+
+  @AfterEach
+  public void cleanup() {
+    EntityIdCache.getInstance().close();
+  }
+
+  @Test
+  public void testGetParentEntityIdsFromCache() {
+    EntityIdCache idCache = EntityIdCache.getInstance();
+    CommonMetaService commonMetaService = CommonMetaService.getInstance();
+    Namespace tableNamespace = Namespace.of(metalakeName, "catalog", "schema");
+
+    long hits = idCache.hitCount();
+    long misses = idCache.missCount();
+    Assertions.assertEquals(
+        schema.id(), commonMetaService.getParentEntityIdByNamespace(tableNamespace));
+    Assertions.assertEquals(misses + 1, idCache.missCount());
+
+    Assertions.assertArrayEquals(
+        new Long[] {metalake.id(), catalog.id(), schema.id()},
+        commonMetaService.getParentEntityIdsByNamespace(tableNamespace));
+    Assertions.assertEquals(
+        metalake.id(), commonMetaService.getParentEntityIdByNamespace(Namespace.of(metalakeName)));
+    Assertions.assertEquals(hits + 1, idCache.hitCount());
+    Assertions.assertEquals(misses + 2, idCache.missCount());
+
+    // The missing names are not cached.
+    Namespace missingNamespace = Namespace.of(metalakeName, "catalog", "missing");
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> commonMetaService.getParentEntityIdByNamespace(missingNamespace));
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> commonMetaService.getParentEntityIdByNamespace(missingNamespace));
+    Assertions.assertEquals(misses + 4, idCache.missCount());
+  }
+
+  @Test
+  public void testInvalidateParentEntityIds() {
+    EntityIdCache idCache = EntityIdCache.getInstance();
+    CommonMetaService commonMetaService = CommonMetaService.getInstance();
+    Namespace tableNamespace = Namespace.of(metalakeName, "catalog", "schema");
+    commonMetaService.getParentEntityIdByNamespace(tableNamespace);
+    commonMetaService.getParentEntityIdByNamespace(Namespace.of(metalakeName, "catalog"));
+
+    // Invalidating a catalog invalidates the schemas under it as well.
+    long misses = idCache.missCount();
+    idCache.invalidate(NameIdentifier.of(metalakeName, "catalog"), Entity.EntityType.CATALOG);
+    commonMetaService.getParentEntityIdByNamespace(tableNamespace);
+    commonMetaService.getParentEntityIdByNamespace(Namespace.of(metalakeName, "catalog"));
+    Assertions.assertEquals(misses + 2, idCache.missCount());
+
+    // Invalidating a schema keeps its catalog.
+    idCache.invalidate(
+        NameIdentifier.of(metalakeName, "catalog", "schema"), Entity.EntityType.SCHEMA);
+    commonMetaService.getParentEntityIdByNamespace(tableNamespace);
+    commonMetaService.getParentEntityIdByNamespace(Namespace.of(metalakeName, "catalog"));
+    Assertions.assertEquals(misses + 3, idCache.missCount());
+
+    // The other entity types have no cached ids.
+    idCache.invalidate(
+        NameIdentifier.of(metalakeName, "catalog", "schema", "table"), Entity.EntityType.TABLE);
+    commonMetaService.getParentEntityIdByNamespace(tableNamespace);
+    Assertions.assertEquals(misses + 3, idCache.missCount());
+  }
+
+  @Test
+  public void testBypassCacheInTransaction() {
+    EntityIdCache idCache = EntityIdCache.getInstance();
+    CommonMetaService commonMetaService = CommonMetaService.getInstance();
+    Namespace tableNamespace = Namespace.of(metalakeName, "catalog", "schema");
+
+    long hits = idCache.hitCount();
+    long misses = idCache.missCount();
+    SqlSessions.getSqlSession();
+    try {
+      Assertions.assertEquals(
+          schema.id(), commonMetaService.getParentEntityIdByNamespace(tableNamespace));
+    } finally {
+      SqlSessions.closeSqlSession();
+    }
+    Assertions.assertEquals(hits, idCache.hitCount());
+    Assertions.assertEquals(misses, idCache.missCount());
+
+    // The id loaded in the transaction is not cached.
+    commonMetaService.getParentEntityIdByNamespace(tableNamespace);
+    Assertions.assertEquals(misses + 1, idCache.missCount());
+  }
+}
@@ -261,6 +261,42 @@ public class TestFilesetMetaService {
     Assertions.assertTrue(locationNames.contains(locationName));
   }
 
+  @Test
+  public void testListFilesetsByPage() throws IOException {
+    Namespace filesetNs = NamespaceUtil.ofFileset(metalakeName, catalogName, schemaName);
+    Map<String, String> locations =
+        ImmutableMap.of(LOCATION_NAME_UNKNOWN, "/tmp", "location1", "/tmp2");
+    for (String name : new String[] {"fileset3", "fileset1", "fileset2"}) {
+      FilesetMetaService.getInstance()
+          .insertFileset(
+              FilesetEntity.builder()
+                  .withId(idGenerator.nextId())
+                  .withName(name)
+                  .withNamespace(filesetNs)
+                  .withFilesetType(Fileset.Type.MANAGED)
+                  .withStorageLocations(locations)
+                  .withComment("")
+                  .withProperties(null)
+                  .withAuditInfo(auditInfo)
+                  .build(),
+              false);
+    }
+
+    // The limit applies to the filesets rather than to their location rows.
+    List<FilesetEntity> firstPage =
+        FilesetMetaService.getInstance().listFilesetsByNamespace(filesetNs, null, 2);
+    Assertions.assertEquals(
+        Arrays.asList("fileset1", "fileset2"),
+        firstPage.stream().map(FilesetEntity::name).collect(Collectors.toList()));
+    firstPage.forEach(f -> Assertions.assertEquals(locations, f.storageLocations()));
+
+    List<FilesetEntity> secondPage =
+        FilesetMetaService.getInstance().listFilesetsByNamespace(filesetNs, "fileset2", 2);
+    Assertions.assertEquals(
+        Arrays.asList("fileset3"),
+        secondPage.stream().map(FilesetEntity::name).collect(Collectors.toList()));
+  }
+
   @Test
   public void testDeleteFilesetVersionsByRetentionCount() throws IOException {
     String filesetName = GravitinoITUtils.genRandomName("tst_fs_fileset");
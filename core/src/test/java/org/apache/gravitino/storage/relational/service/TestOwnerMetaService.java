@@ -18,8 +18,10 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Map;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
@@ -91,6 +93,64 @@ class TestOwnerMetaService extends TestJDBCBackend {
     Assertions.assertEquals("group", ((GroupEntity) entity).name());
   }
 
+  @Test
+  void testBatchGetOwners() throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    UserEntity user =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user",
+            auditInfo);
+    backend.insert(user, false);
+    GroupEntity group =
+        createGroupEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofGroupNamespace(metalakeName),
+            "group",
+            auditInfo);
+    backend.insert(group, false);
+
+    CatalogEntity userOwned =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog1", auditInfo);
+    backend.insert(userOwned, false);
+    CatalogEntity groupOwned =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog2", auditInfo);
+    backend.insert(groupOwned, false);
+    CatalogEntity notOwned =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog3", auditInfo);
+    backend.insert(notOwned, false);
+
+    OwnerMetaService.getInstance()
+        .setOwner(userOwned.nameIdentifier(), userOwned.type(), user.nameIdentifier(), user.type());
+    OwnerMetaService.getInstance()
+        .setOwner(
+            groupOwned.nameIdentifier(), groupOwned.type(), group.nameIdentifier(), group.type());
+
+    Map<Long, Entity> owners =
+        OwnerMetaService.getInstance()
+            .batchGetOwners(
+                metalakeName,
+                Lists.newArrayList(userOwned.id(), groupOwned.id(), notOwned.id()),
+                Entity.EntityType.CATALOG);
+    Assertions.assertEquals(2, owners.size());
+    Assertions.assertEquals("user", ((UserEntity) owners.get(userOwned.id())).name());
+    Assertions.assertEquals("group", ((GroupEntity) owners.get(groupOwned.id())).name());
+    Assertions.assertFalse(owners.containsKey(notOwned.id()));
+
+    // The owners of the other entity types with the same ids are not returned.
+    Assertions.assertTrue(
+        OwnerMetaService.getInstance()
+            .batchGetOwners(
+                metalakeName, Lists.newArrayList(userOwned.id()), Entity.EntityType.SCHEMA)
+            .isEmpty());
+  }
+
   @Test
   void testDifferentEntities() throws IOException {
     String catalogName = "catalog";
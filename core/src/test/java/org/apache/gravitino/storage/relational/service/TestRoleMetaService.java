@@ -32,6 +32,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
@@ -110,6 +111,56 @@ class TestRoleMetaService extends TestJDBCBackend {
     Assertions.assertEquals(role1, roleMetaService.getRoleByIdentifier(role1.nameIdentifier()));
   }
 
+  @Test
+  void testBatchGetRoleByIdentifier() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+    backend.insert(catalog, false);
+
+    RoleEntity role1 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role1",
+            auditInfo,
+            SecurableObjects.ofCatalog(
+                "catalog", Lists.newArrayList(Privileges.UseCatalog.allow())),
+            ImmutableMap.of("k1", "v1"));
+    RoleEntity role2 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role2",
+            auditInfo,
+            SecurableObjects.ofCatalog(
+                "catalog", Lists.newArrayList(Privileges.CreateSchema.deny())),
+            ImmutableMap.of("k2", "v2"));
+    backend.insert(role1, false);
+    backend.insert(role2, false);
+
+    RoleMetaService roleMetaService = RoleMetaService.getInstance();
+    Assertions.assertEquals(
+        Lists.newArrayList(role2, role1),
+        roleMetaService.batchGetRoleByIdentifier(
+            Lists.newArrayList(
+                role2.nameIdentifier(),
+                AuthorizationUtils.ofRole(metalakeName, "role3"),
+                role1.nameIdentifier(),
+                AuthorizationUtils.ofRole("no_such_metalake", "role1"))));
+    Assertions.assertEquals(
+        Lists.newArrayList(role1, role2),
+        backend.batchGet(
+            Lists.newArrayList(role1.nameIdentifier(), role2.nameIdentifier()),
+            Entity.EntityType.ROLE));
+  }
+
   @Test
   void testListRoles() throws IOException {
     AuditInfo auditInfo =
@@ -23,6 +23,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -39,9 +40,15 @@ import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.types.Types;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.apache.gravitino.storage.relational.mapper.ColumnSnapshotMapper;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.ColumnSnapshotPO;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.apache.gravitino.storage.relational.session.SqlSessions;
+import org.apache.gravitino.storage.relational.utils.POConverters;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.apache.ibatis.session.SqlSession;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.shaded.com.google.common.collect.Lists;
@@ -154,6 +161,117 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
     compareTwoColumns(createdTable3.columns(), retrievedTable3.columns());
   }
 
+  @Test
+  public void testBatchGetTables() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+    Namespace namespace = Namespace.of(METALAKE_NAME, catalogName, schemaName);
+
+    List<ColumnEntity> columns = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("column" + i)
+              .withPosition(i)
+              .withComment("comment" + i)
+              .withDataType(Types.IntegerType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withDefaultValue(Literals.integerLiteral(i))
+              .withAuditInfo(auditInfo)
+              .build());
+    }
+    TableEntity table1 =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(namespace)
+            .withColumns(columns)
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity table2 =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table2")
+            .withNamespace(namespace)
+            .withColumns(columns.subList(0, 1))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableMetaService.getInstance().insertTable(table1, false);
+    TableMetaService.getInstance().insertTable(table2, false);
+
+    // Drop a column of table1, so its columns are merged from two versions.
+    TableEntity updatedTable1 =
+        TableEntity.builder()
+            .withId(table1.id())
+            .withName(table1.name())
+            .withNamespace(namespace)
+            .withColumns(columns.subList(1, 3))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableMetaService.getInstance().updateTable(table1.nameIdentifier(), t -> updatedTable1);
+
+    List<TableEntity> tables =
+        TableMetaService.getInstance()
+            .batchGetTableByIdentifier(
+                Lists.newArrayList(
+                    table2.nameIdentifier(),
+                    NameIdentifier.of(namespace, "table3"),
+                    table1.nameIdentifier(),
+                    NameIdentifier.of(METALAKE_NAME, catalogName, "schema2", "table1")));
+    Assertions.assertEquals(2, tables.size());
+    Assertions.assertEquals(
+        TableMetaService.getInstance().getTableByIdentifier(table2.nameIdentifier()),
+        tables.get(0));
+    Assertions.assertEquals(
+        TableMetaService.getInstance().getTableByIdentifier(table1.nameIdentifier()),
+        tables.get(1));
+    compareTwoColumns(updatedTable1.columns(), tables.get(1).columns());
+  }
+
+  @Test
+  public void testBatchInsertTablesWithManyColumns() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+    Namespace namespace = Namespace.of(METALAKE_NAME, catalogName, schemaName);
+
+    // The columns of the tables are more than one insert statement holds.
+    List<TableEntity> tables = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      List<ColumnEntity> columns = new ArrayList<>();
+      for (int j = 0; j < 40; j++) {
+        columns.add(
+            ColumnEntity.builder()
+                .withId(RandomIdGenerator.INSTANCE.nextId())
+                .withName("column" + j)
+                .withPosition(j)
+                .withDataType(Types.IntegerType.get())
+                .withNullable(true)
+                .withAutoIncrement(false)
+                .withAuditInfo(auditInfo)
+                .build());
+      }
+      tables.add(
+          TableEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("table" + i)
+              .withNamespace(namespace)
+              .withColumns(columns)
+              .withAuditInfo(auditInfo)
+              .build());
+    }
+    TableMetaService.getInstance().batchInsertTables(tables, false);
+
+    for (TableEntity table : tables) {
+      TableEntity loadedTable =
+          TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+      compareTwoColumns(table.columns(), loadedTable.columns());
+    }
+  }
+
   @Test
   public void testUpdateTable() throws IOException {
     String catalogName = "catalog1";
@@ -555,6 +673,135 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
         });
   }
 
+  @Test
+  public void testColumnSnapshot() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+
+    ColumnEntity column1 =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("column1")
+            .withPosition(0)
+            .withComment("comment1")
+            .withDataType(Types.IntegerType.get())
+            .withNullable(true)
+            .withAutoIncrement(false)
+            .withDefaultValue(Literals.integerLiteral(1))
+            .withAuditInfo(auditInfo)
+            .build();
+    ColumnEntity column2 =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("column2")
+            .withPosition(1)
+            .withDataType(Types.StringType.get())
+            .withNullable(false)
+            .withAutoIncrement(false)
+            .withAuditInfo(auditInfo)
+            .build();
+
+    // The table created before the snapshot is enabled is loaded from the column rows.
+    TableEntity createdTable =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(Namespace.of(METALAKE_NAME, catalogName, schemaName))
+            .withColumns(Lists.newArrayList(column1))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableMetaService.getInstance().insertTable(createdTable, false);
+
+    TableColumnMetaService.getInstance().setColumnSnapshotEnabled(true);
+    try {
+      Assertions.assertNull(getColumnSnapshot(createdTable.id(), 1L));
+      TableEntity retrievedTable =
+          TableMetaService.getInstance().getTableByIdentifier(createdTable.nameIdentifier());
+      compareTwoColumns(createdTable.columns(), retrievedTable.columns());
+
+      // Update the table, the new version is stored and loaded as a snapshot.
+      TableEntity updatedTable =
+          TableEntity.builder()
+              .withId(createdTable.id())
+              .withName(createdTable.name())
+              .withNamespace(createdTable.namespace())
+              .withColumns(Lists.newArrayList(column1, column2))
+              .withAuditInfo(auditInfo)
+              .build();
+      Function<TableEntity, TableEntity> updater = oldTable -> updatedTable;
+      TableMetaService.getInstance().updateTable(createdTable.nameIdentifier(), updater);
+
+      ColumnSnapshotPO snapshotPO = getColumnSnapshot(createdTable.id(), 2L);
+      Assertions.assertNotNull(snapshotPO);
+      Assertions.assertEquals(2, snapshotPO.columnCount());
+      Assertions.assertEquals(2, POConverters.fromColumnSnapshotPO(snapshotPO).size());
+
+      retrievedTable =
+          TableMetaService.getInstance().getTableByIdentifier(updatedTable.nameIdentifier());
+      compareTwoColumns(updatedTable.columns(), retrievedTable.columns());
+      Assertions.assertEquals(2, countLiveColumnRows(createdTable.id()));
+
+      // Drop a column, the snapshot of the older version is replaced.
+      TableEntity updatedTable2 =
+          TableEntity.builder()
+              .withId(createdTable.id())
+              .withName(createdTable.name())
+              .withNamespace(createdTable.namespace())
+              .withColumns(Lists.newArrayList(column2))
+              .withAuditInfo(auditInfo)
+              .build();
+      Function<TableEntity, TableEntity> updater2 = oldTable -> updatedTable2;
+      TableMetaService.getInstance().updateTable(createdTable.nameIdentifier(), updater2);
+
+      Assertions.assertNull(getColumnSnapshot(createdTable.id(), 2L));
+      Assertions.assertNotNull(getColumnSnapshot(createdTable.id(), 3L));
+      retrievedTable =
+          TableMetaService.getInstance().getTableByIdentifier(updatedTable2.nameIdentifier());
+      compareTwoColumns(updatedTable2.columns(), retrievedTable.columns());
+
+      // Only the latest row of each live column is kept for the column level lookups.
+      Assertions.assertEquals(1, countLiveColumnRows(createdTable.id()));
+      Assertions.assertEquals(
+          column2.id(),
+          TableColumnMetaService.getInstance()
+              .getColumnIdByTableIdAndName(createdTable.id(), column2.name()));
+      Assertions.assertThrows(
+          NoSuchEntityException.class,
+          () ->
+              TableColumnMetaService.getInstance()
+                  .getColumnIdByTableIdAndName(createdTable.id(), column1.name()));
+
+      TableMetaService.getInstance().deleteTable(createdTable.nameIdentifier());
+      Assertions.assertNull(getColumnSnapshot(createdTable.id(), 3L));
+    } finally {
+      TableColumnMetaService.getInstance().setColumnSnapshotEnabled(false);
+    }
+  }
+
+  private int countLiveColumnRows(Long tableId) {
+    try (SqlSession sqlSession =
+            SqlSessionFactoryHelper.getInstance().getSqlSessionFactory().openSession(true);
+        Connection connection = sqlSession.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet rs =
+            statement.executeQuery(
+                String.format(
+                    "SELECT COUNT(*) FROM %s WHERE table_id = %d AND deleted_at = 0",
+                    TableColumnMapper.COLUMN_TABLE_NAME, tableId))) {
+      rs.next();
+      return rs.getInt(1);
+    } catch (SQLException e) {
+      throw new RuntimeException("SQL execution failed", e);
+    }
+  }
+
+  private ColumnSnapshotPO getColumnSnapshot(Long tableId, Long tableVersion) {
+    return SessionUtils.getWithoutCommit(
+        ColumnSnapshotMapper.class,
+        mapper -> mapper.selectColumnSnapshotByTableIdAndVersion(tableId, tableVersion));
+  }
+
   @Test
   public void testDeleteColumnsByLegacyTimeline() throws IOException {
     String catalogName = "catalog1";
@@ -22,8 +22,10 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.MetadataObject;
@@ -161,6 +163,42 @@ public class TestTagMetaService extends TestJDBCBackend {
     Assertions.assertTrue(tagEntities.contains(tagEntity2));
   }
 
+  @Test
+  public void testListTagsByPage() throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+
+    TagMetaService tagMetaService = TagMetaService.getInstance();
+    for (String name : new String[] {"tag3", "tag1", "tag2"}) {
+      tagMetaService.insertTag(
+          TagEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName(name)
+              .withNamespace(NamespaceUtil.ofTag(metalakeName))
+              .withComment("comment")
+              .withProperties(props)
+              .withAuditInfo(auditInfo)
+              .build(),
+          false);
+    }
+
+    List<TagEntity> firstPage =
+        tagMetaService.listTagsByNamespace(NamespaceUtil.ofTag(metalakeName), null, 2);
+    Assertions.assertEquals(
+        Arrays.asList("tag1", "tag2"),
+        firstPage.stream().map(TagEntity::name).collect(Collectors.toList()));
+
+    List<TagEntity> secondPage =
+        tagMetaService.listTagsByNamespace(NamespaceUtil.ofTag(metalakeName), "tag2", 2);
+    Assertions.assertEquals(
+        Arrays.asList("tag3"),
+        secondPage.stream().map(TagEntity::name).collect(Collectors.toList()));
+
+    Assertions.assertTrue(
+        tagMetaService.listTagsByNamespace(NamespaceUtil.ofTag(metalakeName), "tag3", 2).isEmpty());
+  }
+
   @Test
   public void testUpdateTag() throws IOException {
     BaseMetalake metalake =
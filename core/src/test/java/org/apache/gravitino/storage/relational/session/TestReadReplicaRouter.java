@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Duration;
+import org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestReadReplicaRouter {
+
+  @Test
+  public void testSelectReplica() {
+    EntityChangeLogMapper primaryMapper = Mockito.mock(EntityChangeLogMapper.class);
+    EntityChangeLogMapper replicaMapper = Mockito.mock(EntityChangeLogMapper.class);
+    SqlSessionFactory primary = mockFactory(primaryMapper);
+    SqlSessionFactory replica = mockFactory(replicaMapper);
+
+    try (ReadReplicaRouter router =
+        new ReadReplicaRouter(primary, ImmutableList.of(replica), 60_000L, 1000L)) {
+      // The replica is not read until its lag is checked.
+      assertNull(router.selectReplica());
+      assertEquals(ReadReplicaRouter.UNREACHABLE_LAG_MILLIS, router.lagMillis(0));
+
+      // The replica misses a change made 10 seconds ago.
+      long now = System.currentTimeMillis();
+      Mockito.when(primaryMapper.selectCurrentTimeMillis()).thenReturn(now);
+      Mockito.when(replicaMapper.selectMaxCreatedAt()).thenReturn(now - 20_000L);
+      Mockito.when(primaryMapper.selectMinCreatedAtAfter(now - 20_000L)).thenReturn(now - 10_000L);
+      router.checkLags();
+      assertTrue(router.lagMillis(0) >= 10_000L);
+      assertNull(router.selectReplica());
+
+      // The replica has caught up with the primary.
+      Mockito.when(replicaMapper.selectMaxCreatedAt()).thenReturn(now);
+      Mockito.when(primaryMapper.selectMinCreatedAtAfter(now)).thenReturn(null);
+      router.checkLags();
+      assertEquals(0L, router.lagMillis(0));
+      assertSame(replica, router.selectReplica());
+
+      // The replica can not be reached.
+      Mockito.when(replicaMapper.selectMaxCreatedAt())
+          .thenThrow(new RuntimeException("connection refused"));
+      router.checkLags();
+      assertEquals(ReadReplicaRouter.UNREACHABLE_LAG_MILLIS, router.lagMillis(0));
+      assertNull(router.selectReplica());
+
+      assertEquals(1L, router.replicaReads());
+      assertEquals(3L, router.primaryReads());
+    }
+  }
+
+  @Test
+  public void testReadYourWrites() {
+    EntityChangeLogMapper mapper = Mockito.mock(EntityChangeLogMapper.class);
+    SqlSessionFactory primary = mockFactory(mapper);
+    SqlSessionFactory replica = mockFactory(mapper);
+
+    try (ReadReplicaRouter router =
+        new ReadReplicaRouter(primary, ImmutableList.of(replica), 100L, 1000L)) {
+      router.checkLags();
+      assertSame(replica, router.selectReplica());
+
+      // The thread reads from the primary for a while after it writes.
+      ReadReplicaRouter.recordWrite();
+      assertNull(router.selectReplica());
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .until(() -> router.selectReplica() == replica);
+    }
+  }
+
+  private static SqlSessionFactory mockFactory(EntityChangeLogMapper mapper) {
+    SqlSession session = Mockito.mock(SqlSession.class);
+    Mockito.when(session.getMapper(EntityChangeLogMapper.class)).thenReturn(mapper);
+    SqlSessionFactory factory = Mockito.mock(SqlSessionFactory.class);
+    Mockito.when(factory.openSession(true)).thenReturn(session);
+    return factory;
+  }
+}
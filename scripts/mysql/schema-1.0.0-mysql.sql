@@ -420,3 +420,36 @@ CREATE TABLE IF NOT EXISTS `job_run_meta` (
     KEY `idx_job_template_id` (`job_template_id`),
     KEY `idx_job_execution_id` (`job_execution_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'job run metadata';
+
+CREATE TABLE IF NOT EXISTS `entity_change_log` (
+    `change_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'entity change id',
+    `source_id` VARCHAR(64) NOT NULL COMMENT 'id of the server making the change',
+    `entity_type` VARCHAR(64) NOT NULL COMMENT 'changed entity type',
+    `identifier` MEDIUMTEXT NOT NULL COMMENT 'changed entity name identifier',
+    `relation_type` VARCHAR(64) DEFAULT NULL COMMENT 'changed relation type',
+    `created_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'entity change created at',
+    PRIMARY KEY (`change_id`),
+    KEY `idx_created_at` (`created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'entity change log';
+
+CREATE TABLE IF NOT EXISTS `id_generator_node` (
+    `node_id` INT UNSIGNED NOT NULL COMMENT 'node id of the id generator',
+    `holder` VARCHAR(64) NOT NULL COMMENT 'id of the server leasing the node id',
+    `expire_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'node id lease expired at',
+    `last_id_millis` BIGINT(20) UNSIGNED NOT NULL COMMENT 'high-water mark of the timestamps of the ids generated with the node id',
+    PRIMARY KEY (`node_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'id generator node lease';
+
+CREATE TABLE IF NOT EXISTS `table_column_snapshot` (
+    `table_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'table id',
+    `table_version` INT UNSIGNED NOT NULL COMMENT 'table version',
+    `metalake_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'metalake id',
+    `catalog_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'catalog id',
+    `schema_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'schema id',
+    `column_count` INT UNSIGNED NOT NULL COMMENT 'number of the columns',
+    `column_data` MEDIUMBLOB NOT NULL COMMENT 'gzip compressed columns of the table version',
+    PRIMARY KEY (`table_id`, `table_version`),
+    KEY `idx_mid` (`metalake_id`),
+    KEY `idx_cid` (`catalog_id`),
+    KEY `idx_sid` (`schema_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'table column snapshot';
@@ -180,3 +180,59 @@ COMMENT ON COLUMN job_run_meta.audit_info IS 'job run audit info';
 COMMENT ON COLUMN job_run_meta.current_version IS 'job run current version';
 COMMENT ON COLUMN job_run_meta.last_version IS 'job run last version';
 COMMENT ON COLUMN job_run_meta.deleted_at IS 'job run deleted at';
+
+CREATE TABLE IF NOT EXISTS entity_change_log (
+    change_id BIGINT NOT NULL,
+    source_id VARCHAR(64) NOT NULL,
+    entity_type VARCHAR(64) NOT NULL,
+    identifier TEXT NOT NULL,
+    relation_type VARCHAR(64) DEFAULT NULL,
+    created_at BIGINT NOT NULL,
+    PRIMARY KEY (change_id)
+);
+
+CREATE INDEX IF NOT EXISTS entity_change_log_idx_created_at ON entity_change_log (created_at);
+COMMENT ON TABLE entity_change_log IS 'entity change log';
+COMMENT ON COLUMN entity_change_log.change_id IS 'entity change id';
+COMMENT ON COLUMN entity_change_log.source_id IS 'id of the server making the change';
+COMMENT ON COLUMN entity_change_log.entity_type IS 'changed entity type';
+COMMENT ON COLUMN entity_change_log.identifier IS 'changed entity name identifier';
+COMMENT ON COLUMN entity_change_log.relation_type IS 'changed relation type';
+COMMENT ON COLUMN entity_change_log.created_at IS 'entity change created at';
+
+CREATE TABLE IF NOT EXISTS id_generator_node (
+    node_id INT NOT NULL,
+    holder VARCHAR(64) NOT NULL,
+    expire_at BIGINT NOT NULL,
+    last_id_millis BIGINT NOT NULL,
+    PRIMARY KEY (node_id)
+);
+
+COMMENT ON TABLE id_generator_node IS 'id generator node lease';
+COMMENT ON COLUMN id_generator_node.node_id IS 'node id of the id generator';
+COMMENT ON COLUMN id_generator_node.holder IS 'id of the server leasing the node id';
+COMMENT ON COLUMN id_generator_node.expire_at IS 'node id lease expired at';
+COMMENT ON COLUMN id_generator_node.last_id_millis IS 'high-water mark of the timestamps of the ids generated with the node id';
+
+CREATE TABLE IF NOT EXISTS table_column_snapshot (
+    table_id BIGINT NOT NULL,
+    table_version INT NOT NULL,
+    metalake_id BIGINT NOT NULL,
+    catalog_id BIGINT NOT NULL,
+    schema_id BIGINT NOT NULL,
+    column_count INT NOT NULL,
+    column_data BYTEA NOT NULL,
+    PRIMARY KEY (table_id, table_version)
+);
+
+CREATE INDEX IF NOT EXISTS table_column_snapshot_idx_metalake_id ON table_column_snapshot (metalake_id);
+CREATE INDEX IF NOT EXISTS table_column_snapshot_idx_catalog_id ON table_column_snapshot (catalog_id);
+CREATE INDEX IF NOT EXISTS table_column_snapshot_idx_schema_id ON table_column_snapshot (schema_id);
+COMMENT ON TABLE table_column_snapshot IS 'table column snapshot';
+COMMENT ON COLUMN table_column_snapshot.table_id IS 'table id';
+COMMENT ON COLUMN table_column_snapshot.table_version IS 'table version';
+COMMENT ON COLUMN table_column_snapshot.metalake_id IS 'metalake id';
+COMMENT ON COLUMN table_column_snapshot.catalog_id IS 'catalog id';
+COMMENT ON COLUMN table_column_snapshot.schema_id IS 'schema id';
+COMMENT ON COLUMN table_column_snapshot.column_count IS 'number of the columns';
+COMMENT ON COLUMN table_column_snapshot.column_data IS 'gzip compressed columns of the table version';
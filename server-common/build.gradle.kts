@@ -1,3 +1,5 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 /*
  * Licensed to the Apache Software Foundation (ASF) under one
  * or more contributor license agreements.  See the NOTICE file
@@ -22,6 +24,7 @@ plugins {
   id("java")
   id("idea")
   id("com.diffplug.spotless")
+  alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -38,6 +41,7 @@ dependencies {
   implementation(libs.bundles.kerby)
   implementation(libs.bundles.log4j)
   implementation(libs.bundles.metrics)
+  implementation(libs.caffeine)
   implementation(libs.commons.lang3)
   implementation(libs.guava)
   implementation(libs.jackson.datatype.jdk8)
@@ -67,3 +71,17 @@ tasks {
     environment("GRAVITINO_TEST", "true")
   }
 }
+
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses").configure {
+  options.errorprone?.isEnabled = false
+  options.compilerArgs.removeAll { it.contains("Xplugin:ErrorProne") }
+}
+
+jmh {
+  jmhVersion.set(libs.versions.jmh.asProvider())
+  warmupIterations = 5
+  iterations = 10
+  fork = 1
+  resultFormat = "csv"
+  resultsFile = file("$buildDir/reports/jmh/results.csv")
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.server.ServerConfig;
+import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionEvaluator;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * MetadataFilterBenchmark benchmarks the filtering of the tables returned by {@code
+ * TableOperations.listTables}, which evaluates the load table authorization expression once for
+ * every table.
+ *
+ * <p>It includes two benchmark methods:
+ *
+ * <ul>
+ *   <li>{@code filterTables}: Filters all the listed tables with {@link
+ *       MetadataFilterHelper#filterByExpression}.
+ *   <li>{@code evaluateTable}: Evaluates the expression for a single table, which is the cost the
+ *       filtering pays per item.
+ * </ul>
+ *
+ * <p>The authorizer grants the privileges but no ownership, so the evaluation walks most of the
+ * expression instead of returning at the first owner check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MetadataFilterBenchmark {
+  private static final String METALAKE = "metalake";
+
+  // The authorization expression of TableOperations.listTables.
+  private static final String LOAD_TABLE_AUTHORIZATION_EXPRESSION =
+      "ANY(OWNER, METALAKE, CATALOG) ||"
+          + "SCHEMA_OWNER_WITH_USE_CATALOG ||"
+          + "ANY_USE_CATALOG && ANY_USE_SCHEMA  && (TABLE::OWNER || ANY_SELECT_TABLE || ANY_MODIFY_TABLE)";
+
+  @Param({"100", "1000", "10000"})
+  public int tableCnt;
+
+  private NameIdentifier[] tables;
+  private AuthorizationExpressionEvaluator evaluator;
+  private Map<Entity.EntityType, NameIdentifier> tableMetadataNames;
+
+  @Setup(Level.Trial)
+  public void setup() throws IllegalAccessException {
+    ServerConfig config = new ServerConfig();
+    config.set(Configs.ENABLE_AUTHORIZATION, true);
+    config.set(Configs.AUTHORIZATION_IMPL, NoOwnerAuthorizer.class.getName());
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "config", config, true);
+    GravitinoAuthorizerProvider.getInstance().initialize(config);
+
+    tables = new NameIdentifier[tableCnt];
+    for (int i = 0; i < tableCnt; i++) {
+      tables[i] = NameIdentifierUtil.ofTable(METALAKE, "catalog", "schema", "table_" + i);
+    }
+
+    evaluator = new AuthorizationExpressionEvaluator(LOAD_TABLE_AUTHORIZATION_EXPRESSION);
+    tableMetadataNames = new HashMap<>();
+    tableMetadataNames.put(Entity.EntityType.METALAKE, NameIdentifierUtil.ofMetalake(METALAKE));
+    tableMetadataNames.put(
+        Entity.EntityType.CATALOG, NameIdentifierUtil.ofCatalog(METALAKE, "catalog"));
+    tableMetadataNames.put(
+        Entity.EntityType.SCHEMA, NameIdentifierUtil.ofSchema(METALAKE, "catalog", "schema"));
+    tableMetadataNames.put(Entity.EntityType.TABLE, tables[0]);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException, IllegalAccessException {
+    GravitinoAuthorizerProvider.getInstance().close();
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "config", null, true);
+  }
+
+  @Benchmark
+  public NameIdentifier[] filterTables() {
+    return MetadataFilterHelper.filterByExpression(
+        METALAKE, LOAD_TABLE_AUTHORIZATION_EXPRESSION, Entity.EntityType.TABLE, tables);
+  }
+
+  @Benchmark
+  public boolean evaluateTable() {
+    return evaluator.evaluate(tableMetadataNames);
+  }
+
+  /** An authorizer that grants all the privileges, but nobody owns any metadata object. */
+  public static class NoOwnerAuthorizer extends PassThroughAuthorizer {
+
+    @Override
+    public boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.authorization.Privilege;
+import org.casbin.jcasbin.main.SyncedEnforcer;
+import org.casbin.jcasbin.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * PolicyIndexBenchmark compares the concurrent authorization throughput of {@link PolicyIndex}
+ * with the {@link SyncedEnforcer} of jcasbin it replaces.
+ *
+ * <p>It includes two benchmark groups:
+ *
+ * <ul>
+ *   <li>{@code read}: 8 threads enforce the privileges of random users on random tables.
+ *   <li>{@code readWrite}: 7 threads enforce as above, while 1 thread keeps adding owner policies,
+ *       as the authorizer does when it lazily loads the owners of the requested metadata.
+ * </ul>
+ *
+ * <p>Every user has {@link #ROLES_PER_USER} roles, and every role has privileges on {@link
+ * #TABLES_PER_ROLE} tables.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Group)
+public class PolicyIndexBenchmark {
+  private static final int ROLE_COUNT = 100;
+  private static final int ROLES_PER_USER = 3;
+  private static final int TABLES_PER_ROLE = 100;
+  private static final int USER_COUNT = 1000;
+  private static final int TABLE_COUNT = ROLE_COUNT * TABLES_PER_ROLE;
+
+  private static final String TABLE = MetadataObject.Type.TABLE.name();
+  private static final String SELECT_TABLE = Privilege.Name.SELECT_TABLE.name();
+
+  @Param({"syncedEnforcer", "policyIndex"})
+  public String impl;
+
+  private Policies policies;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    policies = "syncedEnforcer".equals(impl) ? new SyncedEnforcerPolicies() : new IndexPolicies();
+    for (int role = 0; role < ROLE_COUNT; role++) {
+      for (int i = 0; i < TABLES_PER_ROLE; i++) {
+        String table = "table" + (role * TABLES_PER_ROLE + i);
+        policies.addPolicy("role" + role, table, SELECT_TABLE, AuthConstants.ALLOW);
+      }
+    }
+    for (int user = 0; user < USER_COUNT; user++) {
+      for (int i = 0; i < ROLES_PER_USER; i++) {
+        policies.addRoleForUser("user" + user, "role" + ((user + i * 31) % ROLE_COUNT));
+      }
+    }
+  }
+
+  @Benchmark
+  @Group("read")
+  @GroupThreads(8)
+  public boolean enforce() {
+    return enforceRandom();
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(7)
+  public boolean enforceWhileLoading() {
+    return enforceRandom();
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(1)
+  public void loadOwner() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    policies.addPolicy(
+        "user" + random.nextInt(USER_COUNT),
+        "table" + random.nextInt(TABLE_COUNT),
+        AuthConstants.OWNER,
+        AuthConstants.ALLOW);
+  }
+
+  private boolean enforceRandom() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return policies.enforce(
+        "user" + random.nextInt(USER_COUNT), "table" + random.nextInt(TABLE_COUNT), SELECT_TABLE);
+  }
+
+  private interface Policies {
+    void addPolicy(String sub, String metadataId, String act, String eft);
+
+    void addRoleForUser(String user, String role);
+
+    boolean enforce(String sub, String metadataId, String act);
+  }
+
+  private static class IndexPolicies implements Policies {
+    private final PolicyIndex policyIndex = new PolicyIndex();
+
+    @Override
+    public void addPolicy(String sub, String metadataId, String act, String eft) {
+      policyIndex.addPolicy(sub, TABLE, metadataId, act, eft);
+    }
+
+    @Override
+    public void addRoleForUser(String user, String role) {
+      policyIndex.addRoleForUser(user, role);
+    }
+
+    @Override
+    public boolean enforce(String sub, String metadataId, String act) {
+      return policyIndex.enforce(sub, TABLE, metadataId, act);
+    }
+  }
+
+  private static class SyncedEnforcerPolicies implements Policies {
+    private final SyncedEnforcer enforcer;
+
+    private SyncedEnforcerPolicies() throws IOException {
+      try (InputStream modelStream =
+          PolicyIndexBenchmark.class.getResourceAsStream("/jcasbin_model.conf")) {
+        Model model = new Model();
+        model.loadModelFromText(new String(modelStream.readAllBytes(), StandardCharsets.UTF_8));
+        enforcer = new SyncedEnforcer(model);
+      }
+    }
+
+    @Override
+    public void addPolicy(String sub, String metadataId, String act, String eft) {
+      enforcer.addPolicy(sub, TABLE, metadataId, act, eft);
+    }
+
+    @Override
+    public void addRoleForUser(String user, String role) {
+      enforcer.addRoleForUser(user, role);
+    }
+
+    @Override
+    public boolean enforce(String sub, String metadataId, String act) {
+      return enforcer.enforce(sub, TABLE, metadataId, act);
+    }
+  }
+}
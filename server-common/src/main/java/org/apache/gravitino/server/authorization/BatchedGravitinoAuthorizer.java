@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.authorization.Privilege;
+
+/**
+ * BatchedGravitinoAuthorizer wraps a {@link GravitinoAuthorizer} to evaluate an authorization
+ * expression for every metadata object of a list. The first check of a privilege on one of the
+ * listed metadata objects checks it on all of them with one batch call, such as {@link
+ * GravitinoAuthorizer#authorizeBatch}. The results of all the checks are memoized, so the checks of
+ * the other listed metadata objects and of their common parents are not repeated.
+ *
+ * <p>It is created for filtering one list, and must not be shared across requests.
+ */
+class BatchedGravitinoAuthorizer implements GravitinoAuthorizer {
+
+  private final GravitinoAuthorizer authorizer;
+
+  private final List<MetadataObject> metadataObjects;
+
+  private final Set<MetadataObject> batchedObjects;
+
+  /** The memoized results keyed by the checks, then by the metadata objects. */
+  private final Map<String, Map<MetadataObject, Boolean>> results = new HashMap<>();
+
+  BatchedGravitinoAuthorizer(GravitinoAuthorizer authorizer, List<MetadataObject> metadataObjects) {
+    this.authorizer = authorizer;
+    this.metadataObjects = metadataObjects;
+    this.batchedObjects = new HashSet<>(metadataObjects);
+  }
+
+  @Override
+  public void initialize() {}
+
+  @Override
+  public boolean authorize(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege) {
+    return check(
+        AuthConstants.ALLOW + privilege,
+        metadataObject,
+        () -> authorizer.authorize(principal, metalake, metadataObject, privilege),
+        () -> authorizer.authorizeBatch(principal, metalake, metadataObjects, privilege));
+  }
+
+  @Override
+  public boolean deny(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege) {
+    return check(
+        AuthConstants.DENY + privilege,
+        metadataObject,
+        () -> authorizer.deny(principal, metalake, metadataObject, privilege),
+        () -> authorizer.denyBatch(principal, metalake, metadataObjects, privilege));
+  }
+
+  @Override
+  public boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject) {
+    return check(
+        AuthConstants.OWNER,
+        metadataObject,
+        () -> authorizer.isOwner(principal, metalake, metadataObject),
+        () -> authorizer.isOwnerBatch(principal, metalake, metadataObjects));
+  }
+
+  @Override
+  public boolean isServiceAdmin() {
+    return authorizer.isServiceAdmin();
+  }
+
+  @Override
+  public boolean isSelf(Entity.EntityType type, NameIdentifier nameIdentifier) {
+    return authorizer.isSelf(type, nameIdentifier);
+  }
+
+  @Override
+  public boolean isMetalakeUser(String metalake) {
+    return authorizer.isMetalakeUser(metalake);
+  }
+
+  @Override
+  public boolean hasSetOwnerPermission(String metalake, String type, String fullName) {
+    return authorizer.hasSetOwnerPermission(metalake, type, fullName);
+  }
+
+  @Override
+  public boolean hasMetadataPrivilegePermission(String metalake, String type, String fullName) {
+    return authorizer.hasMetadataPrivilegePermission(metalake, type, fullName);
+  }
+
+  @Override
+  public void handleRolePrivilegeChange(Long roleId) {
+    authorizer.handleRolePrivilegeChange(roleId);
+  }
+
+  @Override
+  public void handleMetadataOwnerChange(
+      String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type) {
+    authorizer.handleMetadataOwnerChange(metalake, oldOwnerId, nameIdentifier, type);
+  }
+
+  @Override
+  public void handleMetadataOwnerSet(
+      String metalake, NameIdentifier nameIdentifier, Entity.EntityType type) {
+    authorizer.handleMetadataOwnerSet(metalake, nameIdentifier, type);
+  }
+
+  @Override
+  public void handlePrincipalRemoved(String metalake, String name, Entity.EntityType type) {
+    authorizer.handlePrincipalRemoved(metalake, name, type);
+  }
+
+  @Override
+  public void close() throws IOException {}
+
+  private boolean check(
+      String checkName,
+      MetadataObject metadataObject,
+      BooleanSupplier singleCheck,
+      Supplier<boolean[]> batchCheck) {
+    Map<MetadataObject, Boolean> checked = results.computeIfAbsent(checkName, k -> new HashMap<>());
+    Boolean result = checked.get(metadataObject);
+    if (result != null) {
+      return result;
+    }
+
+    if (batchedObjects.contains(metadataObject)) {
+      boolean[] batchResults = batchCheck.get();
+      for (int i = 0; i < batchResults.length; i++) {
+        checked.put(metadataObjects.get(i), batchResults[i]);
+      }
+      return checked.get(metadataObject);
+    }
+
+    result = singleCheck.getAsBoolean();
+    checked.put(metadataObject, result);
+    return result;
+  }
+}
@@ -20,13 +20,19 @@ package org.apache.gravitino.server.authorization;
 import java.lang.reflect.Array;
 import java.security.Principal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.EnumUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.authorization.GravitinoAuthorizer;
 import org.apache.gravitino.authorization.Privilege;
@@ -62,14 +68,16 @@ public class MetadataFilterHelper {
     GravitinoAuthorizer gravitinoAuthorizer =
         GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer();
     Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
-    return Arrays.stream(metadataList)
-        .filter(
-            metaDataName ->
-                gravitinoAuthorizer.authorize(
-                    currentPrincipal,
-                    metalake,
-                    NameIdentifierUtil.toMetadataObject(metaDataName, entityType),
-                    Privilege.Name.valueOf(privilege)))
+    List<MetadataObject> metadataObjects =
+        Arrays.stream(metadataList)
+            .map(metaDataName -> NameIdentifierUtil.toMetadataObject(metaDataName, entityType))
+            .collect(Collectors.toList());
+    boolean[] authorized =
+        gravitinoAuthorizer.authorizeBatch(
+            currentPrincipal, metalake, metadataObjects, Privilege.Name.valueOf(privilege));
+    return IntStream.range(0, metadataList.length)
+        .filter(i -> authorized[i])
+        .mapToObj(i -> metadataList[i])
         .toArray(NameIdentifier[]::new);
   }
 
@@ -87,17 +95,20 @@ public class MetadataFilterHelper {
       String expression,
       Entity.EntityType entityType,
       NameIdentifier[] nameIdentifiers) {
-    AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
-        new AuthorizationExpressionEvaluator(expression);
     if (!enableAuthorization()) {
       return nameIdentifiers;
     }
+    AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
+        new AuthorizationExpressionEvaluator(expression);
+    GravitinoAuthorizer batchedAuthorizer =
+        createBatchedAuthorizer(entityType, Arrays.asList(nameIdentifiers));
     return Arrays.stream(nameIdentifiers)
         .filter(
             metaDataName -> {
               Map<Entity.EntityType, NameIdentifier> nameIdentifierMap =
                   spiltMetadataNames(metalake, entityType, metaDataName);
-              return authorizationExpressionEvaluator.evaluate(nameIdentifierMap);
+              return authorizationExpressionEvaluator.evaluate(
+                  nameIdentifierMap, batchedAuthorizer);
             })
         .toArray(NameIdentifier[]::new);
   }
@@ -124,17 +135,43 @@ public class MetadataFilterHelper {
     }
     AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
         new AuthorizationExpressionEvaluator(expression);
+    GravitinoAuthorizer batchedAuthorizer =
+        createBatchedAuthorizer(
+            entityType,
+            Arrays.stream(entities).map(toNameIdentifier).collect(Collectors.toList()));
     return Arrays.stream(entities)
         .filter(
             entity -> {
               NameIdentifier nameIdentifier = toNameIdentifier.apply(entity);
               Map<Entity.EntityType, NameIdentifier> nameIdentifierMap =
                   spiltMetadataNames(metalake, entityType, nameIdentifier);
-              return authorizationExpressionEvaluator.evaluate(nameIdentifierMap);
+              return authorizationExpressionEvaluator.evaluate(
+                  nameIdentifierMap, batchedAuthorizer);
             })
         .toArray(size -> (E[]) Array.newInstance(entities.getClass().getComponentType(), size));
   }
 
+  /**
+   * Wrap the {@link GravitinoAuthorizer} to authorize the listed metadata in batch, so evaluating
+   * the expression for every listed metadata does not call the authorizer for each of them.
+   *
+   * @param entityType metadata type
+   * @param nameIdentifiers the listed metadata names
+   * @return the authorizer the expressions are evaluated with
+   */
+  private static GravitinoAuthorizer createBatchedAuthorizer(
+      Entity.EntityType entityType, List<NameIdentifier> nameIdentifiers) {
+    List<MetadataObject> metadataObjects = Collections.emptyList();
+    if (EnumUtils.isValidEnum(MetadataObject.Type.class, entityType.name())) {
+      metadataObjects =
+          nameIdentifiers.stream()
+              .map(ident -> NameIdentifierUtil.toMetadataObject(ident, entityType))
+              .collect(Collectors.toList());
+    }
+    return new BatchedGravitinoAuthorizer(
+        GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer(), metadataObjects);
+  }
+
   /**
    * Extract the parent metadata from NameIdentifier. For example, when given a Table
    * NameIdentifier, it returns a map containing the Table itself along with its parent Schema and
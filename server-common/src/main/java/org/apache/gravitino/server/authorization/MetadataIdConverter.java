@@ -22,14 +22,23 @@ package org.apache.gravitino.server.authorization;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.CapabilityHelpers;
 import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.connector.capability.Capability;
@@ -46,10 +55,14 @@ import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.utils.MetadataObjectUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** It is used to convert MetadataObject to MetadataId */
 public class MetadataIdConverter {
 
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataIdConverter.class);
+
   // Maps metadata type to entity type
   private static final Map<MetadataObject.Type, Entity.EntityType> METADATA_TO_ENTITY_TYPE_MAPPING =
       ImmutableMap.of(
@@ -89,6 +102,17 @@ public class MetadataIdConverter {
           .put(Entity.EntityType.ROLE, RoleEntity.class)
           .build();
 
+  // The entity types whose ids are converted in batch by loading the entities of the same parent
+  // with one query.
+  private static final Set<Entity.EntityType> BATCH_LOADABLE_ENTITY_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.CATALOG,
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC,
+          Entity.EntityType.MODEL);
+
   private MetadataIdConverter() {}
 
   /**
@@ -122,6 +146,78 @@ public class MetadataIdConverter {
     return extractIdFromEntity(entity);
   }
 
+  /**
+   * Converts the given metadata objects to metadata ids. The metadata objects under the same parent
+   * are converted by loading their entities in one batch instead of loading them one by one.
+   *
+   * @param metadataObjects The metadata objects to convert.
+   * @param metalake The metalake name.
+   * @return The metadata ids in the order of the metadata objects, the id is null if the metadata
+   *     object can not be converted.
+   */
+  public static Long[] getIDs(List<MetadataObject> metadataObjects, String metalake) {
+    Preconditions.checkArgument(metadataObjects != null, "Metadata objects cannot be null");
+    EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
+    CatalogManager catalogManager = GravitinoEnv.getInstance().catalogManager();
+
+    Long[] ids = new Long[metadataObjects.size()];
+    NameIdentifier[] normalizedIdents = new NameIdentifier[metadataObjects.size()];
+    Map<Pair<Entity.EntityType, Namespace>, List<Integer>> indexesByParent = new HashMap<>();
+    for (int i = 0; i < metadataObjects.size(); i++) {
+      MetadataObject metadataObject = metadataObjects.get(i);
+      try {
+        NameIdentifier ident = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
+        normalizedIdents[i] =
+            normalizeCaseSensitive(
+                ident, METADATA_SCOPE_MAPPING.get(metadataObject.type()), catalogManager);
+      } catch (Exception e) {
+        LOG.debug("Can not convert metadata object {}", metadataObject.fullName(), e);
+        continue;
+      }
+      indexesByParent
+          .computeIfAbsent(
+              Pair.of(getEntityType(metadataObject.type()), normalizedIdents[i].namespace()),
+              k -> new ArrayList<>())
+          .add(i);
+    }
+
+    for (Map.Entry<Pair<Entity.EntityType, Namespace>, List<Integer>> entry :
+        indexesByParent.entrySet()) {
+      Entity.EntityType entityType = entry.getKey().getLeft();
+      List<Integer> indexes = entry.getValue();
+      if (indexes.size() > 1 && BATCH_LOADABLE_ENTITY_TYPES.contains(entityType)) {
+        List<NameIdentifier> idents =
+            indexes.stream().map(index -> normalizedIdents[index]).collect(Collectors.toList());
+        Map<NameIdentifier, Long> loadedIds = batchGetIds(entityStore, idents, entityType);
+        for (int index : indexes) {
+          ids[index] = loadedIds.get(normalizedIdents[index]);
+        }
+        continue;
+      }
+
+      for (int index : indexes) {
+        try {
+          ids[index] = getID(metadataObjects.get(index), metalake);
+        } catch (Exception e) {
+          LOG.debug("Can not get the id of {}", metadataObjects.get(index).fullName(), e);
+        }
+      }
+    }
+    return ids;
+  }
+
+  private static Map<NameIdentifier, Long> batchGetIds(
+      EntityStore entityStore, List<NameIdentifier> idents, Entity.EntityType entityType) {
+    try {
+      return entityStore.batchGet(idents, entityType, getEntityClass(entityType)).stream()
+          .collect(
+              Collectors.toMap(HasIdentifier::nameIdentifier, HasIdentifier::id, (a, b) -> a));
+    } catch (Exception e) {
+      LOG.debug("Can not load the entities {}", idents, e);
+      return Collections.emptyMap();
+    }
+  }
+
   @VisibleForTesting
   static NameIdentifier normalizeCaseSensitive(
       NameIdentifier ident, Capability.Scope scope, CatalogManager catalogManager) {
@@ -19,10 +19,13 @@ package org.apache.gravitino.server.authorization.expression;
 
 import java.security.Principal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import ognl.Ognl;
 import ognl.OgnlContext;
 import ognl.OgnlException;
@@ -37,7 +40,23 @@ import org.apache.gravitino.utils.PrincipalUtils;
 /** Evaluate the runtime result of the AuthorizationExpression. */
 public class AuthorizationExpressionEvaluator {
 
-  private final String ognlAuthorizationExpression;
+  /**
+   * The PARSED_EXPRESSION_CACHE caches the parsed OGNL expression trees by the authorization
+   * expressions, so an expression is only converted and parsed once no matter how many times it is
+   * evaluated.
+   */
+  private static final Map<String, Object> PARSED_EXPRESSION_CACHE = new ConcurrentHashMap<>();
+
+  /**
+   * The evaluation context of the current thread. It is borrowed for the duration of an evaluation,
+   * so a nested evaluation on the same thread creates its own context instead of overwriting it.
+   */
+  private static final ThreadLocal<EvaluationContext> POOLED_CONTEXT = new ThreadLocal<>();
+
+  private static final Set<String> METADATA_TYPE_NAMES =
+      Arrays.stream(MetadataObject.Type.values()).map(Enum::name).collect(Collectors.toSet());
+
+  private final Object parsedExpression;
 
   /**
    * Use {@link AuthorizationExpressionConverter} to convert the authorization expression into an
@@ -46,8 +65,17 @@ public class AuthorizationExpressionEvaluator {
    * @param expression authorization expression
    */
   public AuthorizationExpressionEvaluator(String expression) {
-    this.ognlAuthorizationExpression =
-        AuthorizationExpressionConverter.convertToOgnlExpression(expression);
+    this.parsedExpression =
+        PARSED_EXPRESSION_CACHE.computeIfAbsent(
+            expression,
+            e -> {
+              String ognlExpression = AuthorizationExpressionConverter.convertToOgnlExpression(e);
+              try {
+                return Ognl.parseExpression(ognlExpression);
+              } catch (OgnlException ex) {
+                throw new RuntimeException("ognl parse error", ex);
+              }
+            });
   }
 
   /**
@@ -58,7 +86,7 @@ public class AuthorizationExpressionEvaluator {
    * @return authorization result
    */
   public boolean evaluate(Map<Entity.EntityType, NameIdentifier> metadataNames) {
-    return evaluate(metadataNames, new HashMap<>());
+    return evaluate(metadataNames, Collections.emptyMap());
   }
 
   /**
@@ -71,35 +99,77 @@ public class AuthorizationExpressionEvaluator {
    */
   public boolean evaluate(
       Map<Entity.EntityType, NameIdentifier> metadataNames, Map<String, Object> pathParams) {
+    return evaluate(
+        metadataNames,
+        pathParams,
+        GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer());
+  }
+
+  /**
+   * Use OGNL expressions to invoke the given GravitinoAuthorizer for authorizing multiple types of
+   * metadata IDs.
+   *
+   * @param metadataNames key-metadata type, value-metadata NameIdentifier
+   * @param gravitinoAuthorizer the authorizer invoked by the expression
+   * @return authorization result
+   */
+  public boolean evaluate(
+      Map<Entity.EntityType, NameIdentifier> metadataNames,
+      GravitinoAuthorizer gravitinoAuthorizer) {
+    return evaluate(metadataNames, Collections.emptyMap(), gravitinoAuthorizer);
+  }
+
+  private boolean evaluate(
+      Map<Entity.EntityType, NameIdentifier> metadataNames,
+      Map<String, Object> pathParams,
+      GravitinoAuthorizer gravitinoAuthorizer) {
     Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
-    GravitinoAuthorizer gravitinoAuthorizer =
-        GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer();
-    OgnlContext ognlContext = Ognl.createDefaultContext(null);
-    ognlContext.put("principal", currentPrincipal);
-    ognlContext.put("authorizer", gravitinoAuthorizer);
-    ognlContext.putAll(pathParams);
-    metadataNames.forEach(
-        (type, entityNameIdent) -> {
-          if (isMetadataType(type)) {
-            MetadataObject metadataObject =
-                NameIdentifierUtil.toMetadataObject(entityNameIdent, type);
-            ognlContext.put(type.name(), metadataObject);
-          }
-          ognlContext.put(type.name() + "_NAME_IDENT", entityNameIdent);
-        });
-    NameIdentifier nameIdentifier = metadataNames.get(Entity.EntityType.METALAKE);
-    ognlContext.put(
-        "METALAKE_NAME", Optional.ofNullable(nameIdentifier).map(NameIdentifier::name).orElse(""));
+    EvaluationContext context = POOLED_CONTEXT.get();
+    if (context == null) {
+      context = new EvaluationContext();
+    } else {
+      POOLED_CONTEXT.remove();
+    }
+
+    Map<String, Object> variables = context.variables;
     try {
-      Object value = Ognl.getValue(ognlAuthorizationExpression, ognlContext);
+      variables.put("principal", currentPrincipal);
+      variables.put("authorizer", gravitinoAuthorizer);
+      variables.putAll(pathParams);
+      metadataNames.forEach(
+          (type, entityNameIdent) -> {
+            if (isMetadataType(type)) {
+              MetadataObject metadataObject =
+                  NameIdentifierUtil.toMetadataObject(entityNameIdent, type);
+              variables.put(type.name(), metadataObject);
+            }
+            variables.put(type.name() + "_NAME_IDENT", entityNameIdent);
+          });
+      NameIdentifier nameIdentifier = metadataNames.get(Entity.EntityType.METALAKE);
+      variables.put(
+          "METALAKE_NAME",
+          Optional.ofNullable(nameIdentifier).map(NameIdentifier::name).orElse(""));
+
+      Object value = Ognl.getValue(parsedExpression, context.ognlContext, variables);
       return (boolean) value;
     } catch (OgnlException e) {
       throw new RuntimeException("ognl evaluate error", e);
+    } finally {
+      variables.clear();
+      POOLED_CONTEXT.set(context);
     }
   }
 
   private static boolean isMetadataType(Entity.EntityType type) {
-    return Arrays.stream(MetadataObject.Type.values())
-        .anyMatch(e -> Objects.equals(e.name(), type.name()));
+    return METADATA_TYPE_NAMES.contains(type.name());
+  }
+
+  /**
+   * The variables the expression is evaluated against and the OGNL context, reused by the
+   * evaluations of a thread.
+   */
+  private static class EvaluationContext {
+    private final Map<String, Object> variables = new HashMap<>();
+    private final OgnlContext ognlContext = Ognl.createDefaultContext(variables);
   }
 }
@@ -17,19 +17,24 @@
 
 package org.apache.gravitino.server.authorization.jcasbin;
 
-import com.google.common.base.Preconditions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.ImmutableList;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import org.apache.commons.io.IOUtils;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
@@ -47,9 +52,6 @@ import org.apache.gravitino.server.authorization.MetadataIdConverter;
 import org.apache.gravitino.utils.MetadataObjectUtil;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
-import org.casbin.jcasbin.main.Enforcer;
-import org.casbin.jcasbin.main.SyncedEnforcer;
-import org.casbin.jcasbin.model.Model;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,11 +60,14 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
 
   private static final Logger LOG = LoggerFactory.getLogger(JcasbinAuthorizer.class);
 
-  /** Jcasbin enforcer is used for metadata authorization. */
-  private Enforcer allowEnforcer;
+  /**
+   * The allow policy index is used for metadata authorization. It evaluates the policies of the
+   * jcasbin model without a global lock, so the authorization is not blocked by loading policies.
+   */
+  private PolicyIndex allowEnforcer;
 
-  /** Jcasbin deny enforcer is used for metadata authorization. */
-  private Enforcer denyEnforcer;
+  /** The deny policy index is used for metadata authorization. */
+  private PolicyIndex denyEnforcer;
 
   /** allow internal authorizer */
   private InternalAuthorizer allowInternalAuthorizer;
@@ -76,24 +81,40 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
    */
   private Set<Long> loadedRoles = ConcurrentHashMap.newKeySet();
 
+  /**
+   * The version of the loaded roles and privileges. It is bumped on every change of them, and a
+   * cached authorization result is only used while the version it is computed at is current, so a
+   * change invalidates all the cached results at once.
+   */
+  private final AtomicLong decisionVersion = new AtomicLong();
+
+  /** The source of the owner versions of the metadata objects. */
+  private final AtomicLong ownerVersionSequence = new AtomicLong();
+
+  /**
+   * The owner versions of the metadata objects whose owners are set or changed recently, it is null
+   * if the decision cache is disabled. A cached authorization result of a metadata object is only
+   * used while the owner version it is computed at is current, so setting an owner only invalidates
+   * the cached results of that metadata object. The owner versions expire together with the cached
+   * results, so a result computed before the owner change is always expired before its version.
+   */
+  private Cache<DecisionKey, Long> ownerVersions;
+
   @Override
   public void initialize() {
-    allowEnforcer = new SyncedEnforcer(getModel("/jcasbin_model.conf"), new GravitinoAdapter());
-    allowInternalAuthorizer = new InternalAuthorizer(allowEnforcer);
-    denyEnforcer = new SyncedEnforcer(getModel("/jcasbin_model.conf"), new GravitinoAdapter());
-    denyInternalAuthorizer = new InternalAuthorizer(denyEnforcer);
-  }
-
-  private Model getModel(String modelFilePath) {
-    Model model = new Model();
-    try (InputStream modelStream = JcasbinAuthorizer.class.getResourceAsStream(modelFilePath)) {
-      Preconditions.checkNotNull(modelStream, "Jcasbin model file can not found.");
-      String modelData = IOUtils.toString(modelStream, StandardCharsets.UTF_8);
-      model.loadModelFromText(modelData);
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+    Config config = GravitinoEnv.getInstance().config();
+    if (config.get(Configs.AUTHORIZATION_DECISION_CACHE_MAX_ENTRIES) > 0) {
+      ownerVersions =
+          Caffeine.newBuilder()
+              .expireAfterWrite(
+                  config.get(Configs.AUTHORIZATION_DECISION_CACHE_EXPIRATION_TIME),
+                  TimeUnit.MILLISECONDS)
+              .build();
     }
-    return model;
+    allowEnforcer = new PolicyIndex();
+    allowInternalAuthorizer = new InternalAuthorizer(allowEnforcer, config);
+    denyEnforcer = new PolicyIndex();
+    denyInternalAuthorizer = new InternalAuthorizer(denyEnforcer, config);
   }
 
   @Override
@@ -149,6 +170,33 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     return result;
   }
 
+  @Override
+  public boolean[] authorizeBatch(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    return allowInternalAuthorizer.authorizeBatchInternal(
+        principal, metalake, metadataObjects, privilege.name());
+  }
+
+  @Override
+  public boolean[] denyBatch(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    return denyInternalAuthorizer.authorizeBatchInternal(
+        principal, metalake, metadataObjects, privilege.name());
+  }
+
+  @Override
+  public boolean[] isOwnerBatch(
+      Principal principal, String metalake, List<MetadataObject> metadataObjects) {
+    return allowInternalAuthorizer.authorizeBatchInternal(
+        principal, metalake, metadataObjects, AuthConstants.OWNER);
+  }
+
   @Override
   public boolean isServiceAdmin() {
     return GravitinoEnv.getInstance()
@@ -266,6 +314,9 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     loadedRoles.remove(roleId);
     allowEnforcer.deleteRole(String.valueOf(roleId));
     denyEnforcer.deleteRole(String.valueOf(roleId));
+    // Bump the version after the policies are removed, so a result computed with the removed
+    // policies is never cached with the new version.
+    decisionVersion.incrementAndGet();
   }
 
   @Override
@@ -273,14 +324,43 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type) {
     MetadataObject metadataObject = NameIdentifierUtil.toMetadataObject(nameIdentifier, type);
     Long metadataId = MetadataIdConverter.getID(metadataObject, metalake);
-    ImmutableList<String> policy =
-        ImmutableList.of(
-            String.valueOf(oldOwnerId),
-            String.valueOf(metadataObject.type()),
-            String.valueOf(metadataId),
-            AuthConstants.OWNER,
-            AuthConstants.ALLOW);
-    allowEnforcer.removePolicy(policy);
+    allowEnforcer.removePolicy(
+        String.valueOf(oldOwnerId),
+        String.valueOf(metadataObject.type()),
+        String.valueOf(metadataId),
+        AuthConstants.OWNER,
+        AuthConstants.ALLOW);
+    bumpOwnerVersion(metalake, metadataObject);
+  }
+
+  @Override
+  public void handleMetadataOwnerSet(
+      String metalake, NameIdentifier nameIdentifier, Entity.EntityType type) {
+    bumpOwnerVersion(metalake, NameIdentifierUtil.toMetadataObject(nameIdentifier, type));
+  }
+
+  @Override
+  public void handlePrincipalRemoved(String metalake, String name, Entity.EntityType type) {
+    // The results cached for a removed user must not be served to a user added again with the
+    // same name, and a removed group changes the results of all its members, so all the cached
+    // results are invalidated.
+    decisionVersion.incrementAndGet();
+  }
+
+  private void bumpOwnerVersion(String metalake, MetadataObject metadataObject) {
+    if (ownerVersions != null) {
+      ownerVersions.put(
+          DecisionKey.of(metalake, metadataObject), ownerVersionSequence.incrementAndGet());
+    }
+  }
+
+  private long ownerVersion(String metalake, MetadataObject metadataObject) {
+    if (ownerVersions == null) {
+      return 0L;
+    }
+
+    Long ownerVersion = ownerVersions.getIfPresent(DecisionKey.of(metalake, metadataObject));
+    return ownerVersion == null ? 0L : ownerVersion;
   }
 
   @Override
@@ -288,20 +368,38 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
 
   private class InternalAuthorizer {
 
-    Enforcer enforcer;
+    PolicyIndex enforcer;
+
+    /** The cached authorization results, it is null if the decision cache is disabled. */
+    private final Cache<DecisionKey, Decision> decisionCache;
 
-    public InternalAuthorizer(Enforcer enforcer) {
+    public InternalAuthorizer(PolicyIndex enforcer, Config config) {
       this.enforcer = enforcer;
+      int maxEntries = config.get(Configs.AUTHORIZATION_DECISION_CACHE_MAX_ENTRIES);
+      this.decisionCache =
+          maxEntries == 0
+              ? null
+              : Caffeine.newBuilder()
+                  .maximumSize(maxEntries)
+                  .expireAfterWrite(
+                      config.get(Configs.AUTHORIZATION_DECISION_CACHE_EXPIRATION_TIME),
+                      TimeUnit.MILLISECONDS)
+                  .build();
     }
 
     private boolean authorizeInternal(
         Principal principal, String metalake, MetadataObject metadataObject, String privilege) {
       String username = principal.getName();
-      return loadPrivilegeAndAuthorize(username, metalake, metadataObject, privilege);
-    }
+      DecisionKey key = new DecisionKey(metalake, username, metadataObject, privilege);
+      // Read the version before loading anything, so the result is not used any more if the
+      // roles or the owners change while it is computed.
+      long version = decisionVersion.get();
+      long ownerVersion = ownerVersion(metalake, metadataObject);
+      Boolean cachedResult = getCachedDecision(key, version, ownerVersion);
+      if (cachedResult != null) {
+        return cachedResult;
+      }
 
-    private boolean loadPrivilegeAndAuthorize(
-        String username, String metalake, MetadataObject metadataObject, String privilege) {
       Long metadataId;
       Long userId;
       try {
@@ -309,11 +407,109 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
         userId = userEntity.id();
         metadataId = MetadataIdConverter.getID(metadataObject, metalake);
       } catch (Exception e) {
+        // The failure may be transient, so the result is not cached.
         LOG.debug("Can not get entity id", e);
         return false;
       }
       loadPrivilege(metalake, username, userId, metadataObject, metadataId);
-      return authorizeByJcasbin(userId, metadataObject, metadataId, privilege);
+      boolean result = authorizeByJcasbin(userId, metadataObject, metadataId, privilege);
+      cacheDecision(key, version, ownerVersion, result);
+      return result;
+    }
+
+    /**
+     * Authorizes a batch of metadata objects. The user and the roles are loaded once, the ids and
+     * the owners of the metadata objects are loaded in batch, then every metadata object is
+     * enforced against the loaded policies.
+     */
+    private boolean[] authorizeBatchInternal(
+        Principal principal,
+        String metalake,
+        List<MetadataObject> metadataObjects,
+        String privilege) {
+      boolean[] results = new boolean[metadataObjects.size()];
+      String username = principal.getName();
+      long version = decisionVersion.get();
+      long[] objectOwnerVersions = new long[results.length];
+      List<Integer> uncachedIndexes = new ArrayList<>();
+      for (int i = 0; i < results.length; i++) {
+        objectOwnerVersions[i] = ownerVersion(metalake, metadataObjects.get(i));
+        Boolean cachedResult =
+            getCachedDecision(
+                new DecisionKey(metalake, username, metadataObjects.get(i), privilege),
+                version,
+                objectOwnerVersions[i]);
+        if (cachedResult != null) {
+          results[i] = cachedResult;
+        } else {
+          uncachedIndexes.add(i);
+        }
+      }
+      if (uncachedIndexes.isEmpty()) {
+        return results;
+      }
+
+      List<MetadataObject> uncachedObjects = new ArrayList<>(uncachedIndexes.size());
+      for (int index : uncachedIndexes) {
+        uncachedObjects.add(metadataObjects.get(index));
+      }
+      Long userId;
+      try {
+        UserEntity userEntity = getUserEntity(username, metalake);
+        userId = userEntity.id();
+      } catch (Exception e) {
+        LOG.debug("Can not get entity id", e);
+        return results;
+      }
+
+      Long[] metadataIds = MetadataIdConverter.getIDs(uncachedObjects, metalake);
+      try {
+        loadRolePrivilege(metalake, username, userId);
+        loadOwnerPolicies(metalake, uncachedObjects, metadataIds);
+      } catch (Exception e) {
+        LOG.error(e.getMessage(), e);
+      }
+
+      for (int i = 0; i < uncachedObjects.size(); i++) {
+        // The metadata objects whose ids can not be resolved are rejected without caching.
+        if (metadataIds[i] != null) {
+          MetadataObject metadataObject = uncachedObjects.get(i);
+          boolean result = authorizeByJcasbin(userId, metadataObject, metadataIds[i], privilege);
+          cacheDecision(
+              new DecisionKey(metalake, username, metadataObject, privilege),
+              version,
+              objectOwnerVersions[uncachedIndexes.get(i)],
+              result);
+          results[uncachedIndexes.get(i)] = result;
+        }
+      }
+      return results;
+    }
+
+    private Boolean getCachedDecision(DecisionKey key, long version, long ownerVersion) {
+      if (decisionCache == null) {
+        return null;
+      }
+
+      Decision decision = decisionCache.getIfPresent(key);
+      return decision != null
+              && decision.version == version
+              && decision.ownerVersion == ownerVersion
+          ? decision.result
+          : null;
+    }
+
+    private void cacheDecision(DecisionKey key, long version, long ownerVersion, boolean result) {
+      if (decisionCache == null) {
+        return;
+      }
+
+      decisionCache.put(key, new Decision(version, ownerVersion, result));
+      // The owner may be set while the result is computed, and its owner version may expire before
+      // the result, so the result is dropped instead of being used after the owner version expires.
+      if (ownerVersion(key.metalake, key.metadataObject) != ownerVersion) {
+        decisionCache.invalidate(key);
+      }
     }
 
     private boolean authorizeByJcasbin(
@@ -361,21 +557,21 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
                 userNameIdentifier,
                 Entity.EntityType.USER);
 
+    List<NameIdentifier> rolesToLoad = new ArrayList<>();
     for (RoleEntity role : entities) {
       Long roleId = role.id();
       allowEnforcer.addRoleForUser(String.valueOf(userId), String.valueOf(roleId));
       denyEnforcer.addRoleForUser(String.valueOf(userId), String.valueOf(roleId));
-      if (loadedRoles.contains(roleId)) {
-        continue;
+      if (!loadedRoles.contains(roleId)) {
+        rolesToLoad.add(NameIdentifierUtil.ofRole(metalake, role.name()));
       }
-      role =
-          entityStore.get(
-              NameIdentifierUtil.ofRole(metalake, role.name()),
-              Entity.EntityType.ROLE,
-              RoleEntity.class);
+    }
 
+    // Load all the roles not loaded yet with one batch instead of one query per role.
+    for (RoleEntity role :
+        entityStore.batchGet(rolesToLoad, Entity.EntityType.ROLE, RoleEntity.class)) {
       loadPolicyByRoleEntity(role);
-      loadedRoles.add(roleId);
+      loadedRoles.add(role.id());
     }
   }
 
@@ -390,46 +586,144 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
                   SupportsRelationOperations.Type.OWNER_REL,
                   entityIdent,
                   Entity.EntityType.valueOf(metadataObject.type().name()));
-      for (Entity ownerEntity : owners) {
-        if (ownerEntity instanceof UserEntity) {
-          UserEntity user = (UserEntity) ownerEntity;
-          ImmutableList<String> policy =
-              ImmutableList.of(
-                  String.valueOf(user.id()),
-                  String.valueOf(metadataObject.type()),
-                  String.valueOf(metadataId),
-                  AuthConstants.OWNER,
-                  AuthConstants.ALLOW);
-          allowEnforcer.addPolicy(policy);
-        }
-      }
+      addOwnerPolicy(owners, metadataObject, metadataId);
     } catch (IOException e) {
       LOG.warn("Can not load metadata owner", e);
     }
   }
 
+  private void loadOwnerPolicies(
+      String metalake, List<MetadataObject> metadataObjects, Long[] metadataIds)
+      throws IOException {
+    // The owners of the metadata objects of the same type are loaded with one batch.
+    Map<MetadataObject.Type, List<Integer>> indexesByType = new HashMap<>();
+    for (int i = 0; i < metadataObjects.size(); i++) {
+      if (metadataIds[i] != null) {
+        indexesByType.computeIfAbsent(metadataObjects.get(i).type(), k -> new ArrayList<>()).add(i);
+      }
+    }
+
+    EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
+    for (Map.Entry<MetadataObject.Type, List<Integer>> entry : indexesByType.entrySet()) {
+      List<NameIdentifier> entityIdents = new ArrayList<>();
+      for (int index : entry.getValue()) {
+        entityIdents.add(MetadataObjectUtil.toEntityIdent(metalake, metadataObjects.get(index)));
+      }
+
+      Map<NameIdentifier, ? extends List<? extends Entity>> owners =
+          entityStore
+              .relationOperations()
+              .batchListEntitiesByRelation(
+                  SupportsRelationOperations.Type.OWNER_REL,
+                  entityIdents,
+                  Entity.EntityType.valueOf(entry.getKey().name()));
+      for (int i = 0; i < entityIdents.size(); i++) {
+        List<? extends Entity> entityOwners = owners.get(entityIdents.get(i));
+        if (entityOwners != null) {
+          int index = entry.getValue().get(i);
+          addOwnerPolicy(entityOwners, metadataObjects.get(index), metadataIds[index]);
+        }
+      }
+    }
+  }
+
+  private void addOwnerPolicy(
+      List<? extends Entity> owners, MetadataObject metadataObject, Long metadataId) {
+    for (Entity ownerEntity : owners) {
+      if (ownerEntity instanceof UserEntity) {
+        UserEntity user = (UserEntity) ownerEntity;
+        allowEnforcer.addPolicy(
+            String.valueOf(user.id()),
+            String.valueOf(metadataObject.type()),
+            String.valueOf(metadataId),
+            AuthConstants.OWNER,
+            AuthConstants.ALLOW);
+      }
+    }
+  }
+
   private void loadPolicyByRoleEntity(RoleEntity roleEntity) {
     String metalake = NameIdentifierUtil.getMetalake(roleEntity.nameIdentifier());
     List<SecurableObject> securableObjects = roleEntity.securableObjects();
 
     for (SecurableObject securableObject : securableObjects) {
+      String metadataId = String.valueOf(MetadataIdConverter.getID(securableObject, metalake));
       for (Privilege privilege : securableObject.privileges()) {
         Privilege.Condition condition = privilege.condition();
         if (AuthConstants.DENY.equalsIgnoreCase(condition.name())) {
           denyEnforcer.addPolicy(
               String.valueOf(roleEntity.id()),
               securableObject.type().name(),
-              String.valueOf(MetadataIdConverter.getID(securableObject, metalake)),
+              metadataId,
               privilege.name().name().toUpperCase(),
               AuthConstants.ALLOW);
         }
         allowEnforcer.addPolicy(
             String.valueOf(roleEntity.id()),
             securableObject.type().name(),
-            String.valueOf(MetadataIdConverter.getID(securableObject, metalake)),
+            metadataId,
             privilege.name().name().toUpperCase(),
             condition.name().toLowerCase());
       }
     }
   }
+
+  /** The key of a cached authorization result. */
+  private static class DecisionKey {
+    private final String metalake;
+    private final String username;
+    private final MetadataObject metadataObject;
+    private final MetadataObject.Type type;
+    private final String fullName;
+    private final String privilege;
+
+    private DecisionKey(
+        String metalake, String username, MetadataObject metadataObject, String privilege) {
+      this.metalake = metalake;
+      this.username = username;
+      this.metadataObject = metadataObject;
+      this.type = metadataObject.type();
+      this.fullName = metadataObject.fullName();
+      this.privilege = privilege;
+    }
+
+    /** The key of the owner version of a metadata object, without the user and the privilege. */
+    private static DecisionKey of(String metalake, MetadataObject metadataObject) {
+      return new DecisionKey(metalake, null, metadataObject, null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DecisionKey)) {
+        return false;
+      }
+      DecisionKey that = (DecisionKey) o;
+      return Objects.equals(metalake, that.metalake)
+          && Objects.equals(username, that.username)
+          && type == that.type
+          && Objects.equals(fullName, that.fullName)
+          && Objects.equals(privilege, that.privilege);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(metalake, username, type, fullName, privilege);
+    }
+  }
+
+  /** A cached authorization result and the versions it is computed at. */
+  private static class Decision {
+    private final long version;
+    private final long ownerVersion;
+    private final boolean result;
+
+    private Decision(long version, long ownerVersion, boolean result) {
+      this.version = version;
+      this.ownerVersion = ownerVersion;
+      this.result = result;
+    }
+  }
 }
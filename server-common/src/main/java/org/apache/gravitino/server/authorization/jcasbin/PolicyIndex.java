@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.gravitino.auth.AuthConstants;
+
+/**
+ * PolicyIndex evaluates the policies of the jcasbin model defined in {@code jcasbin_model.conf}
+ * without the global lock of {@link org.casbin.jcasbin.main.SyncedEnforcer}.
+ *
+ * <p>A request {@code (sub, metadataType, metadataId, act)} is allowed if a policy of the subject,
+ * or of a role the subject has directly or through other roles, matches the metadata and the
+ * action with the {@code allow} effect, and no such policy has the {@code deny} effect.
+ *
+ * <p>The policies are indexed by their subjects, then by the metadata and the action, so a request
+ * only looks up the policies of the subject and its roles. The roles of a subject are immutable
+ * sets which are replaced as a whole on every change. The enforcement never takes a lock and never
+ * waits for the loading of the policies, and the loaded policies are visible to the enforcement
+ * as soon as they are added.
+ */
+class PolicyIndex {
+
+  /** The same maximum depth of the role hierarchy as the default role manager of jcasbin. */
+  private static final int MAX_HIERARCHY_LEVEL = 10;
+
+  private static final int ALLOW = 1;
+
+  private static final int DENY = 2;
+
+  /** The roles of the subjects, the sets are immutable. */
+  private final Map<String, Set<String>> roles = new ConcurrentHashMap<>();
+
+  /** The effects of the policies keyed by the subjects, then by the metadata and the action. */
+  private final Map<String, Map<PolicyKey, Integer>> policies = new ConcurrentHashMap<>();
+
+  /**
+   * Adds a policy.
+   *
+   * @param sub The user, group or role id.
+   * @param metadataType The metadata type.
+   * @param metadataId The metadata id.
+   * @param act The privilege, or the OWNER.
+   * @param eft The effect, allow or deny.
+   */
+  void addPolicy(String sub, String metadataType, String metadataId, String act, String eft) {
+    int effect = toEffect(eft);
+    PolicyKey key = new PolicyKey(metadataType, metadataId, act);
+    // Add it in compute, so it is never added to the policies of a role being deleted.
+    policies.compute(
+        sub,
+        (k, subjectPolicies) -> {
+          Map<PolicyKey, Integer> updated =
+              subjectPolicies == null ? new ConcurrentHashMap<>() : subjectPolicies;
+          updated.merge(key, effect, (a, b) -> a | b);
+          return updated;
+        });
+  }
+
+  /**
+   * Removes a policy.
+   *
+   * @param sub The user, group or role id.
+   * @param metadataType The metadata type.
+   * @param metadataId The metadata id.
+   * @param act The privilege, or the OWNER.
+   * @param eft The effect, allow or deny.
+   */
+  void removePolicy(String sub, String metadataType, String metadataId, String act, String eft) {
+    int effect = toEffect(eft);
+    Map<PolicyKey, Integer> subjectPolicies = policies.get(sub);
+    if (subjectPolicies != null) {
+      subjectPolicies.computeIfPresent(
+          new PolicyKey(metadataType, metadataId, act),
+          (k, effects) -> (effects & ~effect) == 0 ? null : effects & ~effect);
+    }
+  }
+
+  void addRoleForUser(String user, String role) {
+    roles.compute(
+        user,
+        (k, userRoles) -> {
+          if (userRoles == null) {
+            return ImmutableSet.of(role);
+          }
+          if (userRoles.contains(role)) {
+            return userRoles;
+          }
+          return ImmutableSet.<String>builder().addAll(userRoles).add(role).build();
+        });
+  }
+
+  /** Returns whether the user has the role directly. */
+  boolean hasRoleForUser(String user, String role) {
+    return roles.getOrDefault(user, Collections.emptySet()).contains(role);
+  }
+
+  /**
+   * Deletes a role, including the links from the users to the role and the policies of the role.
+   *
+   * @param role The role id.
+   */
+  void deleteRole(String role) {
+    // Unlink the role first, so the enforcement never sees a part of the policies of the role.
+    for (String user : roles.keySet()) {
+      roles.computeIfPresent(
+          user,
+          (k, userRoles) -> {
+            if (!userRoles.contains(role)) {
+              return userRoles;
+            }
+            ImmutableSet<String> remaining =
+                userRoles.stream()
+                    .filter(r -> !r.equals(role))
+                    .collect(ImmutableSet.toImmutableSet());
+            return remaining.isEmpty() ? null : remaining;
+          });
+    }
+    policies.remove(role);
+  }
+
+  /**
+   * Decides whether the subject can perform the action on the metadata.
+   *
+   * @param sub The user, group or role id.
+   * @param metadataType The metadata type.
+   * @param metadataId The metadata id.
+   * @param act The privilege, or the OWNER.
+   * @return True if some matched policy allows it and no matched policy denies it.
+   */
+  boolean enforce(String sub, String metadataType, String metadataId, String act) {
+    int effects = effects(sub, new PolicyKey(metadataType, metadataId, act), 0);
+    return (effects & ALLOW) != 0 && (effects & DENY) == 0;
+  }
+
+  private int effects(String sub, PolicyKey key, int level) {
+    Map<PolicyKey, Integer> subjectPolicies = policies.get(sub);
+    int effects = 0;
+    if (subjectPolicies != null) {
+      effects = subjectPolicies.getOrDefault(key, 0);
+    }
+
+    if (level < MAX_HIERARCHY_LEVEL) {
+      for (String role : roles.getOrDefault(sub, Collections.emptySet())) {
+        effects |= effects(role, key, level + 1);
+      }
+    }
+    return effects;
+  }
+
+  private static int toEffect(String eft) {
+    if (AuthConstants.ALLOW.equals(eft)) {
+      return ALLOW;
+    }
+    Preconditions.checkArgument(AuthConstants.DENY.equals(eft), "Unknown policy effect %s", eft);
+    return DENY;
+  }
+
+  private static class PolicyKey {
+    private final String metadataType;
+    private final String metadataId;
+    private final String act;
+
+    private PolicyKey(String metadataType, String metadataId, String act) {
+      this.metadataType = metadataType;
+      this.metadataId = metadataId;
+      this.act = act;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PolicyKey)) {
+        return false;
+      }
+      PolicyKey that = (PolicyKey) o;
+      return Objects.equals(metadataType, that.metadataType)
+          && Objects.equals(metadataId, that.metadataId)
+          && Objects.equals(act, that.act);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(metadataType, metadataId, act);
+    }
+  }
+}
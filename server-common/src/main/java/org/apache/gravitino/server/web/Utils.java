@@ -102,6 +102,13 @@ public class Utils {
         .build();
   }
 
+  public static Response serviceUnavailable(String message, Throwable throwable) {
+    return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+        .entity(ErrorResponse.serviceUnavailable(message, throwable))
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
   public static Response notFound(String type, String message) {
     return notFound(type, message, null);
   }
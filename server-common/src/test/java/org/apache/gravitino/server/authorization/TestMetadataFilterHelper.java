@@ -17,17 +17,24 @@
 
 package org.apache.gravitino.server.authorization;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.authorization.GravitinoAuthorizer;
 import org.apache.gravitino.authorization.Privilege;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
@@ -121,4 +128,43 @@ public class TestMetadataFilterHelper {
       Assertions.assertEquals("testMetalake.testCatalog.testSchema2", filtered2[1].toString());
     }
   }
+
+  @Test
+  public void testFilterByExpressionInBatch() {
+    try (MockedStatic<PrincipalUtils> principalUtilsMocked = mockStatic(PrincipalUtils.class);
+        MockedStatic<GravitinoAuthorizerProvider> mockStatic =
+            mockStatic(GravitinoAuthorizerProvider.class)) {
+      principalUtilsMocked
+          .when(PrincipalUtils::getCurrentPrincipal)
+          .thenReturn(new UserPrincipal("tester"));
+      GravitinoAuthorizerProvider mockedProvider = mock(GravitinoAuthorizerProvider.class);
+      mockStatic.when(GravitinoAuthorizerProvider::getInstance).thenReturn(mockedProvider);
+      GravitinoAuthorizer authorizer = spy(new MockGravitinoAuthorizer());
+      when(mockedProvider.getGravitinoAuthorizer()).thenReturn(authorizer);
+      NameIdentifier[] nameIdentifiers = new NameIdentifier[3];
+      nameIdentifiers[0] = NameIdentifierUtil.ofSchema("testMetalake", "testCatalog", "testSchema");
+      nameIdentifiers[1] =
+          NameIdentifierUtil.ofSchema("testMetalake", "testCatalog", "testSchema2");
+      nameIdentifiers[2] =
+          NameIdentifierUtil.ofSchema("testMetalake", "testCatalog2", "testSchema");
+      NameIdentifier[] filtered =
+          MetadataFilterHelper.filterByExpression(
+              "testMetalake",
+              "CATALOG::USE_CATALOG && SCHEMA::USE_SCHEMA",
+              Entity.EntityType.SCHEMA,
+              nameIdentifiers);
+      Assertions.assertEquals(1, filtered.length);
+      Assertions.assertEquals("testMetalake.testCatalog.testSchema", filtered[0].toString());
+
+      // The schemas are authorized with one batch, and the shared catalog is authorized once.
+      verify(authorizer, times(1))
+          .authorizeBatch(any(), eq("testMetalake"), any(), eq(Privilege.Name.USE_SCHEMA));
+      verify(authorizer, times(1))
+          .authorize(
+              any(),
+              eq("testMetalake"),
+              eq(MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG)),
+              eq(Privilege.Name.USE_CATALOG));
+    }
+  }
 }
@@ -18,22 +18,30 @@
 package org.apache.gravitino.server.authorization.jcasbin;
 
 import static org.apache.gravitino.authorization.Privilege.Name.USE_CATALOG;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
@@ -74,6 +82,8 @@ public class TestJcasbinAuthorizer {
 
   private static final Long CATALOG_ID = 4L;
 
+  private static final Long OTHER_CATALOG_ID = 6L;
+
   private static final String USERNAME = "tester";
 
   private static final String METALAKE = "testMetalake";
@@ -97,12 +107,16 @@ public class TestJcasbinAuthorizer {
 
   @BeforeAll
   public static void setup() throws IOException {
-    jcasbinAuthorizer = new JcasbinAuthorizer();
-    jcasbinAuthorizer.initialize();
     principalUtilsMockedStatic = mockStatic(PrincipalUtils.class);
     metadataIdConverterMockedStatic = mockStatic(MetadataIdConverter.class);
     gravitinoEnvMockedStatic = mockStatic(GravitinoEnv.class);
     gravitinoEnvMockedStatic.when(GravitinoEnv::getInstance).thenReturn(gravitinoEnv);
+    Config config = mock(Config.class);
+    when(config.get(Configs.AUTHORIZATION_DECISION_CACHE_MAX_ENTRIES)).thenReturn(100_000);
+    when(config.get(Configs.AUTHORIZATION_DECISION_CACHE_EXPIRATION_TIME)).thenReturn(60_000L);
+    when(gravitinoEnv.config()).thenReturn(config);
+    jcasbinAuthorizer = new JcasbinAuthorizer();
+    jcasbinAuthorizer.initialize();
     principalUtilsMockedStatic
         .when(PrincipalUtils::getCurrentPrincipal)
         .thenReturn(new UserPrincipal(USERNAME));
@@ -111,6 +125,7 @@ public class TestJcasbinAuthorizer {
         .thenReturn(CATALOG_ID);
     when(gravitinoEnv.entityStore()).thenReturn(entityStore);
     when(entityStore.relationOperations()).thenReturn(supportsRelationOperations);
+    when(entityStore.batchGet(any(), any(), any())).thenCallRealMethod();
     when(entityStore.get(
             eq(NameIdentifierUtil.ofUser(METALAKE, USERNAME)),
             eq(Entity.EntityType.USER),
@@ -158,6 +173,8 @@ public class TestJcasbinAuthorizer {
             eq(userNameIdentifier),
             eq(Entity.EntityType.USER)))
         .thenReturn(ImmutableList.of(allowRole));
+    // Granting a role to the user notifies the authorizer.
+    jcasbinAuthorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
     assertTrue(doAuthorize(currentPrincipal));
     // Test role cache.
     // When permissions are changed but handleRolePrivilegeChange is not executed, the system will
@@ -203,10 +220,68 @@ public class TestJcasbinAuthorizer {
             eq(userNameIdentifier),
             eq(Entity.EntityType.USER)))
         .thenReturn(ImmutableList.of(allowRole, denyRole));
+    jcasbinAuthorizer.handleRolePrivilegeChange(DENY_ROLE_ID);
+
+    assertFalse(doAuthorize(currentPrincipal));
+  }
+
+  @Test
+  public void testDecisionCache() throws IOException {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    RoleEntity allowRole =
+        getRoleEntity(ALLOW_ROLE_ID, "allowRole", ImmutableList.of(getAllowSecurableObject()));
+    when(entityStore.get(
+            eq(NameIdentifierUtil.ofRole(METALAKE, allowRole.name())),
+            eq(Entity.EntityType.ROLE),
+            eq(RoleEntity.class)))
+        .thenReturn(allowRole);
+    NameIdentifier userNameIdentifier = NameIdentifierUtil.ofUser(METALAKE, USERNAME);
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(userNameIdentifier),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.of(allowRole));
+    jcasbinAuthorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
+    assertTrue(doAuthorize(currentPrincipal));
 
+    // The cached result is returned without loading the user, the roles or the owners.
+    clearInvocations(entityStore, supportsRelationOperations);
+    assertTrue(doAuthorize(currentPrincipal));
+    verify(entityStore, never()).get(any(), any(), any());
+    verify(supportsRelationOperations, never()).listEntitiesByRelation(any(), any(), any());
+
+    // Revoking the role from the user invalidates the cached result.
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(userNameIdentifier),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.of());
+    jcasbinAuthorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
     assertFalse(doAuthorize(currentPrincipal));
   }
 
+  @Test
+  public void testPrincipalRemovedInvalidatesCachedResults() throws IOException {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    NameIdentifier catalogIdent = NameIdentifierUtil.ofCatalog(METALAKE, "testCatalog");
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(catalogIdent),
+            eq(Entity.EntityType.CATALOG)))
+        .thenReturn(ImmutableList.of(getUserEntity()));
+    jcasbinAuthorizer.handleMetadataOwnerSet(METALAKE, catalogIdent, Entity.EntityType.CATALOG);
+    assertTrue(doAuthorizeOwner(currentPrincipal));
+
+    clearInvocations(entityStore, supportsRelationOperations);
+    assertTrue(doAuthorizeOwner(currentPrincipal));
+    verify(entityStore, never()).get(any(), any(), any());
+
+    // Removing a user invalidates the cached results, the next authorization loads the user again.
+    jcasbinAuthorizer.handlePrincipalRemoved(METALAKE, USERNAME, Entity.EntityType.USER);
+    assertTrue(doAuthorizeOwner(currentPrincipal));
+    verify(entityStore, atLeastOnce()).get(any(), any(), any());
+  }
+
   @Test
   public void testAuthorizeByOwner() throws IOException {
     Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
@@ -217,6 +292,7 @@ public class TestJcasbinAuthorizer {
             eq(catalogIdent),
             eq(Entity.EntityType.CATALOG)))
         .thenReturn(ImmutableList.of(getUserEntity()));
+    jcasbinAuthorizer.handleMetadataOwnerSet(METALAKE, catalogIdent, Entity.EntityType.CATALOG);
     assertTrue(doAuthorizeOwner(currentPrincipal));
     when(supportsRelationOperations.listEntitiesByRelation(
             eq(SupportsRelationOperations.Type.OWNER_REL),
@@ -228,6 +304,80 @@ public class TestJcasbinAuthorizer {
     assertFalse(doAuthorizeOwner(currentPrincipal));
   }
 
+  @Test
+  public void testOwnerSetOnlyInvalidatesItsMetadataObject() throws IOException {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    NameIdentifier catalogIdent = NameIdentifierUtil.ofCatalog(METALAKE, "testCatalog");
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(catalogIdent),
+            eq(Entity.EntityType.CATALOG)))
+        .thenReturn(ImmutableList.of(getUserEntity()));
+    jcasbinAuthorizer.handleMetadataOwnerSet(METALAKE, catalogIdent, Entity.EntityType.CATALOG);
+    assertTrue(doAuthorizeOwner(currentPrincipal));
+
+    // Setting the owner of another metadata object keeps the cached result.
+    clearInvocations(entityStore, supportsRelationOperations);
+    jcasbinAuthorizer.handleMetadataOwnerSet(
+        METALAKE,
+        NameIdentifierUtil.ofCatalog(METALAKE, "otherCatalog"),
+        Entity.EntityType.CATALOG);
+    assertTrue(doAuthorizeOwner(currentPrincipal));
+    verify(supportsRelationOperations, never()).listEntitiesByRelation(any(), any(), any());
+
+    // Setting the owner of the metadata object itself invalidates the cached result.
+    jcasbinAuthorizer.handleMetadataOwnerSet(METALAKE, catalogIdent, Entity.EntityType.CATALOG);
+    assertTrue(doAuthorizeOwner(currentPrincipal));
+    verify(supportsRelationOperations)
+        .listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(catalogIdent),
+            eq(Entity.EntityType.CATALOG));
+
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(catalogIdent),
+            eq(Entity.EntityType.CATALOG)))
+        .thenReturn(new ArrayList<>());
+    jcasbinAuthorizer.handleMetadataOwnerChange(
+        METALAKE, USER_ID, catalogIdent, Entity.EntityType.CATALOG);
+    assertFalse(doAuthorizeOwner(currentPrincipal));
+  }
+
+  @Test
+  public void testAuthorizeBatchByOwner() throws IOException {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    List<MetadataObject> catalogs =
+        ImmutableList.of(
+            MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG),
+            MetadataObjects.of(null, "otherCatalog", MetadataObject.Type.CATALOG));
+    metadataIdConverterMockedStatic
+        .when(() -> MetadataIdConverter.getIDs(eq(catalogs), eq(METALAKE)))
+        .thenReturn(new Long[] {CATALOG_ID, OTHER_CATALOG_ID});
+    NameIdentifier catalogIdent = NameIdentifierUtil.ofCatalog(METALAKE, "testCatalog");
+    NameIdentifier otherCatalogIdent = NameIdentifierUtil.ofCatalog(METALAKE, "otherCatalog");
+    // The owners of all the catalogs are loaded with one batch.
+    when(supportsRelationOperations.<UserEntity>batchListEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(ImmutableList.of(catalogIdent, otherCatalogIdent)),
+            eq(Entity.EntityType.CATALOG)))
+        .thenReturn(
+            ImmutableMap.of(
+                catalogIdent, ImmutableList.of(getUserEntity()),
+                otherCatalogIdent, ImmutableList.of()));
+
+    boolean[] results = jcasbinAuthorizer.isOwnerBatch(currentPrincipal, METALAKE, catalogs);
+    assertArrayEquals(new boolean[] {true, false}, results);
+    verify(supportsRelationOperations, never())
+        .listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(otherCatalogIdent),
+            eq(Entity.EntityType.CATALOG));
+
+    jcasbinAuthorizer.handleMetadataOwnerChange(
+        METALAKE, USER_ID, catalogIdent, Entity.EntityType.CATALOG);
+  }
+
   private boolean doAuthorize(Principal currentPrincipal) {
     return jcasbinAuthorizer.authorize(
         currentPrincipal,
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.commons.io.IOUtils;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.authorization.Privilege;
+import org.casbin.jcasbin.main.Enforcer;
+import org.casbin.jcasbin.model.Model;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Test of {@link PolicyIndex} */
+public class TestPolicyIndex {
+
+  private static final String METALAKE = MetadataObject.Type.METALAKE.name();
+
+  private static final String TABLE = MetadataObject.Type.TABLE.name();
+
+  private static final String SELECT_TABLE = Privilege.Name.SELECT_TABLE.name();
+
+  @Test
+  public void testSameResultsAsJcasbinModel() throws IOException {
+    Enforcer enforcer = new Enforcer(loadModel());
+    PolicyIndex policyIndex = new PolicyIndex();
+    List<List<String>> policies =
+        ImmutableList.of(
+            ImmutableList.of("role1", METALAKE, "metalake1", AuthConstants.OWNER, "allow"),
+            ImmutableList.of("role2", TABLE, "table1", SELECT_TABLE, "allow"),
+            ImmutableList.of("role2", TABLE, "table2", SELECT_TABLE, "allow"),
+            ImmutableList.of("role3", TABLE, "table2", SELECT_TABLE, "deny"),
+            ImmutableList.of("user4", TABLE, "table1", AuthConstants.OWNER, "allow"));
+    for (List<String> policy : policies) {
+      enforcer.addPolicy(policy);
+      policyIndex.addPolicy(
+          policy.get(0), policy.get(1), policy.get(2), policy.get(3), policy.get(4));
+    }
+    List<List<String>> links =
+        ImmutableList.of(
+            ImmutableList.of("user1", "role1"),
+            ImmutableList.of("user2", "role2"),
+            ImmutableList.of("group1", "role2"),
+            ImmutableList.of("user3", "group1"),
+            ImmutableList.of("user3", "role3"));
+    for (List<String> link : links) {
+      enforcer.addRoleForUser(link.get(0), link.get(1));
+      policyIndex.addRoleForUser(link.get(0), link.get(1));
+    }
+
+    for (String sub : ImmutableList.of("user1", "user2", "user3", "user4", "group1", "role2")) {
+      for (String metadataId : ImmutableList.of("metalake1", "table1", "table2")) {
+        for (String type : ImmutableList.of(METALAKE, TABLE)) {
+          for (String act : ImmutableList.of(AuthConstants.OWNER, SELECT_TABLE)) {
+            Assertions.assertEquals(
+                enforcer.enforce(sub, type, metadataId, act),
+                policyIndex.enforce(sub, type, metadataId, act),
+                String.join(",", sub, type, metadataId, act));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testDeleteRoleAndRemovePolicy() {
+    PolicyIndex policyIndex = new PolicyIndex();
+    policyIndex.addPolicy("role1", TABLE, "table1", SELECT_TABLE, "allow");
+    policyIndex.addPolicy("role2", TABLE, "table1", SELECT_TABLE, "deny");
+    policyIndex.addPolicy("user1", TABLE, "table1", AuthConstants.OWNER, "allow");
+    policyIndex.addRoleForUser("user1", "role1");
+    policyIndex.addRoleForUser("user1", "role2");
+    Assertions.assertFalse(policyIndex.enforce("user1", TABLE, "table1", SELECT_TABLE));
+
+    policyIndex.deleteRole("role2");
+    Assertions.assertFalse(policyIndex.hasRoleForUser("user1", "role2"));
+    Assertions.assertTrue(policyIndex.hasRoleForUser("user1", "role1"));
+    Assertions.assertTrue(policyIndex.enforce("user1", TABLE, "table1", SELECT_TABLE));
+
+    // The policies of a deleted role are not restored by linking the role again.
+    policyIndex.addRoleForUser("user1", "role2");
+    Assertions.assertTrue(policyIndex.enforce("user1", TABLE, "table1", SELECT_TABLE));
+
+    Assertions.assertTrue(policyIndex.enforce("user1", TABLE, "table1", AuthConstants.OWNER));
+    policyIndex.removePolicy("user1", TABLE, "table1", AuthConstants.OWNER, "allow");
+    Assertions.assertFalse(policyIndex.enforce("user1", TABLE, "table1", AuthConstants.OWNER));
+  }
+
+  private static Model loadModel() throws IOException {
+    try (InputStream modelStream =
+        TestPolicyIndex.class.getResourceAsStream("/jcasbin_model.conf")) {
+      Assertions.assertNotNull(modelStream);
+      Model model = new Model();
+      model.loadModelFromText(IOUtils.toString(modelStream, StandardCharsets.UTF_8));
+      return model;
+    }
+  }
+}
@@ -51,6 +51,7 @@ import org.apache.gravitino.exceptions.TagAlreadyAssociatedException;
 import org.apache.gravitino.exceptions.TagAlreadyExistsException;
 import org.apache.gravitino.exceptions.TopicAlreadyExistsException;
 import org.apache.gravitino.exceptions.UserAlreadyExistsException;
+import org.apache.gravitino.lock.TreeLockTimeoutException;
 import org.apache.gravitino.server.web.Utils;
 import org.eclipse.jetty.util.StringUtil;
 import org.slf4j.Logger;
@@ -999,6 +1000,12 @@ public class ExceptionHandlers {
 
       String errorMsg =
           getBaseErrorMsg(formattedObject, op.name(), formattedParent, getErrorMsg(e));
+      if (e instanceof TreeLockTimeoutException) {
+        // The lock is held by other operations for now, the request can be retried later.
+        LOG.warn(errorMsg, e);
+        return Utils.serviceUnavailable(errorMsg, e);
+      }
+
       LOG.error(errorMsg, e);
       return Utils.internalError(errorMsg, e);
     }
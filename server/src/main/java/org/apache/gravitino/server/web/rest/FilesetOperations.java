@@ -26,8 +26,10 @@ import com.google.common.collect.ImmutableMap;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import javax.inject.Inject;
@@ -46,14 +48,19 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
+import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.catalog.FilesetDispatcher;
+import org.apache.gravitino.dto.file.FileAccessDTO;
+import org.apache.gravitino.dto.requests.FileAccessesReportRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
+import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileInfoListResponse;
@@ -63,6 +70,8 @@ import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.FileInfo;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
+import org.apache.gravitino.listener.EventBus;
+import org.apache.gravitino.listener.api.event.GetFileLocationEvent;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.gravitino.server.authorization.MetadataFilterHelper;
@@ -71,6 +80,7 @@ import org.apache.gravitino.server.authorization.annotations.AuthorizationMetada
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -101,7 +111,9 @@ public class FilesetOperations {
       @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
           String metalake,
       @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
-      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema) {
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @QueryParam(PaginationHelper.PAGE_SIZE) Integer pageSize,
+      @QueryParam(PaginationHelper.PAGE_TOKEN) String pageToken) {
 
     try {
       LOG.info("Received list filesets request for schema: {}.{}.{}", metalake, catalog, schema);
@@ -109,14 +121,22 @@ public class FilesetOperations {
           httpRequest,
           () -> {
             Namespace filesetNS = NamespaceUtil.ofFileset(metalake, catalog, schema);
-            NameIdentifier[] idents = dispatcher.listFilesets(filesetNS);
-            idents =
+            // Only the requested page is listed, and it is paginated before the authorization
+            // filtering to only check the entities in the page.
+            PaginationHelper.Page<NameIdentifier> page =
+                PaginationHelper.paginate(
+                    () -> dispatcher.listFilesets(filesetNS),
+                    (afterName, limit) -> dispatcher.listFilesets(filesetNS, afterName, limit),
+                    NameIdentifier::name,
+                    pageSize,
+                    pageToken);
+            NameIdentifier[] idents =
                 MetadataFilterHelper.filterByExpression(
                     metalake,
                     loadFilesetAuthorizationExpression,
                     Entity.EntityType.FILESET,
-                    idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    page.items());
+            Response response = Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
             LOG.info(
                 "List {} filesets under schema: {}.{}.{}",
                 idents.length,
@@ -398,4 +418,110 @@ public class FilesetOperations {
       CallerContext.CallerContextHolder.remove();
     }
   }
+
+  @POST
+  @Path("accesses")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "report-file-accesses." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "report-file-accesses", absolute = true)
+  public Response reportFileAccesses(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      FileAccessesReportRequest request) {
+    LOG.info(
+        "Received report of {} file accesses for schema: {}.{}.{}",
+        request.getAccesses() == null ? 0 : request.getAccesses().size(),
+        metalake,
+        catalog,
+        schema);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            // The accesses to the filesets the user is not allowed to load are dropped, the same
+            // as the locations of them are not allowed to get.
+            FileAccessDTO[] accesses =
+                MetadataFilterHelper.filterByExpression(
+                    metalake,
+                    loadFilesetAuthorizationExpression,
+                    Entity.EntityType.FILESET,
+                    request.getAccesses().toArray(new FileAccessDTO[0]),
+                    access ->
+                        NameIdentifierUtil.ofFileset(
+                            metalake, catalog, schema, access.getFileset()));
+
+            Map<String, String> filteredAuditHeaders = Utils.filterFilesetAuditHeaders(httpRequest);
+            List<Map<String, String>> contexts = new ArrayList<>(accesses.length);
+            List<String> actualFileLocations = new ArrayList<>(accesses.length);
+            FilesetDispatcher locationDispatcher =
+                GravitinoEnv.getInstance().filesetDispatcherWithoutEvents();
+            for (FileAccessDTO access : accesses) {
+              Map<String, String> context = new HashMap<>(filteredAuditHeaders);
+              context.put(
+                  FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, access.getOperation());
+              context.put(
+                  FilesetAuditConstants.FILE_ACCESS_TIMESTAMP,
+                  String.valueOf(access.getTimestamp()));
+              context.put(
+                  FilesetAuditConstants.FILE_ACCESS_COUNT, String.valueOf(access.getCount()));
+              contexts.add(context);
+
+              // The location is resolved again the same as getting the file location, so a
+              // client can not record the accesses of the locations out of the fileset. All the
+              // accesses are checked before any of them is recorded.
+              CallerContext.CallerContextHolder.set(
+                  CallerContext.builder().withContext(context).build());
+              String actualFileLocation =
+                  locationDispatcher.getFileLocation(
+                      NameIdentifierUtil.ofFileset(metalake, catalog, schema, access.getFileset()),
+                      access.getSubPath(),
+                      access.getLocationName());
+              if (!actualFileLocation.equals(access.getActualFileLocation())) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "The reported location %s of sub path %s in fileset %s doesn't match the "
+                            + "actual location %s",
+                        access.getActualFileLocation(),
+                        access.getSubPath(),
+                        access.getFileset(),
+                        actualFileLocation));
+              }
+              actualFileLocations.add(actualFileLocation);
+            }
+
+            String user = PrincipalUtils.getCurrentUserName();
+            EventBus eventBus = GravitinoEnv.getInstance().eventBus();
+            for (int i = 0; i < accesses.length; i++) {
+              eventBus.dispatchEvent(
+                  new GetFileLocationEvent(
+                      user,
+                      NameIdentifierUtil.ofFileset(
+                          metalake, catalog, schema, accesses[i].getFileset()),
+                      actualFileLocations.get(i),
+                      accesses[i].getSubPath(),
+                      accesses[i].getLocationName(),
+                      ImmutableMap.copyOf(contexts.get(i))));
+            }
+
+            if (accesses.length < request.getAccesses().size()) {
+              LOG.warn(
+                  "Dropped {} reported file accesses of user {} for schema {}.{}.{} without the "
+                      + "privilege to load the filesets",
+                  request.getAccesses().size() - accesses.length,
+                  user,
+                  metalake,
+                  catalog,
+                  schema);
+            }
+            return Utils.ok(new BaseResponse());
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleFilesetException(OperationType.REPORT, "", schema, e);
+    } finally {
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
 }
@@ -98,7 +98,9 @@ public class ModelOperations {
   public Response listModels(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam(PaginationHelper.PAGE_SIZE) Integer pageSize,
+      @QueryParam(PaginationHelper.PAGE_TOKEN) String pageToken) {
     LOG.info("Received list models request for schema: {}.{}.{}", metalake, catalog, schema);
     Namespace modelNs = NamespaceUtil.ofModel(metalake, catalog, schema);
 
@@ -106,13 +108,21 @@ public class ModelOperations {
       return Utils.doAs(
           httpRequest,
           () -> {
-            NameIdentifier[] modelIds = modelDispatcher.listModels(modelNs);
-            modelIds = modelIds == null ? new NameIdentifier[0] : modelIds;
+            // Only the requested page is listed, and it is paginated before the authorization
+            // filtering to only check the entities in the page.
+            PaginationHelper.Page<NameIdentifier> page =
+                PaginationHelper.paginate(
+                    () -> modelDispatcher.listModels(modelNs),
+                    (afterName, limit) -> modelDispatcher.listModels(modelNs, afterName, limit),
+                    NameIdentifier::name,
+                    pageSize,
+                    pageToken);
+            NameIdentifier[] modelIds = page.items() == null ? new NameIdentifier[0] : page.items();
             modelIds =
                 MetadataFilterHelper.filterByExpression(
                     metalake, loadModelAuthorizationExpression, Entity.EntityType.MODEL, modelIds);
             LOG.info("List {} models under schema {}", modelIds.length, modelNs);
-            return Utils.ok(new EntityListResponse(modelIds));
+            return Utils.ok(new EntityListResponse(modelIds, page.nextPageToken()));
           });
 
     } catch (Exception e) {
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.google.common.base.Preconditions;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * PaginationHelper lists the entities page by page with keyset pagination. The entities are ordered
+ * by name, and a page contains the first {@code pageSize} entities whose names are greater than the
+ * last name of the previous page, which is carried by the opaque page token. So a page is stable
+ * when the entities are created or dropped between two requests.
+ */
+class PaginationHelper {
+
+  static final String PAGE_SIZE = "pageSize";
+  static final String PAGE_TOKEN = "pageToken";
+  static final int MAX_PAGE_SIZE = 1000;
+
+  private PaginationHelper() {}
+
+  /**
+   * A page of the entities, and the token of the next page.
+   *
+   * @param <T> The type of the entities in the page.
+   */
+  static class Page<T> {
+    private final T[] items;
+    @Nullable private final String nextPageToken;
+
+    private Page(T[] items, @Nullable String nextPageToken) {
+      this.items = items;
+      this.nextPageToken = nextPageToken;
+    }
+
+    T[] items() {
+      return items;
+    }
+
+    @Nullable
+    String nextPageToken() {
+      return nextPageToken;
+    }
+  }
+
+  /**
+   * Lists at most {@code limit} entities whose names sort after the given name, ordered by name.
+   *
+   * @param <T> The type of the entities.
+   */
+  @FunctionalInterface
+  interface PageLoader<T> {
+    T[] load(@Nullable String afterName, int limit);
+  }
+
+  /**
+   * Get a page of the entities from a loader which bounds and limits the listing by itself, such as
+   * a query with {@code name > ? ORDER BY name LIMIT ?}, so only one page of the entities is read
+   * for each request. If the page size isn't specified, all the entities are listed in one page.
+   *
+   * @param allLoader The loader of all the entities, used if the page size isn't specified.
+   * @param pageLoader The loader of a page of the entities.
+   * @param nameOf The function to get the name of an entity.
+   * @param pageSize The maximum number of the entities in the page, or null to get all of them.
+   * @param pageToken The token returned with the previous page, or null to get the first page.
+   * @return The page of the entities.
+   * @param <T> The type of the entities.
+   * @throws IllegalArgumentException If the page size or the page token is invalid.
+   */
+  static <T> Page<T> paginate(
+      Supplier<T[]> allLoader,
+      PageLoader<T> pageLoader,
+      Function<T, String> nameOf,
+      @Nullable Integer pageSize,
+      @Nullable String pageToken) {
+    if (pageSize == null) {
+      Preconditions.checkArgument(
+          pageToken == null, "%s must be specified with %s", PAGE_SIZE, PAGE_TOKEN);
+      return new Page<>(allLoader.get(), null);
+    }
+    Preconditions.checkArgument(
+        pageSize > 0 && pageSize <= MAX_PAGE_SIZE,
+        "%s must be between 1 and %s, but got %s",
+        PAGE_SIZE,
+        MAX_PAGE_SIZE,
+        pageSize);
+
+    String lastName = pageToken == null ? null : decodePageToken(pageToken);
+    // Take one more entity to know whether there is a next page.
+    T[] page = pageLoader.load(lastName, pageSize + 1);
+    if (page.length <= pageSize) {
+      return new Page<>(page, null);
+    }
+
+    T[] itemsInPage = Arrays.copyOf(page, pageSize);
+    return new Page<>(itemsInPage, encodePageToken(nameOf.apply(itemsInPage[pageSize - 1])));
+  }
+
+  private static String encodePageToken(String lastName) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(lastName.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String decodePageToken(String pageToken) {
+    try {
+      return new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid " + PAGE_TOKEN + ": " + pageToken, e);
+    }
+  }
+}
@@ -84,18 +84,32 @@ public class SchemaOperations {
   @Timed(name = "list-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-schema", absolute = true)
   public Response listSchemas(
-      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @QueryParam(PaginationHelper.PAGE_SIZE) Integer pageSize,
+      @QueryParam(PaginationHelper.PAGE_TOKEN) String pageToken) {
     LOG.info("Received list schema request for catalog: {}.{}", metalake, catalog);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace schemaNS = NamespaceUtil.ofSchema(metalake, catalog);
-            NameIdentifier[] idents = dispatcher.listSchemas(schemaNS);
-            idents =
+            // Only the requested page is listed, and it is paginated before the authorization
+            // filtering to only check the entities in the page.
+            PaginationHelper.Page<NameIdentifier> page =
+                PaginationHelper.paginate(
+                    () -> dispatcher.listSchemas(schemaNS),
+                    (afterName, limit) -> dispatcher.listSchemas(schemaNS, afterName, limit),
+                    NameIdentifier::name,
+                    pageSize,
+                    pageToken);
+            NameIdentifier[] idents =
                 MetadataFilterHelper.filterByExpression(
-                    metalake, loadSchemaAuthorizationExpression, Entity.EntityType.SCHEMA, idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    metalake,
+                    loadSchemaAuthorizationExpression,
+                    Entity.EntityType.SCHEMA,
+                    page.items());
+            Response response = Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
             LOG.info("List {} schemas in catalog {}.{}", idents.length, metalake, catalog);
             return response;
           });
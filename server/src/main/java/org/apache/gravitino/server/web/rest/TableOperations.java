@@ -86,18 +86,31 @@ public class TableOperations {
   public Response listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam(PaginationHelper.PAGE_SIZE) Integer pageSize,
+      @QueryParam(PaginationHelper.PAGE_TOKEN) String pageToken) {
     LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
-            NameIdentifier[] idents = dispatcher.listTables(tableNS);
-            idents =
+            // Only the requested page is listed, and it is paginated before the authorization
+            // filtering to only check the entities in the page.
+            PaginationHelper.Page<NameIdentifier> page =
+                PaginationHelper.paginate(
+                    () -> dispatcher.listTables(tableNS),
+                    (afterName, limit) -> dispatcher.listTables(tableNS, afterName, limit),
+                    NameIdentifier::name,
+                    pageSize,
+                    pageToken);
+            NameIdentifier[] idents =
                 MetadataFilterHelper.filterByExpression(
-                    metalake, loadTableAuthorizationExpression, Entity.EntityType.TABLE, idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    metalake,
+                    loadTableAuthorizationExpression,
+                    Entity.EntityType.TABLE,
+                    page.items());
+            Response response = Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
             LOG.info(
                 "List {} tables under schema: {}.{}.{}", idents.length, metalake, catalog, schema);
             return response;
@@ -22,6 +22,7 @@ import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.Function;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -77,7 +78,9 @@ public class TagOperations {
   @ResponseMetered(name = "list-tags", absolute = true)
   public Response listTags(
       @PathParam("metalake") String metalake,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam(PaginationHelper.PAGE_SIZE) Integer pageSize,
+      @QueryParam(PaginationHelper.PAGE_TOKEN) String pageToken) {
     LOG.info(
         "Received list tag {} request for metalake: {}", verbose ? "infos" : "names", metalake);
 
@@ -86,7 +89,14 @@ public class TagOperations {
           httpRequest,
           () -> {
             if (verbose) {
-              Tag[] tags = tagDispatcher.listTagsInfo(metalake);
+              PaginationHelper.Page<Tag> page =
+                  PaginationHelper.paginate(
+                      () -> tagDispatcher.listTagsInfo(metalake),
+                      (afterName, limit) -> tagDispatcher.listTagsInfo(metalake, afterName, limit),
+                      Tag::name,
+                      pageSize,
+                      pageToken);
+              Tag[] tags = page.items();
               TagDTO[] tagDTOs;
               if (ArrayUtils.isEmpty(tags)) {
                 tagDTOs = new TagDTO[0];
@@ -98,14 +108,23 @@ public class TagOperations {
               }
 
               LOG.info("List {} tags info under metalake: {}", tagDTOs.length, metalake);
-              return Utils.ok(new TagListResponse(tagDTOs));
+              return Utils.ok(new TagListResponse(tagDTOs, page.nextPageToken()));
 
             } else {
-              String[] tagNames = tagDispatcher.listTags(metalake);
-              tagNames = tagNames == null ? new String[0] : tagNames;
+              PaginationHelper.Page<String> page =
+                  PaginationHelper.paginate(
+                      () -> tagDispatcher.listTags(metalake),
+                      (afterName, limit) ->
+                          Arrays.stream(tagDispatcher.listTagsInfo(metalake, afterName, limit))
+                              .map(Tag::name)
+                              .toArray(String[]::new),
+                      Function.identity(),
+                      pageSize,
+                      pageToken);
+              String[] tagNames = page.items() == null ? new String[0] : page.items();
 
               LOG.info("List {} tags under metalake: {}", tagNames.length, metalake);
-              return Utils.ok(new NameListResponse(tagNames));
+              return Utils.ok(new NameListResponse(tagNames, page.nextPageToken()));
             }
           });
     } catch (Exception e) {
@@ -28,6 +28,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
@@ -80,7 +81,9 @@ public class TopicOperations {
   public Response listTopics(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam(PaginationHelper.PAGE_SIZE) Integer pageSize,
+      @QueryParam(PaginationHelper.PAGE_TOKEN) String pageToken) {
     try {
       LOG.info("Received list topics request for schema: {}.{}.{}", metalake, catalog, schema);
       return Utils.doAs(
@@ -88,12 +91,25 @@ public class TopicOperations {
           () -> {
             LOG.info("Listing topics under schema: {}.{}.{}", metalake, catalog, schema);
             Namespace topicNS = NamespaceUtil.ofTopic(metalake, catalog, schema);
-            NameIdentifier[] topics = dispatcher.listTopics(topicNS);
-            topics = topics == null ? new NameIdentifier[0] : topics;
-            topics =
+            // Only the requested page is listed, and it is paginated before the authorization
+            // filtering to only check the entities in the page.
+            PaginationHelper.Page<NameIdentifier> page =
+                PaginationHelper.paginate(
+                    () -> {
+                      NameIdentifier[] topics = dispatcher.listTopics(topicNS);
+                      return topics == null ? new NameIdentifier[0] : topics;
+                    },
+                    (afterName, limit) -> dispatcher.listTopics(topicNS, afterName, limit),
+                    NameIdentifier::name,
+                    pageSize,
+                    pageToken);
+            NameIdentifier[] topics =
                 MetadataFilterHelper.filterByExpression(
-                    metalake, loadTopicsAuthorizationExpression, Entity.EntityType.TOPIC, topics);
-            Response response = Utils.ok(new EntityListResponse(topics));
+                    metalake,
+                    loadTopicsAuthorizationExpression,
+                    Entity.EntityType.TOPIC,
+                    page.items());
+            Response response = Utils.ok(new EntityListResponse(topics, page.nextPageToken()));
             LOG.info(
                 "List {} topics under schema: {}.{}.{}", topics.length, metalake, catalog, schema);
             return response;
@@ -18,6 +18,11 @@
  */
 package org.apache.gravitino.server.web.rest;
 
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.exceptions.ServiceUnavailableException;
+import org.apache.gravitino.lock.TreeLockTimeoutException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -50,4 +55,26 @@ public class TestExceptionHandlers {
     String msg6 = ExceptionHandlers.BaseExceptionHandler.getErrorMsg(e6);
     Assertions.assertEquals("", msg6);
   }
+
+  @Test
+  public void testHandleTreeLockTimeoutException() {
+    Response response =
+        ExceptionHandlers.handleTableException(
+            OperationType.CREATE,
+            "table1",
+            "schema1",
+            new TreeLockTimeoutException("Timed out to lock %s", "table1"));
+    Assertions.assertEquals(
+        Response.Status.SERVICE_UNAVAILABLE.getStatusCode(), response.getStatus());
+    ErrorResponse errorResponse = (ErrorResponse) response.getEntity();
+    Assertions.assertEquals(ErrorConstants.SERVICE_UNAVAILABLE_CODE, errorResponse.getCode());
+    Assertions.assertEquals(
+        ServiceUnavailableException.class.getSimpleName(), errorResponse.getType());
+
+    response =
+        ExceptionHandlers.handleTableException(
+            OperationType.CREATE, "table1", "schema1", new RuntimeException("failed"));
+    Assertions.assertEquals(
+        Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(), response.getStatus());
+  }
 }
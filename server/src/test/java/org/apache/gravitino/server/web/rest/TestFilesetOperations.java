@@ -18,11 +18,13 @@
  */
 package org.apache.gravitino.server.web.rest;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.apache.gravitino.file.Fileset.LOCATION_NAME_UNKNOWN;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -49,10 +51,13 @@ import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
+import org.apache.gravitino.dto.file.FileAccessDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
+import org.apache.gravitino.dto.requests.FileAccessesReportRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
+import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
@@ -65,6 +70,9 @@ import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
+import org.apache.gravitino.listener.EventBus;
+import org.apache.gravitino.listener.api.event.BaseEvent;
+import org.apache.gravitino.listener.api.event.GetFileLocationEvent;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.rest.RESTUtils;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
@@ -73,6 +81,7 @@ import org.glassfish.jersey.test.TestProperties;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 
@@ -100,6 +109,7 @@ public class TestFilesetOperations extends BaseOperationsTest {
     Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
   }
 
@@ -669,6 +679,83 @@ public class TestFilesetOperations extends BaseOperationsTest {
     Assertions.assertNull(CallerContext.CallerContextHolder.get());
   }
 
+  @Test
+  public void testReportFileAccesses() throws IllegalAccessException {
+    EventBus eventBus = mock(EventBus.class);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "eventBus", eventBus, true);
+    FieldUtils.writeField(
+        GravitinoEnv.getInstance(), "filesetDispatcherWithoutEvents", dispatcher, true);
+    when(dispatcher.getFileLocation(any(), eq("/test"), any()))
+        .thenReturn("hdfs://localhost:9000/fileset1/test");
+
+    FileAccessDTO access =
+        FileAccessDTO.builder()
+            .fileset("fileset1")
+            .subPath("/test")
+            .actualFileLocation("hdfs://localhost:9000/fileset1/test")
+            .operation(FilesetDataOperation.OPEN.name())
+            .timestamp(System.currentTimeMillis())
+            .count(3)
+            .build();
+    FileAccessesReportRequest req = new FileAccessesReportRequest(ImmutableList.of(access));
+    Response resp =
+        target(filesetPath(metalake, catalog, schema) + "accesses")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .header(
+                FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
+                InternalClientType.HADOOP_GVFS.name())
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(0, resp.readEntity(BaseResponse.class).getCode());
+
+    ArgumentCaptor<BaseEvent> captor = ArgumentCaptor.forClass(BaseEvent.class);
+    Mockito.verify(eventBus).dispatchEvent(captor.capture());
+    GetFileLocationEvent event = (GetFileLocationEvent) captor.getValue();
+    Assertions.assertEquals(
+        NameIdentifier.of(metalake, catalog, schema, "fileset1"), event.identifier());
+    Assertions.assertEquals("/test", event.subPath());
+    Assertions.assertEquals("hdfs://localhost:9000/fileset1/test", event.actualFileLocation());
+    Assertions.assertEquals(
+        InternalClientType.HADOOP_GVFS.name(),
+        event.context().get(FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE));
+    Assertions.assertEquals(
+        FilesetDataOperation.OPEN.name(),
+        event.context().get(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION));
+    Assertions.assertEquals("3", event.context().get(FilesetAuditConstants.FILE_ACCESS_COUNT));
+
+    // The accesses are rejected if the reported location is not the actual one.
+    FileAccessDTO forgedAccess =
+        FileAccessDTO.builder()
+            .fileset("fileset1")
+            .subPath("/test")
+            .actualFileLocation("hdfs://localhost:9000/other/test")
+            .operation(FilesetDataOperation.OPEN.name())
+            .timestamp(System.currentTimeMillis())
+            .count(1)
+            .build();
+    Mockito.clearInvocations(eventBus);
+    Response forgedResp =
+        target(filesetPath(metalake, catalog, schema) + "accesses")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(
+                    new FileAccessesReportRequest(ImmutableList.of(access, forgedAccess)),
+                    MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), forgedResp.getStatus());
+    Mockito.verify(eventBus, Mockito.never()).dispatchEvent(any());
+
+    // Test the invalid request
+    FileAccessesReportRequest emptyReq = new FileAccessesReportRequest(ImmutableList.of());
+    Response resp1 =
+        target(filesetPath(metalake, catalog, schema) + "accesses")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(emptyReq, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+  }
+
   private void assertUpdateFileset(FilesetUpdatesRequest req, Fileset updatedFileset) {
     when(dispatcher.alterFileset(any(), any(FilesetChange.class))).thenReturn(updatedFileset);
 
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.server.web.rest;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -119,6 +120,7 @@ public class TestTableOperations extends BaseOperationsTest {
     Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
   }
 
@@ -217,6 +219,46 @@ public class TestTableOperations extends BaseOperationsTest {
     };
   }
 
+  @Test
+  public void testListTablesWithPagination() {
+    NameIdentifier table1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalake, catalog, schema, "table2");
+    NameIdentifier table3 = NameIdentifier.of(metalake, catalog, schema, "table3");
+    when(dispatcher.listTables(any())).thenReturn(new NameIdentifier[] {table3, table1, table2});
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    EntityListResponse listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {table1, table2}, listResp.identifiers());
+    Assertions.assertNotNull(listResp.nextPageToken());
+
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageSize", 2)
+            .queryParam("pageToken", listResp.nextPageToken())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    EntityListResponse listResp1 = resp1.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {table3}, listResp1.identifiers());
+    Assertions.assertNull(listResp1.nextPageToken());
+
+    // Test invalid page size
+    Response resp2 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageSize", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+  }
+
   @Test
   public void testCreateTable() {
     Column[] columns =
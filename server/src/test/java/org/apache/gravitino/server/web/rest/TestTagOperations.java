@@ -257,6 +257,72 @@ public class TestTagOperations extends JerseyTest {
     Assertions.assertEquals(0, tagListResp2.getTags().length);
   }
 
+  @Test
+  public void testListTagsByPage() {
+    Tag[] tags =
+        Arrays.stream(new String[] {"tag1", "tag2", "tag3"})
+            .map(
+                name ->
+                    TagEntity.builder()
+                        .withName(name)
+                        .withId(1L)
+                        .withComment(name + " comment")
+                        .withAuditInfo(testAuditInfo1)
+                        .build())
+            .toArray(Tag[]::new);
+    when(tagManager.listTagsInfo(metalake, null, 3)).thenReturn(new Tag[] {tags[0], tags[1]});
+    when(tagManager.listTagsInfo(metalake, "tag2", 3)).thenReturn(new Tag[] {tags[2]});
+
+    Response resp =
+        target(tagPath(metalake))
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    NameListResponse nameListResp = resp.readEntity(NameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {"tag1", "tag2"}, nameListResp.getNames());
+    Assertions.assertNull(nameListResp.getNextPageToken());
+
+    // One more tag than the page size is listed to know there is a next page.
+    when(tagManager.listTagsInfo(metalake, null, 3)).thenReturn(tags);
+    Response resp1 =
+        target(tagPath(metalake))
+            .queryParam("details", true)
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    TagListResponse tagListResp = resp1.readEntity(TagListResponse.class);
+    Assertions.assertEquals(2, tagListResp.getTags().length);
+    Assertions.assertEquals("tag2", tagListResp.getTags()[1].name());
+    Assertions.assertNotNull(tagListResp.getNextPageToken());
+
+    Response resp2 =
+        target(tagPath(metalake))
+            .queryParam("details", true)
+            .queryParam("pageSize", 2)
+            .queryParam("pageToken", tagListResp.getNextPageToken())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp2.getStatus());
+    TagListResponse tagListResp1 = resp2.readEntity(TagListResponse.class);
+    Assertions.assertEquals(1, tagListResp1.getTags().length);
+    Assertions.assertEquals("tag3", tagListResp1.getTags()[0].name());
+    Assertions.assertNull(tagListResp1.getNextPageToken());
+
+    // Test invalid page size
+    Response resp3 =
+        target(tagPath(metalake))
+            .queryParam("pageSize", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp3.getStatus());
+  }
+
   @Test
   public void testCreateTag() {
     TagEntity tag1 =